@@ -67,8 +67,8 @@ import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheFactory;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.eventregistry.impl.configurator.EventRegistryEngineConfigurator;
 import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
@@ -350,11 +350,7 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
 
     protected void initAppDefinitionCache() {
         if (appDefinitionCache == null) {
-            if (appDefinitionCacheLimit <= 0) {
-                appDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                appDefinitionCache = new DefaultDeploymentCache<>(appDefinitionCacheLimit);
-            }
+            appDefinitionCache = createDeploymentCache(DeploymentCacheFactory.APP_DEFINITION_CACHE, appDefinitionCacheLimit);
         }
     }
     
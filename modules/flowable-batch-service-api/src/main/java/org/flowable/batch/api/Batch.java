@@ -18,6 +18,8 @@ public interface Batch {
 
     String PROCESS_MIGRATION_TYPE = "processMigration";
 
+    String HISTORY_CLEANUP_TYPE = "historyCleanup";
+
     String getId();
 
     String getBatchType();
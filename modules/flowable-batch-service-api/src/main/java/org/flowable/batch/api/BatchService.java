@@ -46,6 +46,11 @@ public interface BatchService {
     List<BatchPart> findBatchPartsByBatchIdAndStatus(String batchId, String status);
     
     List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType);
+
+    /**
+     * @return the highest scope id of the parts of the given batch, or null if the batch has no parts
+     */
+    String findMaxBatchPartScopeId(String batchId);
     
     BatchPart createBatchPart(Batch batch, String status, String scopeId, String subScopeId, String scopeType);
     
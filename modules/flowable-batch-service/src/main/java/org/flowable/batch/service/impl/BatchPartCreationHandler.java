@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.batch.service.impl;
+
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Provides the scope ids for which {@link ChunkedBatchPartCreator} creates batch parts, and creates the batch part and the related work for every scope id.
+ */
+public interface BatchPartCreationHandler {
+
+    /**
+     * @return at most maxResults scope ids in ascending order, all greater than the given scope id, or starting from the first scope id when it is null
+     */
+    List<String> findScopeIds(Batch batch, String afterScopeId, int maxResults, CommandContext commandContext);
+
+    /**
+     * Creates the batch part for the scope id, and everything needed to process it (e.g. an async job).
+     */
+    void createBatchPart(Batch batch, String scopeId, CommandContext commandContext);
+
+    /**
+     * Called when the batch parts for all scope ids have been created.
+     */
+    void batchPartCreationCompleted(Batch batch, CommandContext commandContext);
+
+}
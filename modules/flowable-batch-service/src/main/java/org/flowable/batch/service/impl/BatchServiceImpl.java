@@ -99,6 +99,11 @@ public class BatchServiceImpl extends CommonServiceImpl<BatchServiceConfiguratio
     public List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType) {
         return getBatchPartEntityManager().findBatchPartsByScopeIdAndType(scopeId, scopeType);
     }
+
+    @Override
+    public String findMaxBatchPartScopeId(String batchId) {
+        return getBatchPartEntityManager().findMaxBatchPartScopeId(batchId);
+    }
     
     @Override
     public BatchPart createBatchPart(Batch batch, String status, String scopeId, String subScopeId, String scopeType) {
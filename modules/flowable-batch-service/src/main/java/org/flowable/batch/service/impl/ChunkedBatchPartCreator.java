@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.batch.service.impl;
+
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+
+/**
+ * Creates the parts of a batch in chunks of at most {@link #getChunkSize()} scope ids, every chunk in its own transaction.
+ *
+ * The scope ids are fetched with keyset paging: every chunk fetches the scope ids following the last scope id of the previous chunk,
+ * so the scope ids are never all loaded at once and no offset needs to be skipped by the database.
+ * The batch parts of a chunk are committed together, so the highest scope id of the existing batch parts marks the progress of the creation.
+ * An interrupted creation is resumed by calling {@link #createBatchParts(String, BatchPartCreationHandler)} again for the same batch.
+ *
+ * The batch itself must be committed before the batch parts are created, as every chunk uses a new transaction.
+ */
+public class ChunkedBatchPartCreator {
+
+    protected CommandExecutor commandExecutor;
+    protected BatchService batchService;
+    protected int chunkSize;
+
+    public ChunkedBatchPartCreator(CommandExecutor commandExecutor, BatchService batchService, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new FlowableIllegalArgumentException("The chunk size must be at least 1");
+        }
+        this.commandExecutor = commandExecutor;
+        this.batchService = batchService;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates the batch parts for all scope ids following the highest scope id of the existing batch parts of the batch.
+     *
+     * @return the batch, as it is after {@link BatchPartCreationHandler#batchPartCreationCompleted(Batch, CommandContext)}
+     */
+    public Batch createBatchParts(String batchId, BatchPartCreationHandler handler) {
+        CommandConfig commandConfig = commandExecutor.getDefaultConfig().transactionRequiresNew();
+
+        String lastScopeId = commandExecutor.execute(commandConfig, commandContext -> batchService.findMaxBatchPartScopeId(batchId));
+        boolean moreScopeIds = true;
+        while (moreScopeIds) {
+            String afterScopeId = lastScopeId;
+            List<String> scopeIds = commandExecutor.execute(commandConfig, commandContext -> createBatchPartChunk(batchId, afterScopeId, handler, commandContext));
+            if (!scopeIds.isEmpty()) {
+                lastScopeId = scopeIds.get(scopeIds.size() - 1);
+            }
+            moreScopeIds = scopeIds.size() >= chunkSize;
+        }
+
+        return commandExecutor.execute(commandConfig, commandContext -> {
+            Batch batch = getBatch(batchId);
+            handler.batchPartCreationCompleted(batch, commandContext);
+            return batch;
+        });
+    }
+
+    protected List<String> createBatchPartChunk(String batchId, String afterScopeId, BatchPartCreationHandler handler, CommandContext commandContext) {
+        Batch batch = getBatch(batchId);
+        List<String> scopeIds = handler.findScopeIds(batch, afterScopeId, chunkSize, commandContext);
+        for (String scopeId : scopeIds) {
+            handler.createBatchPart(batch, scopeId, commandContext);
+        }
+        return scopeIds;
+    }
+
+    protected Batch getBatch(String batchId) {
+        Batch batch = batchService.getBatch(batchId);
+        if (batch == null) {
+            throw new FlowableObjectNotFoundException("No batch found for id " + batchId, Batch.class);
+        }
+        return batch;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+}
@@ -25,6 +25,8 @@ public interface BatchPartEntityManager extends EntityManager<BatchPartEntity> {
     
     List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType);
 
+    String findMaxBatchPartScopeId(String batchId);
+
     BatchPartEntity createBatchPart(BatchEntity parentBatch, String status, String scopeId, String subScopeId, String scopeType);
     
     BatchPartEntity completeBatchPart(String batchPartId, String status, String resultJson);
@@ -44,6 +44,11 @@ public class BatchPartEntityManagerImpl
         return dataManager.findBatchPartsByScopeIdAndType(scopeId, scopeType);
     }
 
+    @Override
+    public String findMaxBatchPartScopeId(String batchId) {
+        return dataManager.findMaxBatchPartScopeId(batchId);
+    }
+
     @Override
     public BatchPartEntity createBatchPart(BatchEntity parentBatch, String status, String scopeId, String subScopeId, String scopeType) {
         BatchPartEntity batchPartEntity = dataManager.create();
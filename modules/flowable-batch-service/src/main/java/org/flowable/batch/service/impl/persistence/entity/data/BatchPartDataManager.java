@@ -25,4 +25,6 @@ public interface BatchPartDataManager extends DataManager<BatchPartEntity> {
     List<BatchPart> findBatchPartsByBatchIdAndStatus(String batchId, String status);
     
     List<BatchPart> findBatchPartsByScopeIdAndType(String scopeId, String scopeType);
+
+    String findMaxBatchPartScopeId(String batchId);
 }
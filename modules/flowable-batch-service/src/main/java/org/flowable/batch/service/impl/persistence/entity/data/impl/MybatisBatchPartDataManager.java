@@ -69,6 +69,11 @@ public class MybatisBatchPartDataManager extends AbstractDataManager<BatchPartEn
         
         return getDbSqlSession().selectList("selectBatchPartsByScopeIdAndType", params);
     }
+
+    @Override
+    public String findMaxBatchPartScopeId(String batchId) {
+        return (String) getDbSqlSession().selectOne("selectMaxBatchPartScopeIdByBatchId", batchId);
+    }
     
     @Override
     protected IdGenerator getIdGenerator() {
@@ -75,6 +75,7 @@ import org.flowable.cmmn.engine.impl.history.CmmnHistoryVariableManager;
 import org.flowable.cmmn.engine.impl.history.DefaultCmmnHistoryManager;
 import org.flowable.cmmn.engine.impl.history.async.AsyncCmmnHistoryManager;
 import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryDataPrefetcher;
 import org.flowable.cmmn.engine.impl.history.async.json.transformer.CaseInstanceEndHistoryJsonTransformer;
 import org.flowable.cmmn.engine.impl.history.async.json.transformer.CaseInstanceStartHistoryJsonTransformer;
 import org.flowable.cmmn.engine.impl.history.async.json.transformer.CaseInstanceUpdateBusinessKeyHistoryJsonTransformer;
@@ -110,7 +111,9 @@ import org.flowable.cmmn.engine.impl.interceptor.CmmnCommandInvoker;
 import org.flowable.cmmn.engine.impl.interceptor.DefaultCmmnIdentityLinkInterceptor;
 import org.flowable.cmmn.engine.impl.job.AsyncActivatePlanItemInstanceJobHandler;
 import org.flowable.cmmn.engine.impl.job.AsyncInitializePlanModelJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupDeleteJobHandler;
 import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupPartitionJobHandler;
 import org.flowable.cmmn.engine.impl.job.ExternalWorkerTaskCompleteJobHandler;
 import org.flowable.cmmn.engine.impl.job.TriggerTimerEventJobHandler;
 import org.flowable.cmmn.engine.impl.listener.CmmnListenerFactory;
@@ -215,6 +218,7 @@ import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DueDateBusinessCalendar;
@@ -245,8 +249,8 @@ import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheFactory;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
@@ -271,7 +275,9 @@ import org.flowable.job.service.InternalJobParentStateResolver;
 import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobNotifier;
 import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
+import org.flowable.job.service.impl.asyncexecutor.CoalescingAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecutionExceptionHandler;
@@ -279,13 +285,16 @@ import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
+import org.flowable.job.service.impl.history.async.AsyncHistoryDataPrefetcher;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+import org.flowable.job.service.impl.util.SkipLockedUtil;
 import org.flowable.task.service.InternalTaskAssignmentManager;
 import org.flowable.task.service.InternalTaskVariableScopeResolver;
 import org.flowable.task.service.TaskPostProcessor;
@@ -385,6 +394,14 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean executeServiceSchemaManagers = true;
 
     protected boolean enableSafeCmmnXml;
+
+    /**
+     * When enabled, the criteria of a case are indexed by the plan item transitions and variables they depend on at deployment time,
+     * and an evaluation of the criteria of a case instance only evaluates the criteria affected by the plan item life cycle event
+     * and by the variables changed in the current transaction.
+     * When disabled (the default), all criteria are evaluated every time.
+     */
+    protected boolean enableIncrementalSentryEvaluation;
     protected boolean disableCmmnXmlValidation;
     protected CmmnActivityBehaviorFactory activityBehaviorFactory;
     protected CmmnClassDelegateFactory classDelegateFactory;
@@ -414,6 +431,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    /**
+     * Scripts of script tasks and script listeners are compiled once and cached, for the script engines that support it.
+     */
+    protected boolean isCompiledScriptCacheEnabled = true;
+    protected int compiledScriptCacheSize = 1024;
+
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
@@ -461,6 +484,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected IdentityLinkEventHandler identityLinkEventHandler;
     protected boolean isEnableTaskRelationshipCounts = true;
     protected int taskQueryLimit = 20000;
+    protected boolean enableCandidateTaskSubqueries;
     protected int historicTaskQueryLimit = 20000;
 
     protected int caseQueryLimit = 20000;
@@ -590,6 +614,20 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorThreadPoolQueueSize = 100;
 
+    /**
+     * If true, jobs are executed on virtual threads instead of a thread pool, when the JDK supports virtual threads (JDK 21 and later).
+     * This suits jobs that mostly wait for I/O. The number of jobs executed at the same time is bounded by {@link #asyncExecutorVirtualThreadMaxConcurrency}.
+     * Default false. When the JDK doesn't support virtual threads, the default thread pool is used.
+     * <p>
+     * (This property is only applicable when no async task executor is set).
+     */
+    protected boolean asyncExecutorUseVirtualThreads;
+
+    /**
+     * The maximum number of jobs executed at the same time on virtual threads, see {@link #asyncExecutorUseVirtualThreads}. Default value = 256.
+     */
+    protected int asyncExecutorVirtualThreadMaxConcurrency = 256;
+
     /**
      * The queue onto which jobs will be placed before they are actually executed.
      * Threads form the async executor threadpool will take work from this queue.
@@ -670,6 +708,34 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime;
 
+    /**
+     * When enabled, the async job acquisition thread shortens its wait time to {@link #asyncExecutorMinAsyncJobAcquireWaitTime} as soon as jobs are found,
+     * and doubles it after each acquisition that found no jobs, up to {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime}. Default value = false.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorAdaptiveAsyncJobAcquisition;
+
+    /**
+     * The minimum time (in milliseconds) the async job acquisition thread will wait when adaptive acquisition is enabled. Default value = 100 milliseconds.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorMinAsyncJobAcquireWaitTime = 100;
+
+    /**
+     * Notifies the async executors of all engines sharing the database that new async jobs are available,
+     * so that their acquisition threads wake up instead of waiting for the next acquisition cycle. By default no notifications are sent.
+     */
+    protected AsyncJobNotifier asyncExecutorJobNotifier;
+
+    /**
+     * When enabled, async jobs, timer jobs and history jobs are acquired with 'select ... for update skip locked' (or the 'readpast' table hint on SQL Server),
+     * so concurrent async executors skip the jobs being acquired by another executor instead of colliding on them with an optimistic locking exception.
+     * Only used on PostgreSQL 9.5+, MySQL 8+, MariaDB 10.6+ and SQL Server, the regular acquisition is used on other databases. Default value = false.
+     */
+    protected boolean asyncExecutorSkipLockedJobAcquisition;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it.
      * While doing this, the 'name' of the lock owner is written into a column of the job.
@@ -760,6 +826,20 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+
+    /**
+     * When enabled, the async history executor executes the acquired history jobs in batches of at most {@link #asyncHistoryJobBatchSize} jobs per transaction,
+     * prefetching the referenced historic data and flushing the resulting inserts and updates in bulk.
+     */
+    protected boolean isAsyncHistoryJobBatchingEnabled;
+    protected int asyncHistoryJobBatchSize = CoalescingAsyncHistoryJobExecutor.DEFAULT_HISTORY_JOB_BATCH_SIZE;
+
+    /**
+     * The codec used to encode the history json of new async history jobs, for example the deflate codec with a preset dictionary.
+     * When not set, the history json is stored as json text (gzip compressed when {@link #isAsyncHistoryJsonGzipCompressionEnabled} is set).
+     */
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
+
     protected AsyncHistoryListener asyncHistoryListener;
 
     // More info: see similar async executor properties.
@@ -783,6 +863,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean enableHistoryCleaning = false;
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
+    /**
+     * Whether the history cleanup job deletes the expired case instances in partitions, each partition deleted by its own async job,
+     * instead of deleting all expired case instances in one transaction.
+     */
+    protected boolean cleanInstancesInPartitions = false;
+    /** The maximum number of case instances of a partition, at most 1000 as the ids are used in in-lists of the delete statements */
+    protected int cleanInstancesPartitionSize = 100;
     protected CmmnHistoryCleaningManager cmmnHistoryCleaningManager;
     
     protected Map<String, HistoryJobHandler> historyJobHandlers;
@@ -1054,7 +1141,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             CmmnExpressionManager cmmnExpressionManager = new CmmnExpressionManager(beans);
             
             if (isExpressionCacheEnabled) {
-                cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                cmmnExpressionManager.setExpressionCache(createDeploymentCache(DeploymentCacheFactory.EXPRESSION_CACHE, expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
             
@@ -1250,11 +1337,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
-            if (caseDefinitionCacheLimit <= 0) {
-                caseDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
-            }
+            caseDefinitionCache = createDeploymentCache(DeploymentCacheFactory.CASE_DEFINITION_CACHE, caseDefinitionCacheLimit);
         }
     }
 
@@ -1420,6 +1503,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
         }
+        if (isCompiledScriptCacheEnabled && scriptingEngines.getCompiledScriptCache() == null) {
+            scriptingEngines.setCompiledScriptCache(createDeploymentCache(DeploymentCacheFactory.COMPILED_SCRIPT_CACHE, compiledScriptCacheSize));
+        }
     }
     
     public void afterInitEventRegistryEventBusConsumer() {
@@ -1462,6 +1548,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     @Override
     protected void initDbSqlSessionFactoryEntitySettings() {
         defaultInitDbSqlSessionFactoryEntitySettings(EntityDependencyOrder.INSERT_ORDER, EntityDependencyOrder.DELETE_ORDER);
+        SkipLockedUtil.addDatabaseSpecificStatements(dbSqlSessionFactory);
     }
 
     public void initVariableTypes() {
@@ -1568,6 +1655,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.isEnableTaskRelationshipCounts);
         this.taskServiceConfiguration.setTaskQueryLimit(this.taskQueryLimit);
+        this.taskServiceConfiguration.setEnableCandidateTaskSubqueries(this.enableCandidateTaskSubqueries);
         this.taskServiceConfiguration.setHistoricTaskQueryLimit(this.historicTaskQueryLimit);
 
         this.taskServiceConfiguration.init();
@@ -1653,6 +1741,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         jobHandlers.put(AsyncActivatePlanItemInstanceJobHandler.TYPE, new AsyncActivatePlanItemInstanceJobHandler());
         jobHandlers.put(AsyncInitializePlanModelJobHandler.TYPE, new AsyncInitializePlanModelJobHandler());
         jobHandlers.put(CmmnHistoryCleanupJobHandler.TYPE, new CmmnHistoryCleanupJobHandler());
+        jobHandlers.put(CmmnHistoryCleanupPartitionJobHandler.TYPE, new CmmnHistoryCleanupPartitionJobHandler());
+        jobHandlers.put(CmmnHistoryCleanupDeleteJobHandler.TYPE, new CmmnHistoryCleanupDeleteJobHandler());
         jobHandlers.put(ExternalWorkerTaskCompleteJobHandler.TYPE, new ExternalWorkerTaskCompleteJobHandler(this));
 
         // if we have custom job handlers, register them
@@ -1672,14 +1762,17 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 allHistoryJsonTransformers.addAll(customHistoryJsonTransformers);
             }
 
+            AsyncHistoryDataPrefetcher asyncHistoryDataPrefetcher = new CmmnAsyncHistoryDataPrefetcher(this);
             AsyncHistoryJobHandler asyncHistoryJobHandler = new AsyncHistoryJobHandler(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             allHistoryJsonTransformers.forEach(asyncHistoryJobHandler::addHistoryJsonTransformer);
             asyncHistoryJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobHandler.setAsyncHistoryDataPrefetcher(asyncHistoryDataPrefetcher);
             historyJobHandlers.put(asyncHistoryJobHandler.getType(), asyncHistoryJobHandler);
 
             AsyncHistoryJobZippedHandler asyncHistoryJobZippedHandler = new AsyncHistoryJobZippedHandler(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             allHistoryJsonTransformers.forEach(asyncHistoryJobZippedHandler::addHistoryJsonTransformer);
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobZippedHandler.setAsyncHistoryDataPrefetcher(asyncHistoryDataPrefetcher);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
             if (getCustomHistoryJobHandlers() != null) {
@@ -1773,6 +1866,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
+            this.jobServiceConfiguration.setMetricsListener(this.engineMetricsListener);
+            this.jobServiceConfiguration.setAsyncJobNotifier(this.asyncExecutorJobNotifier);
+            this.jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(this.asyncExecutorSkipLockedJobAcquisition);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
     
             if (this.jobManager != null) {
@@ -1791,6 +1887,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
+            jobServiceConfiguration.setAsyncHistoryPayloadCodec(asyncHistoryPayloadCodec);
             
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
@@ -1842,6 +1939,21 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     }
 
     protected void initAsyncTaskExecutor() {
+        if (this.asyncTaskExecutor == null && asyncExecutorUseVirtualThreads) {
+            if (VirtualThreadAsyncTaskExecutor.isSupported()) {
+                VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor();
+                virtualThreadAsyncTaskExecutor.setMaxConcurrency(asyncExecutorVirtualThreadMaxConcurrency);
+                virtualThreadAsyncTaskExecutor.setSecondsToWaitOnShutdown(asyncExecutorSecondsToWaitOnShutdown);
+                virtualThreadAsyncTaskExecutor.start();
+                this.shutdownAsyncTaskExecutor = true;
+
+                this.asyncTaskExecutor = virtualThreadAsyncTaskExecutor;
+
+            } else {
+                logger.warn("Virtual threads are not supported by JDK {}, using a thread pool for the async executor", System.getProperty("java.version"));
+            }
+        }
+
         if (this.asyncTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
 
@@ -1894,6 +2006,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             // Acquisition wait time
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
             defaultAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisitionEnabled(asyncExecutorAdaptiveAsyncJobAcquisition);
+            defaultAsyncExecutor.setMinAsyncJobAcquireWaitTimeInMillis(asyncExecutorMinAsyncJobAcquireWaitTime);
 
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
@@ -1961,7 +2075,14 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             initAsyncHistoryTaskExecutor();
             
             if (asyncHistoryExecutor == null) {
-                DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+                DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor;
+                if (isAsyncHistoryJobBatchingEnabled) {
+                    CoalescingAsyncHistoryJobExecutor coalescingAsyncHistoryExecutor = new CoalescingAsyncHistoryJobExecutor();
+                    coalescingAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryJobBatchSize);
+                    defaultAsyncHistoryExecutor = coalescingAsyncHistoryExecutor;
+                } else {
+                    defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+                }
     
                 // Message queue mode
                 defaultAsyncHistoryExecutor.setMessageQueueMode(asyncHistoryExecutorMessageQueueMode);
@@ -2406,6 +2527,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
     
+    public boolean isEnableIncrementalSentryEvaluation() {
+        return enableIncrementalSentryEvaluation;
+    }
+
+    public CmmnEngineConfiguration setEnableIncrementalSentryEvaluation(boolean enableIncrementalSentryEvaluation) {
+        this.enableIncrementalSentryEvaluation = enableIncrementalSentryEvaluation;
+        return this;
+    }
+
     public boolean isDisableCmmnXmlValidation() {
         return disableCmmnXmlValidation;
     }
@@ -2698,6 +2828,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public DelegateExpressionFieldInjectionMode getDelegateExpressionFieldInjectionMode() {
         return delegateExpressionFieldInjectionMode;
     }
@@ -2889,6 +3037,19 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableCandidateTaskSubqueries() {
+        return enableCandidateTaskSubqueries;
+    }
+
+    /**
+     * Whether candidate task queries select the candidate tasks with one subquery on the identity links (using the user and group indexes)
+     * instead of a correlated exists subquery per task, see {@link org.flowable.task.service.TaskServiceConfiguration#setEnableCandidateTaskSubqueries(boolean)}.
+     */
+    public CmmnEngineConfiguration setEnableCandidateTaskSubqueries(boolean enableCandidateTaskSubqueries) {
+        this.enableCandidateTaskSubqueries = enableCandidateTaskSubqueries;
+        return this;
+    }
+
     public int getHistoricTaskQueryLimit() {
         return historicTaskQueryLimit;
     }
@@ -3213,6 +3374,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorUseVirtualThreads() {
+        return asyncExecutorUseVirtualThreads;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorUseVirtualThreads(boolean asyncExecutorUseVirtualThreads) {
+        this.asyncExecutorUseVirtualThreads = asyncExecutorUseVirtualThreads;
+        return this;
+    }
+
+    public int getAsyncExecutorVirtualThreadMaxConcurrency() {
+        return asyncExecutorVirtualThreadMaxConcurrency;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorVirtualThreadMaxConcurrency(int asyncExecutorVirtualThreadMaxConcurrency) {
+        this.asyncExecutorVirtualThreadMaxConcurrency = asyncExecutorVirtualThreadMaxConcurrency;
+        return this;
+    }
+
     public BlockingQueue<Runnable> getAsyncExecutorThreadPoolQueue() {
         return asyncExecutorThreadPoolQueue;
     }
@@ -3294,6 +3473,42 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorAdaptiveAsyncJobAcquisition() {
+        return asyncExecutorAdaptiveAsyncJobAcquisition;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorAdaptiveAsyncJobAcquisition(boolean asyncExecutorAdaptiveAsyncJobAcquisition) {
+        this.asyncExecutorAdaptiveAsyncJobAcquisition = asyncExecutorAdaptiveAsyncJobAcquisition;
+        return this;
+    }
+
+    public int getAsyncExecutorMinAsyncJobAcquireWaitTime() {
+        return asyncExecutorMinAsyncJobAcquireWaitTime;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorMinAsyncJobAcquireWaitTime(int asyncExecutorMinAsyncJobAcquireWaitTime) {
+        this.asyncExecutorMinAsyncJobAcquireWaitTime = asyncExecutorMinAsyncJobAcquireWaitTime;
+        return this;
+    }
+
+    public AsyncJobNotifier getAsyncExecutorJobNotifier() {
+        return asyncExecutorJobNotifier;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorJobNotifier(AsyncJobNotifier asyncExecutorJobNotifier) {
+        this.asyncExecutorJobNotifier = asyncExecutorJobNotifier;
+        return this;
+    }
+
+    public boolean isAsyncExecutorSkipLockedJobAcquisition() {
+        return asyncExecutorSkipLockedJobAcquisition;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorSkipLockedJobAcquisition(boolean asyncExecutorSkipLockedJobAcquisition) {
+        this.asyncExecutorSkipLockedJobAcquisition = asyncExecutorSkipLockedJobAcquisition;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -3456,6 +3671,33 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncHistoryJobBatchingEnabled() {
+        return isAsyncHistoryJobBatchingEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryJobBatchingEnabled(boolean isAsyncHistoryJobBatchingEnabled) {
+        this.isAsyncHistoryJobBatchingEnabled = isAsyncHistoryJobBatchingEnabled;
+        return this;
+    }
+
+    public int getAsyncHistoryJobBatchSize() {
+        return asyncHistoryJobBatchSize;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryJobBatchSize(int asyncHistoryJobBatchSize) {
+        this.asyncHistoryJobBatchSize = asyncHistoryJobBatchSize;
+        return this;
+    }
+
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+        return this;
+    }
+
     public int getAsyncHistoryJsonGroupingThreshold() {
         return asyncHistoryJsonGroupingThreshold;
     }
@@ -3951,6 +4193,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isCleanInstancesInPartitions() {
+        return cleanInstancesInPartitions;
+    }
+
+    public CmmnEngineConfiguration setCleanInstancesInPartitions(boolean cleanInstancesInPartitions) {
+        this.cleanInstancesInPartitions = cleanInstancesInPartitions;
+        return this;
+    }
+
+    public int getCleanInstancesPartitionSize() {
+        return cleanInstancesPartitionSize;
+    }
+
+    public CmmnEngineConfiguration setCleanInstancesPartitionSize(int cleanInstancesPartitionSize) {
+        this.cleanInstancesPartitionSize = cleanInstancesPartitionSize;
+        return this;
+    }
+
     public CmmnHistoryCleaningManager getCmmnHistoryCleaningManager() {
         return cmmnHistoryCleaningManager;
     }
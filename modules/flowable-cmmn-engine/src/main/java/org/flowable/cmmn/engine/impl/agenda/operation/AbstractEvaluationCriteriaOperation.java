@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,6 +29,7 @@ import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.agenda.PlanItemEvaluationResult;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.EntityWithSentryPartInstances;
@@ -56,6 +58,7 @@ import org.flowable.cmmn.model.Stage;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,6 +76,10 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     /** only the last evaluation planned on the agenda operation will have this true. */
     protected boolean evaluateStagesAndCaseInstanceCompletion;
 
+    /** only set when incremental sentry evaluation is enabled, null means all criteria are evaluated */
+    protected SentryDependencyIndex sentryDependencyIndex;
+    protected boolean sentryDependencyIndexInitialized;
+
     public AbstractEvaluationCriteriaOperation(CommandContext commandContext, String caseInstanceId, CaseInstanceEntity caseInstanceEntity, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
         super(commandContext, caseInstanceId, caseInstanceEntity);
         this.planItemLifeCycleEvent = planItemLifeCycleEvent;
@@ -514,6 +521,13 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected Criterion evaluateCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, List<Criterion> criteria) {
         for (Criterion criterion : criteria) {
 
+            if (!isCriterionAffected(entityWithSentryPartInstances, criterion)) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("{}: not affected by life cycle event [{}] or changed variables, skipping evaluation", criterion, planItemLifeCycleEvent);
+                }
+                continue;
+            }
+
             Sentry sentry = criterion.getSentry();
 
             // There can be zero or more on parts and zero or one if part.
@@ -628,6 +642,55 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         return null;
     }
 
+    /**
+     * With incremental sentry evaluation, a criterion is only evaluated when one of its on parts matches the current life cycle event or when a variable
+     * used in its if part was changed in the current transaction. If none of these changed since the previous evaluation, the criterion can't have become
+     * satisfied. The criteria of instances created or changing state in the current transaction are always evaluated, as which criteria are evaluated
+     * depends on the state of the instance.
+     */
+    protected boolean isCriterionAffected(EntityWithSentryPartInstances entityWithSentryPartInstances, Criterion criterion) {
+        SentryDependencyIndex sentryDependencyIndex = getSentryDependencyIndex();
+        if (sentryDependencyIndex == null || isCreatedOrStateChangedInCurrentTransaction(entityWithSentryPartInstances)) {
+            return true;
+        }
+
+        return sentryDependencyIndex.isAffected(criterion, planItemLifeCycleEvent, CommandContextUtil.getChangedVariableNames(commandContext, getCaseInstanceId()));
+    }
+
+    protected boolean isCreatedOrStateChangedInCurrentTransaction(EntityWithSentryPartInstances entityWithSentryPartInstances) {
+        String state;
+        if (entityWithSentryPartInstances instanceof PlanItemInstanceEntity) {
+            state = ((PlanItemInstanceEntity) entityWithSentryPartInstances).getState();
+        } else if (entityWithSentryPartInstances instanceof CaseInstanceEntity) {
+            state = ((CaseInstanceEntity) entityWithSentryPartInstances).getState();
+        } else {
+            return true;
+        }
+
+        Entity entity = (Entity) entityWithSentryPartInstances;
+        if (entity.isInserted() || !(entity.getOriginalPersistentState() instanceof Map)) {
+            return true;
+        }
+
+        // the original persistent state holds the state the instance had when it was fetched in the current transaction
+        Map<?, ?> originalPersistentState = (Map<?, ?>) entity.getOriginalPersistentState();
+        return !originalPersistentState.containsKey("state") || !Objects.equals(originalPersistentState.get("state"), state);
+    }
+
+    protected SentryDependencyIndex getSentryDependencyIndex() {
+        if (!sentryDependencyIndexInitialized) {
+            sentryDependencyIndexInitialized = true;
+
+            CaseInstanceEntity caseInstance = getCaseInstanceEntity();
+            if (CommandContextUtil.getCmmnEngineConfiguration(commandContext).isEnableIncrementalSentryEvaluation()
+                    && !caseInstance.isInserted()
+                    && !CommandContextUtil.isFullCriteriaEvaluation(commandContext, caseInstance.getId())) {
+                sentryDependencyIndex = CaseDefinitionUtil.getSentryDependencyIndex(caseInstance.getCaseDefinitionId());
+            }
+        }
+        return sentryDependencyIndex;
+    }
+
     protected boolean evaluateAvailableCondition(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
         PlanItem planItem = planItemInstanceEntity.getPlanItem();
         if (isEventListenerWithAvailableCondition(planItem)) {
@@ -29,6 +29,8 @@ public class EvaluateCriteriaCmd implements Command<Void> {
 
     @Override
     public Void execute(CommandContext commandContext) {
+        // an explicit evaluation can be requested for state that isn't tracked, such as bean properties used in if parts
+        CommandContextUtil.addFullCriteriaEvaluationCaseInstanceId(commandContext, caseInstanceId);
         CommandContextUtil.getAgenda(commandContext).planEvaluateCriteriaOperation(caseInstanceId);
         return null;
     }
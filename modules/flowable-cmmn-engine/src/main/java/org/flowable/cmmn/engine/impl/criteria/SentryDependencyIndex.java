@@ -0,0 +1,204 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.cmmn.engine.impl.el.CmmnVariableScopeELResolver;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.PlanFragment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryIfPart;
+import org.flowable.cmmn.model.SentryOnPart;
+import org.flowable.cmmn.model.Stage;
+import org.flowable.common.engine.impl.el.VariableContainerELResolver;
+
+/**
+ * Index of the criteria of a case model by the plan item transitions and variables they depend on,
+ * used to only evaluate the criteria affected by a {@link PlanItemLifeCycleEvent} or by changed variables.
+ *
+ * A criterion depends on the plan item transitions of its on-parts and on the variables referenced by its if-part.
+ * The variables of an if-part are the root identifiers of its expression (e.g. <code>order</code> for <code>${order.amount > 100}</code>).
+ * Criteria for which these dependencies can't be determined reliably are not indexed and are always evaluated:
+ * if-parts calling a function or method, if-parts referencing the case instance, plan item instance(s), task or variable container,
+ * and criteria of plan items with a repetition rule.
+ *
+ * Note that an identifier of an if-part is assumed to be a variable: an if-part referencing a bean property (e.g. <code>${myBean.enabled}</code>)
+ * is not re-evaluated when that property changes.
+ *
+ * The index is immutable once built and is shared by all case instances of a case definition.
+ */
+public class SentryDependencyIndex {
+
+    protected static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("'(?:[^'\\\\]|\\\\.)*'|\"(?:[^\"\\\\]|\\\\.)*\"");
+    protected static final Pattern METHOD_CALL_PATTERN = Pattern.compile("[\\w$]\\s*\\(");
+    protected static final Pattern IDENTIFIER_PATTERN = Pattern.compile("(?<![\\w$.])([A-Za-z_$][\\w$]*)");
+
+    protected static final Set<String> EL_KEYWORDS = new HashSet<>(Arrays.asList(
+            "and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge", "true", "false", "null", "empty", "div", "mod", "instanceof"));
+
+    protected static final Set<String> NON_VARIABLE_IDENTIFIERS = new HashSet<>(Arrays.asList(
+            CmmnVariableScopeELResolver.CASE_INSTANCE_KEY,
+            CmmnVariableScopeELResolver.PLAN_ITEM_INSTANCE_KEY,
+            CmmnVariableScopeELResolver.PLAN_ITEM_INSTANCES_KEY,
+            CmmnVariableScopeELResolver.TASK_KEY,
+            VariableContainerELResolver.VARIABLE_CONTAINER_KEY,
+            VariableContainerELResolver.LOGGED_IN_USER_KEY));
+
+    protected final Set<Criterion> indexedCriteria = Collections.newSetFromMap(new IdentityHashMap<>());
+    protected final Map<String, Set<Criterion>> criteriaByOnPartTransition = new HashMap<>();
+    protected final Map<String, Set<Criterion>> criteriaByVariableName = new HashMap<>();
+
+    public SentryDependencyIndex(Case caze) {
+        Stage planModel = caze.getPlanModel();
+        if (planModel != null) {
+            indexCriteria(planModel.getExitCriteria(), false);
+            indexPlanFragment(planModel);
+        }
+    }
+
+    protected void indexPlanFragment(PlanFragment planFragment) {
+        for (PlanItem planItem : planFragment.getPlanItems()) {
+            boolean hasRepetitionRule = planItem.getItemControl() != null && planItem.getItemControl().getRepetitionRule() != null;
+            indexCriteria(planItem.getEntryCriteria(), hasRepetitionRule);
+            indexCriteria(planItem.getExitCriteria(), hasRepetitionRule);
+
+            if (planItem.getPlanItemDefinition() instanceof PlanFragment) {
+                indexPlanFragment((PlanFragment) planItem.getPlanItemDefinition());
+            }
+        }
+    }
+
+    protected void indexCriteria(List<Criterion> criteria, boolean alwaysEvaluate) {
+        if (criteria == null || alwaysEvaluate) {
+            return;
+        }
+
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (sentry == null) {
+                continue;
+            }
+
+            Set<String> variableNames = Collections.emptySet();
+            SentryIfPart sentryIfPart = sentry.getSentryIfPart();
+            if (sentryIfPart != null) {
+                variableNames = getReferencedVariableNames(sentryIfPart.getCondition());
+                if (variableNames == null) {
+                    continue;
+                }
+            }
+
+            indexedCriteria.add(criterion);
+            for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+                criteriaByOnPartTransition.computeIfAbsent(getTransitionKey(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent()),
+                        key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(criterion);
+            }
+            for (String variableName : variableNames) {
+                criteriaByVariableName.computeIfAbsent(variableName, key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(criterion);
+            }
+        }
+    }
+
+    /**
+     * @return the names of the variables referenced by the given condition, or null if these can't be determined
+     */
+    protected Set<String> getReferencedVariableNames(String condition) {
+        if (StringUtils.isEmpty(condition)) {
+            return Collections.emptySet();
+        }
+
+        String expression = STRING_LITERAL_PATTERN.matcher(condition).replaceAll("''");
+        if (METHOD_CALL_PATTERN.matcher(expression).find()) {
+            return null;
+        }
+
+        Set<String> variableNames = new HashSet<>();
+        int index = 0;
+        while ((index = indexOfExpressionStart(expression, index)) >= 0) {
+            int end = expression.indexOf('}', index);
+            if (end < 0) {
+                return null;
+            }
+
+            Matcher matcher = IDENTIFIER_PATTERN.matcher(expression.substring(index + 2, end));
+            while (matcher.find()) {
+                String identifier = matcher.group(1);
+                if (NON_VARIABLE_IDENTIFIERS.contains(identifier)) {
+                    return null;
+                } else if (!EL_KEYWORDS.contains(identifier)) {
+                    variableNames.add(identifier);
+                }
+            }
+            index = end + 1;
+        }
+        return variableNames;
+    }
+
+    protected int indexOfExpressionStart(String expression, int fromIndex) {
+        int dollarIndex = expression.indexOf("${", fromIndex);
+        int hashIndex = expression.indexOf("#{", fromIndex);
+        if (dollarIndex < 0) {
+            return hashIndex;
+        } else if (hashIndex < 0) {
+            return dollarIndex;
+        }
+        return Math.min(dollarIndex, hashIndex);
+    }
+
+    protected String getTransitionKey(String planItemId, String transition) {
+        return planItemId + '|' + transition;
+    }
+
+    /**
+     * @return true if the given criterion needs to be evaluated for the given life cycle event and changed variables
+     */
+    public boolean isAffected(Criterion criterion, PlanItemLifeCycleEvent planItemLifeCycleEvent, Collection<String> changedVariableNames) {
+        if (!indexedCriteria.contains(criterion)) {
+            return true;
+        }
+
+        if (planItemLifeCycleEvent != null) {
+            Set<Criterion> criteria = criteriaByOnPartTransition.get(
+                    getTransitionKey(planItemLifeCycleEvent.getPlanItem().getId(), planItemLifeCycleEvent.getTransition()));
+            if (criteria != null && criteria.contains(criterion)) {
+                return true;
+            }
+        }
+
+        if (changedVariableNames != null) {
+            for (String changedVariableName : changedVariableNames) {
+                Set<Criterion> criteria = criteriaByVariableName.get(changedVariableName);
+                if (criteria != null && criteria.contains(criterion)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -72,6 +72,16 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
     }
 
+    @Override
+    protected String getEventSubscriptionScopeType() {
+        return ScopeTypes.CMMN;
+    }
+
+    @Override
+    protected void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        handleEventSubscription(cmmnEngineConfiguration.getCmmnRuntimeService(), eventSubscription, eventInstance, correlationKeys);
+    }
+
     protected void handleEventSubscription(CmmnRuntimeService cmmnRuntimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
 
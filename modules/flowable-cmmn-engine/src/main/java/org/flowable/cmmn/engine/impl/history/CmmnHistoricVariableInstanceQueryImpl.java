@@ -14,6 +14,7 @@ package org.flowable.cmmn.engine.impl.history;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.flowable.cmmn.api.history.HistoricVariableInstanceQuery;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -168,4 +169,9 @@ public class CmmnHistoricVariableInstanceQueryImpl implements HistoricVariableIn
         return wrappedHistoricVariableInstanceQuery.listPage(firstResult, maxResults);
     }
 
+    @Override
+    public void forEachWhile(Predicate<? super HistoricVariableInstance> action, int fetchSize) {
+        wrappedHistoricVariableInstanceQuery.forEachWhile(action, fetchSize);
+    }
+
 }
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -496,6 +497,15 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return results;
     }
 
+    @Override
+    protected Cursor<HistoricCaseInstance> executeCursor(CommandContext commandContext) {
+        if (includeCaseVariables) {
+            throw new FlowableIllegalArgumentException("Streaming results is not supported when including case variables");
+        }
+        ensureVariablesInitialized();
+        return cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager().findCursorByCriteria(this);
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricCaseInstance> results) {
 
         // Unlike the CaseInstanceEntityImpl, variables are not stored on the HistoricCaseInstanceEntityImpl.
@@ -864,6 +874,19 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return finishedBefore;
     }
 
+    /**
+     * @return true if the query only selects the historic case instances that finished before a date, without any other criteria
+     */
+    public boolean hasOnlyFinishedBeforeCriterion() {
+        return finishedBefore != null && caseDefinitionId == null && caseDefinitionKey == null && caseDefinitionKeys == null && caseDefinitionIds == null
+                && caseDefinitionName == null && caseDefinitionCategory == null && caseDefinitionVersion == null && caseInstanceId == null
+                && caseInstanceIds == null && caseInstanceNameLikeIgnoreCase == null && businessKey == null && caseInstanceParentId == null
+                && deploymentId == null && deploymentIds == null && !finished && !unfinished && startedBefore == null && startedAfter == null
+                && finishedAfter == null && startedBy == null && callbackId == null && callbackType == null && referenceId == null
+                && referenceType == null && tenantId == null && !withoutTenantId && involvedUser == null && involvedUserIdentityLink == null
+                && involvedGroups == null && involvedGroupIdentityLink == null && queryVariableValues.isEmpty() && orQueryObjects.isEmpty();
+    }
+
     public Date getFinishedAfter() {
         return finishedAfter;
     }
@@ -15,6 +15,7 @@ package org.flowable.cmmn.engine.impl.history;
 import java.util.Date;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstanceQuery;
 import org.flowable.cmmn.engine.impl.persistence.entity.HistoricMilestoneInstanceEntity;
@@ -130,6 +131,11 @@ public class HistoricMilestoneInstanceQueryImpl extends AbstractQuery<HistoricMi
         return CommandContextUtil.getHistoricMilestoneInstanceEntityManager(commandContext).findHistoricMilestoneInstancesByQueryCriteria(this);
     }
 
+    @Override
+    protected Cursor<HistoricMilestoneInstance> executeCursor(CommandContext commandContext) {
+        return CommandContextUtil.getHistoricMilestoneInstanceEntityManager(commandContext).findHistoricMilestoneInstanceCursorByQueryCriteria(this);
+    }
+
     @Override
     public String getId() {
         return id;
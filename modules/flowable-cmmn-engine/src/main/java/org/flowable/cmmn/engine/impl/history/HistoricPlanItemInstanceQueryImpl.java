@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstanceQuery;
 import org.flowable.cmmn.engine.impl.persistence.entity.HistoricPlanItemInstanceEntity;
@@ -498,6 +499,11 @@ public class HistoricPlanItemInstanceQueryImpl extends AbstractQuery<HistoricPla
         return CommandContextUtil.getHistoricPlanItemInstanceEntityManager(commandContext).findByCriteria(this);
     }
 
+    @Override
+    protected Cursor<HistoricPlanItemInstance> executeCursor(CommandContext commandContext) {
+        return CommandContextUtil.getHistoricPlanItemInstanceEntityManager(commandContext).findCursorByCriteria(this);
+    }
+
     public String getPlanItemInstanceId() {
         return planItemInstanceId;
     }
@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.history.async.AbstractAsyncHistoryDataPrefetcher;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Prefetches the historic case instances and historic plan item instances referenced by CMMN history json,
+ * so the history json transformers find them in the entity cache.
+ * Historic tasks and variables are still looked up per history json entry.
+ */
+public class CmmnAsyncHistoryDataPrefetcher extends AbstractAsyncHistoryDataPrefetcher {
+
+    protected static final String PLAN_ITEM_INSTANCE_TYPE_PREFIX = "cmmn-plan-item-instance-";
+
+    protected CmmnEngineConfiguration cmmnEngineConfiguration;
+
+    public CmmnAsyncHistoryDataPrefetcher(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        this.cmmnEngineConfiguration = cmmnEngineConfiguration;
+    }
+
+    @Override
+    public void prefetch(List<ObjectNode> historyNodes, CommandContext commandContext) {
+        Set<String> caseInstanceIds = new LinkedHashSet<>();
+        Set<String> planItemInstanceIds = new LinkedHashSet<>();
+        for (ObjectNode historyNode : historyNodes) {
+            String type = getType(historyNode);
+            ObjectNode historicalData = getData(historyNode);
+            if (type == null || historicalData == null) {
+                continue;
+            }
+
+            collectId(caseInstanceIds, historicalData, CmmnAsyncHistoryConstants.FIELD_CASE_INSTANCE_ID);
+            if (isCaseInstanceType(type)) {
+                collectId(caseInstanceIds, historicalData, CmmnAsyncHistoryConstants.FIELD_ID);
+            } else if (type.startsWith(PLAN_ITEM_INSTANCE_TYPE_PREFIX)) {
+                collectId(planItemInstanceIds, historicalData, CmmnAsyncHistoryConstants.FIELD_ID);
+            }
+        }
+
+        // The loaded entities are put in the entity cache
+        loadInChunks(caseInstanceIds, cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager()::findHistoricCaseInstancesByIds);
+        loadInChunks(planItemInstanceIds, cmmnEngineConfiguration.getHistoricPlanItemInstanceEntityManager()::findByIds);
+    }
+
+    protected boolean isCaseInstanceType(String type) {
+        return CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_START.equals(type)
+                || CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_END.equals(type)
+                || CmmnAsyncHistoryConstants.TYPE_UPDATE_CASE_INSTANCE_NAME.equals(type)
+                || CmmnAsyncHistoryConstants.TYPE_UPDATE_CASE_INSTANCE_BUSINESS_KEY.equals(type)
+                || CmmnAsyncHistoryConstants.TYPE_HISTORIC_CASE_INSTANCE_DELETED.equals(type);
+    }
+
+}
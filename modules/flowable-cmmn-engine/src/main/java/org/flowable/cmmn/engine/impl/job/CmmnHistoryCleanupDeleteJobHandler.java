@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.job;
+
+import java.util.List;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.HistoryCleanupJobUtil;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes one partition of a partitioned history cleanup: the expired historic case instances in the id range of the partition
+ * and their related historic data are deleted with bulk deletes.
+ */
+public class CmmnHistoryCleanupDeleteJobHandler implements JobHandler {
+
+    public static final String TYPE = "cmmn-history-cleanup-delete";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        ObjectNode cfg = HistoryCleanupJobUtil.readConfiguration(configuration, cmmnEngineConfiguration.getObjectMapper());
+
+        // The ids are selected again, so case instances that were deleted in the meantime are skipped
+        HistoricCaseInstanceEntityManager historicCaseInstanceEntityManager = cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager();
+        String afterId = HistoryCleanupJobUtil.getTextValue(cfg, HistoryCleanupJobUtil.CFG_LABEL_AFTER_ID);
+        String lastId = HistoryCleanupJobUtil.getTextValue(cfg, HistoryCleanupJobUtil.CFG_LABEL_LAST_ID);
+        List<String> caseInstanceIds = historicCaseInstanceEntityManager.findHistoricCaseInstanceIdsEndedBefore(HistoryCleanupJobUtil.getEndedBefore(cfg),
+                afterId, lastId, HistoryCleanupJobUtil.getPartitionSize(cfg));
+        historicCaseInstanceEntityManager.bulkDeleteHistoricCaseInstancesWithRelatedData(caseInstanceIds);
+    }
+
+}
@@ -12,7 +12,9 @@
  */
 package org.flowable.cmmn.engine.impl.job;
 
+import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobHandler;
@@ -32,7 +34,17 @@ public class CmmnHistoryCleanupJobHandler implements JobHandler {
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
 
-        cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery().deleteWithRelatedData();
+        HistoricCaseInstanceQuery cleaningQuery = cmmnEngineConfiguration.getCmmnHistoryCleaningManager().createHistoricCaseInstanceCleaningQuery();
+        if (cmmnEngineConfiguration.isCleanInstancesInPartitions() && cleaningQuery instanceof HistoricCaseInstanceQueryImpl
+                && ((HistoricCaseInstanceQueryImpl) cleaningQuery).hasOnlyFinishedBeforeCriterion()) {
+
+            // The partitions are selected by end date only, so a cleaning query with other criteria is executed as a whole
+            CmmnHistoryCleanupPartitionJobHandler.startPartitionedCleanup(((HistoricCaseInstanceQueryImpl) cleaningQuery).getFinishedBefore(),
+                    cmmnEngineConfiguration);
+
+        } else {
+            cleaningQuery.deleteWithRelatedData();
+        }
     }
     
 }
@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.job;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.HistoryCleanupJobUtil;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Creates the next partition of a partitioned history cleanup, see {@link CmmnEngineConfiguration#isCleanInstancesInPartitions()}:
+ * the ids of the next expired historic case instances are fetched with keyset paging and a {@link CmmnHistoryCleanupDeleteJobHandler} job
+ * is created for them. As long as full partitions are found, a job for the following partition is created,
+ * so every partition is created in its own transaction and the partitions are deleted in parallel by the async executor.
+ *
+ * The progress of the cleanup is kept in the json configuration of the jobs, see {@link HistoryCleanupJobUtil}.
+ */
+public class CmmnHistoryCleanupPartitionJobHandler implements JobHandler {
+
+    public static final String TYPE = "cmmn-history-cleanup-partition";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    /**
+     * Creates the job creating the first partition of the cleanup of the historic case instances that ended before the given date.
+     */
+    public static void startPartitionedCleanup(Date endedBefore, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        ObjectNode configuration = HistoryCleanupJobUtil.createConfiguration(endedBefore, cmmnEngineConfiguration.getCleanInstancesPartitionSize(),
+                cmmnEngineConfiguration.getObjectMapper());
+        HistoryCleanupJobUtil.createAsyncJob(TYPE, configuration, cmmnEngineConfiguration.getJobServiceConfiguration().getJobService());
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        ObjectNode cfg = HistoryCleanupJobUtil.readConfiguration(configuration, cmmnEngineConfiguration.getObjectMapper());
+
+        int partitionSize = HistoryCleanupJobUtil.getPartitionSize(cfg);
+        String afterId = HistoryCleanupJobUtil.getTextValue(cfg, HistoryCleanupJobUtil.CFG_LABEL_AFTER_ID);
+        List<String> caseInstanceIds = cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager()
+                .findHistoricCaseInstanceIdsEndedBefore(HistoryCleanupJobUtil.getEndedBefore(cfg), afterId, null, partitionSize);
+        if (caseInstanceIds.isEmpty()) {
+            return;
+        }
+
+        JobService jobService = cmmnEngineConfiguration.getJobServiceConfiguration().getJobService();
+        String lastId = caseInstanceIds.get(caseInstanceIds.size() - 1);
+        ObjectNode deleteCfg = cfg.deepCopy();
+        deleteCfg.put(HistoryCleanupJobUtil.CFG_LABEL_LAST_ID, lastId);
+        HistoryCleanupJobUtil.createAsyncJob(CmmnHistoryCleanupDeleteJobHandler.TYPE, deleteCfg, jobService);
+
+        if (caseInstanceIds.size() >= partitionSize) {
+            ObjectNode nextCfg = cfg.deepCopy();
+            nextCfg.put(HistoryCleanupJobUtil.CFG_LABEL_AFTER_ID, lastId);
+            HistoryCleanupJobUtil.createAsyncJob(TYPE, nextCfg, jobService);
+        }
+    }
+
+}
@@ -12,6 +12,11 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 
 public abstract class AbstractCmmnEngineVariableScopeEntity extends VariableScopeImpl {
@@ -22,4 +27,47 @@ public abstract class AbstractCmmnEngineVariableScopeEntity extends VariableScop
     public String getIdPrefix() {
         return CmmnEngineEntityConstants.CMMN_ENGINE_ID_PREFIX;
     }
+
+    @Override
+    protected VariableInstanceEntity createVariableInstance(String variableName, Object value) {
+        VariableInstanceEntity variableInstance = super.createVariableInstance(variableName, value);
+        registerChangedVariable(variableName);
+        return variableInstance;
+    }
+
+    @Override
+    protected void updateVariableInstance(VariableInstanceEntity variableInstance, Object value) {
+        super.updateVariableInstance(variableInstance, value);
+        registerChangedVariable(variableInstance.getName());
+    }
+
+    @Override
+    protected void deleteVariableInstanceForExplicitUserCall(VariableInstanceEntity variableInstance) {
+        super.deleteVariableInstanceForExplicitUserCall(variableInstance);
+        registerChangedVariable(variableInstance.getName());
+    }
+
+    @Override
+    public void setTransientVariableLocal(String variableName, Object variableValue) {
+        super.setTransientVariableLocal(variableName, variableValue);
+        registerChangedVariable(variableName);
+    }
+
+    /**
+     * Registers the variable change for the incremental evaluation of the criteria of the case instance, if enabled.
+     */
+    protected void registerChangedVariable(String variableName) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+            if (cmmnEngineConfiguration != null && cmmnEngineConfiguration.isEnableIncrementalSentryEvaluation()) {
+                CommandContextUtil.addChangedVariableName(commandContext, getVariableScopeCaseInstanceId(), variableName);
+            }
+        }
+    }
+
+    /**
+     * @return the id of the case instance to which the variables of this scope belong
+     */
+    protected abstract String getVariableScopeCaseInstanceId();
 }
@@ -311,6 +311,11 @@ public class CaseInstanceEntityImpl extends AbstractCmmnEngineVariableScopeEntit
         return true;
     }
 
+    @Override
+    protected String getVariableScopeCaseInstanceId() {
+        return getId();
+    }
+
     @Override
     protected VariableServiceConfiguration getVariableServiceConfiguration() {
         return CommandContextUtil.getCmmnEngineConfiguration().getVariableServiceConfiguration();
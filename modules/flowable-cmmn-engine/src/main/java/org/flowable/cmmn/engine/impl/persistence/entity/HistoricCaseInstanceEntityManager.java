@@ -12,8 +12,11 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
 import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
@@ -27,13 +30,30 @@ public interface HistoricCaseInstanceEntityManager extends EntityManager<Histori
     HistoricCaseInstanceQuery createHistoricCaseInstanceQuery();
     
     List<HistoricCaseInstanceEntity> findHistoricCaseInstancesByCaseDefinitionId(String caseDefinitionId);
+
+    List<HistoricCaseInstanceEntity> findHistoricCaseInstancesByIds(Collection<String> caseInstanceIds);
     
     List<HistoricCaseInstance> findByCriteria(HistoricCaseInstanceQuery query);
 
+    Cursor<HistoricCaseInstance> findCursorByCriteria(HistoricCaseInstanceQuery query);
+
     @SuppressWarnings("unchecked")
     List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQuery query);
 
     long countByCriteria(HistoricCaseInstanceQuery query);
     
     void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery);
+
+    /**
+     * @return at most maxResults ids of historic case instances that ended before the given date, in ascending order,
+     *         greater than afterCaseInstanceId (when not null) and not greater than lastCaseInstanceId (when not null)
+     */
+    List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, String afterCaseInstanceId, String lastCaseInstanceId, int maxResults);
+
+    /**
+     * Deletes the historic case instances with the given ids and their related historic data (plan items, milestones, variables,
+     * tasks, task log entries, identity links and entity links) with bulk deletes.
+     * The number of ids should be kept small enough for the in-lists of the delete statements.
+     */
+    void bulkDeleteHistoricCaseInstancesWithRelatedData(Collection<String> caseInstanceIds);
 }
\ No newline at end of file
@@ -13,14 +13,19 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.HistoricCaseInstanceDataManager;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.AbstractEngineEntityManager;
+import org.flowable.identitylink.service.HistoricIdentityLinkService;
 
 /**
  * @author Joram Barrez
@@ -43,11 +48,21 @@ public class HistoricCaseInstanceEntityManagerImpl
         return dataManager.findHistoricCaseInstancesByCaseDefinitionId(caseDefinitionId);
     }
 
+    @Override
+    public List<HistoricCaseInstanceEntity> findHistoricCaseInstancesByIds(Collection<String> caseInstanceIds) {
+        return dataManager.findHistoricCaseInstancesByIds(caseInstanceIds);
+    }
+
     @Override
     public List<HistoricCaseInstance> findByCriteria(HistoricCaseInstanceQuery query) {
         return dataManager.findByCriteria((HistoricCaseInstanceQueryImpl) query);
     }
 
+    @Override
+    public Cursor<HistoricCaseInstance> findCursorByCriteria(HistoricCaseInstanceQuery query) {
+        return dataManager.findCursorByCriteria((HistoricCaseInstanceQueryImpl) query);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQuery query) {
@@ -63,4 +78,32 @@ public class HistoricCaseInstanceEntityManagerImpl
     public void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
         dataManager.deleteHistoricCaseInstances(historicCaseInstanceQuery);
     }
+
+    @Override
+    public List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, String afterCaseInstanceId, String lastCaseInstanceId, int maxResults) {
+        return dataManager.findHistoricCaseInstanceIdsEndedBefore(endedBefore, afterCaseInstanceId, lastCaseInstanceId, maxResults);
+    }
+
+    @Override
+    public void bulkDeleteHistoricCaseInstancesWithRelatedData(Collection<String> caseInstanceIds) {
+        if (caseInstanceIds.isEmpty()) {
+            return;
+        }
+
+        // The identity links are deleted before the tasks, as the task identity links are selected through the tasks
+        HistoricIdentityLinkService historicIdentityLinkService = engineConfiguration.getIdentityLinkServiceConfiguration().getHistoricIdentityLinkService();
+        historicIdentityLinkService.deleteHistoricIdentityLinksByScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+        historicIdentityLinkService.deleteHistoricIdentityLinksByScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.PLAN_ITEM);
+        if (engineConfiguration.isEnableEntityLinks()) {
+            engineConfiguration.getEntityLinkServiceConfiguration().getHistoricEntityLinkService()
+                    .deleteHistoricEntityLinksByScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+        }
+        engineConfiguration.getTaskServiceConfiguration().getHistoricTaskService()
+                .deleteHistoricTaskInstancesAndLogEntriesByScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+        engineConfiguration.getVariableServiceConfiguration().getHistoricVariableService()
+                .deleteHistoricVariableInstancesByScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+        engineConfiguration.getHistoricMilestoneInstanceEntityManager().deleteHistoricMilestoneInstancesByCaseInstanceIds(caseInstanceIds);
+        engineConfiguration.getHistoricPlanItemInstanceEntityManager().deleteHistoricPlanItemInstancesByCaseInstanceIds(caseInstanceIds);
+        dataManager.deleteHistoricCaseInstancesByIds(caseInstanceIds);
+    }
 }
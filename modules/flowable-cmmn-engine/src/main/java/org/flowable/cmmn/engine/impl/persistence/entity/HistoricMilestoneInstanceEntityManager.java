@@ -12,8 +12,10 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstanceQuery;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -27,7 +29,11 @@ public interface HistoricMilestoneInstanceEntityManager extends EntityManager<Hi
 
     List<HistoricMilestoneInstance> findHistoricMilestoneInstancesByQueryCriteria(HistoricMilestoneInstanceQuery query);
 
+    Cursor<HistoricMilestoneInstance> findHistoricMilestoneInstanceCursorByQueryCriteria(HistoricMilestoneInstanceQuery query);
+
     long findHistoricMilestoneInstanceCountByQueryCriteria(HistoricMilestoneInstanceQuery query);
     
     void deleteHistoricMilestoneInstancesForNonExistingCaseInstances();
+
+    void deleteHistoricMilestoneInstancesByCaseInstanceIds(Collection<String> caseInstanceIds);
 }
\ No newline at end of file
@@ -13,8 +13,10 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstanceQuery;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -43,6 +45,11 @@ public class HistoricMilestoneInstanceEntityManagerImpl
         return dataManager.findHistoricMilestoneInstancesByQueryCriteria((HistoricMilestoneInstanceQueryImpl) query);
     }
 
+    @Override
+    public Cursor<HistoricMilestoneInstance> findHistoricMilestoneInstanceCursorByQueryCriteria(HistoricMilestoneInstanceQuery query) {
+        return dataManager.findHistoricMilestoneInstanceCursorByQueryCriteria((HistoricMilestoneInstanceQueryImpl) query);
+    }
+
     @Override
     public long findHistoricMilestoneInstanceCountByQueryCriteria(HistoricMilestoneInstanceQuery query) {
         return dataManager.findHistoricMilestoneInstancesCountByQueryCriteria((HistoricMilestoneInstanceQueryImpl) query);
@@ -52,5 +59,10 @@ public class HistoricMilestoneInstanceEntityManagerImpl
     public void deleteHistoricMilestoneInstancesForNonExistingCaseInstances() {
         dataManager.deleteHistoricMilestoneInstancesForNonExistingCaseInstances();
     }
+
+    @Override
+    public void deleteHistoricMilestoneInstancesByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        dataManager.deleteHistoricMilestoneInstancesByCaseInstanceIds(caseInstanceIds);
+    }
     
 }
@@ -12,8 +12,10 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstanceQuery;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -27,9 +29,15 @@ public interface HistoricPlanItemInstanceEntityManager extends EntityManager<His
 
     List<HistoricPlanItemInstance> findByCriteria(HistoricPlanItemInstanceQuery query);
 
+    Cursor<HistoricPlanItemInstance> findCursorByCriteria(HistoricPlanItemInstanceQuery query);
+
     List<HistoricPlanItemInstance> findByCaseDefinitionId(String caseDefinitionId);
 
+    List<HistoricPlanItemInstanceEntity> findByIds(Collection<String> historicPlanItemInstanceIds);
+
     long countByCriteria(HistoricPlanItemInstanceQuery query);
 
     void deleteHistoricPlanItemInstancesForNonExistingCaseInstances();
+
+    void deleteHistoricPlanItemInstancesByCaseInstanceIds(Collection<String> caseInstanceIds);
 }
\ No newline at end of file
@@ -13,8 +13,10 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstanceQuery;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -43,11 +45,21 @@ public class HistoricPlanItemInstanceEntityManagerImpl
         return dataManager.findByCaseDefinitionId(caseDefinitionId);
     }
 
+    @Override
+    public List<HistoricPlanItemInstanceEntity> findByIds(Collection<String> historicPlanItemInstanceIds) {
+        return dataManager.findByIds(historicPlanItemInstanceIds);
+    }
+
     @Override
     public List<HistoricPlanItemInstance> findByCriteria(HistoricPlanItemInstanceQuery query) {
         return dataManager.findByCriteria((HistoricPlanItemInstanceQueryImpl) query);
     }
 
+    @Override
+    public Cursor<HistoricPlanItemInstance> findCursorByCriteria(HistoricPlanItemInstanceQuery query) {
+        return dataManager.findCursorByCriteria((HistoricPlanItemInstanceQueryImpl) query);
+    }
+
     @Override
     public long countByCriteria(HistoricPlanItemInstanceQuery query) {
         return dataManager.countByCriteria((HistoricPlanItemInstanceQueryImpl) query);
@@ -57,4 +69,9 @@ public class HistoricPlanItemInstanceEntityManagerImpl
     public void deleteHistoricPlanItemInstancesForNonExistingCaseInstances() {
         dataManager.deleteHistoricPlanItemInstancesForNonExistingCaseInstances();
     }
+
+    @Override
+    public void deleteHistoricPlanItemInstancesByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        dataManager.deleteHistoricPlanItemInstancesByCaseInstanceIds(caseInstanceIds);
+    }
 }
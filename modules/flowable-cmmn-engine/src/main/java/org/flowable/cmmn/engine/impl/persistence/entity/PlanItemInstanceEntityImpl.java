@@ -519,6 +519,11 @@ public class PlanItemInstanceEntityImpl extends AbstractCmmnEngineVariableScopeE
         return true;
     }
 
+    @Override
+    protected String getVariableScopeCaseInstanceId() {
+        return caseInstanceId;
+    }
+
     @Override
     protected VariableServiceConfiguration getVariableServiceConfiguration() {
         return CommandContextUtil.getCmmnEngineConfiguration().getVariableServiceConfiguration();
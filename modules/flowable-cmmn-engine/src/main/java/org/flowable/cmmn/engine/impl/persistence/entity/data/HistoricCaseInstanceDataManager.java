@@ -12,8 +12,11 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntity;
@@ -25,8 +28,12 @@ import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 public interface HistoricCaseInstanceDataManager extends DataManager<HistoricCaseInstanceEntity> {
     
     List<HistoricCaseInstanceEntity> findHistoricCaseInstancesByCaseDefinitionId(String caseDefinitionId);
+
+    List<HistoricCaseInstanceEntity> findHistoricCaseInstancesByIds(Collection<String> caseInstanceIds);
     
     List<HistoricCaseInstance> findByCriteria(HistoricCaseInstanceQueryImpl query);
+
+    Cursor<HistoricCaseInstance> findCursorByCriteria(HistoricCaseInstanceQueryImpl query);
     
     long countByCriteria(HistoricCaseInstanceQueryImpl query);
 
@@ -35,4 +42,8 @@ public interface HistoricCaseInstanceDataManager extends DataManager<HistoricCas
     void deleteByCaseDefinitionId(String caseDefinitionId);
     
     void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery);
+
+    List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, String afterCaseInstanceId, String lastCaseInstanceId, int maxResults);
+
+    void deleteHistoricCaseInstancesByIds(Collection<String> caseInstanceIds);
 }
@@ -12,8 +12,10 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
 import org.flowable.cmmn.engine.impl.history.HistoricMilestoneInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.HistoricMilestoneInstanceEntity;
@@ -26,7 +28,11 @@ public interface HistoricMilestoneInstanceDataManager extends DataManager<Histor
     
     List<HistoricMilestoneInstance> findHistoricMilestoneInstancesByQueryCriteria(HistoricMilestoneInstanceQueryImpl query);
 
+    Cursor<HistoricMilestoneInstance> findHistoricMilestoneInstanceCursorByQueryCriteria(HistoricMilestoneInstanceQueryImpl query);
+
     long findHistoricMilestoneInstancesCountByQueryCriteria(HistoricMilestoneInstanceQueryImpl query);
     
     void deleteHistoricMilestoneInstancesForNonExistingCaseInstances();
+
+    void deleteHistoricMilestoneInstancesByCaseInstanceIds(Collection<String> caseInstanceIds);
 }
@@ -12,8 +12,10 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
 import org.flowable.cmmn.engine.impl.history.HistoricPlanItemInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.HistoricPlanItemInstanceEntity;
@@ -26,11 +28,17 @@ public interface HistoricPlanItemInstanceDataManager extends DataManager<Histori
 
     List<HistoricPlanItemInstance> findByCriteria(HistoricPlanItemInstanceQueryImpl query);
 
+    Cursor<HistoricPlanItemInstance> findCursorByCriteria(HistoricPlanItemInstanceQueryImpl query);
+
     List<HistoricPlanItemInstance> findByCaseDefinitionId(String caseDefinitionId);
 
+    List<HistoricPlanItemInstanceEntity> findByIds(Collection<String> historicPlanItemInstanceIds);
+
     long countByCriteria(HistoricPlanItemInstanceQueryImpl query);
 
     void deleteByCaseDefinitionId(String caseDefinitionId);
 
     void deleteHistoricPlanItemInstancesForNonExistingCaseInstances();
+
+    void deleteHistoricPlanItemInstancesByCaseInstanceIds(Collection<String> caseInstanceIds);
 }
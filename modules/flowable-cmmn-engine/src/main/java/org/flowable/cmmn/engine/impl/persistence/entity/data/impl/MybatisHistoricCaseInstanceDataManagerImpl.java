@@ -12,9 +12,14 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
@@ -23,6 +28,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEnti
 import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.HistoricCaseInstanceDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.matcher.HistoricCaseInstanceByCaseDefinitionIdMatcher;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 
 /**
  * @author Joram Barrez
@@ -50,12 +56,22 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
         return getList("selectHistoricCaseInstancesByCaseDefinitionId", caseDefinitionId, historicCaseInstanceByCaseDefinitionIdMatcher, true);
     }
 
+    @Override
+    public List<HistoricCaseInstanceEntity> findHistoricCaseInstancesByIds(Collection<String> caseInstanceIds) {
+        return getList("selectHistoricCaseInstancesByIds", caseInstanceIds);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricCaseInstance> findByCriteria(HistoricCaseInstanceQueryImpl query) {
         return getDbSqlSession().selectList("selectHistoricCaseInstancesByQueryCriteria", query, getManagedEntityClass());
     }
 
+    @Override
+    public Cursor<HistoricCaseInstance> findCursorByCriteria(HistoricCaseInstanceQueryImpl query) {
+        return getDbSqlSession().selectCursor("selectHistoricCaseInstancesByQueryCriteria", query);
+    }
+
     @Override
     public long countByCriteria(HistoricCaseInstanceQueryImpl query) {
         return (Long) getDbSqlSession().selectOne("selectHistoricCaseInstanceCountByQueryCriteria", query);
@@ -108,4 +124,24 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
     public void deleteHistoricCaseInstances(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
         getDbSqlSession().delete("bulkDeleteHistoricCaseInstances", historicCaseInstanceQuery, getManagedEntityClass());
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, String afterCaseInstanceId, String lastCaseInstanceId, int maxResults) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("endedBefore", endedBefore);
+        params.put("afterCaseInstanceId", afterCaseInstanceId);
+        params.put("lastCaseInstanceId", lastCaseInstanceId);
+
+        ListQueryParameterObject parameter = new ListQueryParameterObject(params, 0, maxResults);
+        parameter.setOrderByColumns("RES.ID_ asc");
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectHistoricCaseInstanceIdsEndedBefore", parameter);
+    }
+
+    @Override
+    public void deleteHistoricCaseInstancesByIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricCaseInstancesByIds", parameters, getManagedEntityClass());
+    }
 }
@@ -12,8 +12,12 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.history.HistoricMilestoneInstanceQueryImpl;
@@ -46,6 +50,11 @@ public class MybatisHistoricMilestoneInstanceDataManager extends AbstractCmmnDat
     public List<HistoricMilestoneInstance> findHistoricMilestoneInstancesByQueryCriteria(HistoricMilestoneInstanceQueryImpl query) {
         return getDbSqlSession().selectList("selectHistoricMilestoneInstancesByQueryCriteria", query, getManagedEntityClass());
     }
+
+    @Override
+    public Cursor<HistoricMilestoneInstance> findHistoricMilestoneInstanceCursorByQueryCriteria(HistoricMilestoneInstanceQueryImpl query) {
+        return getDbSqlSession().selectCursor("selectHistoricMilestoneInstancesByQueryCriteria", query);
+    }
     
     @Override
     public long findHistoricMilestoneInstancesCountByQueryCriteria(HistoricMilestoneInstanceQueryImpl query) {
@@ -56,5 +65,12 @@ public class MybatisHistoricMilestoneInstanceDataManager extends AbstractCmmnDat
     public void deleteHistoricMilestoneInstancesForNonExistingCaseInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricMilestoneInstancesForNonExistingCaseInstances", null, getManagedEntityClass());
     }
+
+    @Override
+    public void deleteHistoricMilestoneInstancesByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricMilestoneInstancesByCaseInstanceIds", parameters, getManagedEntityClass());
+    }
     
 }
@@ -12,8 +12,12 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.history.HistoricPlanItemInstanceQueryImpl;
@@ -45,6 +49,11 @@ public class MybatisHistoricPlanItemInstanceDataManager extends AbstractCmmnData
         return getDbSqlSession().selectList("selectHistoricPlanItemInstancesByQueryCriteria", query, getManagedEntityClass());
     }
 
+    @Override
+    public Cursor<HistoricPlanItemInstance> findCursorByCriteria(HistoricPlanItemInstanceQueryImpl query) {
+        return getDbSqlSession().selectCursor("selectHistoricPlanItemInstancesByQueryCriteria", query);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricPlanItemInstance> findByCaseDefinitionId(String caseDefinitionId) {
@@ -52,6 +61,11 @@ public class MybatisHistoricPlanItemInstanceDataManager extends AbstractCmmnData
         return (List<HistoricPlanItemInstance>) list;
     }
 
+    @Override
+    public List<HistoricPlanItemInstanceEntity> findByIds(Collection<String> historicPlanItemInstanceIds) {
+        return getList("selectHistoricPlanItemInstancesByIds", historicPlanItemInstanceIds);
+    }
+
     @Override
     public long countByCriteria(HistoricPlanItemInstanceQueryImpl query) {
         return (Long) getDbSqlSession().selectOne("selectHistoricPlanItemInstancesCountByQueryCriteria", query);
@@ -67,6 +81,13 @@ public class MybatisHistoricPlanItemInstanceDataManager extends AbstractCmmnData
         getDbSqlSession().delete("bulkDeleteHistoricPlanItemInstancesForNonExistingCaseInstances", null, getManagedEntityClass());
     }
 
+    @Override
+    public void deleteHistoricPlanItemInstancesByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("caseInstanceIds", caseInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricPlanItemInstancesByCaseInstanceIds", parameters, getManagedEntityClass());
+    }
+
     @Override
     public Class<? extends HistoricPlanItemInstanceEntity> getManagedEntityClass() {
         return HistoricPlanItemInstanceEntityImpl.class;
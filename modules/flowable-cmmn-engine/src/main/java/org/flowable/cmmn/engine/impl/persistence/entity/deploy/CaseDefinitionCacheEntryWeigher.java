@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.persistence.entity.deploy;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
+
+/**
+ * Weighs a {@link CaseDefinitionCacheEntry} by the number of case elements of the {@link CmmnModel} it holds,
+ * as an approximation of the memory it uses.
+ */
+public class CaseDefinitionCacheEntryWeigher implements DeploymentCacheWeigher<CaseDefinitionCacheEntry> {
+
+    @Override
+    public int weigh(String id, CaseDefinitionCacheEntry cacheEntry) {
+        int weight = 1;
+        CmmnModel cmmnModel = cacheEntry.getCmmnModel();
+        if (cmmnModel != null) {
+            for (Case caze : cmmnModel.getCases()) {
+                weight += caze.getAllCaseElements().size();
+            }
+        }
+        return weight;
+    }
+
+}
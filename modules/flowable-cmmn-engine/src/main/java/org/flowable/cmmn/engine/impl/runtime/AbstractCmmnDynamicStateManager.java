@@ -114,6 +114,8 @@ public abstract class AbstractCmmnDynamicStateManager {
         executeChangePlanItemInstancesToAvailableState(caseInstanceChangeState, caseInstance, true, commandContext);
         executeChangePlanItemInstancesToAvailableState(caseInstanceChangeState, caseInstance, false, commandContext);
         
+        // the plan item instances were changed without life cycle events, so all criteria need to be evaluated
+        CommandContextUtil.addFullCriteriaEvaluationCaseInstanceId(commandContext, caseInstance.getId());
         CmmnEngineAgenda agenda = CommandContextUtil.getAgenda(commandContext);
         agenda.planEvaluateCriteriaOperation(caseInstance.getId());
     }
@@ -12,7 +12,9 @@
  */
 package org.flowable.cmmn.engine.impl.util;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.flowable.cmmn.api.CmmnHistoryService;
@@ -75,6 +77,8 @@ import org.flowable.variable.service.VariableService;
 public class CommandContextUtil {
 
     public static final String ATTRIBUTE_INVOLVED_CASE_INSTANCE_IDS = "ctx.attribute.involvedCaseInstanceIds";
+    public static final String ATTRIBUTE_CHANGED_VARIABLE_NAMES = "ctx.attribute.changedVariableNames";
+    public static final String ATTRIBUTE_FULL_CRITERIA_EVALUATION_CASE_INSTANCE_IDS = "ctx.attribute.fullCriteriaEvaluationCaseInstanceIds";
 
     public static CmmnEngineConfiguration getCmmnEngineConfiguration() {
         return getCmmnEngineConfiguration(getCommandContext());
@@ -478,6 +482,54 @@ public class CommandContextUtil {
          return null;
     }
 
+    /**
+     * Registers a variable change of a case instance, used by the incremental evaluation of the criteria of the case instance.
+     */
+    @SuppressWarnings("unchecked")
+    public static void addChangedVariableName(CommandContext commandContext, String caseInstanceId, String variableName) {
+        if (caseInstanceId != null) {
+            Map<String, Set<String>> changedVariableNames = (Map<String, Set<String>>) commandContext.getAttribute(ATTRIBUTE_CHANGED_VARIABLE_NAMES);
+            if (changedVariableNames == null) {
+                changedVariableNames = new HashMap<>(1); // typically will be only 1 entry
+                commandContext.addAttribute(ATTRIBUTE_CHANGED_VARIABLE_NAMES, changedVariableNames);
+            }
+            changedVariableNames.computeIfAbsent(caseInstanceId, key -> new HashSet<>()).add(variableName);
+        }
+    }
+
+    /**
+     * @return the names of the variables of the case instance (or its plan item instances) that were changed in the current command context
+     */
+    @SuppressWarnings("unchecked")
+    public static Set<String> getChangedVariableNames(CommandContext commandContext, String caseInstanceId) {
+        Map<String, Set<String>> changedVariableNames = (Map<String, Set<String>>) commandContext.getAttribute(ATTRIBUTE_CHANGED_VARIABLE_NAMES);
+        if (changedVariableNames != null) {
+            return changedVariableNames.get(caseInstanceId);
+        }
+        return null;
+    }
+
+    /**
+     * Marks that all criteria of the case instance need to be evaluated in the current command context, also when incremental sentry evaluation is enabled.
+     */
+    @SuppressWarnings("unchecked")
+    public static void addFullCriteriaEvaluationCaseInstanceId(CommandContext commandContext, String caseInstanceId) {
+        if (caseInstanceId != null) {
+            Set<String> caseInstanceIds = (Set<String>) commandContext.getAttribute(ATTRIBUTE_FULL_CRITERIA_EVALUATION_CASE_INSTANCE_IDS);
+            if (caseInstanceIds == null) {
+                caseInstanceIds = new HashSet<>(1);
+                commandContext.addAttribute(ATTRIBUTE_FULL_CRITERIA_EVALUATION_CASE_INSTANCE_IDS, caseInstanceIds);
+            }
+            caseInstanceIds.add(caseInstanceId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static boolean isFullCriteriaEvaluation(CommandContext commandContext, String caseInstanceId) {
+        Set<String> caseInstanceIds = (Set<String>) commandContext.getAttribute(ATTRIBUTE_FULL_CRITERIA_EVALUATION_CASE_INSTANCE_IDS);
+        return caseInstanceIds != null && caseInstanceIds.contains(caseInstanceId);
+    }
+
     public static CaseInstanceHelper getCaseInstanceHelper() {
         return getCaseInstanceHelper(getCommandContext());
     }
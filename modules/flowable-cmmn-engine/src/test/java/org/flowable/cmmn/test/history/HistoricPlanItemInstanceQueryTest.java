@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
 import org.flowable.cmmn.api.runtime.PlanItemDefinitionType;
@@ -55,6 +56,28 @@ public class HistoricPlanItemInstanceQueryTest extends FlowableCmmnTestCase {
         }
     }
 
+    @Test
+    public void testForEach() {
+        List<String> caseInstanceIds = startInstances(3);
+
+        if (CmmnHistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, cmmnEngineConfiguration)) {
+            List<String> planItemInstanceIds = new ArrayList<>();
+            cmmnHistoryService.createHistoricPlanItemInstanceQuery().planItemInstanceCaseInstanceId(caseInstanceIds.get(0))
+                    .forEach(planItemInstance -> planItemInstanceIds.add(planItemInstance.getId()), 2);
+            assertThat(planItemInstanceIds).containsExactlyInAnyOrderElementsOf(cmmnHistoryService.createHistoricPlanItemInstanceQuery()
+                    .planItemInstanceCaseInstanceId(caseInstanceIds.get(0)).list()
+                    .stream().map(HistoricPlanItemInstance::getId).collect(Collectors.toList()));
+
+            List<String> caseIds = new ArrayList<>();
+            cmmnHistoryService.createHistoricCaseInstanceQuery().caseDefinitionId(caseDefinitionId).orderByCaseInstanceId().asc()
+                    .forEachWhile(caseInstance -> {
+                        caseIds.add(caseInstance.getId());
+                        return caseIds.size() < 2;
+                    }, 1);
+            assertThat(caseIds).containsExactlyElementsOf(caseInstanceIds.stream().sorted().limit(2).collect(Collectors.toList()));
+        }
+    }
+
     @Test
     public void testByCaseInstanceId() {
         List<String> caseInstanceIds = startInstances(3);
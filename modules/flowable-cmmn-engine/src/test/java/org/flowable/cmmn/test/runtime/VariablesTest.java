@@ -14,8 +14,10 @@ package org.flowable.cmmn.test.runtime;
 
 import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -209,6 +211,33 @@ public class VariablesTest extends FlowableCmmnTestCase {
         }
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/VariablesTest.testHistoricVariables.cmmn")
+    public void testHistoricVariablesForEach() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("stringVar", "test");
+        variables.put("intVar", 123);
+        variables.put("doubleVar", 123.123);
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("myCase").variables(variables).start();
+
+        if (CmmnHistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, cmmnEngineConfiguration)) {
+            Map<String, Object> values = new HashMap<>();
+            cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstance.getId())
+                    .forEach(variable -> values.put(variable.getVariableName(), variable.getValue()), 2);
+            assertThat(values)
+                    .containsOnly(entry("stringVar", "test"), entry("intVar", 123), entry("doubleVar", 123.123));
+
+            List<String> variableNames = new ArrayList<>();
+            cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstance.getId())
+                    .orderByVariableName().asc()
+                    .forEachWhile(variable -> {
+                        variableNames.add(variable.getVariableName());
+                        return variableNames.size() < 2;
+                    }, 1);
+            assertThat(variableNames).containsExactly("doubleVar", "intVar");
+        }
+    }
+
     @Test
     @CmmnDeployment
     public void testHistoricVariables() {
@@ -0,0 +1,139 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.task.api.Task;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IncrementalSentryEvaluationTest extends FlowableCmmnTestCase {
+
+    @Before
+    public void resetCounter() {
+        Approval.EVALUATIONS.set(0);
+    }
+
+    @After
+    public void resetConfiguration() {
+        cmmnEngineConfiguration.setEnableIncrementalSentryEvaluation(false);
+    }
+
+    @Test
+    public void testOnlyAffectedCriteriaAreEvaluated() {
+        cmmnEngineConfiguration.setEnableIncrementalSentryEvaluation(true);
+        deployCaseModel();
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("incrementalSentryEvaluation")
+                .variable("approval", new Approval(false))
+                .variable("amount", 200)
+                .start();
+
+        // A new case instance is fully evaluated
+        assertThat(Approval.EVALUATIONS.get()).isPositive();
+        assertThat(getTaskNames(caseInstance)).containsExactly("A");
+
+        // Completing A only affects the entry criterion of B, the if part of C doesn't depend on it
+        Approval.EVALUATIONS.set(0);
+        Task taskA = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName("A").singleResult();
+        cmmnTaskService.complete(taskA.getId());
+        assertThat(Approval.EVALUATIONS.get()).isZero();
+        assertThat(getTaskNames(caseInstance)).containsExactly("B");
+
+        // Changing an unrelated variable doesn't affect the if part of C either
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "other", "value");
+        assertThat(Approval.EVALUATIONS.get()).isZero();
+
+        // Changing a variable used in the if part of C evaluates it
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "approval", new Approval(true));
+        assertThat(Approval.EVALUATIONS.get()).isPositive();
+        assertThat(getTaskNames(caseInstance)).containsExactly("B", "C");
+    }
+
+    @Test
+    public void testExplicitEvaluationEvaluatesAllCriteria() {
+        cmmnEngineConfiguration.setEnableIncrementalSentryEvaluation(true);
+        deployCaseModel();
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("incrementalSentryEvaluation")
+                .variable("approval", new Approval(false))
+                .variable("amount", 200)
+                .start();
+
+        Approval.EVALUATIONS.set(0);
+        cmmnRuntimeService.evaluateCriteria(caseInstance.getId());
+        assertThat(Approval.EVALUATIONS.get()).isPositive();
+    }
+
+    @Test
+    public void testAllCriteriaAreEvaluatedByDefault() {
+        deployCaseModel();
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("incrementalSentryEvaluation")
+                .variable("approval", new Approval(false))
+                .variable("amount", 200)
+                .start();
+
+        Approval.EVALUATIONS.set(0);
+        Task taskA = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName("A").singleResult();
+        cmmnTaskService.complete(taskA.getId());
+        assertThat(Approval.EVALUATIONS.get()).isPositive();
+        assertThat(getTaskNames(caseInstance)).containsExactly("B");
+
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "approval", new Approval(true));
+        assertThat(getTaskNames(caseInstance)).containsExactly("B", "C");
+    }
+
+    protected void deployCaseModel() {
+        addDeploymentForAutoCleanup(cmmnRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/sentry/IncrementalSentryEvaluationTest.cmmn")
+                .deploy());
+    }
+
+    protected List<String> getTaskNames(CaseInstance caseInstance) {
+        return cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list().stream()
+                .map(Task::getName)
+                .collect(Collectors.toList());
+    }
+
+    public static class Approval implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        public static final AtomicInteger EVALUATIONS = new AtomicInteger(0);
+
+        protected boolean approved;
+
+        public Approval(boolean approved) {
+            this.approved = approved;
+        }
+
+        public boolean isApproved() {
+            EVALUATIONS.incrementAndGet();
+            return approved;
+        }
+    }
+
+}
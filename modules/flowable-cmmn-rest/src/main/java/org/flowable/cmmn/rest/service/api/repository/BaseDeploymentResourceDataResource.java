@@ -16,9 +16,9 @@ package org.flowable.cmmn.rest.service.api.repository;
 import java.io.InputStream;
 import java.util.List;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.http.entity.ContentType;
 import org.flowable.cmmn.api.CmmnRepositoryService;
 import org.flowable.cmmn.api.repository.CmmnDeployment;
@@ -27,6 +27,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.rest.resolver.ContentTypeResolver;
+import org.flowable.common.rest.util.BinaryContentWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
@@ -43,7 +44,7 @@ public class BaseDeploymentResourceDataResource {
     @Autowired(required=false)
     protected CmmnRestApiInterceptor restApiInterceptor;
 
-    protected byte[] getDeploymentResourceData(String deploymentId, String resourceName, HttpServletResponse response) {
+    protected void writeDeploymentResourceData(String deploymentId, String resourceName, HttpServletRequest request, HttpServletResponse response) {
 
         if (deploymentId == null) {
             throw new FlowableIllegalArgumentException("No deployment id provided");
@@ -76,7 +77,9 @@ public class BaseDeploymentResourceDataResource {
             response.setContentType(contentType);
             
             try {
-                return IOUtils.toByteArray(resourceStream);
+                // Deployments are immutable, so the deployment id identifies the version of the resource
+                long lastModified = deployment.getDeploymentTime() != null ? deployment.getDeploymentTime().getTime() : -1;
+                BinaryContentWriter.write(request, response, resourceStream, -1, deploymentId, lastModified);
             } catch (Exception e) {
                 throw new FlowableException("Error converting resource stream", e);
             }
@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.rest.service.api.repository;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.flowable.cmmn.api.repository.CaseDefinition;
@@ -41,9 +42,9 @@ public class CaseDefinitionResourceDataResource extends BaseDeploymentResourceDa
             @ApiResponse(code = 404, message = "Indicates the requested case definition was not found or there is no resource with the given id present in the case definition. The status-description contains additional information.")
     })
     @GetMapping(value = "/cmmn-repository/case-definitions/{caseDefinitionId}/resourcedata")
-    public byte[] getProcessDefinitionResource(@ApiParam(name = "caseDefinitionId") @PathVariable String caseDefinitionId, HttpServletResponse response) {
+    public void getProcessDefinitionResource(@ApiParam(name = "caseDefinitionId") @PathVariable String caseDefinitionId, HttpServletRequest request, HttpServletResponse response) {
         CaseDefinition caseDefinition = getCaseDefinitionFromRequest(caseDefinitionId);
-        return getDeploymentResourceData(caseDefinition.getDeploymentId(), caseDefinition.getResourceName(), response);
+        writeDeploymentResourceData(caseDefinition.getDeploymentId(), caseDefinition.getResourceName(), request, response);
     }
 
     /**
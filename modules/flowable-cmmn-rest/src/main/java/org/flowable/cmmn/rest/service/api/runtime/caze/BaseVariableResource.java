@@ -39,6 +39,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.rest.exception.FlowableContentNotSupportedException;
+import org.flowable.common.rest.util.BinaryContentWriter;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
@@ -104,28 +105,25 @@ public class BaseVariableResource {
         }
     }
     
-    protected byte[] getVariableDataByteArray(CaseInstance caseInstance, String variableName, HttpServletResponse response) {
+    protected void writeVariableData(CaseInstance caseInstance, String variableName, HttpServletRequest request, HttpServletResponse response) {
 
         try {
-            byte[] result = null;
-
             RestVariable variable = getVariableFromRequest(caseInstance, variableName, true);
             if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
-                result = (byte[]) variable.getValue();
                 response.setContentType("application/octet-stream");
+                BinaryContentWriter.write(request, response, (byte[]) variable.getValue());
 
             } else if (CmmnRestResponseFactory.SERIALIZABLE_VARIABLE_TYPE.equals(variable.getType())) {
+                response.setContentType("application/x-java-serialized-object");
                 ByteArrayOutputStream buffer = new ByteArrayOutputStream();
                 ObjectOutputStream outputStream = new ObjectOutputStream(buffer);
                 outputStream.writeObject(variable.getValue());
                 outputStream.close();
-                result = buffer.toByteArray();
-                response.setContentType("application/x-java-serialized-object");
+                BinaryContentWriter.write(request, response, buffer.toByteArray());
 
             } else {
                 throw new FlowableObjectNotFoundException("The variable does not have a binary data stream.", null);
             }
-            return result;
 
         } catch (IOException ioe) {
             throw new FlowableException("Error getting variable " + variableName, ioe);
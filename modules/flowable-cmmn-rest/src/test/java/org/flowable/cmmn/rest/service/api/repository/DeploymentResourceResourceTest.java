@@ -131,4 +131,35 @@ public class DeploymentResourceResourceTest extends BaseSpringRestTestCase {
             }
         }
     }
+
+    /**
+     * Test getting a part of a deployment resource content and getting it conditionally. GET repository/deployments/{deploymentId}/resourcedata/{resourceId}
+     */
+    public void testGetDeploymentResourceContentRangeAndNotModified() throws Exception {
+        try {
+            CmmnDeployment deployment = repositoryService.createDeployment().name("Deployment 1")
+                    .addInputStream("test.txt", new ByteArrayInputStream("Test content".getBytes())).deploy();
+
+            HttpGet httpGet = new HttpGet(
+                    SERVER_URL_PREFIX + CmmnRestUrls.createRelativeResourceUrl(CmmnRestUrls.URL_DEPLOYMENT_RESOURCE_CONTENT, deployment.getId(), "test.txt"));
+            httpGet.addHeader(new BasicHeader(HttpHeaders.ACCEPT, "text/plain"));
+            httpGet.setHeader(HttpHeaders.RANGE, "bytes=5-");
+            CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+            assertThat(response.getFirstHeader(HttpHeaders.CONTENT_RANGE).getValue()).isEqualTo("bytes 5-11/12");
+            assertThat(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8)).isEqualTo("content");
+            String eTag = response.getFirstHeader(HttpHeaders.ETAG).getValue();
+            closeResponse(response);
+
+            httpGet.removeHeaders(HttpHeaders.RANGE);
+            httpGet.setHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+            closeResponse(executeRequest(httpGet, HttpStatus.SC_NOT_MODIFIED));
+
+        } finally {
+            // Always cleanup any created deployments, even if the test failed
+            List<CmmnDeployment> deployments = repositoryService.createDeploymentQuery().list();
+            for (CmmnDeployment deployment : deployments) {
+                repositoryService.deleteDeployment(deployment.getId(), true);
+            }
+        }
+    }
 }
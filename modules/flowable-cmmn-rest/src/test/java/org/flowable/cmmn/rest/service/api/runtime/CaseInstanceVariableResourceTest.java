@@ -180,6 +180,34 @@ public class CaseInstanceVariableResourceTest extends BaseSpringRestTestCase {
         assertThat(response.getEntity().getContentType().getValue()).isEqualTo("application/octet-stream");
     }
 
+    /**
+     * Test getting a part of a case instance variable data and getting it conditionally. GET cmmn-runtime/case-instances/{caseInstanceId}/variables/{variableName}/data
+     */
+    @CmmnDeployment(resources = { "org/flowable/cmmn/rest/service/api/repository/oneHumanTaskCase.cmmn" })
+    public void testGetCaseInstanceVariableDataRangeAndNotModified() throws Exception {
+        CaseInstance caseInstance = runtimeService.createCaseInstanceBuilder().caseDefinitionKey("oneHumanTaskCase").start();
+        runtimeService.setVariable(caseInstance.getId(), "var", "This is a binary piece of text".getBytes());
+
+        HttpGet httpGet = new HttpGet(SERVER_URL_PREFIX + CmmnRestUrls.createRelativeResourceUrl(CmmnRestUrls.URL_CASE_INSTANCE_VARIABLE_DATA,
+                caseInstance.getId(), "var"));
+        httpGet.setHeader("Range", "bytes=10-15");
+        CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+        assertThat(response.getFirstHeader("Content-Range").getValue()).isEqualTo("bytes 10-15/30");
+        assertThat(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8)).isEqualTo("binary");
+        String eTag = response.getFirstHeader("ETag").getValue();
+        closeResponse(response);
+
+        httpGet.removeHeaders("Range");
+        httpGet.setHeader("If-None-Match", eTag);
+        closeResponse(executeRequest(httpGet, HttpStatus.SC_NOT_MODIFIED));
+
+        // Changing the variable changes the ETag
+        runtimeService.setVariable(caseInstance.getId(), "var", "This is another binary piece of text".getBytes());
+        response = executeRequest(httpGet, HttpStatus.SC_OK);
+        assertThat(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8)).isEqualTo("This is another binary piece of text");
+        closeResponse(response);
+    }
+
     /**
      * Test getting a case instance variable data. GET cmmn-runtime/case-instances/{caseInstanceId}/variables/{variableName}
      */
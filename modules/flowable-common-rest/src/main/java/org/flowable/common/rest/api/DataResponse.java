@@ -15,6 +15,8 @@ package org.flowable.common.rest.api;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * @author Tijs Rademakers
  */
@@ -26,6 +28,8 @@ public class DataResponse<T> {
     String sort;
     String order;
     int size;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String nextCursor;
 
     public List<T> getData() {
         return data;
@@ -36,6 +40,9 @@ public class DataResponse<T> {
         return this;
     }
 
+    /**
+     * @return the total number of results, or -1 when the total was not requested
+     */
     public long getTotal() {
         return total;
     }
@@ -75,4 +82,15 @@ public class DataResponse<T> {
     public void setSize(int size) {
         this.size = size;
     }
+
+    /**
+     * @return the cursor to pass for fetching the next page with keyset pagination, or null if there is no next page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPage;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
 
@@ -77,11 +78,22 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getCursor() == null) {
+            paginateRequest.setCursor(requestParams.get("cursor"));
+        }
+
+        if (paginateRequest.getIncludeTotal() == null) {
+            paginateRequest.setIncludeTotal(RequestUtil.getBoolean(requestParams, "includeTotal", true));
+        }
+
         return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
     }
 
     /**
      * Uses the pagination attributes perform the querying and render the response.
+     * When a cursor is given (an empty cursor for the first page), keyset pagination is used instead of the start offset
+     * and the cursor for the next page is set on the response.
+     * When the total is not requested, no count query is executed and the total of the response is -1.
      *
      * @param paginateRequest The paginated request that is used to get the pagination parameters from
      * @param query The query to get the paged list from
@@ -135,12 +147,37 @@ public interface PaginateListUtil {
         response.setSort(sort);
         response.setOrder(order);
 
+        boolean includeTotal = paginateRequest.getIncludeTotal() == null || paginateRequest.getIncludeTotal();
+        String cursor = paginateRequest.getCursor();
+
         // Get result and set pagination parameters
-        List<RES> list = listProcessor.processList(query.listPage(start, size));
-        if (start == 0 && list.size() < size) {
-            response.setTotal(list.size());
+        List<RES> list;
+        if (cursor != null) {
+            if (size == 0) {
+                throw new FlowableIllegalArgumentException("Value for param 'size' must be at least 1 when using a cursor");
+            }
+            KeysetPage<REQ> page = query.listAfter(cursor.isEmpty() ? null : cursor, size);
+            list = listProcessor.processList(page.getResults());
+            response.setNextCursor(page.getNextCursor());
+            response.setStart(0);
+
+            if (!includeTotal) {
+                response.setTotal(-1);
+            } else if (cursor.isEmpty() && page.getNextCursor() == null) {
+                response.setTotal(list.size());
+            } else {
+                response.setTotal(query.count());
+            }
+
         } else {
-            response.setTotal(query.count());
+            list = listProcessor.processList(query.listPage(start, size));
+            if (start == 0 && list.size() < size) {
+                response.setTotal(list.size());
+            } else if (includeTotal) {
+                response.setTotal(query.count());
+            } else {
+                response.setTotal(-1);
+            }
         }
 
         response.setSize(list.size());
@@ -29,6 +29,10 @@ public class PaginateRequest {
 
     protected String order;
 
+    protected String cursor;
+
+    protected Boolean includeTotal;
+
     public Integer getStart() {
         return start;
     }
@@ -60,4 +64,20 @@ public class PaginateRequest {
     public void setOrder(String order) {
         this.order = order;
     }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Boolean getIncludeTotal() {
+        return includeTotal;
+    }
+
+    public void setIncludeTotal(Boolean includeTotal) {
+        this.includeTotal = includeTotal;
+    }
 }
@@ -0,0 +1,181 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Writes binary content (content items, binary variables, deployment resources, ...) directly to the response, without reading it into memory first.
+ *
+ * Conditional requests (If-None-Match, If-Modified-Since, ...) are answered with 304 or 412 when an ETag or last modified time is given.
+ * When the length of the content is known, a single byte range (Range and If-Range headers) is answered with 206 and only the requested part.
+ * The content of a {@link FileInputStream} is transferred with {@link FileChannel#transferTo(long, long, WritableByteChannel)},
+ * which avoids copying the content through the heap when the output of the servlet container supports it.
+ */
+public class BinaryContentWriter {
+
+    protected BinaryContentWriter() {
+    }
+
+    /**
+     * Writes content that is available as a byte array, using a hash of the content as ETag.
+     */
+    public static void write(HttpServletRequest request, HttpServletResponse response, byte[] content) throws IOException {
+        write(request, response, new ByteArrayInputStream(content), content.length, DigestUtils.md5DigestAsHex(content), -1);
+    }
+
+    /**
+     * Writes the content of the stream, the stream is closed afterwards.
+     *
+     * @param contentLength the length of the content, or -1 when unknown. The length of file and byte array streams is determined when unknown.
+     * @param eTag the ETag of the content, or null when there is none
+     * @param lastModified the last modification time of the content in milliseconds, or -1 when unknown
+     */
+    public static void write(HttpServletRequest request, HttpServletResponse response, InputStream content,
+            long contentLength, String eTag, long lastModified) throws IOException {
+
+        try (InputStream inputStream = content) {
+            if (new ServletWebRequest(request, response).checkNotModified(eTag, lastModified)) {
+                return;
+            }
+
+            long length = contentLength >= 0 ? contentLength : determineLength(inputStream);
+            long start = 0;
+            long count = length;
+
+            if (length >= 0) {
+                response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+                HttpRange range = getRequestedRange(request, eTag, lastModified);
+                if (range != null) {
+                    start = range.getRangeStart(length);
+                    long end = range.getRangeEnd(length);
+                    if (start >= length || end < start) {
+                        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                        response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                        return;
+                    }
+
+                    count = end - start + 1;
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + count - 1) + "/" + length);
+                }
+                response.setContentLengthLong(count);
+            }
+
+            if ("HEAD".equals(request.getMethod())) {
+                return;
+            }
+
+            OutputStream outputStream = response.getOutputStream();
+            if (inputStream instanceof FileInputStream && length >= 0) {
+                transfer(((FileInputStream) inputStream).getChannel(), start, count, outputStream);
+
+            } else if (start > 0 || count != length) {
+                StreamUtils.copyRange(inputStream, outputStream, start, start + count - 1);
+
+            } else {
+                StreamUtils.copy(inputStream, outputStream);
+            }
+            outputStream.flush();
+        }
+    }
+
+    protected static long determineLength(InputStream inputStream) throws IOException {
+        if (inputStream instanceof FileInputStream) {
+            FileChannel channel = ((FileInputStream) inputStream).getChannel();
+            return channel.size() - channel.position();
+
+        } else if (inputStream instanceof ByteArrayInputStream) {
+            return inputStream.available();
+        }
+        return -1;
+    }
+
+    /**
+     * @return the single range requested by the client, or null if the full content is to be returned
+     */
+    protected static HttpRange getRequestedRange(HttpServletRequest request, String eTag, long lastModified) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !"GET".equals(request.getMethod()) || !isIfRangeSatisfied(request, eTag, lastModified)) {
+            return null;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // An invalid range header is ignored
+            return null;
+        }
+
+        // Multiple ranges are answered with the full content, which is allowed by RFC 7233
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
+    protected static boolean isIfRangeSatisfied(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // Only a strong ETag can be used to combine ranges
+            return eTag != null && ifRange.equals(quote(eTag));
+        }
+
+        try {
+            long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return lastModified >= 0 && ifRangeDate / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    protected static void transfer(FileChannel channel, long start, long count, OutputStream outputStream) throws IOException {
+        WritableByteChannel target = Channels.newChannel(outputStream);
+        long position = channel.position() + start;
+        long remaining = count;
+        while (remaining > 0) {
+            long transferred = channel.transferTo(position, remaining, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+            remaining -= transferred;
+        }
+    }
+
+    protected static String quote(String eTag) {
+        return eTag.startsWith("\"") ? eTag : "\"" + eTag + "\"";
+    }
+
+}
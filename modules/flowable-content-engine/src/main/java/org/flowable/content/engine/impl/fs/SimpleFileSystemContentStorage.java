@@ -13,9 +13,11 @@
 package org.flowable.content.engine.impl.fs;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.util.Map;
 
 import org.apache.commons.io.IOUtils;
@@ -104,7 +106,7 @@ public class SimpleFileSystemContentStorage implements ContentStorage {
         String uuid = UUID_GENERATOR.generate().toString();
         File file = getContentFile(metaData, uuid);
         try (FileOutputStream fos = new FileOutputStream(file, false)) {
-            long length = IOUtils.copy(contentStream, fos);
+            long length = copyContent(contentStream, fos);
             String contentId = generateContentId(uuid, metaData);
             return new FileSystemContentObject(file, contentId, length);
         } catch (IOException e) {
@@ -112,6 +114,33 @@ public class SimpleFileSystemContentStorage implements ContentStorage {
         }
     }
 
+    /**
+     * Copies the content to the file. Content read from another file is transferred between the file channels,
+     * so the operating system can copy it without passing it through the heap.
+     *
+     * @return the number of bytes copied
+     */
+    protected long copyContent(InputStream contentStream, FileOutputStream outputStream) throws IOException {
+        if (!(contentStream instanceof FileInputStream)) {
+            return IOUtils.copyLarge(contentStream, outputStream);
+        }
+
+        FileChannel source = ((FileInputStream) contentStream).getChannel();
+        FileChannel target = outputStream.getChannel();
+        long position = source.position();
+        long count = source.size() - position;
+        long copied = 0;
+        while (copied < count) {
+            long transferred = source.transferTo(position + copied, count - copied, target);
+            if (transferred <= 0) {
+                break;
+            }
+            copied += transferred;
+        }
+        source.position(position + copied);
+        return copied;
+    }
+
     protected String generateContentId(String uuid, ContentObjectStorageMetadata metaData) {
         String contentId = "";
         String type = determineType(metaData);
@@ -169,7 +198,7 @@ public class SimpleFileSystemContentStorage implements ContentStorage {
 
             // Write the actual content to the file
             try (FileOutputStream tempOutputStream = new FileOutputStream(tempContentFile)) {
-                length = IOUtils.copy(contentStream, tempOutputStream);
+                length = copyContent(contentStream, tempOutputStream);
             }
 
             // Rename the content file first
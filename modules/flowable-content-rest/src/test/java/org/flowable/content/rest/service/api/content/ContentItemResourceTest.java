@@ -104,6 +104,54 @@ public class ContentItemResourceTest extends BaseSpringContentRestTestCase {
         }
     }
 
+    public void testGetContentItemDataRange() throws Exception {
+        InputStream binaryContent = new ByteArrayInputStream("This is binary content".getBytes());
+        String contentItemId = createContentItem("test.pdf", "application/pdf", null,
+                "12345", null, null, "test", "test2", binaryContent);
+
+        try {
+            HttpGet httpGet = new HttpGet(SERVER_URL_PREFIX + ContentRestUrls.createRelativeResourceUrl(
+                    ContentRestUrls.URL_CONTENT_ITEM_DATA, contentItemId));
+            httpGet.setHeader("Range", "bytes=8-13");
+            CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+
+            assertThat(response.getFirstHeader("Content-Range").getValue()).isEqualTo("bytes 8-13/22");
+            try (InputStream contentStream = response.getEntity().getContent()) {
+                assertThat(contentStream).hasContent("binary");
+            }
+            closeResponse(response);
+
+            httpGet.setHeader("Range", "bytes=30-");
+            response = executeRequest(httpGet, HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            assertThat(response.getFirstHeader("Content-Range").getValue()).isEqualTo("bytes */22");
+            closeResponse(response);
+
+        } finally {
+            contentService.deleteContentItem(contentItemId);
+        }
+    }
+
+    public void testGetContentItemDataNotModified() throws Exception {
+        InputStream binaryContent = new ByteArrayInputStream("This is binary content".getBytes());
+        String contentItemId = createContentItem("test.pdf", "application/pdf", null,
+                "12345", null, null, "test", "test2", binaryContent);
+
+        try {
+            HttpGet httpGet = new HttpGet(SERVER_URL_PREFIX + ContentRestUrls.createRelativeResourceUrl(
+                    ContentRestUrls.URL_CONTENT_ITEM_DATA, contentItemId));
+            CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_OK);
+            String eTag = response.getFirstHeader("ETag").getValue();
+            closeResponse(response);
+
+            httpGet.setHeader("If-None-Match", eTag);
+            response = executeRequest(httpGet, HttpStatus.SC_NOT_MODIFIED);
+            closeResponse(response);
+
+        } finally {
+            contentService.deleteContentItem(contentItemId);
+        }
+    }
+
     public void testUpdateContentItem() throws Exception {
         String contentItemId = createContentItem("test.pdf", "application/pdf", null,
                 "12345", null, null, "test", "test2");
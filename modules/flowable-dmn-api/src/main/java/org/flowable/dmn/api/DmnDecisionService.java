@@ -32,6 +32,13 @@ public interface DmnDecisionService {
      */
     ExecuteDecisionBuilder createExecuteDecisionBuilder();
 
+    /**
+     * Create a builder to execute a decision for many sets of input variables in one command.
+     *
+     * @return the {@link ExecuteDecisionBatchBuilder} build
+     */
+    ExecuteDecisionBatchBuilder createExecuteDecisionBatchBuilder();
+
     /**
      * Execute a single decision or a decision service depending on the provided decision key
      *
@@ -93,4 +100,18 @@ public interface DmnDecisionService {
      */
     DecisionServiceExecutionAuditContainer executeDecisionServiceWithAuditTrail(ExecuteDecisionBuilder builder);
 
+    /**
+     * Execute a single decision for every set of variables of the batch
+     *
+     * @return a List with the decision result(s) of every execution
+     */
+    List<List<Map<String, Object>>> executeDecisionBatch(ExecuteDecisionBatchBuilder builder);
+
+    /**
+     * Execute a single decision for every set of variables of the batch
+     *
+     * @return a List with the {@link DecisionExecutionAuditContainer} of every execution
+     */
+    List<DecisionExecutionAuditContainer> executeDecisionBatchWithAuditTrail(ExecuteDecisionBatchBuilder builder);
+
 }
@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Helper for executing one decision (table) for many sets of input variables in one command.
+ * <p>
+ * The decision is resolved once for the whole batch and the results are returned in the order in which the variables were added.
+ * The historic decision executions of the batch are inserted together at the end of the command.
+ * <p>
+ * An instance can be obtained through {@link DmnDecisionService#createExecuteDecisionBatchBuilder()}.
+ */
+public interface ExecuteDecisionBatchBuilder {
+
+    /**
+     * Set the key of the decision
+     */
+    ExecuteDecisionBatchBuilder decisionKey(String decisionKey);
+
+    /**
+     * Set the parent deployment id
+     */
+    ExecuteDecisionBatchBuilder parentDeploymentId(String parentDeploymentId);
+
+    /**
+     * Set the tenantId
+     */
+    ExecuteDecisionBatchBuilder tenantId(String tenantId);
+
+    /**
+     * allow to search for definition by key in the default tenant when tenant specific search fails
+     */
+    ExecuteDecisionBatchBuilder fallbackToDefaultTenant();
+
+    /**
+     * Adds the variables for one execution of the decision
+     */
+    ExecuteDecisionBatchBuilder addVariables(Map<String, Object> variables);
+
+    /**
+     * Adds the variables for multiple executions of the decision, one execution per map
+     */
+    ExecuteDecisionBatchBuilder variables(Collection<Map<String, Object>> variables);
+
+    /**
+     * Evaluates the executions of the batch in parallel with the given executor service.
+     * The executor service determines the parallelism, so a bounded executor service should be used.
+     * When no executor service is set, the executions are evaluated one after the other by the calling thread.
+     */
+    ExecuteDecisionBatchBuilder executorService(ExecutorService executorService);
+
+    /**
+     * Don't store historic decision executions for this batch, even when the DMN history is enabled.
+     */
+    ExecuteDecisionBatchBuilder disableHistory();
+
+    /**
+     * Executes the decision (table) for every set of variables
+     *
+     * @return the rule results of every execution, in the order in which the variables were added
+     */
+    List<List<Map<String, Object>>> executeDecision();
+
+    /**
+     * Executes the decision (table) for every set of variables
+     *
+     * @return the {@link DecisionExecutionAuditContainer} of every execution, in the order in which the variables were added
+     */
+    List<DecisionExecutionAuditContainer> executeDecisionWithAuditTrail();
+
+}
@@ -35,8 +35,8 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheFactory;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.dmn.api.DmnDecisionService;
@@ -201,6 +201,12 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to false to evaluate every decision table entry by parsing its expression on each execution,
+     * instead of using the decision tables that are compiled when they are put in the decision cache.
+     */
+    protected boolean decisionTableCompilationEnabled = true;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -471,11 +477,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
         // Decision cache
         if (definitionCache == null) {
-            if (decisionCacheLimit <= 0) {
-                definitionCache = new DefaultDeploymentCache<>();
-            } else {
-                definitionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
-            }
+            definitionCache = createDeploymentCache(DeploymentCacheFactory.DECISION_CACHE, decisionCacheLimit);
         }
 
         deploymentManager = new DeploymentManager(definitionCache, this);
@@ -1024,6 +1026,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isDecisionTableCompilationEnabled() {
+        return decisionTableCompilationEnabled;
+    }
+
+    public DmnEngineConfiguration setDecisionTableCompilationEnabled(boolean decisionTableCompilationEnabled) {
+        this.decisionTableCompilationEnabled = decisionTableCompilationEnabled;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,10 +22,12 @@ import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DecisionServiceExecutionAuditContainer;
 import org.flowable.dmn.api.DmnDecisionService;
+import org.flowable.dmn.api.ExecuteDecisionBatchBuilder;
 import org.flowable.dmn.api.ExecuteDecisionBuilder;
 import org.flowable.dmn.api.ExecuteDecisionContext;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.cmd.EvaluateDecisionCmd;
+import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionBatchCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionServiceCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionWithAuditTrailCmd;
@@ -49,6 +52,11 @@ public class DmnDecisionServiceImpl extends CommonEngineServiceImpl<DmnEngineCon
         return new ExecuteDecisionBuilderImpl(this);
     }
 
+    @Override
+    public ExecuteDecisionBatchBuilder createExecuteDecisionBatchBuilder() {
+        return new ExecuteDecisionBatchBuilderImpl(this);
+    }
+
     @Override
     public List<Map<String, Object>> executeDecision(ExecuteDecisionBuilder builder) {
         ExecuteDecisionContext executeDecisionContext = builder.buildExecuteDecisionContext();
@@ -186,6 +194,22 @@ public class DmnDecisionServiceImpl extends CommonEngineServiceImpl<DmnEngineCon
         return decisionServiceExecutionAuditContainer;
     }
 
+    @Override
+    public List<List<Map<String, Object>>> executeDecisionBatch(ExecuteDecisionBatchBuilder builder) {
+        List<DecisionExecutionAuditContainer> decisionExecutions = executeDecisionBatchWithAuditTrail(builder);
+
+        List<List<Map<String, Object>>> decisionResults = new ArrayList<>(decisionExecutions.size());
+        for (DecisionExecutionAuditContainer decisionExecution : decisionExecutions) {
+            decisionResults.add(decisionExecution.getDecisionResult());
+        }
+        return decisionResults;
+    }
+
+    @Override
+    public List<DecisionExecutionAuditContainer> executeDecisionBatchWithAuditTrail(ExecuteDecisionBatchBuilder builder) {
+        return commandExecutor.execute(new ExecuteDecisionBatchCmd((ExecuteDecisionBatchBuilderImpl) builder));
+    }
+
 
 
     protected Map<String, List<Map<String, Object>>> composeEvaluateDecisionResult(ExecuteDecisionContext executeDecisionContext) {
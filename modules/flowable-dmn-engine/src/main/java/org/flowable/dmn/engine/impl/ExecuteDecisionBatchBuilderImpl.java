@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionService;
+import org.flowable.dmn.api.ExecuteDecisionBatchBuilder;
+
+public class ExecuteDecisionBatchBuilderImpl implements ExecuteDecisionBatchBuilder {
+
+    protected DmnDecisionService decisionService;
+
+    protected String decisionKey;
+    protected String parentDeploymentId;
+    protected String tenantId;
+    protected boolean fallbackToDefaultTenant;
+    protected List<Map<String, Object>> variables = new ArrayList<>();
+    protected ExecutorService executorService;
+    protected boolean historyDisabled;
+
+    public ExecuteDecisionBatchBuilderImpl(DmnDecisionService decisionService) {
+        this.decisionService = decisionService;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder decisionKey(String decisionKey) {
+        this.decisionKey = decisionKey;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder parentDeploymentId(String parentDeploymentId) {
+        this.parentDeploymentId = parentDeploymentId;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder fallbackToDefaultTenant() {
+        this.fallbackToDefaultTenant = true;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder addVariables(Map<String, Object> variables) {
+        // copied, as the execution adds the output variables to the map
+        this.variables.add(variables != null ? new HashMap<>(variables) : new HashMap<>());
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder variables(Collection<Map<String, Object>> variables) {
+        if (variables != null) {
+            for (Map<String, Object> executionVariables : variables) {
+                addVariables(executionVariables);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder executorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder disableHistory() {
+        this.historyDisabled = true;
+        return this;
+    }
+
+    @Override
+    public List<List<Map<String, Object>>> executeDecision() {
+        return decisionService.executeDecisionBatch(this);
+    }
+
+    @Override
+    public List<DecisionExecutionAuditContainer> executeDecisionWithAuditTrail() {
+        return decisionService.executeDecisionBatchWithAuditTrail(this);
+    }
+
+    public String getDecisionKey() {
+        return decisionKey;
+    }
+
+    public String getParentDeploymentId() {
+        return parentDeploymentId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public boolean isFallbackToDefaultTenant() {
+        return fallbackToDefaultTenant;
+    }
+
+    public List<Map<String, Object>> getVariables() {
+        return variables;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public boolean isHistoryDisabled() {
+        return historyDisabled;
+    }
+}
@@ -21,7 +21,12 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.ExecuteDecisionContext;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.el.CompiledInputEntry;
+import org.flowable.dmn.engine.impl.el.CompiledOutputEntry;
+import org.flowable.dmn.engine.impl.el.DecisionTableCompiler;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
@@ -31,6 +36,8 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionRule;
 import org.flowable.dmn.model.DecisionTable;
@@ -81,6 +88,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
         // create execution context and audit trail
         ELExecutionContext executionContext = ELExecutionContextBuilder.build(decision, executeDecisionInfo);
+        executionContext.setCompiledDecisionTable(getCompiledDecisionTable(decision, executeDecisionInfo));
 
         try {
             sanityCheckDecisionTable(currentDecisionTable);
@@ -223,6 +231,14 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     }
 
     protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable != null) {
+            CompiledInputEntry compiledInputEntry = compiledDecisionTable.getInputEntry(ruleContainer.getInputEntry());
+            if (compiledInputEntry != null) {
+                return compiledInputEntry.evaluate(expressionManager, executionContext);
+            }
+        }
+
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
 
@@ -247,7 +263,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         if (StringUtils.isNotEmpty(outputEntryExpression.getText())) {
             Object executionVariable = null;
             try {
-                Object resultValue = ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+                Object resultValue = executeOutputExpressionEvaluation(ruleClauseContainer, executionContext);
                 executionVariable = ExecutionVariableFactory.getExecutionVariable(outputVariableType, resultValue);
 
                 // update execution context
@@ -295,6 +311,44 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("End evaluation conclusion {} of valid rule {}", ruleClauseContainer.getOutputClause().getOutputNumber(), ruleNumber);
     }
 
+    protected Object executeOutputExpressionEvaluation(RuleOutputClauseContainer ruleClauseContainer, ELExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable != null) {
+            CompiledOutputEntry compiledOutputEntry = compiledDecisionTable.getOutputEntry(ruleClauseContainer.getOutputEntry());
+            if (compiledOutputEntry != null) {
+                return compiledOutputEntry.evaluate(expressionManager, executionContext);
+            }
+        }
+
+        return ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), ruleClauseContainer.getOutputEntry(), expressionManager, executionContext);
+    }
+
+    /**
+     * Returns the compiled version of the decision table of the decision, which is kept in the decision cache entry.
+     * Decision tables that were not compiled when they were put in the cache are compiled on their first execution.
+     */
+    protected CompiledDecisionTable getCompiledDecisionTable(Decision decision, ExecuteDecisionContext executeDecisionInfo) {
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        if (dmnEngineConfiguration == null || !dmnEngineConfiguration.isDecisionTableCompilationEnabled() || executeDecisionInfo.getDecisionId() == null) {
+            return null;
+        }
+
+        DecisionCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(executeDecisionInfo.getDecisionId());
+        if (cacheEntry == null) {
+            return null;
+        }
+
+        DecisionTable decisionTable = (DecisionTable) decision.getExpression();
+        CompiledDecisionTable compiledDecisionTable = cacheEntry.getCompiledDecisionTable(decision.getId());
+        if (compiledDecisionTable == null) {
+            compiledDecisionTable = DecisionTableCompiler.compile(decisionTable, expressionManager);
+            cacheEntry.addCompiledDecisionTable(decision.getId(), compiledDecisionTable);
+        }
+
+        // the decision can be a different instance than the one in the cache, e.g. when the cache entry was replaced in the meantime
+        return compiledDecisionTable.getDecisionTable() == decisionTable ? compiledDecisionTable : null;
+    }
+
     protected String getExceptionMessage(Exception exception) {
         String exceptionMessage;
         if (exception.getCause() != null && exception.getCause().getMessage() != null) {
@@ -0,0 +1,184 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.ExecuteDecisionContext;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.ExecuteDecisionBatchBuilderImpl;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DmnDefinition;
+
+/**
+ * Executes a decision for every set of variables of a batch. The decision is resolved once for the whole batch,
+ * after which the executions are evaluated by the calling thread, or in parallel when an executor service is given.
+ * Parallel evaluations are done by at most as many tasks as the executor service has threads, every task evaluating executions
+ * one after the other in a command without transaction. The historic decision executions are persisted in the same command.
+ */
+public class ExecuteDecisionBatchCmd extends AbstractExecuteDecisionCmd implements Command<List<DecisionExecutionAuditContainer>> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected List<Map<String, Object>> variables;
+    protected transient ExecutorService executorService;
+    protected boolean historyDisabled;
+
+    public ExecuteDecisionBatchCmd(ExecuteDecisionBatchBuilderImpl batchBuilder) {
+        super(new ExecuteDecisionContext());
+        executeDecisionContext.setDecisionKey(batchBuilder.getDecisionKey());
+        executeDecisionContext.setParentDeploymentId(batchBuilder.getParentDeploymentId());
+        executeDecisionContext.setTenantId(batchBuilder.getTenantId());
+        executeDecisionContext.setFallbackToDefaultTenant(batchBuilder.isFallbackToDefaultTenant());
+        this.variables = batchBuilder.getVariables();
+        this.executorService = batchBuilder.getExecutorService();
+        this.historyDisabled = batchBuilder.isHistoryDisabled();
+    }
+
+    @Override
+    public List<DecisionExecutionAuditContainer> execute(CommandContext commandContext) {
+        if (executeDecisionContext.getDecisionKey() == null) {
+            throw new FlowableIllegalArgumentException("decisionKey is null");
+        }
+
+        DmnDefinition definition = resolveDefinition();
+        Decision decision = definition.getDecisionById(executeDecisionContext.getDecisionKey());
+        if (decision == null) {
+            throw new FlowableIllegalArgumentException("no decision with id: '" + executeDecisionContext.getDecisionKey() + "' found in definition");
+        }
+
+        List<ExecuteDecisionContext> executeDecisionContexts = new ArrayList<>(variables.size());
+        for (Map<String, Object> executionVariables : variables) {
+            executeDecisionContexts.add(createExecuteDecisionContext(decision, executionVariables));
+        }
+
+        RuleEngineExecutor ruleEngineExecutor = CommandContextUtil.getDmnEngineConfiguration(commandContext).getRuleEngineExecutor();
+        if (executorService == null) {
+            for (ExecuteDecisionContext context : executeDecisionContexts) {
+                context.setDecisionExecution(ruleEngineExecutor.execute(decision, context));
+            }
+
+        } else {
+            executeInParallel(commandContext, ruleEngineExecutor, decision, executeDecisionContexts);
+        }
+
+        if (!historyDisabled) {
+            new PersistHistoricDecisionExecutionCmd(executeDecisionContexts).execute(commandContext);
+        }
+
+        List<DecisionExecutionAuditContainer> decisionExecutions = new ArrayList<>(executeDecisionContexts.size());
+        for (ExecuteDecisionContext context : executeDecisionContexts) {
+            decisionExecutions.add(context.getDecisionExecution());
+        }
+        return decisionExecutions;
+    }
+
+    protected void executeInParallel(CommandContext commandContext, RuleEngineExecutor ruleEngineExecutor, Decision decision,
+            List<ExecuteDecisionContext> executeDecisionContexts) {
+
+        // The command context of this command isn't thread safe, every task gets its own command context in the thread executing it.
+        // The evaluation doesn't access the database, so no transaction (and connection) is needed for it.
+        CommandExecutor commandExecutor = CommandContextUtil.getDmnEngineConfiguration(commandContext).getCommandExecutor();
+        CommandConfig evaluationCommandConfig = new CommandConfig().transactionNotSupported();
+
+        // Every task takes the next execution to evaluate until all executions are evaluated
+        AtomicInteger nextIndex = new AtomicInteger();
+        Command<Void> evaluationCommand = evaluationCommandContext -> {
+            int index;
+            while ((index = nextIndex.getAndIncrement()) < executeDecisionContexts.size()) {
+                ExecuteDecisionContext context = executeDecisionContexts.get(index);
+                context.setDecisionExecution(ruleEngineExecutor.execute(decision, context));
+            }
+            return null;
+        };
+
+        int parallelism = Math.min(getParallelism(executorService), executeDecisionContexts.size());
+        List<Future<?>> futures = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            futures.add(executorService.submit(() -> commandExecutor.execute(evaluationCommandConfig, evaluationCommand)));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(futures, nextIndex, executeDecisionContexts.size());
+            throw new FlowableException("Interrupted while executing decision batch", e);
+
+        } catch (ExecutionException e) {
+            cancel(futures, nextIndex, executeDecisionContexts.size());
+            if (e.getCause() instanceof FlowableException) {
+                throw (FlowableException) e.getCause();
+            }
+            throw new FlowableException("Error while executing decision batch", e.getCause());
+        }
+    }
+
+    /**
+     * @return the number of threads of the executor service, or the number of processors when it isn't known or unbounded
+     */
+    protected int getParallelism(ExecutorService executorService) {
+        if (executorService instanceof ThreadPoolExecutor) {
+            int maximumPoolSize = ((ThreadPoolExecutor) executorService).getMaximumPoolSize();
+            if (maximumPoolSize != Integer.MAX_VALUE) {
+                return maximumPoolSize;
+            }
+
+        } else if (executorService instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executorService).getParallelism();
+        }
+
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    protected void cancel(List<Future<?>> futures, AtomicInteger nextIndex, int size) {
+        // Tasks that are running stop after their current evaluation
+        nextIndex.set(size);
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    protected ExecuteDecisionContext createExecuteDecisionContext(Decision decision, Map<String, Object> executionVariables) {
+        ExecuteDecisionContext context = new ExecuteDecisionContext();
+        context.setDecisionKey(executeDecisionContext.getDecisionKey());
+        context.setDecisionId(executeDecisionContext.getDecisionId());
+        context.setDecisionVersion(executeDecisionContext.getDecisionVersion());
+        context.setDeploymentId(executeDecisionContext.getDeploymentId());
+        context.setParentDeploymentId(executeDecisionContext.getParentDeploymentId());
+        context.setTenantId(executeDecisionContext.getTenantId());
+        context.setFallbackToDefaultTenant(executeDecisionContext.isFallbackToDefaultTenant());
+        context.setDmnElement(decision);
+        context.setVariables(executionVariables);
+        return context;
+    }
+}
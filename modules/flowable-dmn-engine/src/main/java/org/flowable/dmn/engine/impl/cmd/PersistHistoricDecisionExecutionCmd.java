@@ -12,6 +12,9 @@
  */
 package org.flowable.dmn.engine.impl.cmd;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.commons.lang3.BooleanUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -30,53 +33,67 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class PersistHistoricDecisionExecutionCmd implements Command<Void> {
 
-    protected ExecuteDecisionContext executeDecisionContext;
+    protected List<ExecuteDecisionContext> executeDecisionContexts;
 
     public PersistHistoricDecisionExecutionCmd(ExecuteDecisionContext executeDecisionContext) {
-        this.executeDecisionContext = executeDecisionContext;
+        this.executeDecisionContexts = executeDecisionContext != null ? Collections.singletonList(executeDecisionContext) : null;
+    }
+
+    /**
+     * Persists the executions of a batch. The historic decision executions are inserted together when the command context is flushed,
+     * which uses a bulk insert when it is enabled.
+     */
+    public PersistHistoricDecisionExecutionCmd(List<ExecuteDecisionContext> executeDecisionContexts) {
+        this.executeDecisionContexts = executeDecisionContexts;
     }
 
     @Override
     public Void execute(CommandContext commandContext) {
 
-        if (executeDecisionContext == null) {
+        if (executeDecisionContexts == null || executeDecisionContexts.contains(null)) {
             throw new FlowableIllegalArgumentException("ExecuteDecisionContext is null");
         }
 
         DmnEngineConfiguration engineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
 
         if (engineConfiguration.isHistoryEnabled()) {
-            HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = engineConfiguration.getHistoricDecisionExecutionEntityManager();
-            HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
-            decisionExecutionEntity.setDecisionDefinitionId(executeDecisionContext.getDecisionId());
-            decisionExecutionEntity.setDeploymentId(executeDecisionContext.getDeploymentId());
-            decisionExecutionEntity.setStartTime(executeDecisionContext.getDecisionExecution().getStartTime());
-            decisionExecutionEntity.setEndTime(executeDecisionContext.getDecisionExecution().getEndTime());
-            decisionExecutionEntity.setInstanceId(executeDecisionContext.getInstanceId());
-            decisionExecutionEntity.setExecutionId(executeDecisionContext.getExecutionId());
-            decisionExecutionEntity.setActivityId(executeDecisionContext.getActivityId());
-            decisionExecutionEntity.setScopeType(executeDecisionContext.getScopeType());
-            decisionExecutionEntity.setTenantId(executeDecisionContext.getTenantId());
-
-            Boolean failed = executeDecisionContext.getDecisionExecution().isFailed();
-            if (BooleanUtils.isTrue(failed)) {
-                decisionExecutionEntity.setFailed(failed.booleanValue());
+            for (ExecuteDecisionContext executeDecisionContext : executeDecisionContexts) {
+                persistHistoricDecisionExecution(executeDecisionContext, engineConfiguration);
             }
+        }
 
-            ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
-            if (objectMapper == null) {
-                objectMapper = new ObjectMapper();
-            }
+        return null;
+    }
 
-            try {
-                decisionExecutionEntity.setExecutionJson(objectMapper.writeValueAsString(executeDecisionContext.getDecisionExecution()));
-            } catch (Exception e) {
-                throw new FlowableException("Error writing execution json", e);
-            }
+    protected void persistHistoricDecisionExecution(ExecuteDecisionContext executeDecisionContext, DmnEngineConfiguration engineConfiguration) {
+        HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = engineConfiguration.getHistoricDecisionExecutionEntityManager();
+        HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
+        decisionExecutionEntity.setDecisionDefinitionId(executeDecisionContext.getDecisionId());
+        decisionExecutionEntity.setDeploymentId(executeDecisionContext.getDeploymentId());
+        decisionExecutionEntity.setStartTime(executeDecisionContext.getDecisionExecution().getStartTime());
+        decisionExecutionEntity.setEndTime(executeDecisionContext.getDecisionExecution().getEndTime());
+        decisionExecutionEntity.setInstanceId(executeDecisionContext.getInstanceId());
+        decisionExecutionEntity.setExecutionId(executeDecisionContext.getExecutionId());
+        decisionExecutionEntity.setActivityId(executeDecisionContext.getActivityId());
+        decisionExecutionEntity.setScopeType(executeDecisionContext.getScopeType());
+        decisionExecutionEntity.setTenantId(executeDecisionContext.getTenantId());
 
-            historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+        Boolean failed = executeDecisionContext.getDecisionExecution().isFailed();
+        if (BooleanUtils.isTrue(failed)) {
+            decisionExecutionEntity.setFailed(failed.booleanValue());
         }
 
-        return null;
+        ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
+        if (objectMapper == null) {
+            objectMapper = new ObjectMapper();
+        }
+
+        try {
+            decisionExecutionEntity.setExecutionJson(objectMapper.writeValueAsString(executeDecisionContext.getDecisionExecution()));
+        } catch (Exception e) {
+            throw new FlowableException("Error writing execution json", e);
+        }
+
+        historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
     }
 }
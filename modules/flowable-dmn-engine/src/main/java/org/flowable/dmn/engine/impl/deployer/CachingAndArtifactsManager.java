@@ -14,12 +14,14 @@ package org.flowable.dmn.engine.impl.deployer;
 
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.el.DecisionTableCompiler;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 
 /**
@@ -42,9 +44,17 @@ public class CachingAndArtifactsManager {
             if (!dmnDefinition.getDecisionServices().isEmpty()) {
                 DecisionService decisionService = parsedDeployment.getDecisionServiceForDecisionEntity(decisionEntity);
                 cacheEntry = new DecisionCacheEntry(decisionEntity, dmnDefinition, decisionService);
+                if (dmnEngineConfiguration.isDecisionTableCompilationEnabled()) {
+                    for (Decision decision : dmnDefinition.getDecisions()) {
+                        compileDecisionTable(cacheEntry, decision, dmnEngineConfiguration);
+                    }
+                }
             } else {
                 Decision decision = parsedDeployment.getDecisionForDecisionEntity(decisionEntity);
                 cacheEntry = new DecisionCacheEntry(decisionEntity, dmnDefinition, decision);
+                if (dmnEngineConfiguration.isDecisionTableCompilationEnabled()) {
+                    compileDecisionTable(cacheEntry, decision, dmnEngineConfiguration);
+                }
             }
 
             decisionCache.add(decisionEntity.getId(), cacheEntry);
@@ -53,4 +63,11 @@ public class CachingAndArtifactsManager {
             deployment.addDeployedArtifact(decisionEntity);
         }
     }
+
+    protected void compileDecisionTable(DecisionCacheEntry cacheEntry, Decision decision, DmnEngineConfiguration dmnEngineConfiguration) {
+        if (decision != null && decision.getExpression() instanceof DecisionTable) {
+            cacheEntry.addCompiledDecisionTable(decision.getId(),
+                    DecisionTableCompiler.compile((DecisionTable) decision.getExpression(), dmnEngineConfiguration.getRuleEngineExecutor().getExpressionManager()));
+        }
+    }
 }
@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.UnaryTests;
+
+/**
+ * Decision table of which the input and output entries are parsed once, when the decision is put in the decision cache,
+ * instead of on every execution.
+ *
+ * The rules are still evaluated in the order of the decision table, so hit policies and the audit trail are not affected.
+ *
+ * @see DecisionTableCompiler
+ */
+public class CompiledDecisionTable {
+
+    protected final DecisionTable decisionTable;
+    protected final Map<UnaryTests, CompiledInputEntry> inputEntries = new IdentityHashMap<>();
+    protected final Map<LiteralExpression, CompiledOutputEntry> outputEntries = new IdentityHashMap<>();
+
+    public CompiledDecisionTable(DecisionTable decisionTable) {
+        this.decisionTable = decisionTable;
+    }
+
+    public DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+    public CompiledInputEntry getInputEntry(UnaryTests inputEntry) {
+        return inputEntries.get(inputEntry);
+    }
+
+    public void addInputEntry(UnaryTests inputEntry, CompiledInputEntry compiledInputEntry) {
+        inputEntries.put(inputEntry, compiledInputEntry);
+    }
+
+    public CompiledOutputEntry getOutputEntry(LiteralExpression outputEntry) {
+        return outputEntries.get(outputEntry);
+    }
+
+    public void addOutputEntry(LiteralExpression outputEntry, CompiledOutputEntry compiledOutputEntry) {
+        outputEntries.put(outputEntry, compiledOutputEntry);
+    }
+
+    public Map<UnaryTests, CompiledInputEntry> getInputEntries() {
+        return inputEntries;
+    }
+
+    public Map<LiteralExpression, CompiledOutputEntry> getOutputEntries() {
+        return outputEntries;
+    }
+}
@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+
+/**
+ * Input entry of a {@link CompiledDecisionTable}.
+ *
+ * Entries comparing the input variable with a literal (e.g. <code>"gold"</code>, <code>&gt;= 18</code>) are evaluated without EL,
+ * when the type of the variable value allows it. All other entries use the EL expression that was created when compiling the decision table.
+ *
+ * @see ELLiteralEvaluator
+ */
+public class CompiledInputEntry {
+
+    protected final int ruleNumber;
+    protected final String inputExpressionText;
+    protected final String parsedExpression;
+    protected final Expression expression;
+
+    protected final String inputVariable;
+    protected final String operator;
+    protected final Object literal;
+
+    protected InputClauseIndex index;
+
+    public CompiledInputEntry(int ruleNumber, String inputExpressionText, String parsedExpression, Expression expression,
+            String inputVariable, String operator, Object literal) {
+        this.ruleNumber = ruleNumber;
+        this.inputExpressionText = inputExpressionText;
+        this.parsedExpression = parsedExpression;
+        this.expression = expression;
+        this.inputVariable = inputVariable;
+        this.operator = operator;
+        this.literal = literal;
+    }
+
+    public Boolean evaluate(ExpressionManager expressionManager, ELExecutionContext executionContext) {
+        executionContext.checkExecutionContext(inputExpressionText);
+
+        if (literal != null) {
+            Map<String, Object> variables = executionContext.getStackVariables();
+
+            if (index != null) {
+                BitSet matchingRuleNumbers = executionContext.getMatchingRuleNumbers(index);
+                if (matchingRuleNumbers != null) {
+                    return matchingRuleNumbers.get(ruleNumber);
+                }
+            }
+
+            if (variables != null && variables.containsKey(inputVariable)) {
+                Boolean result = ELLiteralEvaluator.compare(variables.get(inputVariable), operator, literal);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+
+        // The expression is only missing when it could not be created at compile time, in which case creating it again reports the error
+        Expression inputExpression = expression != null ? expression : expressionManager.createExpression(parsedExpression);
+        return ELExpressionExecutor.executeInputExpression(inputExpression, parsedExpression, executionContext);
+    }
+
+    public boolean isEqualityComparison() {
+        return literal != null && ELLiteralEvaluator.EQ.equals(operator);
+    }
+
+    public int getRuleNumber() {
+        return ruleNumber;
+    }
+
+    public String getParsedExpression() {
+        return parsedExpression;
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
+    public String getInputVariable() {
+        return inputVariable;
+    }
+
+    public String getOperator() {
+        return operator;
+    }
+
+    public Object getLiteral() {
+        return literal;
+    }
+
+    public InputClauseIndex getIndex() {
+        return index;
+    }
+
+    public void setIndex(InputClauseIndex index) {
+        this.index = index;
+    }
+}
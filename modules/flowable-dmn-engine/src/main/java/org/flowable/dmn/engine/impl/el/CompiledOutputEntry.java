@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+
+/**
+ * Output entry of a {@link CompiledDecisionTable}. Literal entries (e.g. <code>"approved"</code> or <code>10</code>) are returned as is,
+ * all other entries use the EL expression that was created when compiling the decision table.
+ */
+public class CompiledOutputEntry {
+
+    protected final String outputEntryText;
+    protected final String parsedExpression;
+    protected final Expression expression;
+    protected final Object literal;
+
+    public CompiledOutputEntry(String outputEntryText, String parsedExpression, Expression expression, Object literal) {
+        this.outputEntryText = outputEntryText;
+        this.parsedExpression = parsedExpression;
+        this.expression = expression;
+        this.literal = literal;
+    }
+
+    public Object evaluate(ExpressionManager expressionManager, ELExecutionContext executionContext) {
+        if (literal != null) {
+            return literal;
+        }
+
+        // The expression is only missing when it could not be created at compile time, in which case creating it again reports the error
+        Expression outputExpression = expression != null ? expression : expressionManager.createExpression(parsedExpression);
+        return ELExpressionExecutor.executeOutputExpression(outputExpression, outputEntryText, executionContext);
+    }
+
+    public String getOutputEntryText() {
+        return outputEntryText;
+    }
+
+    public String getParsedExpression() {
+        return parsedExpression;
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
+    public Object getLiteral() {
+        return literal;
+    }
+}
@@ -0,0 +1,165 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles a {@link DecisionTable} into a {@link CompiledDecisionTable}:
+ * <ul>
+ * <li>the expression of every input and output entry is parsed once,</li>
+ * <li>input entries comparing the input variable with a literal are prepared to be evaluated without EL,</li>
+ * <li>for input clauses with multiple equality checks against literals, an {@link InputClauseIndex} is built,
+ * so the value of the input variable is only looked up once per execution.</li>
+ * </ul>
+ */
+public class DecisionTableCompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionTableCompiler.class);
+
+    protected static final String[] TWO_CHARACTER_OPERATORS = new String[] { ELLiteralEvaluator.EQ, ELLiteralEvaluator.NE,
+            ELLiteralEvaluator.LE, ELLiteralEvaluator.GE };
+
+    public static CompiledDecisionTable compile(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        CompiledDecisionTable compiledDecisionTable = new CompiledDecisionTable(decisionTable);
+
+        Map<InputClause, Map<Class<?>, List<CompiledInputEntry>>> equalityEntries = new IdentityHashMap<>();
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+                CompiledInputEntry compiledInputEntry = compileInputEntry(rule.getRuleNumber(), inputContainer, expressionManager);
+                if (compiledInputEntry != null) {
+                    compiledDecisionTable.addInputEntry(inputContainer.getInputEntry(), compiledInputEntry);
+
+                    if (compiledInputEntry.isEqualityComparison() && InputClauseIndex.isIndexable(compiledInputEntry.getLiteral())) {
+                        equalityEntries.computeIfAbsent(inputContainer.getInputClause(), inputClause -> new LinkedHashMap<>())
+                                .computeIfAbsent(compiledInputEntry.getLiteral().getClass(), literalType -> new ArrayList<>())
+                                .add(compiledInputEntry);
+                    }
+                }
+            }
+
+            for (RuleOutputClauseContainer outputContainer : rule.getOutputEntries()) {
+                CompiledOutputEntry compiledOutputEntry = compileOutputEntry(outputContainer.getOutputEntry(), expressionManager);
+                if (compiledOutputEntry != null) {
+                    compiledDecisionTable.addOutputEntry(outputContainer.getOutputEntry(), compiledOutputEntry);
+                }
+            }
+        }
+
+        for (Map<Class<?>, List<CompiledInputEntry>> entriesByLiteralType : equalityEntries.values()) {
+            for (Map.Entry<Class<?>, List<CompiledInputEntry>> entries : entriesByLiteralType.entrySet()) {
+                // an index only pays off when the same variable value would otherwise be compared multiple times
+                if (entries.getValue().size() > 1) {
+                    InputClauseIndex index = new InputClauseIndex(entries.getValue().get(0).getInputVariable(), entries.getKey());
+                    for (CompiledInputEntry inputEntry : entries.getValue()) {
+                        index.addEntry(inputEntry);
+                    }
+                }
+            }
+        }
+
+        return compiledDecisionTable;
+    }
+
+    protected static CompiledInputEntry compileInputEntry(int ruleNumber, RuleInputClauseContainer inputContainer, ExpressionManager expressionManager) {
+        InputClause inputClause = inputContainer.getInputClause();
+        UnaryTests inputEntry = inputContainer.getInputEntry();
+        if (inputClause == null || inputClause.getInputExpression() == null || inputEntry == null) {
+            // not compiled, the executor reports the missing parts
+            return null;
+        }
+
+        String inputEntryText = inputEntry.getText();
+        if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+            // empty entries are always true and never evaluated
+            return null;
+        }
+
+        String inputExpressionText = inputClause.getInputExpression().getText();
+        String inputVariableType = inputClause.getInputExpression().getTypeRef();
+        String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntryText, inputExpressionText, inputVariableType);
+        Expression expression = createExpression(parsedExpression, expressionManager);
+
+        String operator = null;
+        Object literal = null;
+        if (ELLiteralEvaluator.isVariableName(inputExpressionText)) {
+            String expressionText = ELInputEntryExpressionPreParser.replaceFunctionNames(inputEntryText);
+            if (!isExpression(expressionText) && (!expressionText.startsWith(".") || "date".equals(inputVariableType) || "number".equals(inputVariableType))) {
+                operator = getOperator(expressionText);
+                String operand = expressionText.length() < 2 || !StringUtils.startsWithAny(expressionText, ELInputEntryExpressionPreParser.OPERATORS)
+                        ? expressionText : expressionText.substring(operator.length());
+                literal = ELLiteralEvaluator.parseLiteral(operand.trim());
+            }
+        }
+
+        return new CompiledInputEntry(ruleNumber, inputExpressionText, parsedExpression, expression,
+                inputExpressionText, literal != null ? operator : null, literal);
+    }
+
+    protected static CompiledOutputEntry compileOutputEntry(LiteralExpression outputEntry, ExpressionManager expressionManager) {
+        if (outputEntry == null || StringUtils.isEmpty(outputEntry.getText())) {
+            return null;
+        }
+
+        String outputEntryText = outputEntry.getText();
+        String parsedExpression = ELOutputEntryExpressionPreParser.parse(outputEntryText);
+        Object literal = isExpression(outputEntryText) ? null : ELLiteralEvaluator.parseLiteral(outputEntryText.trim());
+        Expression expression = literal == null ? createExpression(parsedExpression, expressionManager) : null;
+
+        return new CompiledOutputEntry(outputEntryText, parsedExpression, expression, literal);
+    }
+
+    protected static String getOperator(String expressionText) {
+        if (expressionText.length() < 2 || !StringUtils.startsWithAny(expressionText, ELInputEntryExpressionPreParser.OPERATORS)) {
+            return ELLiteralEvaluator.EQ;
+        }
+
+        for (String operator : TWO_CHARACTER_OPERATORS) {
+            if (expressionText.startsWith(operator)) {
+                return operator;
+            }
+        }
+        return expressionText.substring(0, 1);
+    }
+
+    protected static boolean isExpression(String text) {
+        return text.startsWith("#{") || text.startsWith("${");
+    }
+
+    protected static Expression createExpression(String parsedExpression, ExpressionManager expressionManager) {
+        try {
+            return expressionManager.createExpression(parsedExpression);
+        } catch (Exception e) {
+            // the error is reported when the entry is evaluated, the same way as for decision tables that are not compiled
+            LOGGER.debug("Could not create expression {} while compiling decision table", parsedExpression, e);
+            return null;
+        }
+    }
+}
@@ -12,7 +12,9 @@
  */
 package org.flowable.dmn.engine.impl.el;
 
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +37,8 @@ public class ELExecutionContext {
     protected String scopeType;
     protected String tenantId;
     protected boolean forceDMN11;
+    protected CompiledDecisionTable compiledDecisionTable;
+    protected Map<InputClauseIndex, BitSet> matchingRuleNumbers;
 
     public void checkExecutionContext(String variableId) {
         if (StringUtils.isEmpty(variableId)) {
@@ -123,4 +127,26 @@ public class ELExecutionContext {
     public void setForceDMN11(boolean forceDMN11) {
         this.forceDMN11 = forceDMN11;
     }
+
+    public CompiledDecisionTable getCompiledDecisionTable() {
+        return compiledDecisionTable;
+    }
+
+    public void setCompiledDecisionTable(CompiledDecisionTable compiledDecisionTable) {
+        this.compiledDecisionTable = compiledDecisionTable;
+    }
+
+    /**
+     * @return the numbers of the rules matching the current value of the indexed variable, looked up once per execution,
+     *         or null if the index can't be used for the variable value
+     */
+    public BitSet getMatchingRuleNumbers(InputClauseIndex index) {
+        if (matchingRuleNumbers == null) {
+            matchingRuleNumbers = new IdentityHashMap<>();
+        }
+        if (!matchingRuleNumbers.containsKey(index)) {
+            matchingRuleNumbers.put(index, index.findMatchingRuleNumbers(stackVariables));
+        }
+        return matchingRuleNumbers.get(index);
+    }
 }
@@ -50,6 +50,10 @@ public class ELExpressionExecutor {
         String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntry.getText(), inputExpression, inputClause.getInputExpression().getTypeRef());
 
         Expression expression = expressionManager.createExpression(parsedExpression);
+        return executeInputExpression(expression, parsedExpression, executionContext);
+    }
+
+    public static Boolean executeInputExpression(Expression expression, String parsedExpression, ELExecutionContext executionContext) {
         RuleExpressionCondition condition = new RuleExpressionCondition(expression);
         
         try {
@@ -74,13 +78,17 @@ public class ELExpressionExecutor {
         String parsedExpression = ELOutputEntryExpressionPreParser.parse(outputEntry.getText());
         
         Expression expression = expressionManager.createExpression(parsedExpression);
+        return executeOutputExpression(expression, outputEntry.getText(), executionContext);
+    }
+
+    public static Object executeOutputExpression(Expression expression, String outputEntryText, ELExecutionContext executionContext) {
         RuleExpressionOutput outputExpression = new RuleExpressionOutput(expression);
 
         try {
             return outputExpression.getValue(executionContext.getStackVariables());
         } catch (Exception ex) {
-            LOGGER.warn("Error while executing output entry: {}", outputEntry.getText(), ex);
-            throw new FlowableDmnExpressionException("error while executing output entry", outputEntry.getText(), ex);
+            LOGGER.warn("Error while executing output entry: {}", outputEntryText, ex);
+            throw new FlowableDmnExpressionException("error while executing output entry", outputEntryText, ex);
         }
     }
 }
@@ -23,10 +23,7 @@ public class ELInputEntryExpressionPreParser {
 
     public static String parse(String expression, String inputVariable, String inputVariableType) {
         
-        expression = expression.replaceAll("fn_date", "date:toDate");
-        expression = expression.replaceAll("fn_subtractDate", "date:subtractDate");
-        expression = expression.replaceAll("fn_addDate", "date:addDate");
-        expression = expression.replaceAll("fn_now", "date:now");
+        expression = replaceFunctionNames(expression);
 
         if (expression.startsWith("#{") || expression.startsWith("${")) {
             return expression;
@@ -50,6 +47,14 @@ public class ELInputEntryExpressionPreParser {
         return parsedExpressionBuilder.toString();
     }
 
+    public static String replaceFunctionNames(String expression) {
+        expression = expression.replaceAll("fn_date", "date:toDate");
+        expression = expression.replaceAll("fn_subtractDate", "date:subtractDate");
+        expression = expression.replaceAll("fn_addDate", "date:addDate");
+        expression = expression.replaceAll("fn_now", "date:now");
+        return expression;
+    }
+
     protected static String parseSegmentWithOperator(String expression) {
         String parsedExpressionSegment;
         if (expression.length() < 2 || !StringUtils.startsWithAny(expression, OPERATORS)) {
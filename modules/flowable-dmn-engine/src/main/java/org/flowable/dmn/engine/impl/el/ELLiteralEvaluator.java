@@ -0,0 +1,174 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates simple EL literals and comparisons of a variable with a literal without parsing an EL expression.
+ *
+ * The comparisons follow the coercion rules of the EL implementation (e.g. a BigDecimal compared with a Long literal is compared as BigDecimal).
+ * When a comparison can't be decided with certainty (e.g. for a variable value of another type), null is returned and the EL expression must be used.
+ */
+public class ELLiteralEvaluator {
+
+    public static final String EQ = "==";
+    public static final String NE = "!=";
+    public static final String LT = "<";
+    public static final String GT = ">";
+    public static final String LE = "<=";
+    public static final String GE = ">=";
+
+    protected static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("^(?:\"([^\"\\\\]*)\"|'([^'\\\\]*)')$");
+
+    // limited to 15 digits, so the value can be converted to a double without losing precision, as done by the EL type converter
+    protected static final Pattern INTEGER_LITERAL_PATTERN = Pattern.compile("^-?\\d{1,15}$");
+    protected static final Pattern DECIMAL_LITERAL_PATTERN = Pattern.compile("^-?\\d{1,15}\\.\\d{1,15}$");
+
+    protected static final Pattern IDENTIFIER_PATTERN = Pattern.compile("^[a-zA-Z_][a-zA-Z0-9_]*$");
+
+    protected static final Set<String> RESERVED_IDENTIFIERS = new HashSet<>(Arrays.asList("true", "false", "null", "empty", "not", "and", "or",
+            "div", "mod", "eq", "ne", "lt", "gt", "le", "ge", "instanceof", "authenticatedUserId", "variableContainer"));
+
+    /**
+     * @return the value of the given literal text (String, Long, Double or Boolean) or null if the text is not a supported literal
+     */
+    public static Object parseLiteral(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        Matcher stringMatcher = STRING_LITERAL_PATTERN.matcher(text);
+        if (stringMatcher.matches()) {
+            return stringMatcher.group(1) != null ? stringMatcher.group(1) : stringMatcher.group(2);
+        }
+        if (INTEGER_LITERAL_PATTERN.matcher(text).matches()) {
+            return Long.valueOf(text);
+        }
+        if (DECIMAL_LITERAL_PATTERN.matcher(text).matches()) {
+            return Double.valueOf(text);
+        }
+        if ("true".equals(text)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equals(text)) {
+            return Boolean.FALSE;
+        }
+
+        return null;
+    }
+
+    /**
+     * @return true if the given text is a name that the EL implementation resolves as a variable
+     */
+    public static boolean isVariableName(String text) {
+        return text != null && IDENTIFIER_PATTERN.matcher(text).matches() && !RESERVED_IDENTIFIERS.contains(text);
+    }
+
+    /**
+     * Compares the value with the literal, using the given operator.
+     *
+     * @return the result of the comparison, or null if the result can only be determined by evaluating the EL expression
+     */
+    public static Boolean compare(Object value, String operator, Object literal) {
+        if (value == null) {
+            // null is only equal to null, all other comparisons are false
+            return NE.equals(operator);
+        }
+
+        if (literal instanceof String) {
+            if (value instanceof String) {
+                return evaluateComparison(operator, ((String) value).compareTo((String) literal));
+            }
+
+        } else if (literal instanceof Boolean) {
+            if (value instanceof Boolean) {
+                return evaluateComparison(operator, ((Boolean) value).compareTo((Boolean) literal));
+            }
+
+        } else if (literal instanceof Long || literal instanceof Double) {
+            return compareNumber(value, operator, (Number) literal);
+        }
+
+        return null;
+    }
+
+    protected static Boolean compareNumber(Object value, String operator, Number literal) {
+        if (value instanceof BigDecimal) {
+            return evaluateComparison(operator, ((BigDecimal) value).compareTo(new BigDecimal(literal.doubleValue())));
+        }
+
+        if (value instanceof Double || value instanceof Float || literal instanceof Double) {
+            if (!(value instanceof Number)) {
+                return null;
+            }
+            return evaluateDoubleComparison(operator, ((Number) value).doubleValue(), literal.doubleValue());
+        }
+
+        if (value instanceof BigInteger) {
+            return evaluateComparison(operator, ((BigInteger) value).compareTo(BigInteger.valueOf(literal.longValue())));
+        }
+
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return evaluateComparison(operator, Long.compare(((Number) value).longValue(), literal.longValue()));
+        }
+
+        return null;
+    }
+
+    protected static Boolean evaluateComparison(String operator, int comparison) {
+        switch (operator) {
+            case EQ:
+                return comparison == 0;
+            case NE:
+                return comparison != 0;
+            case LT:
+                return comparison < 0;
+            case GT:
+                return comparison > 0;
+            case LE:
+                return comparison <= 0;
+            case GE:
+                return comparison >= 0;
+            default:
+                return null;
+        }
+    }
+
+    protected static Boolean evaluateDoubleComparison(String operator, double value, double literal) {
+        switch (operator) {
+            case EQ:
+                // as the EL implementation, which compares with Double.equals and checks less or equal as not greater
+                return Double.valueOf(value).equals(literal);
+            case NE:
+                return !Double.valueOf(value).equals(literal);
+            case LT:
+                return value < literal;
+            case GT:
+                return value > literal;
+            case LE:
+                return !(value > literal);
+            case GE:
+                return !(value < literal);
+            default:
+                return null;
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the rules of a decision table on the value of one input variable.
+ * It is only created for input clauses where every rule either has an empty entry or an equality check with a literal of the same type.
+ *
+ * Looking up the variable value gives the numbers of all rules for which the entry of this input clause is true,
+ * so the entry of every rule can be checked with a bit lookup instead of a comparison.
+ */
+public class InputClauseIndex {
+
+    protected final String inputVariable;
+    protected final Class<?> literalType;
+    protected final Map<Object, BitSet> ruleNumbersByValue = new HashMap<>();
+
+    public InputClauseIndex(String inputVariable, Class<?> literalType) {
+        this.inputVariable = inputVariable;
+        this.literalType = literalType;
+    }
+
+    public static boolean isIndexable(Object literal) {
+        return literal instanceof String || literal instanceof Boolean || literal instanceof Long;
+    }
+
+    public void addEntry(CompiledInputEntry inputEntry) {
+        ruleNumbersByValue.computeIfAbsent(toIndexKey(inputEntry.getLiteral()), key -> new BitSet()).set(inputEntry.getRuleNumber());
+        inputEntry.setIndex(this);
+    }
+
+    /**
+     * @return the numbers of the rules with an entry matching the variable value, or null if the index can't be used for the variable value
+     */
+    public BitSet findMatchingRuleNumbers(Map<String, Object> variables) {
+        if (variables == null || !variables.containsKey(inputVariable)) {
+            return null;
+        }
+
+        Object value = variables.get(inputVariable);
+        if (value == null) {
+            // an equality check with a literal is always false for null
+            return new BitSet();
+        }
+
+        Object key = null;
+        if (literalType == String.class || literalType == Boolean.class) {
+            if (value.getClass() != literalType) {
+                return null;
+            }
+            key = value;
+
+        } else if (literalType == Long.class) {
+            if (value instanceof BigDecimal) {
+                BigDecimal decimalValue = ((BigDecimal) value).stripTrailingZeros();
+                if (decimalValue.scale() > 0) {
+                    // no integer literal is equal to a decimal value with a fraction
+                    return new BitSet();
+                }
+                key = decimalValue.toBigIntegerExact();
+
+            } else if (value instanceof BigInteger) {
+                key = value;
+
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                key = BigInteger.valueOf(((Number) value).longValue());
+
+            } else {
+                return null;
+            }
+        }
+
+        BitSet ruleNumbers = ruleNumbersByValue.get(key);
+        return ruleNumbers != null ? ruleNumbers : new BitSet();
+    }
+
+    protected Object toIndexKey(Object literal) {
+        if (literal instanceof Long) {
+            return BigInteger.valueOf((Long) literal);
+        }
+        return literal;
+    }
+
+    public String getInputVariable() {
+        return inputVariable;
+    }
+
+    public Class<?> getLiteralType() {
+        return literalType;
+    }
+
+    public Map<Object, BitSet> getRuleNumbersByValue() {
+        return ruleNumbersByValue;
+    }
+}
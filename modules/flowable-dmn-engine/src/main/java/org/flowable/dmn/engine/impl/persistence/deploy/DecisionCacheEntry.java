@@ -13,7 +13,10 @@
 package org.flowable.dmn.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
@@ -31,6 +34,7 @@ public class DecisionCacheEntry implements Serializable {
     protected DmnDefinition dmnDefinition;
     protected DecisionService decisionService;
     protected Decision decision;
+    protected transient Map<String, CompiledDecisionTable> compiledDecisionTables = new ConcurrentHashMap<>();
 
     public DecisionCacheEntry(DecisionEntity decisionEntity, DmnDefinition dmnDefinition, DecisionService decisionService) {
         this.decisionEntity = decisionEntity;
@@ -72,4 +76,16 @@ public class DecisionCacheEntry implements Serializable {
     public void setDecision(Decision decision) {
         this.decision = decision;
     }
+
+    public CompiledDecisionTable getCompiledDecisionTable(String decisionId) {
+        return compiledDecisionTables != null ? compiledDecisionTables.get(decisionId) : null;
+    }
+
+    public void addCompiledDecisionTable(String decisionId, CompiledDecisionTable compiledDecisionTable) {
+        if (compiledDecisionTables == null) {
+            // not restored when the entry is deserialized, the decision tables are compiled again when needed
+            compiledDecisionTables = new ConcurrentHashMap<>();
+        }
+        compiledDecisionTables.put(decisionId, compiledDecisionTable);
+    }
 }
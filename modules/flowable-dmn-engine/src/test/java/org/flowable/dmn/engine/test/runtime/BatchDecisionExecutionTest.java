@@ -0,0 +1,122 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.test.PluggableFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeployment;
+
+public class BatchDecisionExecutionTest extends PluggableFlowableDmnTestCase {
+
+    protected static final String DECISION_RESOURCE = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn";
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testExecuteDecisionBatch() {
+        List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("decision1")
+                .addVariables(Collections.singletonMap("inputVariable1", 5))
+                .addVariables(Collections.singletonMap("inputVariable1", 11))
+                .addVariables(Collections.singletonMap("inputVariable1", 10))
+                .addVariables(Collections.singletonMap("inputVariable1", 25))
+                .executeDecision();
+
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0)).extracting(result -> result.get("outputVariable1")).containsExactly("lt 10");
+        assertThat(results.get(1)).extracting(result -> result.get("outputVariable1")).containsExactly("gt 10");
+        assertThat(results.get(2)).extracting(result -> result.get("outputVariable1")).containsExactly("lt 20");
+        assertThat(results.get(3)).extracting(result -> result.get("outputVariable1")).containsExactly("gt 10");
+
+        assertThat(historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count()).isEqualTo(4);
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testExecuteDecisionBatchInParallel() {
+        List<Map<String, Object>> variables = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            variables.add(Collections.singletonMap("inputVariable1", i));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        List<DecisionExecutionAuditContainer> decisionExecutions;
+        try {
+            decisionExecutions = ruleService.createExecuteDecisionBatchBuilder()
+                    .decisionKey("decision1")
+                    .variables(variables)
+                    .executorService(executorService)
+                    .executeDecisionWithAuditTrail();
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(decisionExecutions).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            DecisionExecutionAuditContainer decisionExecution = decisionExecutions.get(i);
+            assertThat(decisionExecution.isFailed()).isFalse();
+
+            String expectedOutput = i < 10 ? "lt 10" : (i > 10 ? "gt 10" : "lt 20");
+            assertThat(decisionExecution.getDecisionResult()).extracting(result -> result.get("outputVariable1")).containsExactly(expectedOutput);
+        }
+
+        assertThat(historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count()).isEqualTo(100);
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testExecuteDecisionBatchInParallelIsBoundedToPoolSize() {
+        List<Map<String, Object>> variables = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            variables.add(Collections.singletonMap("inputVariable1", i));
+        }
+
+        ThreadPoolExecutor executorService = (ThreadPoolExecutor) Executors.newFixedThreadPool(2);
+        List<List<Map<String, Object>>> results;
+        try {
+            results = ruleService.createExecuteDecisionBatchBuilder()
+                    .decisionKey("decision1")
+                    .variables(variables)
+                    .executorService(executorService)
+                    .executeDecision();
+
+            // One evaluation task per thread instead of one task per execution
+            assertThat(executorService.getTaskCount()).isEqualTo(2);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(results).hasSize(50);
+        assertThat(results.get(5)).extracting(result -> result.get("outputVariable1")).containsExactly("lt 10");
+        assertThat(results.get(49)).extracting(result -> result.get("outputVariable1")).containsExactly("gt 10");
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testExecuteDecisionBatchWithoutHistory() {
+        List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("decision1")
+                .addVariables(Collections.singletonMap("inputVariable1", 5))
+                .addVariables(Collections.singletonMap("inputVariable1", 11))
+                .disableHistory()
+                .executeDecision();
+
+        assertThat(results).hasSize(2);
+        assertThat(historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count()).isZero();
+    }
+}
@@ -0,0 +1,151 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecision;
+import org.flowable.dmn.api.ExpressionExecution;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Executes decision tables with and without compilation and checks that the results and audit trails are the same.
+ */
+public class CompiledDecisionTableTest {
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void decisionTableIsCompiledOnDeployment() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        DmnDecision decision = flowableDmnRule.getRepositoryService().createDecisionQuery().decisionKey("decision1").singleResult();
+
+        DecisionCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decision.getId());
+        assertThat(cacheEntry.getCompiledDecisionTable("decision1")).isNotNull();
+        assertThat(cacheEntry.getCompiledDecisionTable("decision1").getInputEntries()).hasSize(15);
+        assertThat(cacheEntry.getCompiledDecisionTable("decision1").getOutputEntries()).hasSize(14);
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void compiledDecisionTableGivesSameResults() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+
+        for (Object status : Arrays.asList("gold", "silver", "bronze", "other")) {
+            for (Object age : Arrays.asList(17, 18, 25L, 30, 30.0, 30.5, 40, null)) {
+                for (Object member : Arrays.asList(true, false, null)) {
+                    Map<String, Object> variables = new HashMap<>();
+                    variables.put("status", status);
+                    variables.put("age", age);
+                    variables.put("member", member);
+
+                    DecisionExecutionAuditContainer compiledResult = execute(variables);
+
+                    dmnEngineConfiguration.setDecisionTableCompilationEnabled(false);
+                    DecisionExecutionAuditContainer interpretedResult;
+                    try {
+                        interpretedResult = execute(variables);
+                    } finally {
+                        dmnEngineConfiguration.setDecisionTableCompilationEnabled(true);
+                    }
+
+                    assertThat(compiledResult.isFailed()).as("failed for %s", variables).isEqualTo(interpretedResult.isFailed());
+                    assertThat(compiledResult.getExceptionMessage()).as("exception for %s", variables).isEqualTo(interpretedResult.getExceptionMessage());
+                    assertThat(compiledResult.getDecisionResult()).as("result for %s", variables).isEqualTo(interpretedResult.getDecisionResult());
+                    assertThat(getAuditedResults(compiledResult)).as("audit trail for %s", variables).isEqualTo(getAuditedResults(interpretedResult));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.doubleComparisons.dmn")
+    public void compiledDoubleComparisonsGiveSameResults() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+
+        for (Object value : Arrays.asList(-0.0, 0.0, -0.0f, Double.NaN, Float.NaN, 0.5, -1.0, 0, 0L)) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("value", value);
+
+            DecisionExecutionAuditContainer compiledResult = execute("doubleComparisons", variables);
+
+            dmnEngineConfiguration.setDecisionTableCompilationEnabled(false);
+            DecisionExecutionAuditContainer interpretedResult;
+            try {
+                interpretedResult = execute("doubleComparisons", variables);
+            } finally {
+                dmnEngineConfiguration.setDecisionTableCompilationEnabled(true);
+            }
+
+            assertThat(compiledResult.isFailed()).as("failed for %s", variables).isEqualTo(interpretedResult.isFailed());
+            assertThat(compiledResult.getDecisionResult()).as("result for %s", variables).isEqualTo(interpretedResult.getDecisionResult());
+            assertThat(getAuditedResults(compiledResult)).as("audit trail for %s", variables).isEqualTo(getAuditedResults(interpretedResult));
+        }
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/CompiledDecisionTableTest.dmn")
+    public void compiledDecisionTableUsesIndexedEntries() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("status", "silver");
+        variables.put("age", 25);
+        variables.put("member", true);
+
+        DecisionExecutionAuditContainer result = execute(variables);
+
+        assertThat(result.isFailed()).isFalse();
+        assertThat(result.getDecisionResult())
+                .extracting(ruleResult -> ruleResult.get("name"))
+                .containsExactly("not forty", "silver 25");
+    }
+
+    protected DecisionExecutionAuditContainer execute(Map<String, Object> variables) {
+        return execute("decision1", variables);
+    }
+
+    protected DecisionExecutionAuditContainer execute(String decisionKey, Map<String, Object> variables) {
+        return flowableDmnRule.getDmnEngine().getDmnDecisionService().createExecuteDecisionBuilder()
+                .decisionKey(decisionKey)
+                .variables(variables)
+                .executeWithAuditTrail();
+    }
+
+    protected List<String> getAuditedResults(DecisionExecutionAuditContainer auditContainer) {
+        List<String> auditedResults = new ArrayList<>();
+        for (RuleExecutionAuditContainer ruleExecution : auditContainer.getRuleExecutions().values()) {
+            auditedResults.add("rule " + ruleExecution.getRuleNumber() + " valid " + ruleExecution.isValid());
+            for (ExpressionExecution conditionResult : ruleExecution.getConditionResults()) {
+                auditedResults.add(conditionResult.getId() + " " + conditionResult.getResult() + " " + conditionResult.getException());
+            }
+            for (ExpressionExecution conclusionResult : ruleExecution.getConclusionResults()) {
+                auditedResults.add(conclusionResult.getId() + " " + conclusionResult.getResult() + " " + conclusionResult.getException());
+            }
+        }
+        return auditedResults;
+    }
+}
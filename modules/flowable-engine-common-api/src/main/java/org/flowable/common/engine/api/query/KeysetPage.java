@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+import java.util.List;
+
+/**
+ * A page of query results fetched with keyset pagination, see {@link Query#listAfter(String, int)}.
+ */
+public class KeysetPage<U> {
+
+    protected List<U> results;
+    protected String nextCursor;
+
+    public KeysetPage(List<U> results, String nextCursor) {
+        this.results = results;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return the results of this page
+     */
+    public List<U> getResults() {
+        return results;
+    }
+
+    /**
+     * @return the cursor to pass to {@link Query#listAfter(String, int)} to get the next page, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNextPage() {
+        return nextCursor != null;
+    }
+}
@@ -14,6 +14,10 @@
 package org.flowable.common.engine.api.query;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 
 /**
  * Describes basic methods for querying.
@@ -61,4 +65,46 @@ public interface Query<T extends Query<?, ?>, U extends Object> {
      * Executes the query and get a list of entities as the result.
      */
     List<U> listPage(int firstResult, int maxResults);
+
+    /**
+     * Executes the query and returns at most the given number of results following the position of the given cursor.
+     * Instead of skipping an offset, the query seeks to the position of the cursor, so fetching a page deep into a large result is as fast as fetching the first one.
+     * <p>
+     * The results are ordered by the property the query is ordered by (if any) and by id, which makes the order unique.
+     * Only a limited set of properties can be used, depending on the query.
+     * The cursor is opaque: use null for the first page and {@link KeysetPage#getNextCursor()} for the following pages, without changing the order of the query.
+     *
+     * @throws org.flowable.common.engine.api.FlowableIllegalArgumentException when the query doesn't support keyset pagination with its current order,
+     *             or when the cursor is invalid
+     */
+    default KeysetPage<U> listAfter(String cursor, int size) {
+        throw new FlowableIllegalArgumentException("Keyset pagination is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Executes the query and passes the results one by one to the given consumer, while they are read from the database.
+     * <p>
+     * The results are not collected in a list and are not added to the entity cache, so large results (e.g. for exports) can be processed
+     * with constant memory. All results are read in one command and database transaction, which is kept open until the consumer has processed the last result.
+     * Note that some JDBC drivers only stream results when the connection is configured for it (e.g. useCursorFetch for MySQL).
+     * Values that are stored separately, like binary variable values, are only loaded when they are requested. This executes another statement
+     * while the cursor is open, which not all databases support on the same connection (e.g. SQL Server without MARS).
+     *
+     * @param consumer the consumer of the results, throwing an exception stops reading the results
+     * @param fetchSize the number of rows the JDBC driver fetches from the database at once
+     * @throws org.flowable.common.engine.api.FlowableIllegalArgumentException when the query doesn't support streaming its results with its current criteria
+     */
+    default void forEach(Consumer<? super U> consumer, int fetchSize) {
+        forEachWhile(result -> {
+            consumer.accept(result);
+            return true;
+        }, fetchSize);
+    }
+
+    /**
+     * Same as {@link #forEach(Consumer, int)}, but stops reading the results (and closes the underlying database cursor) as soon as the given action returns false.
+     */
+    default void forEachWhile(Predicate<? super U> action, int fetchSize) {
+        throw new FlowableIllegalArgumentException("Streaming results is not supported by " + getClass().getName());
+    }
 }
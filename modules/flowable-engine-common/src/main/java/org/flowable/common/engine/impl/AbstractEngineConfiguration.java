@@ -62,6 +62,7 @@ import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
 import org.flowable.common.engine.impl.db.LogSqlExecutionTimePlugin;
 import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
 import org.flowable.common.engine.impl.db.MybatisTypeHandlerConfigurator;
+import org.flowable.common.engine.impl.db.QueryFetchSizePlugin;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
@@ -74,6 +75,7 @@ import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.CrDbRetryInterceptor;
 import org.flowable.common.engine.impl.interceptor.DefaultCommandInvoker;
 import org.flowable.common.engine.impl.interceptor.LogInterceptor;
+import org.flowable.common.engine.impl.interceptor.MetricsCommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.interceptor.TransactionContextInterceptor;
 import org.flowable.common.engine.impl.lock.LockManager;
@@ -81,10 +83,14 @@ import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.common.engine.impl.logging.LoggingListener;
 import org.flowable.common.engine.impl.logging.LoggingSession;
 import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
+import org.flowable.common.engine.impl.metrics.EngineMetricsListener;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCacheFactory;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheFactory;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -214,6 +220,19 @@ public abstract class AbstractEngineConfiguration {
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
+    /**
+     * If set to true, updates and deletes of multiple entities of the same type are sent to the database as one JDBC batch when flushing,
+     * instead of one statement round trip per entity. The update count of every row is still verified, to detect concurrent modifications.
+     * Default true. It is switched off automatically when the JDBC driver doesn't support batch updates or doesn't report the row count of batched statements.
+     */
+    protected boolean isBatchUpdatesAndDeletesEnabled = true;
+
+    /**
+     * Receives the measurements of command execution times, session flushes and job acquisition when set.
+     * Default null, meaning that no measurements are taken.
+     */
+    protected EngineMetricsListener engineMetricsListener;
+
     protected String mybatisMappingFile;
     protected Set<Class<?>> customMybatisMappers;
     protected Set<String> customMybatisXMLMappers;
@@ -393,6 +412,12 @@ public abstract class AbstractEngineConfiguration {
     protected IdGenerator idGenerator;
     protected boolean usePrefixId;
 
+    /**
+     * Creates the deployment caches (definition caches, expression cache, ...) of the engine.
+     * By default {@link DefaultDeploymentCacheFactory}, use e.g. the ConcurrentDeploymentCacheFactory for caches that don't lock on reads.
+     */
+    protected DeploymentCacheFactory deploymentCacheFactory;
+
     protected Clock clock;
     protected ObjectMapper objectMapper = new ObjectMapper();
 
@@ -477,6 +502,16 @@ public abstract class AbstractEngineConfiguration {
             String databaseProductName = databaseMetaData.getDatabaseProductName();
             logger.debug("database product name: '{}'", databaseProductName);
 
+            if (isBatchUpdatesAndDeletesEnabled && !databaseMetaData.supportsBatchUpdates()) {
+                logger.info("JDBC driver does not support batch updates, disabling batched updates and deletes");
+                isBatchUpdatesAndDeletesEnabled = false;
+
+            } else if (isBatchUpdatesAndDeletesEnabled && "Oracle".equals(databaseProductName) && databaseMetaData.getDriverMajorVersion() < 12) {
+                // These drivers return Statement.SUCCESS_NO_INFO for batched statements, which doesn't allow to check for concurrent modifications
+                logger.info("Oracle JDBC drivers before 12c don't report the row counts of batched statements, disabling batched updates and deletes");
+                isBatchUpdatesAndDeletesEnabled = false;
+            }
+
             // CRDB does not expose the version through the jdbc driver, so we need to fetch it through version().
             if (PRODUCT_NAME_POSTGRES.equalsIgnoreCase(databaseProductName)) {
                 try (PreparedStatement preparedStatement = connection.prepareStatement("select version() as version;");
@@ -518,6 +553,19 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    // deployment caches ////////////////////////////////////////////////////////
+
+    public void initDeploymentCacheFactory() {
+        if (deploymentCacheFactory == null) {
+            deploymentCacheFactory = new DefaultDeploymentCacheFactory();
+        }
+    }
+
+    protected <T> DeploymentCache<T> createDeploymentCache(String cacheName, int limit) {
+        initDeploymentCacheFactory();
+        return deploymentCacheFactory.createDeploymentCache(cacheName, limit);
+    }
+
     public void initSchemaManager() {
         if (this.commonSchemaManager == null) {
             this.commonSchemaManager = new CommonDbSchemaManager();
@@ -586,6 +634,9 @@ public abstract class AbstractEngineConfiguration {
     public Collection<? extends CommandInterceptor> getDefaultCommandInterceptors() {
         if (defaultCommandInterceptors == null) {
             List<CommandInterceptor> interceptors = new ArrayList<>();
+            if (engineMetricsListener != null) {
+                interceptors.add(new MetricsCommandInterceptor(engineMetricsListener));
+            }
             interceptors.add(new LogInterceptor());
 
             if (DATABASE_TYPE_COCKROACHDB.equals(databaseType)) {
@@ -755,6 +806,8 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchUpdatesAndDeletesEnabled(isBatchUpdatesAndDeletesEnabled);
+        dbSqlSessionFactory.setMetricsListener(engineMetricsListener);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -857,6 +910,7 @@ public abstract class AbstractEngineConfiguration {
         initCustomMybatisMappers(configuration);
         initMybatisTypeHandlers(configuration);
         initCustomMybatisInterceptors(configuration);
+        initMyBatisQueryFetchSizePlugin(configuration);
         if (isEnableLogSqlExecutionTime()) {
             initMyBatisLogSqlExecutionTimePlugin(configuration);
         }
@@ -885,6 +939,10 @@ public abstract class AbstractEngineConfiguration {
       }
     }
 
+    public void initMyBatisQueryFetchSizePlugin(Configuration configuration) {
+        configuration.addInterceptor(new QueryFetchSizePlugin());
+    }
+
     public void initMyBatisLogSqlExecutionTimePlugin(Configuration configuration) {
         configuration.addInterceptor(new LogSqlExecutionTimePlugin());
     }
@@ -1278,6 +1336,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public DeploymentCacheFactory getDeploymentCacheFactory() {
+        return deploymentCacheFactory;
+    }
+
+    public AbstractEngineConfiguration setDeploymentCacheFactory(DeploymentCacheFactory deploymentCacheFactory) {
+        this.deploymentCacheFactory = deploymentCacheFactory;
+        return this;
+    }
+
     public boolean isUsePrefixId() {
         return usePrefixId;
     }
@@ -1476,6 +1543,24 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchUpdatesAndDeletesEnabled() {
+        return isBatchUpdatesAndDeletesEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchUpdatesAndDeletesEnabled(boolean isBatchUpdatesAndDeletesEnabled) {
+        this.isBatchUpdatesAndDeletesEnabled = isBatchUpdatesAndDeletesEnabled;
+        return this;
+    }
+
+    public EngineMetricsListener getEngineMetricsListener() {
+        return engineMetricsListener;
+    }
+
+    public AbstractEngineConfiguration setEngineMetricsListener(EngineMetricsListener engineMetricsListener) {
+        this.engineMetricsListener = engineMetricsListener;
+        return this;
+    }
+
     public boolean isBulkInsertEnabled() {
         return isBulkInsertEnabled;
     }
@@ -0,0 +1,211 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.flowable.common.engine.impl.util.ExceptionUtil.sneakyThrow;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AsyncTaskExecutor} executing every task on a new virtual thread, for JDKs that support virtual threads (JDK 21 and later).
+ *
+ * Jobs that mostly wait for I/O (e.g. http or mail tasks, or JDBC calls in delegates) don't keep a platform thread busy,
+ * so the number of concurrently executed tasks is not limited by the size of a thread pool.
+ * Instead, the concurrency is bounded by a semaphore with {@link #maxConcurrency} permits: a task is rejected with a {@link RejectedExecutionException}
+ * when no permit is available. The number of available permits is reported as remaining capacity to the job acquisition,
+ * so jobs are only acquired when they can be executed.
+ *
+ * The virtual thread API is looked up by reflection, as the engine is compiled for older JDKs. Use {@link #isSupported()} to check whether
+ * the running JDK supports virtual threads.
+ */
+public class VirtualThreadAsyncTaskExecutor implements AsyncTaskExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadAsyncTaskExecutor.class);
+
+    /**
+     * The maximum number of tasks that are executed at the same time.
+     */
+    protected int maxConcurrency = 256;
+
+    /**
+     * The prefix of the names of the virtual threads, a sequence number is appended.
+     */
+    protected String threadNamePrefix = "flowable-async-job-executor-virtual-thread-";
+
+    /**
+     * The time (in seconds) that is waited for running tasks to complete when shutting down.
+     */
+    protected long secondsToWaitOnShutdown = 60L;
+
+    protected Semaphore permits;
+    protected ExecutorService executorService;
+
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public void start() {
+        if (executorService == null) {
+            permits = new Semaphore(maxConcurrency);
+            executorService = createVirtualThreadExecutor();
+            LOGGER.info("Created virtual thread executor with max concurrency {}", maxConcurrency);
+        }
+    }
+
+    protected ExecutorService createVirtualThreadExecutor() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+
+        } catch (ReflectiveOperationException e) {
+            throw new FlowableException("Virtual threads are not supported by this JDK " + System.getProperty("java.version"), e);
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        acquirePermit();
+        try {
+            executorService.execute(() -> runAndReleasePermit(task));
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> submit(Runnable task) {
+        acquirePermit();
+        try {
+            return CompletableFuture.runAsync(() -> runAndReleasePermit(task), executorService);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        acquirePermit();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.call();
+                } catch (Exception exception) {
+                    sneakyThrow(exception);
+                    return null;
+                } finally {
+                    permits.release();
+                }
+            }, executorService);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Takes a permit for a task, which must be released when the task completes.
+     *
+     * @throws RejectedExecutionException when the maximum concurrency is reached
+     */
+    protected void acquirePermit() {
+        if (executorService == null) {
+            throw new RejectedExecutionException("Virtual thread executor is not started");
+        }
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Maximum concurrency of " + maxConcurrency + " tasks reached");
+        }
+    }
+
+    protected void runAndReleasePermit(Runnable task) {
+        try {
+            task.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * @return the number of tasks that can be accepted before the maximum concurrency is reached
+     */
+    public int getRemainingCapacity() {
+        return permits != null ? permits.availablePermits() : 0;
+    }
+
+    @Override
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+
+            try {
+                if (!executorService.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Timeout during shutdown of the virtual thread executor. The running tasks could not end within {} seconds after shutdown operation.",
+                            secondsToWaitOnShutdown);
+                }
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while shutting down the virtual thread executor. ", e);
+                Thread.currentThread().interrupt();
+            }
+
+            executorService = null;
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    public long getSecondsToWaitOnShutdown() {
+        return secondsToWaitOnShutdown;
+    }
+
+    public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+        this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+    }
+}
@@ -14,6 +14,7 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,6 +25,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -31,6 +35,7 @@ import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.metrics.EngineMetricsListener;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
@@ -50,6 +55,7 @@ public class DbSqlSession implements Session {
 
     protected EntityCache entityCache;
     protected SqlSession sqlSession;
+    protected SqlSession batchSqlSession;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
@@ -276,6 +282,16 @@ public class DbSqlSession implements Session {
         }
     }
     
+    /**
+     * Opens a cursor over the results of the given statement. The results are not added to the entity cache.
+     * The cursor must be closed by the caller, at the latest it is closed when this session is closed.
+     */
+    public <T> Cursor<T> selectCursor(String statement, ListQueryParameterObject parameter) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        return sqlSession.selectCursor(statement, parameter);
+    }
+
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
         Object result = sqlSession.selectOne(statement, parameter);
@@ -353,6 +369,9 @@ public class DbSqlSession implements Session {
 
     @Override
     public void flush() {
+        EngineMetricsListener metricsListener = dbSqlSessionFactory.getMetricsListener();
+        long start = metricsListener != null ? System.nanoTime() : 0L;
+
         determineUpdatedObjects(); // Needs to be done before the removeUnnecessaryOperations, as removeUnnecessaryOperations will remove stuff from the cache
         removeUnnecessaryOperations();
 
@@ -360,9 +379,30 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        // The flush methods clear the collections, so the counts need to be taken before flushing
+        int insertCount = metricsListener != null ? countOperations(insertedObjects) : 0;
+        int updateCount = updatedObjects.size();
+        int deleteCount = metricsListener != null ? countOperations(deletedObjects) + countOperations(bulkDeleteOperations) : 0;
+
         flushInserts();
         flushUpdates();
         flushDeletes();
+
+        if (metricsListener != null) {
+            metricsListener.sessionFlushed(insertCount, updateCount, deleteCount, System.nanoTime() - start);
+        }
+    }
+
+    protected int countOperations(Map<Class<? extends Entity>, ?> operationsByEntityClass) {
+        int count = 0;
+        for (Object operations : operationsByEntityClass.values()) {
+            if (operations instanceof Map) {
+                count += ((Map<?, ?>) operations).size();
+            } else if (operations instanceof Collection) {
+                count += ((Collection<?>) operations).size();
+            }
+        }
+        return count;
     }
 
     /**
@@ -562,28 +602,81 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
-
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        if (updatedObjects.size() > 1 && dbSqlSessionFactory.isBatchUpdatesAndDeletesEnabled()) {
+            flushBatchUpdates();
+        } else {
+            for (Entity updatedObject : updatedObjects) {
+                flushRegularUpdate(updatedObject);
             }
+        }
+        updatedObjects.clear();
+    }
+
+    protected void flushRegularUpdate(Entity updatedObject) {
+        String updateStatement = getMappedUpdateStatement(updatedObject);
 
-            LOGGER.debug("updating: {}", updatedObject);
+        LOGGER.debug("updating: {}", updatedObject);
+
+        int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+        if (updatedRecords == 0) {
+            throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+        }
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        if (updatedObject instanceof HasRevision) {
+            ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+        }
+    }
 
-            int updatedRecords = sqlSession.update(updateStatement, updatedObject);
-            if (updatedRecords == 0) {
-                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+    /**
+     * Sends consecutive updates of entities of the same class as one JDBC batch.
+     * The updates are flushed in the same order as regular updates, only runs of the same entity class are combined.
+     * The update count of every row in the batch is checked, so optimistic locking still works as with regular updates.
+     */
+    protected void flushBatchUpdates() {
+        List<Entity> entitiesToUpdate = new ArrayList<>();
+        for (Entity updatedObject : updatedObjects) {
+            if (!entitiesToUpdate.isEmpty() && entitiesToUpdate.get(0).getClass() != updatedObject.getClass()) {
+                flushBatchUpdates(entitiesToUpdate);
+                entitiesToUpdate.clear();
             }
+            entitiesToUpdate.add(updatedObject);
+        }
+        flushBatchUpdates(entitiesToUpdate);
+    }
+
+    protected void flushBatchUpdates(List<Entity> entitiesToUpdate) {
+        if (entitiesToUpdate.isEmpty()) {
+            return;
+
+        } else if (entitiesToUpdate.size() == 1) {
+            flushRegularUpdate(entitiesToUpdate.get(0));
+            return;
+        }
 
+        SqlSession batchSession = getBatchSqlSession();
+        for (Entity updatedObject : entitiesToUpdate) {
+            LOGGER.debug("updating (batched): {}", updatedObject);
+            batchSession.update(getMappedUpdateStatement(updatedObject), updatedObject);
+        }
+        verifyBatchResults(batchSession.flushStatements(), true);
+
+        for (Entity updatedObject : entitiesToUpdate) {
             // See https://activiti.atlassian.net/browse/ACT-1290
             if (updatedObject instanceof HasRevision) {
                 ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
             }
+        }
+    }
+
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
 
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
         }
-        updatedObjects.clear();
+        return updateStatement;
     }
 
     protected void flushDeletes() {
@@ -628,37 +721,99 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
-        for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        if (entitiesToDelete.size() > 1 && dbSqlSessionFactory.isBatchUpdatesAndDeletesEnabled()) {
+            flushBatchDeleteEntities(entitiesToDelete);
+        } else {
+            for (Entity entity : entitiesToDelete) {
+                flushRegularDelete(entity);
             }
+        }
+    }
 
-            // It only makes sense to check for optimistic locking exceptions
-            // for objects that actually have a revision
-            if (entity instanceof HasRevision) {
-                int nrOfRowsDeleted = sqlSession.delete(deleteStatement, entity);
-                if (nrOfRowsDeleted == 0) {
-                    throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+    protected void flushRegularDelete(Entity entity) {
+        String deleteStatement = getMappedDeleteStatement(entity);
+
+        // It only makes sense to check for optimistic locking exceptions
+        // for objects that actually have a revision
+        if (entity instanceof HasRevision) {
+            int nrOfRowsDeleted = sqlSession.delete(deleteStatement, entity);
+            if (nrOfRowsDeleted == 0) {
+                throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+            }
+        } else {
+            sqlSession.delete(deleteStatement, entity);
+        }
+    }
+
+    protected void flushBatchDeleteEntities(Collection<Entity> entitiesToDelete) {
+        SqlSession batchSession = getBatchSqlSession();
+        for (Entity entity : entitiesToDelete) {
+            batchSession.delete(getMappedDeleteStatement(entity), entity);
+        }
+
+        // Same as for regular deletes, only entities with a revision are checked for optimistic locking
+        verifyBatchResults(batchSession.flushStatements(), false);
+    }
+
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
+
+    /**
+     * Checks the update count of every statement that was part of a JDBC batch.
+     * A row count of 0 means another transaction changed the row in the meantime. When verifyAllStatements is false, only entities with a revision are checked.
+     * Drivers that return {@link Statement#SUCCESS_NO_INFO} don't allow to verify the row count. As the statements were already executed,
+     * the transaction is failed with an optimistic locking exception and batching is switched off, so the retry uses regular statements.
+     */
+    protected void verifyBatchResults(List<BatchResult> batchResults, boolean verifyAllStatements) {
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Object parameterObject = parameterObjects.get(i);
+                if (updateCounts[i] == Statement.SUCCESS_NO_INFO && (verifyAllStatements || parameterObject instanceof HasRevision)) {
+                    LOGGER.warn("JDBC driver doesn't report the row count of batched statements, disabling batched updates and deletes");
+                    dbSqlSessionFactory.setBatchUpdatesAndDeletesEnabled(false);
+                    throw new FlowableOptimisticLockingException("Could not verify that " + parameterObject
+                            + " was not updated by another transaction concurrently, the JDBC driver doesn't report the row count of batched statements");
+                }
+                if (updateCounts[i] == 0 && (verifyAllStatements || parameterObject instanceof HasRevision)) {
+                    throw new FlowableOptimisticLockingException(parameterObject + " was updated by another transaction concurrently");
                 }
-            } else {
-                sqlSession.delete(deleteStatement, entity);
             }
         }
     }
 
+    /**
+     * Lazily opens a MyBatis session with a batch executor on the same connection as the regular session,
+     * so batched statements take part in the same transaction.
+     * Note that this session is never closed explicitly: closing it would close the shared connection.
+     * All its statements are flushed (and their JDBC statements closed) right after they are queued.
+     */
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            batchSqlSession = dbSqlSessionFactory.getSqlSessionFactory().openSession(ExecutorType.BATCH, sqlSession.getConnection());
+        }
+        return batchSqlSession;
+    }
+
     @Override
     public void close() {
         sqlSession.close();
     }
 
     public void commit() {
-        sqlSession.commit();
+        // When statements were executed through the batch session, the regular session doesn't know it is dirty
+        sqlSession.commit(batchSqlSession != null);
     }
 
     public void rollback() {
-        sqlSession.rollback();
+        sqlSession.rollback(batchSqlSession != null);
     }
 
     public <T> T getCustomMapper(Class<T> type) {
@@ -28,6 +28,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
+import org.flowable.common.engine.impl.metrics.EngineMetricsListener;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
@@ -62,6 +63,10 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected volatile boolean batchUpdatesAndDeletesEnabled;
+
+    protected EngineMetricsListener metricsListener;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -144,13 +149,17 @@ public class DbSqlSessionFactory implements SessionFactory {
     // db specific mappings
     // /////////////////////////////////////////////////////
 
-    protected void addDatabaseSpecificStatement(String databaseType, String activitiStatement, String ibatisStatement) {
+    public void addDatabaseSpecificStatement(String databaseType, String activitiStatement, String ibatisStatement) {
         Map<String, String> specificStatements = databaseSpecificStatements.get(databaseType);
         if (specificStatements == null) {
             specificStatements = new HashMap<>();
             databaseSpecificStatements.put(databaseType, specificStatements);
         }
         specificStatements.put(activitiStatement, ibatisStatement);
+
+        if (databaseType.equals(this.databaseType)) {
+            this.statementMappings = specificStatements;
+        }
     }
 
     public String mapStatement(String statement) {
@@ -202,6 +211,22 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isBatchUpdatesAndDeletesEnabled() {
+        return batchUpdatesAndDeletesEnabled;
+    }
+
+    public void setBatchUpdatesAndDeletesEnabled(boolean batchUpdatesAndDeletesEnabled) {
+        this.batchUpdatesAndDeletesEnabled = batchUpdatesAndDeletesEnabled;
+    }
+
+    public EngineMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    public void setMetricsListener(EngineMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
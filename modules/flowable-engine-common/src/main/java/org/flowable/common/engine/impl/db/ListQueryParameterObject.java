@@ -44,6 +44,7 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+    protected int fetchSize;
     
     public ListQueryParameterObject() {
         
@@ -203,5 +204,17 @@ public class ListQueryParameterObject {
     public void setNullHandlingColumn(String nullHandlingColumn) {
         this.nullHandlingColumn = nullHandlingColumn;
     }
+
+    /**
+     * @return the JDBC fetch size to use for the statement, 0 to use the default of the driver
+     * @see QueryFetchSizePlugin
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
     
 }
@@ -54,6 +54,12 @@ public class DefaultExpressionManager implements ExpressionManager {
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
+
+    /**
+     * Whether bean getters and methods used in expressions (e.g. <code>${myBean.execute(execution)}</code>) are invoked through method handles.
+     * Methods that can't be invoked through a method handle always fall back to reflection.
+     */
+    protected boolean beanMethodHandlesEnabled = true;
     
     public DefaultExpressionManager() {
         this(null);
@@ -107,7 +113,10 @@ public class DefaultExpressionManager implements ExpressionManager {
     @Override
     public ELContext getElContext(VariableContainer variableContainer) {
         ELResolver elResolver = createElResolver(variableContainer);
-        return new FlowableElContext(elResolver, functionResolver);
+        FlowableElContext elContext = new FlowableElContext(elResolver, functionResolver);
+        // Used for the coercion of method parameters, without it a new expression factory is created for every evaluation
+        elContext.putContext(ExpressionFactory.class, expressionFactory);
+        return elContext;
     }
     
     protected ELResolver createElResolver(VariableContainer variableContainer) {
@@ -144,7 +153,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     }
     
     protected ELResolver createBeanElResolver() {
-        return new BeanELResolver();
+        return new BeanELResolver(false, beanMethodHandlesEnabled);
     }
 
     @Override
@@ -218,5 +227,13 @@ public class DefaultExpressionManager implements ExpressionManager {
     public void setExpressionTextLengthCacheLimit(int expressionTextLengthCacheLimit) {
         this.expressionTextLengthCacheLimit = expressionTextLengthCacheLimit;
     }
+
+    public boolean isBeanMethodHandlesEnabled() {
+        return beanMethodHandlesEnabled;
+    }
+
+    public void setBeanMethodHandlesEnabled(boolean beanMethodHandlesEnabled) {
+        this.beanMethodHandlesEnabled = beanMethodHandlesEnabled;
+    }
     
 }
@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.interceptor;
+
+import org.flowable.common.engine.impl.metrics.EngineMetricsListener;
+
+/**
+ * Measures the execution time of every command and reports it to an {@link EngineMetricsListener}.
+ *
+ * It is the first default interceptor, so the measured time includes the transaction handling and the flush of the session.
+ */
+public class MetricsCommandInterceptor extends AbstractCommandInterceptor {
+
+    protected EngineMetricsListener metricsListener;
+
+    public MetricsCommandInterceptor(EngineMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+        long start = System.nanoTime();
+        Throwable exception = null;
+        try {
+            return next.execute(config, command, commandExecutor);
+
+        } catch (RuntimeException | Error e) {
+            exception = e;
+            throw e;
+
+        } finally {
+            metricsListener.commandExecuted(command.getClass(), System.nanoTime() - start, exception);
+        }
+    }
+
+    public EngineMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+}
@@ -19,6 +19,9 @@ import java.beans.FeatureDescriptor;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -42,6 +45,11 @@ import java.util.concurrent.ConcurrentHashMap;
  * end of a composite resolver. Otherwise, it will claim to have resolved a property before any
  * resolvers that come after it get a chance to test if they can do so as well.
  * 
+ * The introspected properties and the resolved methods of a class are cached and shared by all
+ * resolvers. Unless disabled, getters and methods are invoked through method handles, which the
+ * JIT compiler can inline. Reflection is used for the methods that can't be accessed through a
+ * method handle.
+ * 
  * @see CompositeELResolver
  * @see ELResolver
  */
@@ -72,6 +80,9 @@ public class BeanELResolver extends ELResolver {
 		private Method readMethod;
 		private Method writedMethod;
 
+		private MethodHandle readHandle;
+		private boolean readHandleResolved;
+
 		public BeanProperty(PropertyDescriptor descriptor) {
 			this.descriptor = descriptor;
 		}
@@ -87,6 +98,17 @@ public class BeanELResolver extends ELResolver {
 			return readMethod;
 		}
 
+		/**
+		 * @return the getter as method handle of type (Object)Object, or null if the getter can only be invoked with reflection
+		 */
+		public MethodHandle getReadHandle() {
+			if (!readHandleResolved) {
+				readHandle = toGetterHandle(getReadMethod());
+				readHandleResolved = true;
+			}
+			return readHandle;
+		}
+
 		public Method getWriteMethod() {
 			if (writedMethod == null) {
 				writedMethod = findAccessibleMethod(descriptor.getWriteMethod());
@@ -99,6 +121,100 @@ public class BeanELResolver extends ELResolver {
 		}
 	}
 
+	protected static final class BeanMethod {
+		private final Method method;
+
+		private MethodHandle invoker;
+		private boolean invokerResolved;
+
+		public BeanMethod(Method method) {
+			this.method = method;
+		}
+
+		public Method getMethod() {
+			return method;
+		}
+
+		/**
+		 * @return the method as method handle of type (Object, Object[])Object, taking the coerced parameters as array,
+		 *         or null if the method can only be invoked with reflection
+		 */
+		public MethodHandle getInvoker() {
+			if (!invokerResolved) {
+				invoker = toInvokerHandle(method);
+				invokerResolved = true;
+			}
+			return invoker;
+		}
+	}
+
+	protected static final class MethodKey {
+		private final String name;
+		private final int paramCount;
+
+		public MethodKey(String name, int paramCount) {
+			this.name = name;
+			this.paramCount = paramCount;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof MethodKey)) {
+				return false;
+			}
+			MethodKey other = (MethodKey) obj;
+			return paramCount == other.paramCount && name.equals(other.name);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * name.hashCode() + paramCount;
+		}
+	}
+
+	private static final ClassValue<BeanProperties> BEAN_PROPERTIES = new ClassValue<BeanProperties>() {
+		@Override
+		protected BeanProperties computeValue(Class<?> type) {
+			return new BeanProperties(type);
+		}
+	};
+
+	private static final ClassValue<ConcurrentHashMap<MethodKey, BeanMethod>> BEAN_METHODS = new ClassValue<ConcurrentHashMap<MethodKey, BeanMethod>>() {
+		@Override
+		protected ConcurrentHashMap<MethodKey, BeanMethod> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	private static MethodHandle toGetterHandle(Method method) {
+		if (method == null || Modifier.isStatic(method.getModifiers())) {
+			return null;
+		}
+		try {
+			return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+		} catch (IllegalAccessException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static MethodHandle toInvokerHandle(Method method) {
+		try {
+			MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asSpreader(Object[].class, method.getParameterTypes().length).asType(INVOKER_TYPE);
+		} catch (IllegalAccessException | RuntimeException e) {
+			return null;
+		}
+	}
+
 	private static Method findPublicAccessibleMethod(Method method) {
 		if (method == null || !Modifier.isPublic(method.getModifiers())) {
 			return null;
@@ -146,7 +262,7 @@ public class BeanELResolver extends ELResolver {
 	}
 
 	private final boolean readOnly;
-	private final ConcurrentHashMap<Class<?>, BeanProperties> cache;
+	private final boolean useMethodHandles;
 	
 	private ExpressionFactory defaultFactory;
 
@@ -161,8 +277,16 @@ public class BeanELResolver extends ELResolver {
 	 * Creates a new BeanELResolver whose read-only status is determined by the given parameter.
 	 */
 	public BeanELResolver(boolean readOnly) {
+		this(readOnly, true);
+	}
+
+	/**
+	 * Creates a new BeanELResolver whose read-only status is determined by the given parameter.
+	 * When useMethodHandles is false, getters and methods are always invoked with reflection.
+	 */
+	public BeanELResolver(boolean readOnly, boolean useMethodHandles) {
 		this.readOnly = readOnly;
-		this.cache = new ConcurrentHashMap<>();
+		this.useMethodHandles = useMethodHandles;
 	}
 
 	/**
@@ -326,11 +450,12 @@ public class BeanELResolver extends ELResolver {
 			if (beanProperty != null) {
 				Method method = beanProperty.getReadMethod();
 				if (method != null) {
+					MethodHandle handle = useMethodHandles ? beanProperty.getReadHandle() : null;
 					try {
-						result = method.invoke(base);
+						result = handle != null ? (Object) handle.invokeExact(base) : method.invoke(base);
 					} catch (InvocationTargetException e) {
 						throw new ELException(e.getCause());
-					} catch (Exception e) {
+					} catch (Throwable e) {
 						throw new ELException(e);
 					}
 					context.setPropertyResolved(true);
@@ -508,32 +633,66 @@ public class BeanELResolver extends ELResolver {
 				params = new Object[0];
 			}
 			String name = method.toString();
-			Method target = findMethod(base, name, paramTypes, params.length);
+			BeanMethod target = findBeanMethod(base.getClass(), name, paramTypes, params.length);
 			if (target == null) {
 				throw new MethodNotFoundException("Cannot find method " + name + " with " + params.length + " parameters in " + base.getClass());
 			}
-			try {
-				result = target.invoke(base, coerceParams(getExpressionFactory(context), target, params));
-			} catch (InvocationTargetException e) {
-				throw new ELException(e.getCause());
-			} catch (IllegalAccessException e) {
-				throw new ELException(e);
+			Object[] args = coerceParams(getExpressionFactory(context), target.getMethod(), params);
+			MethodHandle invoker = useMethodHandles ? target.getInvoker() : null;
+			if (invoker != null) {
+				try {
+					result = (Object) invoker.invokeExact(base, args);
+				} catch (Throwable e) {
+					throw new ELException(e);
+				}
+			} else {
+				try {
+					result = target.getMethod().invoke(base, args);
+				} catch (InvocationTargetException e) {
+					throw new ELException(e.getCause());
+				} catch (IllegalAccessException e) {
+					throw new ELException(e);
+				}
 			}
 			context.setPropertyResolved(true);
 		}
 		return result;
 	}
 
-    private Method findMethod(Object base, String name, Class<?>[] types, int paramCount) {
+	private static BeanMethod findBeanMethod(Class<?> baseClass, String name, Class<?>[] types, int paramCount) {
+		if (types != null) {
+			Method method = findMethod(baseClass, name, types, paramCount);
+			return method == null ? null : new BeanMethod(method);
+		}
+
+		// The lookup by name and parameter count iterates over all public methods of the class, so its result is cached
+		ConcurrentHashMap<MethodKey, BeanMethod> beanMethods = BEAN_METHODS.get(baseClass);
+		MethodKey key = new MethodKey(name, paramCount);
+		BeanMethod beanMethod = beanMethods.get(key);
+		if (beanMethod == null) {
+			Method method = findMethod(baseClass, name, null, paramCount);
+			if (method == null) {
+				return null;
+			}
+			BeanMethod newBeanMethod = new BeanMethod(method);
+			beanMethod = beanMethods.putIfAbsent(key, newBeanMethod);
+			if (beanMethod == null) { // put succeeded, use new value
+				beanMethod = newBeanMethod;
+			}
+		}
+		return beanMethod;
+	}
+
+	private static Method findMethod(Class<?> baseClass, String name, Class<?>[] types, int paramCount) {
 		if (types != null) {
 			try {
-				return findAccessibleMethod(base.getClass().getMethod(name, types));
+				return findAccessibleMethod(baseClass.getMethod(name, types));
 			} catch (NoSuchMethodException e) {
 				return null;
 			}
 		}
 		Method varArgsMethod = null;
-		for (Method method : base.getClass().getMethods()) {
+		for (Method method : baseClass.getMethods()) {
 			if (method.getName().equals(name)) {
 				int formalParamCount = method.getParameterTypes().length;
 				if (method.isVarArgs() && paramCount >= formalParamCount - 1) {
@@ -643,35 +802,9 @@ public class BeanELResolver extends ELResolver {
 	 *             if no BeanProperty can be found.
 	 */
 	private final BeanProperty toBeanProperty(Object base, Object property) {
-		BeanProperties beanProperties = cache.get(base.getClass());
-		if (beanProperties == null) {
-			BeanProperties newBeanProperties = new BeanProperties(base.getClass());
-			beanProperties = cache.putIfAbsent(base.getClass(), newBeanProperties);
-			if (beanProperties == null) { // put succeeded, use new value
-				beanProperties = newBeanProperties;
-			}
-		}
+		BeanProperties beanProperties = BEAN_PROPERTIES.get(base.getClass());
 		BeanProperty beanProperty = property == null ? null : beanProperties.getBeanProperty(property.toString());
 		return beanProperty;
 	}
 
-	/**
-	 * This method is not part of the API, though it can be used (reflectively) by clients of this
-	 * class to remove entries from the cache when the beans are being unloaded.
-	 * 
-	 * Note: this method is present in the reference implementation, so we're adding it here to ease
-	 * migration.
-	 * 
-	 * @param loader
-	 *            The classLoader used to load the beans.
-	 */
-	@SuppressWarnings("unused")
-	private final void purgeBeanClasses(ClassLoader loader) {
-		Iterator<Class<?>> classes = cache.keySet().iterator();
-		while (classes.hasNext()) {
-			if (loader == classes.next().getClassLoader()) {
-				classes.remove();
-			}
-		}
-	}
 }
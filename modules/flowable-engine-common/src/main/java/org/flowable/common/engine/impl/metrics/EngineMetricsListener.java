@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+/**
+ * Receives measurements of the hot paths of an engine: command execution, session flushes, job acquisition and job execution rejection.
+ *
+ * The engines don't depend on a metrics library: an implementation of this interface (e.g. backed by Micrometer) publishes the measurements.
+ * All methods are called on the thread doing the work, so implementations must be thread safe and fast.
+ * All methods have an empty default implementation, so implementations only need to override the measurements they are interested in.
+ */
+public interface EngineMetricsListener {
+
+    String ACQUISITION_TYPE_ASYNC_JOBS = "async";
+    String ACQUISITION_TYPE_TIMER_JOBS = "timer";
+
+    /**
+     * Called after the execution of a command, including the flush of the session and the commit of the transaction.
+     *
+     * @param commandClass the class of the executed command
+     * @param durationNanos the execution time in nanoseconds
+     * @param exception the exception thrown by the command, or null if the command completed successfully
+     */
+    default void commandExecuted(Class<?> commandClass, long durationNanos, Throwable exception) {
+    }
+
+    /**
+     * Called after a db sql session is flushed.
+     *
+     * @param inserts the number of inserted entities
+     * @param updates the number of updated entities
+     * @param deletes the number of deleted entities and bulk delete statements
+     * @param durationNanos the flush time in nanoseconds
+     */
+    default void sessionFlushed(int inserts, int updates, int deletes, long durationNanos) {
+    }
+
+    /**
+     * Called after an acquisition cycle of an async executor.
+     *
+     * @param acquisitionType the type of jobs that were acquired, see {@link #ACQUISITION_TYPE_ASYNC_JOBS} and {@link #ACQUISITION_TYPE_TIMER_JOBS}
+     * @param jobCount the number of acquired jobs
+     * @param durationNanos the acquisition time in nanoseconds
+     */
+    default void jobsAcquired(String acquisitionType, int jobCount, long durationNanos) {
+    }
+
+    /**
+     * Called when the execution of an acquired job is rejected, because the task executor of the async executor is saturated.
+     *
+     * @param jobHandlerType the handler type of the rejected job
+     */
+    default void jobRejected(String jobHandlerType) {
+    }
+}
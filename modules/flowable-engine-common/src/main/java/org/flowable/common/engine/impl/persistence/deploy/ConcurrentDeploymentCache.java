@@ -0,0 +1,324 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DeploymentCache} for high concurrency: reads never block, only additions and evictions are serialized.
+ *
+ * Eviction follows a segmented LRU policy: new entries are put in a probationary segment and move to a protected segment on their first hit.
+ * When a limit is reached, the least recently used probationary entry is evicted first,
+ * which keeps frequently used definitions cached when many definitions are only used once (e.g. while scanning through old versions).
+ * The protected segment is kept at most at 80% of the entries by demoting its least recently used entries.
+ * Both segments are kept in access order, so selecting a victim takes constant time.
+ * Reads record their access in a buffer which is applied to the segments in batches, when the buffer is full or when an entry is added.
+ *
+ * Next to a maximum number of entries, the cache can be bounded by a maximum total weight, calculated with a {@link DeploymentCacheWeigher}.
+ *
+ * Hits, misses and evictions are counted, see {@link DeploymentCacheStatistics}.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T>, DeploymentCacheStatistics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected static final double PROTECTED_SEGMENT_RATIO = 0.8;
+    protected static final int ACCESS_BUFFER_DRAIN_THRESHOLD = 16;
+    protected static final int MAX_ACCESS_BUFFER_SIZE = 1024;
+
+    protected final ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+
+    protected final int limit;
+    protected final long maxWeight;
+    protected final DeploymentCacheWeigher<T> weigher;
+
+    protected final AtomicLong totalWeight = new AtomicLong();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+
+    // The segments and the access buffer are only used when the cache is bounded, the segments are guarded by the eviction lock
+    protected final LinkedHashMap<String, CacheEntry<T>> probationarySegment = new LinkedHashMap<>(16, 0.75f, true);
+    protected final LinkedHashMap<String, CacheEntry<T>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    protected final Queue<CacheEntry<T>> accessBuffer = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger accessBufferSize = new AtomicInteger();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1);
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit.
+     */
+    public ConcurrentDeploymentCache(int limit) {
+        this(limit, -1, null);
+    }
+
+    /**
+     * Cache which is bounded by the number of elements and/or by the total weight of the elements, as calculated by the weigher.
+     * A limit or maximum weight of zero or lower means no bound.
+     */
+    public ConcurrentDeploymentCache(int limit, long maxWeight, DeploymentCacheWeigher<T> weigher) {
+        if (maxWeight > 0 && weigher == null) {
+            throw new IllegalArgumentException("A weigher is needed when a maximum weight is set");
+        }
+        this.limit = limit;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        if (isBounded()) {
+            recordAccess(entry);
+        }
+        return entry.value;
+    }
+
+    @Override
+    public void add(String id, T obj) {
+        CacheEntry<T> entry = new CacheEntry<>(id, obj, weigh(id, obj));
+        CacheEntry<T> previousEntry = cache.put(id, entry);
+        totalWeight.addAndGet(previousEntry != null ? entry.weight - previousEntry.weight : entry.weight);
+
+        if (isBounded()) {
+            evictionLock.lock();
+            try {
+                drainAccessBuffer();
+                // The entry may have been removed or replaced concurrently, in which case it must not be put in a segment
+                if (cache.get(id) == entry) {
+                    protectedSegment.remove(id);
+                    probationarySegment.put(id, entry);
+                }
+                evict(entry);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheEntry<T> entry = cache.remove(id);
+        if (entry != null) {
+            totalWeight.addAndGet(-entry.weight);
+
+            if (isBounded()) {
+                evictionLock.lock();
+                try {
+                    probationarySegment.remove(id, entry);
+                    protectedSegment.remove(id, entry);
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void clear() {
+        for (String id : cache.keySet()) {
+            remove(id);
+        }
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    protected int weigh(String id, T obj) {
+        if (weigher == null) {
+            return 0;
+        }
+
+        int weight = weigher.weigh(id, obj);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight " + weight + " for cache entry " + id);
+        }
+        return weight;
+    }
+
+    protected boolean isBounded() {
+        return limit > 0 || maxWeight > 0;
+    }
+
+    protected boolean isLimitExceeded() {
+        return (limit > 0 && cache.size() > limit) || (maxWeight > 0 && totalWeight.get() > maxWeight);
+    }
+
+    /**
+     * Records a hit without blocking. Accesses are dropped when the buffer is full, which only makes the LRU order less precise.
+     */
+    protected void recordAccess(CacheEntry<T> entry) {
+        if (accessBufferSize.get() < MAX_ACCESS_BUFFER_SIZE) {
+            accessBuffer.add(entry);
+            if (accessBufferSize.incrementAndGet() >= ACCESS_BUFFER_DRAIN_THRESHOLD && evictionLock.tryLock()) {
+                try {
+                    drainAccessBuffer();
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the buffered accesses to the segments: a probationary entry moves to the protected segment,
+     * a protected entry becomes the most recently used one. Must be called while holding the eviction lock.
+     */
+    protected void drainAccessBuffer() {
+        CacheEntry<T> entry;
+        while ((entry = accessBuffer.poll()) != null) {
+            accessBufferSize.decrementAndGet();
+
+            if (protectedSegment.get(entry.id) == entry) {
+                // Getting the entry moves it to the most recently used position
+                continue;
+            }
+
+            if (probationarySegment.remove(entry.id, entry)) {
+                protectedSegment.put(entry.id, entry);
+                if (protectedSegment.size() > cache.size() * PROTECTED_SEGMENT_RATIO) {
+                    // Demote the least recently used protected entry, it competes with the probationary entries from now on
+                    Iterator<CacheEntry<T>> iterator = protectedSegment.values().iterator();
+                    CacheEntry<T> demotedEntry = iterator.next();
+                    iterator.remove();
+                    probationarySegment.put(demotedEntry.id, demotedEntry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts entries until the limits are respected again. The entry that was just added is never evicted,
+     * which means it is kept as the only entry when its weight alone is larger than the maximum weight.
+     * Must be called while holding the eviction lock.
+     */
+    protected void evict(CacheEntry<T> addedEntry) {
+        while (isLimitExceeded()) {
+            CacheEntry<T> victim = selectVictim(probationarySegment, addedEntry);
+            if (victim == null) {
+                victim = selectVictim(protectedSegment, addedEntry);
+                if (victim == null) {
+                    break;
+                }
+            }
+
+            probationarySegment.remove(victim.id, victim);
+            protectedSegment.remove(victim.id, victim);
+            if (cache.remove(victim.id, victim)) {
+                totalWeight.addAndGet(-victim.weight);
+                evictionCount.increment();
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("Cache limit is reached, {} is evicted", victim.id);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the least recently used entry of the segment, skipping the excluded entry. At most two entries are looked at.
+     */
+    protected CacheEntry<T> selectVictim(LinkedHashMap<String, CacheEntry<T>> segment, CacheEntry<T> excludedEntry) {
+        Iterator<CacheEntry<T>> iterator = segment.values().iterator();
+        while (iterator.hasNext()) {
+            CacheEntry<T> entry = iterator.next();
+            if (entry != excludedEntry) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getTotalWeight() {
+        return totalWeight.get();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final String id;
+        protected final T value;
+        protected final int weight;
+
+        public CacheEntry(String id, T value, int weight) {
+            this.id = id;
+            this.value = value;
+            this.weight = weight;
+        }
+
+    }
+
+}
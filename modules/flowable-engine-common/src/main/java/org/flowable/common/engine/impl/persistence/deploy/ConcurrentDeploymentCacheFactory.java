@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates {@link ConcurrentDeploymentCache} instances.
+ * A maximum weight, together with the {@link DeploymentCacheWeigher} to calculate it, can be configured per cache name.
+ */
+public class ConcurrentDeploymentCacheFactory implements DeploymentCacheFactory {
+
+    protected Map<String, DeploymentCacheWeigher<?>> weighers = new HashMap<>();
+    protected Map<String, Long> maxWeights = new HashMap<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> DeploymentCache<T> createDeploymentCache(String cacheName, int limit) {
+        Long maxWeight = maxWeights.get(cacheName);
+        if (maxWeight != null) {
+            return new ConcurrentDeploymentCache<>(limit, maxWeight, (DeploymentCacheWeigher<T>) weighers.get(cacheName));
+        }
+        return new ConcurrentDeploymentCache<>(limit);
+    }
+
+    public ConcurrentDeploymentCacheFactory addWeightLimit(String cacheName, long maxWeight, DeploymentCacheWeigher<?> weigher) {
+        this.maxWeights.put(cacheName, maxWeight);
+        this.weighers.put(cacheName, weigher);
+        return this;
+    }
+
+    public Map<String, DeploymentCacheWeigher<?>> getWeighers() {
+        return weighers;
+    }
+
+    public void setWeighers(Map<String, DeploymentCacheWeigher<?>> weighers) {
+        this.weighers = weighers;
+    }
+
+    public Map<String, Long> getMaxWeights() {
+        return maxWeights;
+    }
+
+    public void setMaxWeights(Map<String, Long> maxWeights) {
+        this.maxWeights = maxWeights;
+    }
+
+}
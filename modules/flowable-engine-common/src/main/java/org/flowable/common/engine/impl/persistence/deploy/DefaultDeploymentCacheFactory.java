@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+/**
+ * Creates {@link DefaultDeploymentCache} instances.
+ */
+public class DefaultDeploymentCacheFactory implements DeploymentCacheFactory {
+
+    @Override
+    public <T> DeploymentCache<T> createDeploymentCache(String cacheName, int limit) {
+        if (limit <= 0) {
+            return new DefaultDeploymentCache<>();
+        } else {
+            return new DefaultDeploymentCache<>(limit);
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+/**
+ * Creates the {@link DeploymentCache} instances of an engine (definition caches, expression cache, ...),
+ * which allows to switch the cache implementation for all caches of an engine at once.
+ */
+public interface DeploymentCacheFactory {
+
+    String PROCESS_DEFINITION_CACHE = "processDefinition";
+    String CASE_DEFINITION_CACHE = "caseDefinition";
+    String DECISION_CACHE = "decision";
+    String FORM_DEFINITION_CACHE = "formDefinition";
+    String APP_DEFINITION_CACHE = "appDefinition";
+    String EVENT_DEFINITION_CACHE = "eventDefinition";
+    String APP_RESOURCE_CACHE = "appResource";
+    String KNOWLEDGE_BASE_CACHE = "knowledgeBase";
+    String EXPRESSION_CACHE = "expression";
+    String COMPILED_SCRIPT_CACHE = "compiledScript";
+
+    /**
+     * @param cacheName the name of the cache, one of the constants of this interface for the caches created by the engines.
+     * @param limit the maximum number of entries in the cache, a value of zero or lower means no limit.
+     */
+    <T> DeploymentCache<T> createDeploymentCache(String cacheName, int limit);
+
+}
@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+/**
+ * Implemented by {@link DeploymentCache} implementations that keep track of their usage.
+ */
+public interface DeploymentCacheStatistics {
+
+    /**
+     * @return the number of {@link DeploymentCache#get(String)} calls that returned a cached value.
+     */
+    long getHitCount();
+
+    /**
+     * @return the number of {@link DeploymentCache#get(String)} calls that did not find a cached value.
+     */
+    long getMissCount();
+
+    /**
+     * @return the number of entries that were removed from the cache because a limit was reached.
+     */
+    long getEvictionCount();
+
+    default double getHitRatio() {
+        long hitCount = getHitCount();
+        long requestCount = hitCount + getMissCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+}
@@ -0,0 +1,27 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+/**
+ * Calculates the weight of a value stored in a {@link DeploymentCache}, e.g. based on the size of the model it holds.
+ * Used by caches that are bounded by a maximum total weight instead of (or next to) a maximum number of entries.
+ */
+@FunctionalInterface
+public interface DeploymentCacheWeigher<T> {
+
+    /**
+     * @return the weight of the value, must not be negative.
+     */
+    int weigh(String id, T value);
+
+}
@@ -12,11 +12,21 @@
  */
 package org.flowable.common.engine.impl.query;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.ibatis.cursor.Cursor;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPage;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.impl.Direction;
@@ -38,6 +48,10 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
 
+    // The names of the properties the query is ordered by, in order, mapped to true for an ascending order (used for keyset pagination)
+    protected Map<String, Boolean> orderPropertyDirections = new LinkedHashMap<>();
+    protected KeysetCursor keysetCursor;
+
     protected AbstractQuery() {
         parameter = this;
     }
@@ -86,6 +100,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
             throw new FlowableIllegalArgumentException("You should call any of the orderBy methods first before specifying a direction");
         }
         addOrder(orderProperty.getName(), direction.getName(), nullHandlingOnOrder);
+        orderPropertyDirections.putIfAbsent(orderProperty.getName(), Direction.ASCENDING.getName().equals(direction.getName()));
         orderProperty = null;
         nullHandlingOnOrder = null;
         return (T) this;
@@ -135,6 +150,170 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    @Override
+    public KeysetPage<U> listAfter(String cursor, int size) {
+        if (size < 1) {
+            throw new FlowableIllegalArgumentException("The size of a page must be at least 1");
+        }
+        checkQueryOk();
+        checkKeysetPaginationSupported();
+
+        QueryProperty idProperty = getKeysetIdProperty();
+        String sortColumn = getKeysetSortColumn(idProperty);
+        boolean ascending = orderPropertyDirections.isEmpty() || orderPropertyDirections.values().iterator().next();
+
+        // The order by id is only added for this page, so the query can be executed again with its own ordering
+        String previousOrderByColumns = orderByColumns;
+        Map<String, Boolean> previousOrderByColumnMap = new TreeMap<>(orderByColumnMap);
+        Map<String, Boolean> previousOrderPropertyDirections = new LinkedHashMap<>(orderPropertyDirections);
+        int previousFirstResult = firstResult;
+        int previousMaxResults = maxResults;
+        List<U> results;
+        try {
+            if (!orderPropertyDirections.containsKey(idProperty.getName())) {
+                // The id makes the order unique
+                orderBy(idProperty);
+                direction(ascending ? Direction.ASCENDING : Direction.DESCENDING);
+            }
+
+            keysetCursor = cursor != null ? KeysetCursor.decode(cursor, sortColumn, idProperty.getName(), ascending) : null;
+            // One more result than requested is fetched, to know if there is a next page
+            results = listPage(0, size + 1);
+        } finally {
+            keysetCursor = null;
+            orderByColumns = previousOrderByColumns;
+            orderByColumnMap = previousOrderByColumnMap;
+            orderPropertyDirections = previousOrderPropertyDirections;
+            firstResult = previousFirstResult;
+            maxResults = previousMaxResults;
+        }
+
+        if (results.size() <= size) {
+            return new KeysetPage<>(results, null);
+        }
+
+        List<U> pageResults = new ArrayList<>(results.subList(0, size));
+        U lastResult = pageResults.get(size - 1);
+        Object sortValue = null;
+        if (sortColumn != null) {
+            sortValue = getKeysetSortValueProvider(sortColumn).apply(lastResult);
+            if (sortValue == null) {
+                throw new FlowableException("Cannot continue keyset pagination after a result without value for " + sortColumn);
+            }
+        }
+        return new KeysetPage<>(pageResults, KeysetCursor.encode(sortColumn, sortValue, getKeysetId(lastResult), ascending));
+    }
+
+    /**
+     * @return the column of the property the query is ordered by before the id, or null if the query is ordered by id only
+     */
+    protected String getKeysetSortColumn(QueryProperty idProperty) {
+        List<Map.Entry<String, Boolean>> orders = new ArrayList<>(orderPropertyDirections.entrySet());
+        if (orders.isEmpty() || orders.get(0).getKey().equals(idProperty.getName())) {
+            if (orders.size() > 1) {
+                throw new FlowableIllegalArgumentException("Keyset pagination requires the id to be the last property the query is ordered by");
+            }
+            return null;
+        }
+
+        String sortColumn = orders.get(0).getKey();
+        if (getKeysetSortValueProvider(sortColumn) == null) {
+            throw new FlowableIllegalArgumentException("Keyset pagination is not supported when ordering by " + sortColumn);
+        }
+        if (orders.size() > 2 || (orders.size() == 2 && (!orders.get(1).getKey().equals(idProperty.getName())
+                || !orders.get(1).getValue().equals(orders.get(0).getValue())))) {
+            throw new FlowableIllegalArgumentException("Keyset pagination requires ordering by at most one property followed by the id in the same direction");
+        }
+        return sortColumn;
+    }
+
+    protected void checkKeysetPaginationSupported() {
+        if (getKeysetIdProperty() == null) {
+            throw new FlowableIllegalArgumentException("Keyset pagination is not supported by " + getClass().getName());
+        }
+    }
+
+    /**
+     * @return the property of the unique id of the results, or null if the query doesn't support keyset pagination
+     */
+    protected QueryProperty getKeysetIdProperty() {
+        return null;
+    }
+
+    /**
+     * @return the id of the given result, the value of the column of {@link #getKeysetIdProperty()}
+     */
+    protected String getKeysetId(U result) {
+        return null;
+    }
+
+    /**
+     * @return the function that gets the value of the given column from a result, or null if keyset pagination is not supported when ordering by the column.
+     *         Only columns without null values can be supported.
+     */
+    protected Function<U, Object> getKeysetSortValueProvider(String column) {
+        return null;
+    }
+
+    public KeysetCursor getKeysetCursor() {
+        return keysetCursor;
+    }
+
+    @Override
+    public void forEachWhile(Predicate<? super U> action, int fetchSize) {
+        if (fetchSize < 1) {
+            throw new FlowableIllegalArgumentException("The fetch size must be at least 1");
+        }
+        this.resultType = ResultType.LIST;
+        if (commandExecutor != null) {
+            commandExecutor.execute(commandContext -> {
+                executeForEach(commandContext, action, fetchSize);
+                return null;
+            });
+        } else {
+            executeForEach(Context.getCommandContext(), action, fetchSize);
+        }
+    }
+
+    protected void executeForEach(CommandContext commandContext, Predicate<? super U> action, int fetchSize) {
+        checkQueryOk();
+        int previousFetchSize = this.fetchSize;
+        this.fetchSize = fetchSize;
+        try (Cursor<U> cursor = executeCursor(commandContext)) {
+            if (cursor == null) {
+                return;
+            }
+            for (U result : cursor) {
+                if (!action.test(processCursorResult(commandContext, result))) {
+                    break;
+                }
+            }
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not close the database cursor of the query", e);
+
+        } finally {
+            this.fetchSize = previousFetchSize;
+        }
+    }
+
+    /**
+     * Executes the query and returns a cursor over the results, which are not added to the entity cache, or null when there are no results
+     * (e.g. when history is disabled). Queries supporting {@link #forEach(java.util.function.Consumer, int)} override this and get the cursor
+     * from their entity manager, like they do for their list.
+     */
+    protected Cursor<U> executeCursor(CommandContext commandContext) {
+        throw new FlowableIllegalArgumentException("Streaming results is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Post-processes a result read from the cursor, before it is passed to the caller.
+     * The cursor is still open at that moment, so this must not execute other statements on the same connection.
+     */
+    protected U processCursorResult(CommandContext commandContext, U result) {
+        return result;
+    }
+
     @Override
     public long count() {
         this.resultType = ResultType.COUNT;
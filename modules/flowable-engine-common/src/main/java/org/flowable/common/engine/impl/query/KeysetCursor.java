@@ -0,0 +1,159 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.query;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
+/**
+ * The position after which a query continues with keyset pagination: the sort value and the id of the last result of the previous page.
+ *
+ * The columns are never taken from the cursor token, they are always those of the order of the query.
+ * The token only contains the sort column to verify that the cursor was created for the same order.
+ */
+public class KeysetCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final String VERSION = "1";
+    protected static final String SEPARATOR = "|";
+
+    protected static final String TYPE_NONE = "n";
+    protected static final String TYPE_DATE = "d";
+    protected static final String TYPE_INTEGER = "i";
+    protected static final String TYPE_LONG = "l";
+    protected static final String TYPE_STRING = "s";
+
+    protected String sortColumn;
+    protected Object sortValue;
+    protected String idColumn;
+    protected String id;
+    protected boolean ascending;
+
+    public KeysetCursor(String sortColumn, Object sortValue, String idColumn, String id, boolean ascending) {
+        this.sortColumn = sortColumn;
+        this.sortValue = sortValue;
+        this.idColumn = idColumn;
+        this.id = id;
+        this.ascending = ascending;
+    }
+
+    public static String encode(String sortColumn, Object sortValue, String id, boolean ascending) {
+        String type;
+        String value;
+        if (sortColumn == null) {
+            type = TYPE_NONE;
+            value = "";
+        } else if (sortValue instanceof Date) {
+            type = TYPE_DATE;
+            value = String.valueOf(((Date) sortValue).getTime());
+        } else if (sortValue instanceof Integer) {
+            type = TYPE_INTEGER;
+            value = sortValue.toString();
+        } else if (sortValue instanceof Long) {
+            type = TYPE_LONG;
+            value = sortValue.toString();
+        } else if (sortValue instanceof String) {
+            type = TYPE_STRING;
+            value = (String) sortValue;
+        } else {
+            throw new FlowableIllegalArgumentException("Cannot create a cursor for sort value " + sortValue + " of column " + sortColumn);
+        }
+
+        // The id and the value are the last element, prefixed with the length of the id, so both can contain the separator
+        String token = String.join(SEPARATOR, VERSION, ascending ? "a" : "d", sortColumn != null ? sortColumn : "", type, String.valueOf(id.length()), id + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the given token, which must have been created for a query with the given order.
+     */
+    public static KeysetCursor decode(String cursor, String sortColumn, String idColumn, boolean ascending) {
+        String[] elements;
+        try {
+            elements = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 6);
+        } catch (IllegalArgumentException e) {
+            throw new FlowableIllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+
+        if (elements.length != 6 || !VERSION.equals(elements[0])) {
+            throw new FlowableIllegalArgumentException("Invalid cursor " + cursor);
+        }
+        String expectedSortColumn = sortColumn != null ? sortColumn : "";
+        if (!(ascending ? "a" : "d").equals(elements[1]) || !expectedSortColumn.equals(elements[2])) {
+            throw new FlowableIllegalArgumentException("The cursor " + cursor + " was created for another order of the query");
+        }
+
+        String id;
+        Object sortValue;
+        try {
+            int idLength = Integer.parseInt(elements[4]);
+            id = elements[5].substring(0, idLength);
+            sortValue = parseValue(elements[3], elements[5].substring(idLength));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new FlowableIllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+        if (sortColumn != null && sortValue == null) {
+            throw new FlowableIllegalArgumentException("Invalid cursor " + cursor);
+        }
+
+        return new KeysetCursor(sortColumn, sortValue, idColumn, id, ascending);
+    }
+
+    protected static Object parseValue(String type, String value) {
+        switch (type) {
+            case TYPE_DATE:
+                return new Date(Long.parseLong(value));
+            case TYPE_INTEGER:
+                return Integer.valueOf(value);
+            case TYPE_LONG:
+                return Long.valueOf(value);
+            case TYPE_STRING:
+                return value;
+            default:
+                return null;
+        }
+    }
+
+    public String getSortColumn() {
+        return sortColumn;
+    }
+
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    public String getIdColumn() {
+        return idColumn;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * @return the comparison operator that selects the rows following the cursor
+     */
+    public String getOperator() {
+        return ascending ? ">" : "<";
+    }
+
+}
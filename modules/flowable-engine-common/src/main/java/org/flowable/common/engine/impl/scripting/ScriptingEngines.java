@@ -12,11 +12,14 @@
  */
 package org.flowable.common.engine.impl.scripting;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -24,6 +27,7 @@ import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.variable.api.delegate.VariableScope;
 
 /**
@@ -42,6 +46,15 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * Cache of compiled scripts, keyed by language and script text. A changed script (e.g. after a redeploy) has a different key,
+     * the compiled scripts that are not used anymore are evicted when the cache limit is reached.
+     * Only scripts of cached engines that implement {@link Compilable} are compiled (except juel), other scripts are evaluated as before.
+     */
+    protected DeploymentCache<CompiledScript> compiledScriptCache;
+    protected final LongAdder compiledScriptCacheHitCount = new LongAdder();
+    protected final LongAdder compiledScriptCacheMissCount = new LongAdder();
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -49,7 +62,7 @@ public class ScriptingEngines {
 
     public ScriptingEngines(ScriptEngineManager scriptEngineManager) {
         this.scriptEngineManager = scriptEngineManager;
-        cachedEngines = new HashMap<>();
+        cachedEngines = new ConcurrentHashMap<>();
     }
 
     public ScriptingEngines addScriptEngineFactory(ScriptEngineFactory scriptEngineFactory) {
@@ -84,12 +97,47 @@ public class ScriptingEngines {
     protected Object evaluate(String script, String language, Bindings bindings) {
         ScriptEngine scriptEngine = getEngineByName(language);
         try {
+            CompiledScript compiledScript = getCompiledScript(script, language, scriptEngine);
+            if (compiledScript != null) {
+                return compiledScript.eval(bindings);
+            }
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * @return the compiled script from the cache (compiling and caching it on a miss), or null if the script can't be cached
+     */
+    protected CompiledScript getCompiledScript(String script, String language, ScriptEngine scriptEngine) throws ScriptException {
+        // A compiled script is evaluated by the engine that compiled it, so only scripts of engines that are cached
+        // (i.e. that can be used by multiple threads) are compiled.
+        // Juel is excluded as it binds the variables of the script context when the expression is parsed.
+        if (compiledScriptCache == null || !(scriptEngine instanceof Compilable) || cachedEngines.get(language) != scriptEngine
+                || DEFAULT_SCRIPTING_LANGUAGE.equals(language)) {
+            return null;
+        }
+
+        String cacheKey = language + ':' + script;
+        CompiledScript compiledScript = compiledScriptCache.get(cacheKey);
+        if (compiledScript != null) {
+            compiledScriptCacheHitCount.increment();
+            return compiledScript;
+        }
+
+        compiledScriptCacheMissCount.increment();
+        compiledScript = ((Compilable) scriptEngine).compile(script);
+        compiledScriptCache.add(cacheKey, compiledScript);
+        return compiledScript;
+    }
+
+    public void clearCompiledScriptCache() {
+        if (compiledScriptCache != null) {
+            compiledScriptCache.clear();
+        }
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -139,6 +187,22 @@ public class ScriptingEngines {
         return scriptBindingsFactory.createBindings(variableScope, storeScriptVariables);
     }
 
+    public DeploymentCache<CompiledScript> getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    public void setCompiledScriptCache(DeploymentCache<CompiledScript> compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+    }
+
+    public long getCompiledScriptCacheHitCount() {
+        return compiledScriptCacheHitCount.sum();
+    }
+
+    public long getCompiledScriptCacheMissCount() {
+        return compiledScriptCacheMissCount.sum();
+    }
+
     public ScriptBindingsFactory getScriptBindingsFactory() {
         return scriptBindingsFactory;
     }
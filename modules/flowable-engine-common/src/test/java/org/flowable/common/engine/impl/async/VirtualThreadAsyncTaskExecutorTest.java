@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadAsyncTaskExecutorTest {
+
+    @Test
+    void startFailsWhenVirtualThreadsAreNotSupported() {
+        assumeFalse(VirtualThreadAsyncTaskExecutor.isSupported());
+
+        assertThatThrownBy(() -> new VirtualThreadAsyncTaskExecutor().start())
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("Virtual threads are not supported");
+    }
+
+    @Test
+    void concurrencyIsBoundedByPermits() throws Exception {
+        assumeTrue(VirtualThreadAsyncTaskExecutor.isSupported());
+
+        VirtualThreadAsyncTaskExecutor executor = new VirtualThreadAsyncTaskExecutor();
+        executor.setMaxConcurrency(2);
+        executor.start();
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch finished = new CountDownLatch(2);
+            Runnable blockingTask = () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.countDown();
+            };
+
+            executor.execute(blockingTask);
+            executor.execute(blockingTask);
+            assertThat(executor.getRemainingCapacity()).isZero();
+            assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+
+            release.countDown();
+            assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+
+            long start = System.currentTimeMillis();
+            while (executor.getRemainingCapacity() < 2 && System.currentTimeMillis() - start < 10_000L) {
+                Thread.sleep(10L);
+            }
+            assertThat(executor.getRemainingCapacity()).isEqualTo(2);
+            assertThat(executor.submit(() -> "done").get(10, TimeUnit.SECONDS)).isEqualTo("done");
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
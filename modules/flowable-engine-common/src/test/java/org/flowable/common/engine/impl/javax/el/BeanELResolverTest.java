@@ -0,0 +1,137 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.javax.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
+import org.flowable.common.engine.impl.de.odysseus.el.util.SimpleContext;
+import org.junit.jupiter.api.Test;
+
+class BeanELResolverTest {
+
+    @Test
+    void getValue() {
+        assertGetValue(true);
+        assertGetValue(false);
+    }
+
+    @Test
+    void invoke() {
+        assertInvoke(true);
+        assertInvoke(false);
+    }
+
+    @Test
+    void invokeWithException() {
+        assertInvokeWithException(true);
+        assertInvokeWithException(false);
+    }
+
+    protected void assertGetValue(boolean useMethodHandles) {
+        BeanELResolver resolver = new BeanELResolver(false, useMethodHandles);
+        ELContext context = createContext(resolver);
+
+        assertThat(resolver.getValue(context, new TestBean("kermit"), "name")).isEqualTo("kermit");
+        assertThat(context.isPropertyResolved()).isTrue();
+        assertThat(resolver.getValue(context, new TestBean("kermit"), "count")).isEqualTo(6);
+        assertThat(resolver.getValue(context, new TestBean("kermit"), "active")).isEqualTo(true);
+    }
+
+    protected void assertInvoke(boolean useMethodHandles) {
+        BeanELResolver resolver = new BeanELResolver(false, useMethodHandles);
+        ELContext context = createContext(resolver);
+        TestBean bean = new TestBean("kermit");
+
+        assertThat(resolver.invoke(context, bean, "greet", null, new Object[] { "gonzo" })).isEqualTo("kermit greets gonzo");
+        assertThat(resolver.invoke(context, bean, "add", null, new Object[] { 2L, "3" })).isEqualTo(5);
+        assertThat(resolver.invoke(context, bean, "join", null, new Object[] { "a", "b", "c" })).isEqualTo("a,b,c");
+        assertThat(resolver.invoke(context, bean, "join", null, new Object[0])).isEqualTo("");
+        assertThat(resolver.invoke(context, bean, "staticGreeting", null, null)).isEqualTo("hello");
+        assertThat(resolver.invoke(context, bean, "reset", null, null)).isNull();
+        assertThat(bean.getName()).isNull();
+
+        // Invoking the same methods again uses the cached methods
+        assertThat(resolver.invoke(context, bean, "greet", null, new Object[] { "piggy" })).isEqualTo("null greets piggy");
+        assertThat(resolver.invoke(context, Collections.singletonList("a"), "size", null, null)).isEqualTo(1);
+        assertThat(resolver.invoke(context, Arrays.asList("a", "b"), "size", null, null)).isEqualTo(2);
+    }
+
+    protected void assertInvokeWithException(boolean useMethodHandles) {
+        BeanELResolver resolver = new BeanELResolver(false, useMethodHandles);
+        ELContext context = createContext(resolver);
+
+        assertThatThrownBy(() -> resolver.invoke(context, new TestBean("kermit"), "fail", null, null))
+                .isInstanceOf(ELException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        assertThatThrownBy(() -> resolver.invoke(context, new TestBean("kermit"), "unknown", null, null))
+                .isInstanceOf(MethodNotFoundException.class);
+    }
+
+    protected ELContext createContext(BeanELResolver resolver) {
+        SimpleContext context = new SimpleContext(resolver);
+        context.putContext(ExpressionFactory.class, new ExpressionFactoryImpl());
+        return context;
+    }
+
+    public static class TestBean {
+
+        protected String name;
+
+        public TestBean(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return name.length();
+        }
+
+        public boolean isActive() {
+            return true;
+        }
+
+        public String greet(String other) {
+            return name + " greets " + other;
+        }
+
+        public int add(int first, int second) {
+            return first + second;
+        }
+
+        public String join(String... values) {
+            return String.join(",", values);
+        }
+
+        public void reset() {
+            name = null;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("failure");
+        }
+
+        public static String staticGreeting() {
+            return "hello";
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentDeploymentCacheTest {
+
+    @Test
+    public void testUnlimitedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get("id42")).isEqualTo("value42");
+        assertThat(cache.get("unknown")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isZero();
+        assertThat(cache.getHitRatio()).isEqualTo(0.5);
+
+        cache.remove("id42");
+        assertThat(cache.contains("id42")).isFalse();
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getAll()).isEmpty();
+    }
+
+    @Test
+    public void testLimitEvictsLeastRecentlyUsedProbationaryEntry() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(3);
+        cache.add("a", "A");
+        cache.add("b", "B");
+        cache.add("c", "C");
+
+        // 'a' is used and moves to the protected segment
+        assertThat(cache.get("a")).isEqualTo("A");
+
+        cache.add("d", "D");
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.contains("d")).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testNewEntryIsNotEvictedWhenAllOthersAreProtected() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("a", "A");
+        cache.add("b", "B");
+        cache.get("a");
+        cache.get("b");
+
+        cache.add("c", "C");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains("a")).isFalse();
+        assertThat(cache.contains("c")).isTrue();
+    }
+
+    @Test
+    public void testRemovedAndReplacedEntriesAreNoEvictionCandidates() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("a", "A");
+        cache.add("b", "B");
+        cache.remove("a");
+        cache.add("b", "B2");
+
+        cache.add("c", "C");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isZero();
+
+        cache.add("d", "D");
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.contains("d")).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testWeightLimit() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(-1, 10, (id, value) -> value.length());
+        cache.add("a", "aaaa");
+        cache.add("b", "bbbb");
+        assertThat(cache.getTotalWeight()).isEqualTo(8);
+
+        cache.add("c", "cccc");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains("a")).isFalse();
+        assertThat(cache.getTotalWeight()).isEqualTo(8);
+
+        // Replacing an entry updates the weight
+        cache.add("b", "b");
+        assertThat(cache.getTotalWeight()).isEqualTo(5);
+
+        // An entry heavier than the maximum weight evicts everything else, but is kept itself
+        cache.add("d", "ddddddddddddddd");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("d")).isNotNull();
+        assertThat(cache.getTotalWeight()).isEqualTo(15);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(50);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int threadNr = thread;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        String id = "id" + ((i * (threadNr + 1)) % 200);
+                        if (cache.get(id) == null) {
+                            cache.add(id, id);
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(80000);
+        for (String value : cache.getAll()) {
+            assertThat(cache.contains(value)).isTrue();
+        }
+    }
+
+}
@@ -157,6 +157,13 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
     protected boolean enableHistoryCleaning = false;
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected int cleanInstancesEndedAfterNumberOfDays = 365;
+    /**
+     * Whether the history cleanup job deletes the expired process instances in partitions, each partition deleted by its own async job,
+     * instead of deleting all expired process instances in one transaction.
+     */
+    protected boolean cleanInstancesInPartitions = false;
+    /** The maximum number of process instances of a partition, at most 1000 as the ids are used in in-lists of the delete statements */
+    protected int cleanInstancesPartitionSize = 100;
     protected HistoryCleaningManager historyCleaningManager;
 
 
@@ -827,6 +834,24 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         return this;
     }
 
+    public boolean isCleanInstancesInPartitions() {
+        return cleanInstancesInPartitions;
+    }
+
+    public ProcessEngineConfiguration setCleanInstancesInPartitions(boolean cleanInstancesInPartitions) {
+        this.cleanInstancesInPartitions = cleanInstancesInPartitions;
+        return this;
+    }
+
+    public int getCleanInstancesPartitionSize() {
+        return cleanInstancesPartitionSize;
+    }
+
+    public ProcessEngineConfiguration setCleanInstancesPartitionSize(int cleanInstancesPartitionSize) {
+        this.cleanInstancesPartitionSize = cleanInstancesPartitionSize;
+        return this;
+    }
+
     public HistoryCleaningManager getHistoryCleaningManager() {
         return historyCleaningManager;
     }
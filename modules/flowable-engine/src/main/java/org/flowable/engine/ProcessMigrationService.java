@@ -43,6 +43,12 @@ public interface ProcessMigrationService {
 
     Batch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId, ProcessInstanceMigrationDocument processInstanceMigrationDocument);
 
+    /**
+     * Creates the remaining parts of a migration batch of which the creation was interrupted (the batch still has the status
+     * {@link ProcessInstanceBatchMigrationResult#STATUS_CREATING}).
+     */
+    Batch resumeBatchMigrationPartCreation(String migrationBatchId);
+
     ProcessInstanceBatchMigrationResult getResultsOfBatchProcessInstanceMigration(String migrationBatchId);
 }
 
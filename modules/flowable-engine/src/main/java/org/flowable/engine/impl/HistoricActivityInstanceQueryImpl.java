@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
@@ -77,6 +78,11 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
         return CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstancesByQueryCriteria(this);
     }
 
+    @Override
+    protected Cursor<HistoricActivityInstance> executeCursor(CommandContext commandContext) {
+        return CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstanceCursorByQueryCriteria(this);
+    }
+
     @Override
     public HistoricActivityInstanceQueryImpl processInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
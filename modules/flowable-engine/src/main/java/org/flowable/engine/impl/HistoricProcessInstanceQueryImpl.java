@@ -18,10 +18,13 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
+import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
@@ -751,6 +754,32 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return orderBy(HistoricProcessInstanceQueryProperty.TENANT_ID);
     }
 
+    @Override
+    protected void checkKeysetPaginationSupported() {
+        super.checkKeysetPaginationSupported();
+        if (includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("Keyset pagination is not supported when including process variables");
+        }
+    }
+
+    @Override
+    protected QueryProperty getKeysetIdProperty() {
+        return HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_;
+    }
+
+    @Override
+    protected String getKeysetId(HistoricProcessInstance historicProcessInstance) {
+        return historicProcessInstance.getId();
+    }
+
+    @Override
+    protected Function<HistoricProcessInstance, Object> getKeysetSortValueProvider(String column) {
+        if (HistoricProcessInstanceQueryProperty.START_TIME.getName().equals(column)) {
+            return HistoricProcessInstance::getStartTime;
+        }
+        return null;
+    }
+
     public String getMssqlOrDB2OrderBy() {
         String specialOrderBy = super.getOrderByColumns();
         if (specialOrderBy != null && specialOrderBy.length() > 0) {
@@ -804,6 +833,28 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return results;
     }
 
+    @Override
+    protected Cursor<HistoricProcessInstance> executeCursor(CommandContext commandContext) {
+        if (includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("Streaming results is not supported when including process variables");
+        }
+        ensureVariablesInitialized();
+
+        if (processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor() != null) {
+            processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor().beforeHistoricProcessInstanceQueryExecute(this);
+        }
+
+        return processEngineConfiguration.getHistoricProcessInstanceEntityManager().findHistoricProcessInstanceCursorByQueryCriteria(this);
+    }
+
+    @Override
+    protected HistoricProcessInstance processCursorResult(CommandContext commandContext, HistoricProcessInstance processInstance) {
+        if (processEngineConfiguration.getPerformanceSettings().isEnableLocalization() && processEngineConfiguration.getInternalProcessLocalizationManager() != null) {
+            processEngineConfiguration.getInternalProcessLocalizationManager().localize(processInstance, locale, withLocalizationFallback);
+        }
+        return processInstance;
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricProcessInstance> results) {
 
         // Unlike the ExecutionEntityImpl, variables are not stored on the HistoricExecutionEntityImpl.
@@ -964,6 +1015,21 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return finishedBefore;
     }
 
+    /**
+     * @return true if the query only selects the historic process instances that finished before a date, without any other criteria
+     */
+    public boolean hasOnlyFinishedBeforeCriterion() {
+        return finishedBefore != null && processInstanceId == null && processDefinitionId == null && businessKey == null && businessKeyLike == null
+                && deploymentId == null && deploymentIds == null && !finished && !unfinished && !deleted && !notDeleted && startedBy == null
+                && superProcessInstanceId == null && !excludeSubprocesses && processDefinitionKeyIn == null && processKeyNotIn == null
+                && startedBefore == null && startedAfter == null && finishedAfter == null && processDefinitionKey == null
+                && processDefinitionCategory == null && processDefinitionName == null && processDefinitionVersion == null && processInstanceIds == null
+                && involvedUser == null && involvedUserIdentityLink == null && involvedGroups == null && involvedGroupIdentityLink == null
+                && !withJobException && tenantId == null && tenantIdLike == null && !withoutTenantId && name == null && nameLike == null
+                && nameLikeIgnoreCase == null && callbackId == null && callbackType == null && referenceId == null && referenceType == null
+                && queryVariableValues.isEmpty() && orQueryObjects.isEmpty();
+    }
+
     public String getInvolvedUser() {
         return involvedUser;
     }
@@ -18,10 +18,12 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
+import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
@@ -786,6 +788,32 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return this;
     }
 
+    @Override
+    protected void checkKeysetPaginationSupported() {
+        super.checkKeysetPaginationSupported();
+        if (includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("Keyset pagination is not supported when including process variables");
+        }
+    }
+
+    @Override
+    protected QueryProperty getKeysetIdProperty() {
+        return ProcessInstanceQueryProperty.PROCESS_INSTANCE_ID;
+    }
+
+    @Override
+    protected String getKeysetId(ProcessInstance processInstance) {
+        return processInstance.getId();
+    }
+
+    @Override
+    protected Function<ProcessInstance, Object> getKeysetSortValueProvider(String column) {
+        if (ProcessInstanceQueryProperty.PROCESS_START_TIME.getName().equals(column)) {
+            return ProcessInstance::getStartTime;
+        }
+        return null;
+    }
+
     public String getMssqlOrDB2OrderBy() {
         String specialOrderBy = super.getOrderByColumns();
         if (specialOrderBy != null && specialOrderBy.length() > 0) {
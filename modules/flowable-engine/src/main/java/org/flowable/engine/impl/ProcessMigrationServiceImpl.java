@@ -20,6 +20,7 @@ import org.flowable.engine.impl.cmd.GetProcessInstanceMigrationBatchResultCmd;
 import org.flowable.engine.impl.cmd.ProcessInstanceMigrationBatchCmd;
 import org.flowable.engine.impl.cmd.ProcessInstanceMigrationCmd;
 import org.flowable.engine.impl.cmd.ProcessInstanceMigrationValidationCmd;
+import org.flowable.engine.impl.cmd.ResumeProcessInstanceMigrationBatchPartCreationCmd;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationBuilderImpl;
 import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
 import org.flowable.engine.migration.ProcessInstanceMigrationBuilder;
@@ -82,6 +83,11 @@ public class ProcessMigrationServiceImpl extends CommonEngineServiceImpl<Process
         return commandExecutor.execute(new ProcessInstanceMigrationBatchCmd(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId, processInstanceMigrationDocument));
     }
 
+    @Override
+    public Batch resumeBatchMigrationPartCreation(String migrationBatchId) {
+        return commandExecutor.execute(new ResumeProcessInstanceMigrationBatchPartCreationCmd(migrationBatchId));
+    }
+
     @Override
     public ProcessInstanceBatchMigrationResult getResultsOfBatchProcessInstanceMigration(String migrationBatchId) {
         return commandExecutor.execute(new GetProcessInstanceMigrationBatchResultCmd(migrationBatchId));
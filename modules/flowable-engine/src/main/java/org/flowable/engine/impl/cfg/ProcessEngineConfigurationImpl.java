@@ -52,6 +52,7 @@ import org.flowable.common.engine.impl.HasVariableTypes;
 import org.flowable.common.engine.impl.ScriptingEngineAwareEngineConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DueDateBusinessCalendar;
@@ -89,8 +90,8 @@ import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheFactory;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
@@ -231,6 +232,7 @@ import org.flowable.engine.impl.history.DefaultHistoryTaskManager;
 import org.flowable.engine.impl.history.DefaultHistoryVariableManager;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.history.async.AsyncHistoryManager;
+import org.flowable.engine.impl.history.async.BpmnAsyncHistoryDataPrefetcher;
 import org.flowable.engine.impl.history.async.HistoryJsonConstants;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityEndHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityFullHistoryJsonTransformer;
@@ -269,7 +271,10 @@ import org.flowable.engine.impl.jobexecutor.AsyncCompleteCallActivityJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncSendEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupDeleteJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupPartitionJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupStatusJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ExternalWorkerTaskCompleteJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
@@ -372,7 +377,9 @@ import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.JobProcessor;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobNotifier;
 import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
+import org.flowable.job.service.impl.asyncexecutor.CoalescingAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecutionExceptionHandler;
@@ -380,13 +387,16 @@ import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
+import org.flowable.job.service.impl.history.async.AsyncHistoryDataPrefetcher;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+import org.flowable.job.service.impl.util.SkipLockedUtil;
 import org.flowable.task.api.TaskQueryInterceptor;
 import org.flowable.task.api.history.HistoricTaskQueryInterceptor;
 import org.flowable.task.service.InternalTaskAssignmentManager;
@@ -504,6 +514,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isAsyncHistoryJsonGzipCompressionEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+
+    /**
+     * When enabled, the async history executor executes the acquired history jobs in batches of at most {@link #asyncHistoryJobBatchSize} jobs per transaction,
+     * prefetching the referenced historic data and flushing the resulting inserts and updates in bulk.
+     */
+    protected boolean isAsyncHistoryJobBatchingEnabled;
+    protected int asyncHistoryJobBatchSize = CoalescingAsyncHistoryJobExecutor.DEFAULT_HISTORY_JOB_BATCH_SIZE;
+
+    /**
+     * The codec used to encode the history json of new async history jobs, for example the deflate codec with a preset dictionary.
+     * When not set, the history json is stored as json text (gzip compressed when {@link #isAsyncHistoryJsonGzipCompressionEnabled} is set).
+     */
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
+
     protected AsyncHistoryListener asyncHistoryListener;
 
     // Job Manager
@@ -606,6 +630,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorThreadPoolQueueSize = 100;
 
+    /**
+     * If true, jobs are executed on virtual threads instead of a thread pool, when the JDK supports virtual threads (JDK 21 and later).
+     * This suits jobs that mostly wait for I/O. The number of jobs executed at the same time is bounded by {@link #asyncExecutorVirtualThreadMaxConcurrency}.
+     * Default false. When the JDK doesn't support virtual threads, the default thread pool is used.
+     * <p>
+     * (This property is only applicable when no async task executor is set).
+     */
+    protected boolean asyncExecutorUseVirtualThreads;
+
+    /**
+     * The maximum number of jobs executed at the same time on virtual threads, see {@link #asyncExecutorUseVirtualThreads}. Default value = 256.
+     */
+    protected int asyncExecutorVirtualThreadMaxConcurrency = 256;
+
     /**
      * The queue onto which jobs will be placed before they are actually executed. Threads form the async executor threadpool will take work from this queue.
      * <p>
@@ -676,6 +714,34 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime;
 
+    /**
+     * When enabled, the async job acquisition thread shortens its wait time to {@link #asyncExecutorMinAsyncJobAcquireWaitTime} as soon as jobs are found,
+     * and doubles it after each acquisition that found no jobs, up to {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime}. Default value = false.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorAdaptiveAsyncJobAcquisition;
+
+    /**
+     * The minimum time (in milliseconds) the async job acquisition thread will wait when adaptive acquisition is enabled. Default value = 100 milliseconds.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorMinAsyncJobAcquireWaitTime = 100;
+
+    /**
+     * Notifies the async executors of all engines sharing the database that new async jobs are available,
+     * so that their acquisition threads wake up instead of waiting for the next acquisition cycle. By default no notifications are sent.
+     */
+    protected AsyncJobNotifier asyncExecutorJobNotifier;
+
+    /**
+     * When enabled, async jobs, timer jobs and history jobs are acquired with 'select ... for update skip locked' (or the 'readpast' table hint on SQL Server),
+     * so concurrent async executors skip the jobs being acquired by another executor instead of colliding on them with an optimistic locking exception.
+     * Only used on PostgreSQL 9.5+, MySQL 8+, MariaDB 10.6+ and SQL Server, the regular acquisition is used on other databases. Default value = false.
+     */
+    protected boolean asyncExecutorSkipLockedJobAcquisition;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it. While doing this, the 'name' of the lock owner is written into a column of the job.
      * <p>
@@ -780,6 +846,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     protected String batchStatusTimeCycleConfig = "30 * * * * ?";
 
+    /**
+     * The maximum number of batch parts (and their jobs) that are created in one transaction when creating a process migration batch.
+     */
+    protected int batchPartCreationChunkSize = 500;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -863,6 +934,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    /**
+     * Scripts of script tasks and script listeners are compiled once and cached, for the script engines that support it.
+     */
+    protected boolean isCompiledScriptCacheEnabled = true;
+    protected int compiledScriptCacheSize = 1024;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected StartProcessInstanceInterceptor startProcessInstanceInterceptor;
@@ -876,6 +953,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected HistoricTaskQueryInterceptor historicTaskQueryInterceptor;
     protected int executionQueryLimit = 20000;
     protected int taskQueryLimit = 20000;
+    protected boolean enableCandidateTaskSubqueries;
     protected int historicTaskQueryLimit = 20000;
     protected int historicProcessInstancesQueryLimit = 20000;
 
@@ -1451,6 +1529,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     @Override
     protected void initDbSqlSessionFactoryEntitySettings() {
         defaultInitDbSqlSessionFactoryEntitySettings(EntityDependencyOrder.INSERT_ORDER, EntityDependencyOrder.DELETE_ORDER);
+        SkipLockedUtil.addDatabaseSpecificStatements(dbSqlSessionFactory);
 
         // Oracle doesn't support bulk inserting for event log entries
         if (isBulkInsertEnabled && "oracle".equals(databaseType)) {
@@ -1604,6 +1683,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.taskServiceConfiguration.setTaskQueryInterceptor(this.taskQueryInterceptor);
         this.taskServiceConfiguration.setHistoricTaskQueryInterceptor(this.historicTaskQueryInterceptor);
         this.taskServiceConfiguration.setTaskQueryLimit(this.taskQueryLimit);
+        this.taskServiceConfiguration.setEnableCandidateTaskSubqueries(this.enableCandidateTaskSubqueries);
         this.taskServiceConfiguration.setHistoricTaskQueryLimit(this.historicTaskQueryLimit);
 
         this.taskServiceConfiguration.init();
@@ -1646,6 +1726,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
+            this.jobServiceConfiguration.setMetricsListener(this.engineMetricsListener);
+            this.jobServiceConfiguration.setAsyncJobNotifier(this.asyncExecutorJobNotifier);
+            this.jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(this.asyncExecutorSkipLockedJobAcquisition);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
 
             if (this.jobManager != null) {
@@ -1670,6 +1753,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
+            jobServiceConfiguration.setAsyncHistoryPayloadCodec(asyncHistoryPayloadCodec);
 
             // set the job processors
             this.jobServiceConfiguration.setJobProcessors(this.jobProcessors);
@@ -1785,11 +1869,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
-                processDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
-            }
+            processDefinitionCache = createDeploymentCache(DeploymentCacheFactory.PROCESS_DEFINITION_CACHE, processDefinitionCacheLimit);
         }
     }
 
@@ -1805,21 +1885,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initAppResourceCache() {
         if (appResourceCache == null) {
-            if (appResourceCacheLimit <= 0) {
-                appResourceCache = new DefaultDeploymentCache<>();
-            } else {
-                appResourceCache = new DefaultDeploymentCache<>(appResourceCacheLimit);
-            }
+            appResourceCache = createDeploymentCache(DeploymentCacheFactory.APP_RESOURCE_CACHE, appResourceCacheLimit);
         }
     }
 
     public void initKnowledgeBaseCache() {
         if (knowledgeBaseCache == null) {
-            if (knowledgeBaseCacheLimit <= 0) {
-                knowledgeBaseCache = new DefaultDeploymentCache<>();
-            } else {
-                knowledgeBaseCache = new DefaultDeploymentCache<>(knowledgeBaseCacheLimit);
-            }
+            knowledgeBaseCache = createDeploymentCache(DeploymentCacheFactory.KNOWLEDGE_BASE_CACHE, knowledgeBaseCacheLimit);
         }
     }
 
@@ -2084,6 +2156,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         BpmnHistoryCleanupJobHandler bpmnHistoryCleanupJobHandler = new BpmnHistoryCleanupJobHandler();
         jobHandlers.put(bpmnHistoryCleanupJobHandler.getType(), bpmnHistoryCleanupJobHandler);
 
+        BpmnHistoryCleanupPartitionJobHandler bpmnHistoryCleanupPartitionJobHandler = new BpmnHistoryCleanupPartitionJobHandler();
+        jobHandlers.put(bpmnHistoryCleanupPartitionJobHandler.getType(), bpmnHistoryCleanupPartitionJobHandler);
+
+        BpmnHistoryCleanupDeleteJobHandler bpmnHistoryCleanupDeleteJobHandler = new BpmnHistoryCleanupDeleteJobHandler();
+        jobHandlers.put(bpmnHistoryCleanupDeleteJobHandler.getType(), bpmnHistoryCleanupDeleteJobHandler);
+
+        BpmnHistoryCleanupStatusJobHandler bpmnHistoryCleanupStatusJobHandler = new BpmnHistoryCleanupStatusJobHandler();
+        jobHandlers.put(bpmnHistoryCleanupStatusJobHandler.getType(), bpmnHistoryCleanupStatusJobHandler);
+
         ProcessInstanceMigrationJobHandler processInstanceMigrationJobHandler = new ProcessInstanceMigrationJobHandler();
         jobHandlers.put(processInstanceMigrationJobHandler.getType(), processInstanceMigrationJobHandler);
         
@@ -2110,14 +2191,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 allHistoryJsonTransformers.addAll(customHistoryJsonTransformers);
             }
 
+            AsyncHistoryDataPrefetcher asyncHistoryDataPrefetcher = new BpmnAsyncHistoryDataPrefetcher(this);
             AsyncHistoryJobHandler asyncHistoryJobHandler = new AsyncHistoryJobHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             allHistoryJsonTransformers.forEach(asyncHistoryJobHandler::addHistoryJsonTransformer);
             asyncHistoryJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobHandler.setAsyncHistoryDataPrefetcher(asyncHistoryDataPrefetcher);
             historyJobHandlers.put(asyncHistoryJobHandler.getType(), asyncHistoryJobHandler);
 
             AsyncHistoryJobZippedHandler asyncHistoryJobZippedHandler = new AsyncHistoryJobZippedHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             allHistoryJsonTransformers.forEach(asyncHistoryJobZippedHandler::addHistoryJsonTransformer);
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobZippedHandler.setAsyncHistoryDataPrefetcher(asyncHistoryDataPrefetcher);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
             if (getCustomHistoryJobHandlers() != null) {
@@ -2172,6 +2256,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // /////////////////////////////////////////////////////////////
 
     protected void initAsyncTaskExecutor() {
+        if (this.asyncTaskExecutor == null && asyncExecutorUseVirtualThreads) {
+            if (VirtualThreadAsyncTaskExecutor.isSupported()) {
+                VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor();
+                virtualThreadAsyncTaskExecutor.setMaxConcurrency(asyncExecutorVirtualThreadMaxConcurrency);
+                virtualThreadAsyncTaskExecutor.setSecondsToWaitOnShutdown(asyncExecutorSecondsToWaitOnShutdown);
+                virtualThreadAsyncTaskExecutor.start();
+                this.shutdownAsyncTaskExecutor = true;
+
+                this.asyncTaskExecutor = virtualThreadAsyncTaskExecutor;
+
+            } else {
+                logger.warn("Virtual threads are not supported by JDK {}, using a thread pool for the async executor", System.getProperty("java.version"));
+            }
+        }
+
         if (this.asyncTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
 
@@ -2224,6 +2323,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Acquisition wait time
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
             defaultAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisitionEnabled(asyncExecutorAdaptiveAsyncJobAcquisition);
+            defaultAsyncExecutor.setMinAsyncJobAcquireWaitTimeInMillis(asyncExecutorMinAsyncJobAcquireWaitTime);
 
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
@@ -2291,7 +2392,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             initAsyncHistoryTaskExecutor();
 
             if (asyncHistoryExecutor == null) {
-                DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+                DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor;
+                if (isAsyncHistoryJobBatchingEnabled) {
+                    CoalescingAsyncHistoryJobExecutor coalescingAsyncHistoryExecutor = new CoalescingAsyncHistoryJobExecutor();
+                    coalescingAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryJobBatchSize);
+                    defaultAsyncHistoryExecutor = coalescingAsyncHistoryExecutor;
+                } else {
+                    defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+                }
 
                 // Message queue mode
                 defaultAsyncHistoryExecutor.setMessageQueueMode(asyncHistoryExecutorMessageQueueMode);
@@ -2489,6 +2597,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
         }
+        if (isCompiledScriptCacheEnabled && scriptingEngines.getCompiledScriptCache() == null) {
+            scriptingEngines.setCompiledScriptCache(createDeploymentCache(DeploymentCacheFactory.COMPILED_SCRIPT_CACHE, compiledScriptCacheSize));
+        }
     }
 
     public void initExpressionManager() {
@@ -2496,7 +2607,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             ProcessExpressionManager processExpressionManager = new ProcessExpressionManager(delegateInterceptor, beans);
 
             if (isExpressionCacheEnabled) {
-                processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                processExpressionManager.setExpressionCache(createDeploymentCache(DeploymentCacheFactory.EXPRESSION_CACHE, expressionCacheSize));
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
@@ -3304,6 +3415,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3403,6 +3532,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableCandidateTaskSubqueries() {
+        return enableCandidateTaskSubqueries;
+    }
+
+    /**
+     * Whether candidate task queries select the candidate tasks with one subquery on the identity links (using the user and group indexes)
+     * instead of a correlated exists subquery per task, see {@link org.flowable.task.service.TaskServiceConfiguration#setEnableCandidateTaskSubqueries(boolean)}.
+     */
+    public ProcessEngineConfigurationImpl setEnableCandidateTaskSubqueries(boolean enableCandidateTaskSubqueries) {
+        this.enableCandidateTaskSubqueries = enableCandidateTaskSubqueries;
+        return this;
+    }
+
     public int getHistoricTaskQueryLimit() {
         return historicTaskQueryLimit;
     }
@@ -4274,6 +4416,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncHistoryJobBatchingEnabled() {
+        return isAsyncHistoryJobBatchingEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryJobBatchingEnabled(boolean isAsyncHistoryJobBatchingEnabled) {
+        this.isAsyncHistoryJobBatchingEnabled = isAsyncHistoryJobBatchingEnabled;
+        return this;
+    }
+
+    public int getAsyncHistoryJobBatchSize() {
+        return asyncHistoryJobBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryJobBatchSize(int asyncHistoryJobBatchSize) {
+        this.asyncHistoryJobBatchSize = asyncHistoryJobBatchSize;
+        return this;
+    }
+
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+        return this;
+    }
+
     public int getAsyncHistoryJsonGroupingThreshold() {
         return asyncHistoryJsonGroupingThreshold;
     }
@@ -4666,6 +4835,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorUseVirtualThreads() {
+        return asyncExecutorUseVirtualThreads;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorUseVirtualThreads(boolean asyncExecutorUseVirtualThreads) {
+        this.asyncExecutorUseVirtualThreads = asyncExecutorUseVirtualThreads;
+        return this;
+    }
+
+    public int getAsyncExecutorVirtualThreadMaxConcurrency() {
+        return asyncExecutorVirtualThreadMaxConcurrency;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreadMaxConcurrency(int asyncExecutorVirtualThreadMaxConcurrency) {
+        this.asyncExecutorVirtualThreadMaxConcurrency = asyncExecutorVirtualThreadMaxConcurrency;
+        return this;
+    }
+
     public BlockingQueue<Runnable> getAsyncExecutorThreadPoolQueue() {
         return asyncExecutorThreadPoolQueue;
     }
@@ -4747,6 +4934,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorAdaptiveAsyncJobAcquisition() {
+        return asyncExecutorAdaptiveAsyncJobAcquisition;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveAsyncJobAcquisition(boolean asyncExecutorAdaptiveAsyncJobAcquisition) {
+        this.asyncExecutorAdaptiveAsyncJobAcquisition = asyncExecutorAdaptiveAsyncJobAcquisition;
+        return this;
+    }
+
+    public int getAsyncExecutorMinAsyncJobAcquireWaitTime() {
+        return asyncExecutorMinAsyncJobAcquireWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMinAsyncJobAcquireWaitTime(int asyncExecutorMinAsyncJobAcquireWaitTime) {
+        this.asyncExecutorMinAsyncJobAcquireWaitTime = asyncExecutorMinAsyncJobAcquireWaitTime;
+        return this;
+    }
+
+    public AsyncJobNotifier getAsyncExecutorJobNotifier() {
+        return asyncExecutorJobNotifier;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobNotifier(AsyncJobNotifier asyncExecutorJobNotifier) {
+        this.asyncExecutorJobNotifier = asyncExecutorJobNotifier;
+        return this;
+    }
+
+    public boolean isAsyncExecutorSkipLockedJobAcquisition() {
+        return asyncExecutorSkipLockedJobAcquisition;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorSkipLockedJobAcquisition(boolean asyncExecutorSkipLockedJobAcquisition) {
+        this.asyncExecutorSkipLockedJobAcquisition = asyncExecutorSkipLockedJobAcquisition;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -5091,4 +5314,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.batchStatusTimeCycleConfig = batchStatusTimeCycleConfig;
     }
 
+    public int getBatchPartCreationChunkSize() {
+        return batchPartCreationChunkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchPartCreationChunkSize(int batchPartCreationChunkSize) {
+        this.batchPartCreationChunkSize = batchPartCreationChunkSize;
+        return this;
+    }
+
 }
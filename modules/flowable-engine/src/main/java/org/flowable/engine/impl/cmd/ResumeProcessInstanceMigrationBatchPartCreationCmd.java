@@ -0,0 +1,39 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationManager;
+
+public class ResumeProcessInstanceMigrationBatchPartCreationCmd implements Command<Batch> {
+
+    protected String migrationBatchId;
+
+    public ResumeProcessInstanceMigrationBatchPartCreationCmd(String migrationBatchId) {
+        if (migrationBatchId == null) {
+            throw new FlowableIllegalArgumentException("Must specify a migration batch id");
+        }
+        this.migrationBatchId = migrationBatchId;
+    }
+
+    @Override
+    public Batch execute(CommandContext commandContext) {
+        ProcessInstanceMigrationManager migrationManager = CommandContextUtil.getProcessEngineConfiguration(commandContext).getProcessInstanceMigrationManager();
+        return migrationManager.resumeBatchMigrationPartCreation(migrationBatchId, commandContext);
+    }
+
+}
@@ -0,0 +1,174 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DbIdGenerator} that hands out the ids of the current id block from an atomic counter, without locking,
+ * and fetches the next id block in the background once only {@link #getPrefetchRemainingIds()} ids of the current block are left.
+ *
+ * Threads only wait when the current block runs out before the next block has been fetched.
+ * Ids are unique, but, as with the {@link DbIdGenerator}, not handed out in strictly ascending order across threads.
+ * When the background fetch fails, the next block is fetched on the thread that needs it.
+ *
+ * It can be used as a drop-in replacement of the {@link DbIdGenerator} through
+ * {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#setIdGenerator(org.flowable.common.engine.impl.cfg.IdGenerator)},
+ * the block size, command executor and command config are set by the engine in the same way.
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    /** The number of remaining ids of the current block at which the next block is fetched, a quarter of the block size when not set */
+    protected int prefetchRemainingIds;
+
+    /** Executor used to fetch the next block, a new daemon thread is used for every fetch when not set */
+    protected Executor prefetchExecutor;
+    protected String prefetchThreadName = "flowable-id-block-prefetcher";
+
+    protected volatile CurrentBlock currentBlock = new CurrentBlock(0, -1, -1);
+    protected final AtomicReference<CompletableFuture<IdBlock>> prefetchedBlock = new AtomicReference<>();
+    protected final Object blockSwitchMonitor = new Object();
+
+    @Override
+    public String getNextId() {
+        while (true) {
+            CurrentBlock block = currentBlock;
+            long id = block.nextId.getAndIncrement();
+            if (id <= block.lastId) {
+                if (id == block.prefetchId) {
+                    prefetchNextBlock();
+                }
+                return Long.toString(id);
+            }
+
+            switchBlock(block);
+        }
+    }
+
+    @Override
+    protected void getNewBlock() {
+        switchBlock(currentBlock);
+    }
+
+    protected void switchBlock(CurrentBlock exhaustedBlock) {
+        synchronized (blockSwitchMonitor) {
+            if (currentBlock != exhaustedBlock) {
+                // Another thread switched the block already
+                return;
+            }
+
+            IdBlock idBlock = null;
+            CompletableFuture<IdBlock> prefetch = prefetchedBlock.getAndSet(null);
+            if (prefetch != null) {
+                try {
+                    idBlock = prefetch.join();
+                } catch (CompletionException e) {
+                    LOGGER.warn("Prefetching the next id block failed, the id block is fetched again", e.getCause());
+                }
+            }
+
+            if (idBlock == null) {
+                idBlock = fetchIdBlock();
+            }
+
+            currentBlock = createCurrentBlock(idBlock);
+        }
+    }
+
+    protected void prefetchNextBlock() {
+        CompletableFuture<IdBlock> prefetch = new CompletableFuture<>();
+        if (!prefetchedBlock.compareAndSet(null, prefetch)) {
+            // A block is prefetched already
+            return;
+        }
+
+        Runnable fetch = () -> {
+            try {
+                prefetch.complete(fetchIdBlock());
+            } catch (Throwable t) {
+                prefetch.completeExceptionally(t);
+            }
+        };
+
+        try {
+            if (prefetchExecutor != null) {
+                prefetchExecutor.execute(fetch);
+            } else {
+                Thread thread = new Thread(fetch, prefetchThreadName);
+                thread.setDaemon(true);
+                thread.start();
+            }
+        } catch (RuntimeException e) {
+            prefetch.completeExceptionally(e);
+        }
+    }
+
+    protected IdBlock fetchIdBlock() {
+        return commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
+    }
+
+    protected CurrentBlock createCurrentBlock(IdBlock idBlock) {
+        int remainingIds = prefetchRemainingIds > 0 ? prefetchRemainingIds : Math.max(1, idBlockSize / 4);
+        long prefetchId = Math.max(idBlock.getNextId(), idBlock.getLastId() - remainingIds + 1);
+        return new CurrentBlock(idBlock.getNextId(), idBlock.getLastId(), prefetchId);
+    }
+
+    public int getPrefetchRemainingIds() {
+        return prefetchRemainingIds;
+    }
+
+    public void setPrefetchRemainingIds(int prefetchRemainingIds) {
+        this.prefetchRemainingIds = prefetchRemainingIds;
+    }
+
+    public Executor getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
+    public void setPrefetchExecutor(Executor prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    public String getPrefetchThreadName() {
+        return prefetchThreadName;
+    }
+
+    public void setPrefetchThreadName(String prefetchThreadName) {
+        this.prefetchThreadName = prefetchThreadName;
+    }
+
+    protected static class CurrentBlock {
+
+        protected final AtomicLong nextId;
+        protected final long lastId;
+        protected final long prefetchId;
+
+        public CurrentBlock(long nextId, long lastId, long prefetchId) {
+            this.nextId = new AtomicLong(nextId);
+            this.lastId = lastId;
+            this.prefetchId = prefetchId;
+        }
+    }
+
+}
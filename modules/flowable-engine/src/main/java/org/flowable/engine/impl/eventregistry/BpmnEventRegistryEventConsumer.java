@@ -72,6 +72,16 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         }
     }
 
+    @Override
+    protected String getEventSubscriptionScopeType() {
+        return ScopeTypes.BPMN;
+    }
+
+    @Override
+    protected void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        handleEventSubscription(processEngineConfiguration.getRuntimeService(), eventSubscription, eventInstance, correlationKeys);
+    }
+
     protected void handleEventSubscription(RuntimeService runtimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
 
@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.service.impl.history.async.AbstractAsyncHistoryDataPrefetcher;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Prefetches the historic process instances and historic activity instances referenced by BPMN history json,
+ * so the history json transformers find them in the entity cache.
+ * Historic tasks and variables are still looked up per history json entry.
+ */
+public class BpmnAsyncHistoryDataPrefetcher extends AbstractAsyncHistoryDataPrefetcher {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    public BpmnAsyncHistoryDataPrefetcher(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    @Override
+    public void prefetch(List<ObjectNode> historyNodes, CommandContext commandContext) {
+        Set<String> processInstanceIds = new LinkedHashSet<>();
+        Set<String> activityInstanceIds = new LinkedHashSet<>();
+        for (ObjectNode historyNode : historyNodes) {
+            ObjectNode historicalData = getData(historyNode);
+            if (historicalData != null) {
+                collectId(processInstanceIds, historicalData, HistoryJsonConstants.PROCESS_INSTANCE_ID);
+                collectId(activityInstanceIds, historicalData, HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID);
+            }
+        }
+
+        // The loaded entities are put in the entity cache
+        loadInChunks(processInstanceIds, processEngineConfiguration.getHistoricProcessInstanceEntityManager()::findHistoricProcessInstancesByIds);
+        loadInChunks(activityInstanceIds, processEngineConfiguration.getHistoricActivityInstanceEntityManager()::findHistoricActivityInstancesByIds);
+    }
+
+}
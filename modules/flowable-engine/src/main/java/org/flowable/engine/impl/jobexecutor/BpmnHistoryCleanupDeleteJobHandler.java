@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.HistoryCleanupJobUtil;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes one partition of a partitioned history cleanup: the expired historic process instances in the id range of the partition
+ * and their related historic data are deleted with bulk deletes, after which the batch part of the partition is completed.
+ */
+public class BpmnHistoryCleanupDeleteJobHandler implements JobHandler {
+
+    public static final String TYPE = "bpmn-history-cleanup-delete";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ObjectNode cfg = HistoryCleanupJobUtil.readConfiguration(configuration, processEngineConfiguration.getObjectMapper());
+
+        // The ids are selected again, so process instances that were deleted in the meantime are skipped
+        HistoricProcessInstanceEntityManager historicProcessInstanceEntityManager = processEngineConfiguration.getHistoricProcessInstanceEntityManager();
+        String afterId = HistoryCleanupJobUtil.getTextValue(cfg, HistoryCleanupJobUtil.CFG_LABEL_AFTER_ID);
+        String lastId = HistoryCleanupJobUtil.getTextValue(cfg, HistoryCleanupJobUtil.CFG_LABEL_LAST_ID);
+        List<String> processInstanceIds = historicProcessInstanceEntityManager.findHistoricProcessInstanceIdsEndedBefore(HistoryCleanupJobUtil.getEndedBefore(cfg),
+                afterId, lastId, HistoryCleanupJobUtil.getPartitionSize(cfg));
+        historicProcessInstanceEntityManager.bulkDeleteHistoricProcessInstancesWithRelatedData(processInstanceIds);
+
+        String batchPartId = HistoryCleanupJobUtil.getTextValue(cfg, BpmnHistoryCleanupPartitionJobHandler.CFG_LABEL_BATCH_PART_ID);
+        if (batchPartId != null) {
+            ObjectNode result = processEngineConfiguration.getObjectMapper().createObjectNode();
+            result.put("deletedProcessInstances", processInstanceIds.size());
+            processEngineConfiguration.getBatchServiceConfiguration().getBatchService()
+                    .completeBatchPart(batchPartId, BpmnHistoryCleanupPartitionJobHandler.STATUS_COMPLETED, result.toString());
+        }
+    }
+
+}
@@ -13,6 +13,8 @@
 package org.flowable.engine.impl.jobexecutor;
 
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.JobHandler;
@@ -32,7 +34,17 @@ public class BpmnHistoryCleanupJobHandler implements JobHandler {
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
 
-        processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery().deleteWithRelatedData();
+        HistoricProcessInstanceQuery cleaningQuery = processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery();
+        if (processEngineConfiguration.isCleanInstancesInPartitions() && cleaningQuery instanceof HistoricProcessInstanceQueryImpl
+                && ((HistoricProcessInstanceQueryImpl) cleaningQuery).hasOnlyFinishedBeforeCriterion()) {
+
+            // The partitions are selected by end date only, so a cleaning query with other criteria is executed as a whole
+            BpmnHistoryCleanupPartitionJobHandler.startPartitionedCleanup(((HistoricProcessInstanceQueryImpl) cleaningQuery).getFinishedBefore(),
+                    processEngineConfiguration);
+
+        } else {
+            cleaningQuery.deleteWithRelatedData();
+        }
     }
     
 }
@@ -0,0 +1,149 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.util.HistoryCleanupJobUtil;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Creates the next partition of a partitioned history cleanup: the ids of the next expired historic process instances are fetched
+ * with keyset paging, and a batch part and a {@link BpmnHistoryCleanupDeleteJobHandler} job are created for them.
+ * As long as full partitions are found, a job for the following partition is created,
+ * so every partition is created in its own transaction and the deletion of the first partitions starts while the others are created.
+ *
+ * The cleanup is tracked as a {@link Batch#HISTORY_CLEANUP_TYPE} batch with a batch part per partition,
+ * the job configurations are created and read with {@link HistoryCleanupJobUtil}.
+ */
+public class BpmnHistoryCleanupPartitionJobHandler implements JobHandler {
+
+    public static final String TYPE = "bpmn-history-cleanup-partition";
+
+    public static final String STATUS_PARTITIONING = "partitioning";
+    public static final String STATUS_IN_PROGRESS = "inProgress";
+    public static final String STATUS_WAITING = "waiting";
+    public static final String STATUS_COMPLETED = "completed";
+
+    protected static final String CFG_LABEL_BATCH_ID = "batchId";
+    protected static final String CFG_LABEL_BATCH_PART_ID = "batchPartId";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    /**
+     * Creates the history cleanup batch for the historic process instances that ended before the given date, and the job creating its first partition.
+     */
+    public static Batch startPartitionedCleanup(Date endedBefore, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ObjectNode configuration = HistoryCleanupJobUtil.createConfiguration(endedBefore, processEngineConfiguration.getCleanInstancesPartitionSize(),
+                processEngineConfiguration.getObjectMapper());
+
+        Batch batch = processEngineConfiguration.getBatchServiceConfiguration().getBatchService().createBatchBuilder()
+                .batchType(Batch.HISTORY_CLEANUP_TYPE)
+                .searchKey(ScopeTypes.BPMN)
+                .status(STATUS_PARTITIONING)
+                .batchDocumentJson(configuration.toString())
+                .create();
+
+        configuration.put(CFG_LABEL_BATCH_ID, batch.getId());
+        HistoryCleanupJobUtil.createAsyncJob(TYPE, configuration, processEngineConfiguration.getJobServiceConfiguration().getJobService());
+        return batch;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+
+        ObjectNode cfg = HistoryCleanupJobUtil.readConfiguration(configuration, processEngineConfiguration.getObjectMapper());
+        Batch batch = batchService.getBatch(HistoryCleanupJobUtil.getTextValue(cfg, CFG_LABEL_BATCH_ID));
+        if (batch == null) {
+            // The batch was deleted, which cancels the cleanup
+            return;
+        }
+
+        JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+        int partitionSize = HistoryCleanupJobUtil.getPartitionSize(cfg);
+        String afterId = HistoryCleanupJobUtil.getTextValue(cfg, HistoryCleanupJobUtil.CFG_LABEL_AFTER_ID);
+        List<String> processInstanceIds = processEngineConfiguration.getHistoricProcessInstanceEntityManager()
+                .findHistoricProcessInstanceIdsEndedBefore(HistoryCleanupJobUtil.getEndedBefore(cfg), afterId, null, partitionSize);
+
+        if (!processInstanceIds.isEmpty()) {
+            String firstId = processInstanceIds.get(0);
+            String lastId = processInstanceIds.get(processInstanceIds.size() - 1);
+            BatchPart batchPart = batchService.createBatchPart(batch, STATUS_WAITING, firstId, lastId, ScopeTypes.BPMN);
+
+            ObjectNode deleteCfg = cfg.deepCopy();
+            deleteCfg.put(CFG_LABEL_BATCH_PART_ID, batchPart.getId());
+            deleteCfg.put(HistoryCleanupJobUtil.CFG_LABEL_LAST_ID, lastId);
+            HistoryCleanupJobUtil.createAsyncJob(BpmnHistoryCleanupDeleteJobHandler.TYPE, deleteCfg, jobService);
+        }
+
+        if (processInstanceIds.size() >= partitionSize) {
+            ObjectNode nextCfg = cfg.deepCopy();
+            nextCfg.put(HistoryCleanupJobUtil.CFG_LABEL_AFTER_ID, processInstanceIds.get(processInstanceIds.size() - 1));
+            HistoryCleanupJobUtil.createAsyncJob(TYPE, nextCfg, jobService);
+
+        } else {
+            partitioningCompleted(batch, afterId == null && processInstanceIds.isEmpty(), processEngineConfiguration);
+        }
+    }
+
+    protected void partitioningCompleted(Batch batch, boolean noPartitions, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        if (noPartitions) {
+            ((BatchEntity) batch).setStatus(STATUS_COMPLETED);
+            batchService.updateBatch(batch);
+            return;
+        }
+
+        ((BatchEntity) batch).setStatus(STATUS_IN_PROGRESS);
+        batchService.updateBatch(batch);
+
+        TimerJobService timerJobService = processEngineConfiguration.getJobServiceConfiguration().getTimerJobService();
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(BpmnHistoryCleanupStatusJobHandler.TYPE);
+        ObjectNode statusCfg = processEngineConfiguration.getObjectMapper().createObjectNode();
+        statusCfg.put(CFG_LABEL_BATCH_ID, batch.getId());
+        timerJob.setJobHandlerConfiguration(statusCfg.toString());
+
+        BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
+        timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
+
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
+}
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.migration;
+
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.BatchPartCreationHandler;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
+import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Creates a batch part and a migration job for every process instance of the source process definition of a process migration batch.
+ * When all batch parts are created, the batch is put in progress and the status job of the batch is scheduled.
+ */
+public class ProcessInstanceMigrationBatchPartCreationHandler implements BatchPartCreationHandler {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    public ProcessInstanceMigrationBatchPartCreationHandler(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    @Override
+    public List<String> findScopeIds(Batch batch, String afterScopeId, int maxResults, CommandContext commandContext) {
+        return processEngineConfiguration.getExecutionEntityManager()
+                .findProcessInstanceIdsByProcessDefinitionId(batch.getBatchSearchKey(), afterScopeId, maxResults);
+    }
+
+    @Override
+    public void createBatchPart(Batch batch, String scopeId, CommandContext commandContext) {
+        BatchPart batchPart = getBatchService().createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, scopeId, null, ScopeTypes.BPMN);
+
+        JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
+        job.setProcessInstanceId(scopeId);
+        job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    @Override
+    public void batchPartCreationCompleted(Batch batch, CommandContext commandContext) {
+        BatchService batchService = getBatchService();
+        ((BatchEntity) batch).setStatus(ProcessInstanceBatchMigrationResult.STATUS_IN_PROGRESS);
+        batchService.updateBatch(batch);
+
+        if (batchService.findMaxBatchPartScopeId(batch.getId()) != null) {
+            TimerJobService timerJobService = processEngineConfiguration.getJobServiceConfiguration().getTimerJobService();
+            TimerJobEntity timerJob = timerJobService.createTimerJob();
+            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+            timerJob.setRevision(1);
+            timerJob.setJobHandlerType(ProcessInstanceMigrationStatusJobHandler.TYPE);
+            timerJob.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchId(batch.getId()));
+
+            BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+            timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
+            timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
+
+            timerJobService.scheduleTimerJob(timerJob);
+        }
+    }
+
+    protected BatchService getBatchService() {
+        return processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+    }
+
+}
@@ -27,8 +27,8 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.flowable.batch.api.Batch;
-import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.ChunkedBatchPartCreator;
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.CallActivity;
@@ -39,14 +39,13 @@ import org.flowable.bpmn.model.Task;
 import org.flowable.bpmn.model.UserTask;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.delegate.Expression;
-import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.api.variable.VariableContainer;
-import org.flowable.common.engine.impl.calendar.BusinessCalendar;
-import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
@@ -59,8 +58,6 @@ import org.flowable.engine.impl.dynamic.AbstractDynamicStateManager;
 import org.flowable.engine.impl.dynamic.MoveExecutionEntityContainer;
 import org.flowable.engine.impl.dynamic.ProcessInstanceChangeState;
 import org.flowable.engine.impl.history.HistoryManager;
-import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
-import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
@@ -78,10 +75,6 @@ import org.flowable.engine.migration.Script;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
-import org.flowable.job.service.JobService;
-import org.flowable.job.service.TimerJobService;
-import org.flowable.job.service.impl.persistence.entity.JobEntity;
-import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 
 public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateManager implements ProcessInstanceMigrationManager {
 
@@ -316,47 +309,42 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
         ProcessDefinition targetProcessDefinition = resolveProcessDefinition(document, commandContext);
 
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
-        ExecutionEntityManager executionEntityManager = processEngineConfiguration.getExecutionEntityManager();
-        List<ProcessInstance> processInstances = executionEntityManager.findProcessInstanceByQueryCriteria(
-                new ProcessInstanceQueryImpl(commandContext, processEngineConfiguration).processDefinitionId(sourceProcDefId));
-
         BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
-        Batch batch = batchService.createBatchBuilder().batchType(Batch.PROCESS_MIGRATION_TYPE)
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        // The batch is committed first, as its parts are created in chunks that each use their own transaction
+        Batch batch = commandExecutor.execute(commandExecutor.getDefaultConfig().transactionRequiresNew(), batchCommandContext -> batchService.createBatchBuilder()
+            .batchType(Batch.PROCESS_MIGRATION_TYPE)
             .searchKey(sourceProcDefId)
             .searchKey2(targetProcessDefinition.getId())
-            .status(ProcessInstanceBatchMigrationResult.STATUS_IN_PROGRESS)
+            .status(ProcessInstanceBatchMigrationResult.STATUS_CREATING)
             .batchDocumentJson(document.asJsonString())
-            .create();
-        
-        JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
-        for (ProcessInstance processInstance : processInstances) {
-            BatchPart batchPart = batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
-                            processInstance.getId(), null, ScopeTypes.BPMN);
-            
-            JobEntity job = jobService.createJob();
-            job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
-            job.setProcessInstanceId(processInstance.getId());
-            job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
-            jobService.createAsyncJob(job, false);
-            jobService.scheduleAsyncJob(job);
+            .create());
+
+        return createBatchParts(batch.getId(), processEngineConfiguration);
+    }
+
+    @Override
+    public Batch resumeBatchMigrationPartCreation(String migrationBatchId, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        Batch batch = processEngineConfiguration.getBatchServiceConfiguration().getBatchService().getBatch(migrationBatchId);
+        if (batch == null) {
+            throw new FlowableObjectNotFoundException("No batch found for id " + migrationBatchId, Batch.class);
         }
-        
-        if (!processInstances.isEmpty()) {
-            TimerJobService timerJobService = processEngineConfiguration.getJobServiceConfiguration().getTimerJobService();
-            TimerJobEntity timerJob = timerJobService.createTimerJob();
-            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
-            timerJob.setRevision(1);
-            timerJob.setJobHandlerType(ProcessInstanceMigrationStatusJobHandler.TYPE);
-            timerJob.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchId(batch.getId()));
-            
-            BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
-            timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
-            timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
-            
-            timerJobService.scheduleTimerJob(timerJob);
+        if (!Batch.PROCESS_MIGRATION_TYPE.equals(batch.getBatchType())) {
+            throw new FlowableIllegalArgumentException("Batch " + migrationBatchId + " is not a process migration batch");
         }
+        if (!ProcessInstanceBatchMigrationResult.STATUS_CREATING.equals(batch.getStatus())) {
+            throw new FlowableIllegalArgumentException("The parts of migration batch " + migrationBatchId + " have already been created");
+        }
+
+        return createBatchParts(migrationBatchId, processEngineConfiguration);
+    }
 
-        return batch;
+    protected Batch createBatchParts(String batchId, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ChunkedBatchPartCreator batchPartCreator = new ChunkedBatchPartCreator(processEngineConfiguration.getCommandExecutor(),
+                processEngineConfiguration.getBatchServiceConfiguration().getBatchService(), processEngineConfiguration.getBatchPartCreationChunkSize());
+        return batchPartCreator.createBatchParts(batchId, new ProcessInstanceMigrationBatchPartCreationHandler(processEngineConfiguration));
     }
 
     @Override
@@ -62,6 +62,12 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+    /**
+     * @return at most maxResults ids of process instances of the process definition in ascending order,
+     *         all greater than the given process instance id or starting from the first one when it is null
+     */
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults);
+
     Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(String processInstanceId);
 
     Collection<ExecutionEntity> findInactiveExecutionsByActivityIdAndProcessInstanceId(String activityId, String processInstanceId);
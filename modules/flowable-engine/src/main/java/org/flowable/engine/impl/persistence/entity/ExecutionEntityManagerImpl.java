@@ -146,6 +146,11 @@ public class ExecutionEntityManagerImpl
         return dataManager.findProcessInstanceByQueryCriteria(executionQuery);
     }
 
+    @Override
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults) {
+        return dataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId, afterProcessInstanceId, maxResults);
+    }
+
     @Override
     public ExecutionEntity findByRootProcessInstanceId(String rootProcessInstanceId) {
         List<ExecutionEntity> executions = dataManager.findExecutionsByRootProcessInstanceId(rootProcessInstanceId);
@@ -12,9 +12,11 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.HistoricActivityInstanceQueryImpl;
@@ -30,10 +32,14 @@ public interface HistoricActivityInstanceEntityManager extends EntityManager<His
 
     List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByProcessInstanceId(String processInstanceId);
 
+    List<HistoricActivityInstanceEntity> findHistoricActivityInstancesByIds(Collection<String> historicActivityInstanceIds);
+
     long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     List<HistoricActivityInstance> findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
+    Cursor<HistoricActivityInstance> findHistoricActivityInstanceCursorByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
+
     List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricActivityInstanceCountByNativeQuery(Map<String, Object> parameterMap);
@@ -43,4 +49,6 @@ public interface HistoricActivityInstanceEntityManager extends EntityManager<His
     void deleteHistoricActivityInstances(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     void deleteHistoricActivityInstancesForNonExistingProcessInstances();
+
+    void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
 }
\ No newline at end of file
@@ -13,9 +13,11 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.HistoricActivityInstanceQueryImpl;
@@ -50,6 +52,11 @@ public class HistoricActivityInstanceEntityManagerImpl
         return dataManager.findUnfinishedHistoricActivityInstancesByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<HistoricActivityInstanceEntity> findHistoricActivityInstancesByIds(Collection<String> historicActivityInstanceIds) {
+        return dataManager.findHistoricActivityInstancesByIds(historicActivityInstanceIds);
+    }
+
     @Override
     public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId) {
         if (getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
@@ -67,6 +74,11 @@ public class HistoricActivityInstanceEntityManagerImpl
         return dataManager.findHistoricActivityInstancesByQueryCriteria(historicActivityInstanceQuery);
     }
 
+    @Override
+    public Cursor<HistoricActivityInstance> findHistoricActivityInstanceCursorByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery) {
+        return dataManager.findHistoricActivityInstanceCursorByQueryCriteria(historicActivityInstanceQuery);
+    }
+
     @Override
     public List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap) {
         return dataManager.findHistoricActivityInstancesByNativeQuery(parameterMap);
@@ -87,6 +99,13 @@ public class HistoricActivityInstanceEntityManagerImpl
         dataManager.deleteHistoricActivityInstancesForNonExistingProcessInstances();
     }
 
+    @Override
+    public void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        if (getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            dataManager.deleteHistoricActivityInstancesByProcessInstanceIds(processInstanceIds);
+        }
+    }
+
     protected HistoryManager getHistoryManager() {
         return engineConfiguration.getHistoryManager();
     }
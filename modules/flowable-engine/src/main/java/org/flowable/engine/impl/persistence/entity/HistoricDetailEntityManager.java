@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -45,4 +46,9 @@ public interface HistoricDetailEntityManager extends EntityManager<HistoricDetai
     void deleteHistoricDetailsByProcessInstanceId(String historicProcessInstanceId);
 
     void deleteHistoricDetailForNonExistingProcessInstances();
+
+    /**
+     * Deletes the historic details, and their byte arrays, of the given process instances with bulk deletes.
+     */
+    void deleteHistoricDetailsByProcessInstanceIds(Collection<String> processInstanceIds);
 }
\ No newline at end of file
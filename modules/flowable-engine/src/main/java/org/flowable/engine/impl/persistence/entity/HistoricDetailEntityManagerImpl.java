@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -135,6 +136,13 @@ public class HistoricDetailEntityManagerImpl
         dataManager.deleteHistoricDetailForNonExistingProcessInstances();
     }
 
+    @Override
+    public void deleteHistoricDetailsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        if (getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.AUDIT)) {
+            dataManager.deleteHistoricDetailsByProcessInstanceIds(processInstanceIds);
+        }
+    }
+
     @Override
     public List<HistoricDetail> findHistoricDetailsByNativeQuery(Map<String, Object> parameterMap) {
         return dataManager.findHistoricDetailsByNativeQuery(parameterMap);
@@ -12,9 +12,12 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -33,6 +36,8 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    Cursor<HistoricProcessInstance> findHistoricProcessInstanceCursorByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
+
     List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap);
@@ -40,9 +45,24 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
     List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String historicProcessInstanceId);
     
     List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
+
+    List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> processInstanceIds);
     
     long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap);
     
     void deleteHistoricProcessInstances(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    /**
+     * @return at most maxResults ids of historic process instances that ended before the given date, in ascending order,
+     *         greater than afterProcessInstanceId (when not null) and not greater than lastProcessInstanceId (when not null)
+     */
+    List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, String afterProcessInstanceId, String lastProcessInstanceId, int maxResults);
+
+    /**
+     * Deletes the historic process instances with the given ids and their related historic data (activities, details, variables,
+     * tasks, task log entries, identity links and entity links) with bulk deletes.
+     * The number of ids should be kept small enough for the in-lists of the delete statements.
+     */
+    void bulkDeleteHistoricProcessInstancesWithRelatedData(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
@@ -13,15 +13,20 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.persistence.entity.data.HistoricProcessInstanceDataManager;
+import org.flowable.entitylink.api.history.HistoricEntityLinkService;
 
 /**
  * @author Tom Baeyens
@@ -57,6 +62,14 @@ public class HistoricProcessInstanceEntityManagerImpl
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public Cursor<HistoricProcessInstance> findHistoricProcessInstanceCursorByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            return dataManager.findHistoricProcessInstanceCursorByQueryCriteria(historicProcessInstanceQuery);
+        }
+        return null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -81,6 +94,11 @@ public class HistoricProcessInstanceEntityManagerImpl
         return dataManager.findHistoricProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
     }
 
+    @Override
+    public List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        return dataManager.findHistoricProcessInstancesByIds(processInstanceIds);
+    }
+
     @Override
     public long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return dataManager.findHistoricProcessInstanceCountByNativeQuery(parameterMap);
@@ -91,6 +109,30 @@ public class HistoricProcessInstanceEntityManagerImpl
         dataManager.deleteHistoricProcessInstances(historicProcessInstanceQuery);
     }
 
+    @Override
+    public List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, String afterProcessInstanceId, String lastProcessInstanceId, int maxResults) {
+        return dataManager.findHistoricProcessInstanceIdsEndedBefore(endedBefore, afterProcessInstanceId, lastProcessInstanceId, maxResults);
+    }
+
+    @Override
+    public void bulkDeleteHistoricProcessInstancesWithRelatedData(Collection<String> processInstanceIds) {
+        if (processInstanceIds.isEmpty()) {
+            return;
+        }
+
+        // The identity links are deleted before the tasks, as the task identity links are selected through the tasks
+        engineConfiguration.getIdentityLinkServiceConfiguration().getHistoricIdentityLinkService().deleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+        HistoricEntityLinkService historicEntityLinkService = engineConfiguration.getEntityLinkServiceConfiguration().getHistoricEntityLinkService();
+        if (historicEntityLinkService != null) {
+            historicEntityLinkService.deleteHistoricEntityLinksByScopeIdsAndScopeType(processInstanceIds, ScopeTypes.BPMN);
+        }
+        engineConfiguration.getTaskServiceConfiguration().getHistoricTaskService().deleteHistoricTaskInstancesAndLogEntriesByProcessInstanceIds(processInstanceIds);
+        engineConfiguration.getVariableServiceConfiguration().getHistoricVariableService().deleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+        engineConfiguration.getHistoricDetailEntityManager().deleteHistoricDetailsByProcessInstanceIds(processInstanceIds);
+        engineConfiguration.getHistoricActivityInstanceEntityManager().deleteHistoricActivityInstancesByProcessInstanceIds(processInstanceIds);
+        dataManager.deleteHistoricProcessInstancesByIds(processInstanceIds);
+    }
+
     protected HistoryManager getHistoryManager() {
         return engineConfiguration.getHistoryManager();
     }
@@ -12,9 +12,11 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.HistoricActivityInstanceQueryImpl;
@@ -31,12 +33,16 @@ public interface HistoricActivityInstanceDataManager extends DataManager<Histori
 
     List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByProcessInstanceId(String processInstanceId);
 
+    List<HistoricActivityInstanceEntity> findHistoricActivityInstancesByIds(Collection<String> historicActivityInstanceIds);
+
     void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId);
 
     long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     List<HistoricActivityInstance> findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
+    Cursor<HistoricActivityInstance> findHistoricActivityInstanceCursorByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
+
     List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricActivityInstanceCountByNativeQuery(Map<String, Object> parameterMap);
@@ -44,4 +50,6 @@ public interface HistoricActivityInstanceDataManager extends DataManager<Histori
     void deleteHistoricActivityInstances(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     void deleteHistoricActivityInstancesForNonExistingProcessInstances();
+
+    void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
 }
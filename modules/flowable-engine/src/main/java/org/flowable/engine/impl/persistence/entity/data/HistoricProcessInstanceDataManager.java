@@ -12,9 +12,12 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -30,12 +33,16 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
 
     List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
 
+    List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> processInstanceIds);
+
     List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String superProcessInstanceId);
 
     long findHistoricProcessInstanceCountByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    Cursor<HistoricProcessInstance> findHistoricProcessInstanceCursorByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
+
     List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap);
@@ -44,4 +51,8 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
     
     void deleteHistoricProcessInstances(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, String afterProcessInstanceId, String lastProcessInstanceId, int maxResults);
+
+    void deleteHistoricProcessInstancesByIds(Collection<String> processInstanceIds);
+
 }
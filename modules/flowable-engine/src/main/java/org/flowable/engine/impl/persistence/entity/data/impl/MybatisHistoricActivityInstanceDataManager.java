@@ -12,10 +12,12 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.HistoricActivityInstanceQueryImpl;
@@ -79,6 +81,11 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
         return getList("selectUnfinishedHistoricActivityInstanceByProcessInstanceId", params, unfinishedHistoricActivityInstanceByProcessInstanceIdMatcher, true);
     }
 
+    @Override
+    public List<HistoricActivityInstanceEntity> findHistoricActivityInstancesByIds(Collection<String> historicActivityInstanceIds) {
+        return getList("selectHistoricActivityInstancesByIds", historicActivityInstanceIds);
+    }
+
     @Override
     public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId) {
         getDbSqlSession().delete("deleteHistoricActivityInstancesByProcessInstanceId", historicProcessInstanceId, HistoricActivityInstanceEntityImpl.class);
@@ -95,6 +102,11 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
         return getDbSqlSession().selectList("selectHistoricActivityInstancesByQueryCriteria", historicActivityInstanceQuery);
     }
 
+    @Override
+    public Cursor<HistoricActivityInstance> findHistoricActivityInstanceCursorByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery) {
+        return getDbSqlSession().selectCursor("selectHistoricActivityInstancesByQueryCriteria", historicActivityInstanceQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap) {
@@ -116,4 +128,11 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
         getDbSqlSession().delete("bulkDeleteHistoricActivityInstancesForNonExistingProcessInstances", null, HistoricActivityInstanceEntityImpl.class);
     }
 
+    @Override
+    public void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricActivityInstancesByProcessInstanceIds", parameters, HistoricActivityInstanceEntityImpl.class);
+    }
+
 }
@@ -12,10 +12,15 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -55,6 +60,11 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstanceIdsByProcessDefinitionId", processDefinitionId);
     }
 
+    @Override
+    public List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        return getList("selectHistoricProcessInstancesByIds", processInstanceIds);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String superProcessInstanceId) {
@@ -72,6 +82,11 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery, getManagedEntityClass());
     }
 
+    @Override
+    public Cursor<HistoricProcessInstance> findHistoricProcessInstanceCursorByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        return getDbSqlSession().selectCursor("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -125,4 +140,24 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         getDbSqlSession().delete("bulkDeleteHistoricProcessInstances", historicProcessInstanceQuery, HistoricProcessInstanceEntityImpl.class);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, String afterProcessInstanceId, String lastProcessInstanceId, int maxResults) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("endedBefore", endedBefore);
+        params.put("afterProcessInstanceId", afterProcessInstanceId);
+        params.put("lastProcessInstanceId", lastProcessInstanceId);
+
+        ListQueryParameterObject parameter = new ListQueryParameterObject(params, 0, maxResults);
+        parameter.setOrderByColumns("RES.ID_ asc");
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectHistoricProcessInstanceIdsEndedBefore", parameter);
+    }
+
+    @Override
+    public void deleteHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricProcessInstancesByIds", parameters, HistoricProcessInstanceEntityImpl.class);
+    }
+
 }
@@ -13,12 +13,20 @@
 package org.flowable.engine.test.api.history;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPage;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -102,6 +110,52 @@ public class HistoricProcessInstanceQueryTest extends PluggableFlowableTestCase
         }
     }
 
+    @Test
+    public void testQueryWithKeysetPagination() {
+        deployOneTaskTestProcess();
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertThat(listIdsWithKeysetPagination(() -> historyService.createHistoricProcessInstanceQuery(), 2))
+                    .containsExactlyElementsOf(processInstanceIds.stream().sorted().collect(Collectors.toList()));
+
+            assertThat(listIdsWithKeysetPagination(() -> historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().asc(), 3))
+                    .containsExactlyElementsOf(historyService.createHistoricProcessInstanceQuery()
+                            .orderByProcessInstanceStartTime().asc().orderByProcessInstanceId().asc().list()
+                            .stream().map(HistoricProcessInstance::getId).collect(Collectors.toList()));
+
+            assertThatThrownBy(() -> historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceEndTime().asc().listAfter(null, 2))
+                    .isInstanceOf(FlowableIllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void testQueryForEach() {
+        deployOneTaskTestProcess();
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<String> ids = new ArrayList<>();
+            historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc().forEach(processInstance -> ids.add(processInstance.getId()), 2);
+            assertThat(ids).containsExactlyElementsOf(processInstanceIds.stream().sorted().collect(Collectors.toList()));
+
+            List<String> activityIds = new ArrayList<>();
+            historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceIds.get(0)).orderByHistoricActivityInstanceStartTime().asc()
+                    .forEach(activityInstance -> activityIds.add(activityInstance.getActivityId()), 2);
+            assertThat(activityIds).containsExactlyElementsOf(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceIds.get(0))
+                    .orderByHistoricActivityInstanceStartTime().asc().list().stream().map(HistoricActivityInstance::getActivityId).collect(Collectors.toList()));
+
+            assertThatThrownBy(() -> historyService.createHistoricProcessInstanceQuery().includeProcessVariables().forEach(processInstance -> {}, 2))
+                    .isInstanceOf(FlowableIllegalArgumentException.class);
+        }
+    }
+
     @Test
     public void testQueryByReferenceId() {
         deployOneTaskTestProcess();
@@ -318,4 +372,16 @@ public class HistoricProcessInstanceQueryTest extends PluggableFlowableTestCase
         }
     }
 
+    private List<String> listIdsWithKeysetPagination(Supplier<HistoricProcessInstanceQuery> querySupplier, int pageSize) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<HistoricProcessInstance> page = querySupplier.get().listAfter(cursor, pageSize);
+            assertThat(page.getResults().size()).isLessThanOrEqualTo(pageSize);
+            page.getResults().forEach(processInstance -> ids.add(processInstance.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
 }
@@ -29,9 +29,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPage;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -95,6 +98,37 @@ public class ProcessInstanceQueryTest extends PluggableFlowableTestCase {
         assertThat(query.list()).hasSize(PROCESS_DEPLOY_COUNT);
     }
 
+    @Test
+    public void testQueryWithKeysetPagination() {
+        assertThat(listIdsWithKeysetPagination(() -> runtimeService.createProcessInstanceQuery(), 2))
+                .containsExactlyElementsOf(processInstanceIds.stream().sorted().collect(Collectors.toList()));
+
+        assertThat(listIdsWithKeysetPagination(() -> runtimeService.createProcessInstanceQuery().orderByStartTime().desc(), 2))
+                .containsExactlyElementsOf(runtimeService.createProcessInstanceQuery().orderByStartTime().desc().orderByProcessInstanceId().desc().list()
+                        .stream().map(ProcessInstance::getId).collect(Collectors.toList()));
+
+        assertThat(listIdsWithKeysetPagination(() -> runtimeService.createProcessInstanceQuery().processDefinitionKey(PROCESS_DEFINITION_KEY), 3))
+                .hasSize(PROCESS_DEFINITION_KEY_DEPLOY_COUNT)
+                .doesNotHaveDuplicates();
+
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceQuery().orderByProcessDefinitionKey().asc().listAfter(null, 2))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceQuery().includeProcessVariables().listAfter(null, 2))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    private List<String> listIdsWithKeysetPagination(Supplier<ProcessInstanceQuery> querySupplier, int pageSize) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<ProcessInstance> page = querySupplier.get().listAfter(cursor, pageSize);
+            assertThat(page.getResults().size()).isLessThanOrEqualTo(pageSize);
+            page.getResults().forEach(processInstance -> ids.add(processInstance.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
     @Test
     public void testQueryNoSpecificsSingleResult() {
         ProcessInstanceQuery query = runtimeService.createProcessInstanceQuery();
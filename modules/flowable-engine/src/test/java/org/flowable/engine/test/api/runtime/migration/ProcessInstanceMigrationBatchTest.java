@@ -26,6 +26,7 @@
 package org.flowable.engine.test.api.runtime.migration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -34,7 +35,10 @@ import java.util.List;
 
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -428,4 +432,88 @@ public class ProcessInstanceMigrationBatchTest extends PluggableFlowableTestCase
         managementService.deleteBatch(migrationBatch.getId());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testProcessMigrationBatchPartsCreatedInChunks() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("MP").getId());
+        }
+
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+
+        int originalChunkSize = processEngineConfiguration.getBatchPartCreationChunkSize();
+        processEngineConfiguration.setBatchPartCreationChunkSize(2);
+        try {
+            Batch migrationBatch = processMigrationService.createProcessInstanceMigrationBuilder()
+                    .migrateToProcessDefinition(version2ProcessDef.getId())
+                    .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+            assertThat(migrationBatch.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_IN_PROGRESS);
+            assertThat(managementService.findBatchPartsByBatchId(migrationBatch.getId()))
+                    .extracting(BatchPart::getScopeId)
+                    .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+            assertThat(managementService.createJobQuery().handlerType(ProcessInstanceMigrationJobHandler.TYPE).count()).isEqualTo(5);
+            assertThat(managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).count()).isEqualTo(1);
+
+            managementService.deleteBatch(migrationBatch.getId());
+
+        } finally {
+            processEngineConfiguration.setBatchPartCreationChunkSize(originalChunkSize);
+        }
+    }
+
+    @Test
+    public void testResumeProcessMigrationBatchPartCreation() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("MP").getId());
+        }
+        processInstanceIds.sort(Comparator.naturalOrder());
+
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy",
+                "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+
+        // Simulate a batch of which the creation was interrupted after the part of the first process instance
+        Batch interruptedBatch = managementService.executeCommand(commandContext -> {
+            BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+            Batch batch = batchService.createBatchBuilder()
+                    .batchType(Batch.PROCESS_MIGRATION_TYPE)
+                    .searchKey(version1ProcessDef.getId())
+                    .searchKey2(version2ProcessDef.getId())
+                    .status(ProcessInstanceBatchMigrationResult.STATUS_CREATING)
+                    .batchDocumentJson(processMigrationService.createProcessInstanceMigrationBuilder()
+                            .migrateToProcessDefinition(version2ProcessDef.getId())
+                            .getProcessInstanceMigrationDocument()
+                            .asJsonString())
+                    .create();
+            batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, processInstanceIds.get(0), null, ScopeTypes.BPMN);
+            return batch;
+        });
+
+        assertThat(managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).count()).isZero();
+
+        Batch migrationBatch = processMigrationService.resumeBatchMigrationPartCreation(interruptedBatch.getId());
+        assertThat(migrationBatch.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_IN_PROGRESS);
+        assertThat(managementService.findBatchPartsByBatchId(migrationBatch.getId()))
+                .extracting(BatchPart::getScopeId)
+                .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+        assertThat(managementService.createJobQuery().handlerType(ProcessInstanceMigrationJobHandler.TYPE).list())
+                .extracting(Job::getProcessInstanceId)
+                .containsExactlyInAnyOrder(processInstanceIds.get(1), processInstanceIds.get(2));
+        assertThat(managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).count()).isEqualTo(1);
+
+        assertThatThrownBy(() -> processMigrationService.resumeBatchMigrationPartCreation(migrationBatch.getId()))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("have already been created");
+
+        managementService.deleteBatch(migrationBatch.getId());
+    }
+
+}
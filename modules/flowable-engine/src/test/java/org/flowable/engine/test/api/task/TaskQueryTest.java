@@ -25,9 +25,12 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPage;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -1421,6 +1424,54 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
         taskService.deleteTask(assigneeToKermit.getId(), true);
     }
     
+    @Test
+    public void testQueryByCandidateWithCandidateTaskSubqueries() {
+        processEngineConfiguration.getTaskServiceConfiguration().setEnableCandidateTaskSubqueries(true);
+        try {
+            List<String> groups = Arrays.asList("management", "accountancy");
+
+            assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").list()).hasSize(11);
+            assertThat(taskService.createTaskQuery().taskCandidateUser("fozzie").count()).isEqualTo(3);
+            assertThat(taskService.createTaskQuery().taskCandidateGroup("management").list()).hasSize(3);
+            assertThat(taskService.createTaskQuery().taskCandidateGroupIn(groups).count()).isEqualTo(5);
+            assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").taskCandidateGroup("unexisting").list()).hasSize(6);
+
+            assertThat(taskService.createTaskQuery().or().taskId("invalid").taskCandidateUser("fozzie").list()).hasSize(3);
+            assertThat(taskService.createTaskQuery().or().taskId("invalid").taskCandidateGroupIn(groups).count()).isEqualTo(5);
+            assertThat(taskService.createTaskQuery().or().taskCandidateUser("kermit").taskCandidateGroupIn(groups).endOr()
+                    .or().taskCandidateUser("gonzo").taskCandidateGroupIn(groups).list()).hasSize(5);
+
+        } finally {
+            processEngineConfiguration.getTaskServiceConfiguration().setEnableCandidateTaskSubqueries(false);
+        }
+    }
+
+    @Test
+    public void testQueryByCandidateOrAssignedWithCandidateTaskSubqueries() {
+        Task task = taskService.newTask();
+        task.setName("assigneeToKermit");
+        task.setAssignee("kermit");
+        taskService.saveTask(task);
+
+        processEngineConfiguration.getTaskServiceConfiguration().setEnableCandidateTaskSubqueries(true);
+        try {
+            List<String> candidateGroups = Arrays.asList("management", "accountancy", "noexist");
+
+            assertThat(taskService.createTaskQuery().taskCandidateOrAssigned("kermit").list()).hasSize(12);
+            assertThat(taskService.createTaskQuery().taskCandidateOrAssigned("fozzie").count()).isEqualTo(3);
+            assertThat(taskService.createTaskQuery().taskCandidateGroupIn(candidateGroups).taskCandidateOrAssigned("kermit").count()).isEqualTo(12);
+
+            assertThat(taskService.createTaskQuery().or().taskId("invalid").taskCandidateOrAssigned("kermit").list()).hasSize(12);
+            assertThat(taskService.createTaskQuery().or().taskId("invalid").taskCandidateOrAssigned("fozzie").count()).isEqualTo(3);
+            assertThat(taskService.createTaskQuery().or().taskId("invalid").taskCandidateGroupIn(candidateGroups).taskCandidateOrAssigned("kermit").count())
+                    .isEqualTo(12);
+
+        } finally {
+            processEngineConfiguration.getTaskServiceConfiguration().setEnableCandidateTaskSubqueries(false);
+            taskService.deleteTask(task.getId(), true);
+        }
+    }
+
     @Test
     public void testQueryIgnoreAssigneeValue() {
         List<String> createdTasks = new ArrayList<>();
@@ -3822,6 +3873,98 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
      * Generates some test tasks. - 6 tasks where kermit is a candidate - 1 tasks where gonzo is assignee - 2 tasks assigned to management group - 2 tasks assigned to accountancy group - 1 task
      * assigned to both the management and accountancy group
      */
+    @Test
+    public void testQueryWithKeysetPagination() {
+        assertThat(listIdsWithKeysetPagination(() -> taskService.createTaskQuery(), 5))
+                .containsExactlyElementsOf(taskService.createTaskQuery().orderByTaskId().asc().list().stream().map(Task::getId).collect(Collectors.toList()));
+
+        assertThat(listIdsWithKeysetPagination(() -> taskService.createTaskQuery().orderByTaskCreateTime().asc(), 5))
+                .containsExactlyElementsOf(taskService.createTaskQuery().orderByTaskCreateTime().asc().orderByTaskId().asc().list().stream()
+                        .map(Task::getId).collect(Collectors.toList()));
+
+        assertThat(listIdsWithKeysetPagination(() -> taskService.createTaskQuery().orderByTaskPriority().desc(), 4))
+                .containsExactlyElementsOf(taskService.createTaskQuery().orderByTaskPriority().desc().orderByTaskId().desc().list().stream()
+                        .map(Task::getId).collect(Collectors.toList()));
+
+        assertThat(listIdsWithKeysetPagination(() -> taskService.createTaskQuery().taskCandidateUser("kermit").orderByTaskCreateTime().desc(), 2))
+                .hasSize(11)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testQueryWithKeysetPaginationInvalidUsage() {
+        KeysetPage<Task> page = taskService.createTaskQuery().orderByTaskCreateTime().asc().listAfter(null, 5);
+        assertThat(page.getResults()).hasSize(5);
+        assertThat(page.hasNextPage()).isTrue();
+
+        // The cursor can only be used with the same order
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskPriority().asc().listAfter(page.getNextCursor(), 5))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskCreateTime().desc().listAfter(page.getNextCursor(), 5))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTaskQuery().listAfter("invalid", 5))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskName().asc().listAfter(null, 5))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTaskQuery().includeProcessVariables().listAfter(null, 5))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTaskQuery().listAfter(null, 0))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    @Test
+    public void testQueryKeepsOrderingAfterKeysetPagination() {
+        TaskQuery query = taskService.createTaskQuery().orderByTaskPriority().desc();
+        List<String> idsBefore = query.list().stream().map(Task::getId).collect(Collectors.toList());
+
+        assertThat(query.listAfter(null, 5).getResults()).hasSize(5);
+
+        // The order by id that is added for the keyset pagination doesn't remain on the query
+        assertThat(query.list()).extracting(Task::getId).containsExactlyElementsOf(idsBefore);
+        assertThat(listIdsWithKeysetPagination(() -> query, 5))
+                .containsExactlyElementsOf(taskService.createTaskQuery().orderByTaskPriority().desc().orderByTaskId().desc().list().stream()
+                        .map(Task::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testQueryForEach() {
+        List<String> ids = new ArrayList<>();
+        taskService.createTaskQuery().orderByTaskCreateTime().asc().orderByTaskId().asc().forEach(task -> ids.add(task.getId()), 5);
+        assertThat(ids).containsExactlyElementsOf(taskService.createTaskQuery().orderByTaskCreateTime().asc().orderByTaskId().asc().list().stream()
+                .map(Task::getId).collect(Collectors.toList()));
+
+        List<Task> gonzoTasks = new ArrayList<>();
+        taskService.createTaskQuery().taskAssignee("gonzo").forEach(gonzoTasks::add, 5);
+        assertThat(gonzoTasks)
+                .extracting(Task::getName)
+                .containsExactly("gonzoTask");
+
+        List<String> firstIds = new ArrayList<>();
+        taskService.createTaskQuery().orderByTaskId().asc().forEachWhile(task -> {
+            firstIds.add(task.getId());
+            return firstIds.size() < 3;
+        }, 2);
+        assertThat(firstIds).containsExactlyElementsOf(ids.stream().sorted().limit(3).collect(Collectors.toList()));
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().includeProcessVariables().forEach(task -> {}, 5))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTaskQuery().forEach(task -> {}, 0))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    private List<String> listIdsWithKeysetPagination(Supplier<TaskQuery> querySupplier, int pageSize) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<Task> page = querySupplier.get().listAfter(cursor, pageSize);
+            assertThat(page.getResults().size()).isLessThanOrEqualTo(pageSize);
+            page.getResults().forEach(task -> ids.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
     private List<String> generateTestTasks() throws Exception {
         List<String> ids = new ArrayList<>();
 
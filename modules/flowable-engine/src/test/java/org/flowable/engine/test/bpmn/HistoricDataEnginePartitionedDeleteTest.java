@@ -0,0 +1,154 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupPartitionJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupStatusJobHandler;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class HistoricDataEnginePartitionedDeleteTest extends ResourceFlowableTestCase {
+
+    public HistoricDataEnginePartitionedDeleteTest() {
+        super("org/flowable/engine/test/bpmn/HistoricDataEnginePartitionedDeleteTest.flowable.cfg.xml");
+    }
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testPartitionedHistoryCleanup() {
+        try {
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+            clock.setCurrentCalendar(cal);
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                processInstanceIds.add(processInstance.getId());
+                runtimeService.setVariable(processInstance.getId(), "testVar", "testValue" + (i + 1));
+                runtimeService.setVariable(processInstance.getId(), "numVar", (i + 1));
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+
+                for (int i = 0; i < 10; i++) {
+                    Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult();
+                    taskService.setVariableLocal(task.getId(), "taskVar", "taskValue" + (i + 1));
+                    taskService.complete(task.getId());
+                }
+
+                Job executableJob = managementService.moveTimerToExecutableJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+
+                // The history is not deleted by the cleanup job itself, but by the partition jobs
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(20);
+
+                List<Batch> batches = managementService.findBatchesBySearchKey(ScopeTypes.BPMN);
+                assertThat(batches).hasSize(1);
+                Batch batch = batches.get(0);
+                assertThat(batch.getBatchType()).isEqualTo(Batch.HISTORY_CLEANUP_TYPE);
+
+                executeAsyncJobs();
+
+                List<BatchPart> batchParts = managementService.findBatchPartsByBatchId(batch.getId());
+                assertThat(batchParts)
+                        .hasSize(4)
+                        .extracting(BatchPart::getStatus)
+                        .containsOnly(BpmnHistoryCleanupPartitionJobHandler.STATUS_COMPLETED);
+
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(10);
+                assertThat(historyService.createHistoricActivityInstanceQuery().count()).isEqualTo(30);
+                assertThat(historyService.createHistoricTaskInstanceQuery().count()).isEqualTo(10);
+
+                for (int i = 0; i < 20; i++) {
+                    if (i < 10) {
+                        assertThat(historyService.getHistoricIdentityLinksForProcessInstance(processInstanceIds.get(i))).isEmpty();
+                        assertThat(historyService.createHistoricTaskLogEntryQuery().processInstanceId(processInstanceIds.get(i)).count()).isZero();
+                        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceIds.get(i)).count()).isZero();
+                        assertThat(historyService.createHistoricDetailQuery().processInstanceId(processInstanceIds.get(i)).count()).isZero();
+
+                    } else {
+                        assertThat(historyService.getHistoricIdentityLinksForProcessInstance(processInstanceIds.get(i))).hasSize(1);
+                        assertThat(historyService.createHistoricTaskLogEntryQuery().processInstanceId(processInstanceIds.get(i)).count()).isEqualTo(1);
+                        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceIds.get(i)).count()).isEqualTo(2);
+                        assertThat(historyService.createHistoricDetailQuery().processInstanceId(processInstanceIds.get(i)).count()).isEqualTo(2);
+                    }
+                }
+
+                Job statusJob = managementService.moveTimerToExecutableJob(
+                        managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupStatusJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(statusJob.getId());
+
+                assertThat(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupStatusJobHandler.TYPE).count()).isZero();
+                assertThat(managementService.findBatchesBySearchKey(ScopeTypes.BPMN))
+                        .extracting(Batch::getStatus)
+                        .containsExactly(BpmnHistoryCleanupPartitionJobHandler.STATUS_COMPLETED);
+
+                managementService.deleteBatch(batch.getId());
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            processEngineConfiguration.resetClock();
+        }
+    }
+
+    @Test
+    public void testOnlyCleaningQueriesByEndDateArePartitioned() {
+        assertThat(((HistoricProcessInstanceQueryImpl) processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery())
+                .hasOnlyFinishedBeforeCriterion()).isTrue();
+
+        HistoricProcessInstanceQueryImpl query = (HistoricProcessInstanceQueryImpl) historyService.createHistoricProcessInstanceQuery().finishedBefore(new Date());
+        assertThat(query.hasOnlyFinishedBeforeCriterion()).isTrue();
+
+        query.processDefinitionKey("startToEnd");
+        assertThat(query.hasOnlyFinishedBeforeCriterion()).isFalse();
+
+        query = (HistoricProcessInstanceQueryImpl) historyService.createHistoricProcessInstanceQuery().finishedBefore(new Date()).variableValueEquals("var", "value");
+        assertThat(query.hasOnlyFinishedBeforeCriterion()).isFalse();
+
+        query = (HistoricProcessInstanceQueryImpl) historyService.createHistoricProcessInstanceQuery().finishedBefore(new Date())
+                .or().processInstanceBusinessKey("key").endOr();
+        assertThat(query.hasOnlyFinishedBeforeCriterion()).isFalse();
+    }
+
+    protected void executeAsyncJobs() {
+        List<Job> jobs = managementService.createJobQuery().list();
+        while (!jobs.isEmpty()) {
+            for (Job job : jobs) {
+                managementService.executeJob(job.getId());
+            }
+            jobs = managementService.createJobQuery().list();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.cmd.SetExecutionVariablesCmd;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the flushing of multiple updates and deletes of the same entity type in one JDBC batch.
+ */
+public class BatchUpdateAndDeleteTest extends PluggableFlowableTestCase {
+
+    @Test
+    public void testBatchedVariableUpdatesAndDeletes() {
+        assertThat(processEngineConfiguration.isBatchUpdatesAndDeletesEnabled()).isTrue();
+
+        String processDefinitionId = deployOneTaskTestProcess();
+        ProcessInstance processInstance = runtimeService.startProcessInstanceById(processDefinitionId, createVariables("initial"));
+
+        runtimeService.setVariables(processInstance.getId(), createVariables("updated"));
+        assertThat(runtimeService.getVariables(processInstance.getId()))
+                .containsOnly(entry("var1", "updated"), entry("var2", "updated"), entry("var3", "updated"));
+
+        runtimeService.removeVariables(processInstance.getId(), createVariables("updated").keySet());
+        assertThat(runtimeService.getVariables(processInstance.getId())).isEmpty();
+    }
+
+    @Test
+    public void testOptimisticLockingWithBatchedUpdates() {
+        String processDefinitionId = deployOneTaskTestProcess();
+        ProcessInstance processInstance = runtimeService.startProcessInstanceById(processDefinitionId, createVariables("initial"));
+
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+
+            // Loads the variables in this transaction
+            execution.getVariableInstanceEntities();
+
+            // Concurrent update of one of the variables, in a separate transaction
+            processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(),
+                    new SetExecutionVariablesCmd(processInstance.getId(), Collections.singletonMap("var2", "concurrent"), false));
+
+            execution.setVariables(createVariables("updated"));
+            return null;
+        })).isInstanceOf(FlowableOptimisticLockingException.class);
+
+        assertThat(runtimeService.getVariables(processInstance.getId()))
+                .containsOnly(entry("var1", "initial"), entry("var2", "concurrent"), entry("var3", "initial"));
+    }
+
+    @Test
+    public void testBatchedUpdatesOfDifferentEntityTypes() {
+        String processDefinitionId = deployOneTaskTestProcess();
+        ProcessInstance processInstance = runtimeService.startProcessInstanceById(processDefinitionId, createVariables("initial"));
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        // Updates of tasks and variables are interleaved, the batches must keep the order of the regular flush
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            execution.setVariables(createVariables("updated"));
+            taskService.setPriority(task.getId(), 10);
+            taskService.setVariableLocal(task.getId(), "taskVar", "value");
+            execution.setName("updated");
+            return null;
+        });
+
+        assertThat(runtimeService.getVariables(processInstance.getId()))
+                .containsOnly(entry("var1", "updated"), entry("var2", "updated"), entry("var3", "updated"));
+        assertThat(taskService.createTaskQuery().taskId(task.getId()).singleResult().getPriority()).isEqualTo(10);
+        assertThat(taskService.getVariableLocal(task.getId(), "taskVar")).isEqualTo("value");
+    }
+
+    protected Map<String, Object> createVariables(String value) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("var1", value);
+        variables.put("var2", value);
+        variables.put("var3", value);
+        return variables;
+    }
+
+}
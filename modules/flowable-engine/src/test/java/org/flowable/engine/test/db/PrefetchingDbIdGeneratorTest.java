@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingDbIdGeneratorTest extends PluggableFlowableTestCase {
+
+    @Test
+    public void testConcurrentIdGeneration() throws Exception {
+        PrefetchingDbIdGenerator idGenerator = createIdGenerator(10);
+
+        int numberOfThreads = 8;
+        int idsPerThread = 2000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < numberOfThreads; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                    return null;
+                }));
+            }
+
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(numberOfThreads * idsPerThread);
+    }
+
+    @Test
+    public void testFailingPrefetchFallsBackToFetchOnDemand() {
+        PrefetchingDbIdGenerator idGenerator = createIdGenerator(5);
+        idGenerator.setPrefetchExecutor(command -> {
+            throw new RejectedExecutionException("test");
+        });
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            ids.add(Long.parseLong(idGenerator.getNextId()));
+        }
+
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+    }
+
+    protected PrefetchingDbIdGenerator createIdGenerator(int idBlockSize) {
+        PrefetchingDbIdGenerator idGenerator = new PrefetchingDbIdGenerator();
+        idGenerator.setIdBlockSize(idBlockSize);
+        idGenerator.setPrefetchRemainingIds(3);
+        idGenerator.setCommandExecutor(processEngineConfiguration.getCommandExecutor());
+        idGenerator.setCommandConfig(processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew());
+        return idGenerator;
+    }
+
+}
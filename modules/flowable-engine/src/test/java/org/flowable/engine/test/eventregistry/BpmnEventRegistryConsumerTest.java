@@ -16,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,8 +30,10 @@ import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRepositoryService;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
+import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.flowable.eventsubscription.api.EventSubscription;
@@ -373,6 +377,36 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testStartOnlyOneInstance.bpmn20.xml")
+    public void testStartOnlyOneInstanceWithBatchedEvents() {
+        getEventRegistry().sendEventsToConsumers(inboundEventChannelAdapter.createTestEvents("testCustomer", "testCustomer", "anotherTestCustomer", "testCustomer"));
+
+        // Only one instance is started for the events of the same customer in the batch
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+            .extracting(ProcessInstance::getReferenceType)
+            .containsExactly(ReferenceTypes.EVENT_PROCESS, ReferenceTypes.EVENT_PROCESS);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBoundaryEventListenerWithBatchedEvents() {
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.clear();
+        variableMap.put("customerIdVar", "gonzo");
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        // The second event for kermit doesn't find a subscription anymore after the first one was handled
+        getEventRegistry().sendEventsToConsumers(inboundEventChannelAdapter.createTestEvents("kermit", "fozzie", "gonzo", "kermit"));
+
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(runtimeService.createEventSubscriptionQuery().activityId("eventBoundary").list()).isEmpty();
+    }
+
     @Test
     public void testRedeployDefinitionWithRuntimeEventSubscriptions() {
         org.flowable.engine.repository.Deployment deployment1 = repositoryService.createDeployment()
@@ -459,7 +493,20 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
             triggerTestEvent(null, orderId);
         }
 
+        public Collection<EventRegistryEvent> createTestEvents(String... customerIds) {
+            InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) inboundChannelModel.getInboundEventProcessingPipeline();
+            List<EventRegistryEvent> events = new ArrayList<>();
+            for (String customerId : customerIds) {
+                events.addAll(inboundEventProcessingPipeline.run(inboundChannelModel.getKey(), createTestEvent(customerId, null)));
+            }
+            return events;
+        }
+
         public void triggerTestEvent(String customerId, String orderId) {
+            eventRegistry.eventReceived(inboundChannelModel, createTestEvent(customerId, orderId));
+        }
+
+        protected String createTestEvent(String customerId, String orderId) {
             ObjectMapper objectMapper = new ObjectMapper();
 
             ObjectNode json = objectMapper.createObjectNode();
@@ -474,7 +521,7 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
             json.put("payload1", "Hello World");
             json.put("payload2", new Random().nextInt());
             try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
+                return objectMapper.writeValueAsString(json);
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
@@ -26,9 +26,12 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.query.KeysetPage;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -37,6 +40,7 @@ import org.flowable.identitylink.api.history.HistoricIdentityLink;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskInfo;
 import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.task.api.history.HistoricTaskInstanceQuery;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -126,6 +130,91 @@ public class HistoricTaskInstanceTest extends PluggableFlowableTestCase {
         assertThat(historyService.createHistoricTaskInstanceQuery().count()).isZero();
     }
 
+    @Test
+    public void testHistoricTaskInstanceQueryWithKeysetPagination() throws Exception {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            org.flowable.task.api.Task task = taskService.newTask();
+            task.setName("keysetTask" + i);
+            task.setPriority(i % 3);
+            taskService.saveTask(task);
+            taskIds.add(task.getId());
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+        try {
+            assertThat(listIdsWithKeysetPagination(() -> historyService.createHistoricTaskInstanceQuery(), 3))
+                    .containsExactlyElementsOf(taskIds.stream().sorted().collect(Collectors.toList()));
+
+            assertThat(listIdsWithKeysetPagination(() -> historyService.createHistoricTaskInstanceQuery().orderByTaskPriority().desc(), 2))
+                    .containsExactlyElementsOf(historyService.createHistoricTaskInstanceQuery().orderByTaskPriority().desc().orderByTaskId().desc().list()
+                            .stream().map(HistoricTaskInstance::getId).collect(Collectors.toList()));
+
+            assertThat(listIdsWithKeysetPagination(() -> historyService.createHistoricTaskInstanceQuery().orderByHistoricTaskInstanceStartTime().asc(), 4))
+                    .containsExactlyElementsOf(historyService.createHistoricTaskInstanceQuery().orderByHistoricTaskInstanceStartTime().asc().orderByTaskId().asc().list()
+                            .stream().map(HistoricTaskInstance::getId).collect(Collectors.toList()));
+
+            assertThatThrownBy(() -> historyService.createHistoricTaskInstanceQuery().orderByTaskName().asc().listAfter(null, 2))
+                    .isInstanceOf(FlowableIllegalArgumentException.class);
+            assertThatThrownBy(() -> historyService.createHistoricTaskInstanceQuery().includeTaskLocalVariables().listAfter(null, 2))
+                    .isInstanceOf(FlowableIllegalArgumentException.class);
+
+        } finally {
+            for (String taskId : taskIds) {
+                taskService.deleteTask(taskId, true);
+            }
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+        }
+    }
+
+    @Test
+    public void testHistoricTaskInstanceQueryForEach() throws Exception {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            org.flowable.task.api.Task task = taskService.newTask();
+            task.setName("forEachTask" + i);
+            taskService.saveTask(task);
+            taskIds.add(task.getId());
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+        try {
+            List<String> ids = new ArrayList<>();
+            historyService.createHistoricTaskInstanceQuery().orderByTaskId().asc().forEach(task -> ids.add(task.getId()), 2);
+            assertThat(ids).containsExactlyElementsOf(taskIds.stream().sorted().collect(Collectors.toList()));
+
+            List<String> names = new ArrayList<>();
+            historyService.createHistoricTaskInstanceQuery().taskNameLike("forEachTask%").orderByTaskName().desc().forEachWhile(task -> {
+                names.add(task.getName());
+                return names.size() < 2;
+            }, 1);
+            assertThat(names).containsExactly("forEachTask4", "forEachTask3");
+
+            assertThatThrownBy(() -> historyService.createHistoricTaskInstanceQuery().includeIdentityLinks().forEach(task -> {}, 2))
+                    .isInstanceOf(FlowableIllegalArgumentException.class);
+
+        } finally {
+            for (String taskId : taskIds) {
+                taskService.deleteTask(taskId, true);
+            }
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+        }
+    }
+
+    private List<String> listIdsWithKeysetPagination(Supplier<HistoricTaskInstanceQuery> querySupplier, int pageSize) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<HistoricTaskInstance> page = querySupplier.get().listAfter(cursor, pageSize);
+            assertThat(page.getResults().size()).isLessThanOrEqualTo(pageSize);
+            page.getResults().forEach(task -> ids.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
     @Test
     public void testDeleteHistoricTaskInstance() throws Exception {
         // deleting unexisting historic task instance should be silently ignored
@@ -15,6 +15,7 @@ package org.flowable.engine.test.history;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -305,6 +306,38 @@ public class HistoricVariableInstanceTest extends PluggableFlowableTestCase {
 
     }
 
+    @Test
+    public void testHistoricVariableQueryForEach() {
+        deployOneTaskTestProcess();
+
+        Map<String, Object> startVars = new HashMap<>();
+        startVars.put("stringVar", "hello");
+        startVars.put("intVar", 42);
+        startVars.put("bytesVar", "binary".getBytes());
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess", startVars).getId();
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+        // The value of the bytes variable is only read from its byte array when it is requested
+        Map<String, Object> values = new HashMap<>();
+        historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId)
+                .forEach(variable -> values.put(variable.getVariableName(), variable.getValue()), 2);
+        assertThat(values)
+                .containsOnlyKeys("stringVar", "intVar", "bytesVar")
+                .containsEntry("stringVar", "hello")
+                .containsEntry("intVar", 42);
+        assertThat((byte[]) values.get("bytesVar")).isEqualTo("binary".getBytes());
+
+        List<String> variableNames = new ArrayList<>();
+        historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).excludeVariableInitialization()
+                .orderByVariableName().asc()
+                .forEachWhile(variable -> {
+                    variableNames.add(variable.getVariableName());
+                    return variableNames.size() < 2;
+                }, 1);
+        assertThat(variableNames).containsExactly("bytesVar", "intVar");
+    }
+
     @Test
     public void testHistoricVariableQueryByExecutionIds() {
         deployTwoTasksTestProcess();
@@ -0,0 +1,161 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Acquires the same jobs with multiple threads, with and without skip locked job acquisition.
+ * Skip locked acquisition is only used on databases supporting it (e.g. PostgreSQL 9.5+, MySQL 8 and SQL Server),
+ * otherwise both runs use optimistic locking. The selection of the statements is tested in SkipLockedUtilTest.
+ */
+public class SkipLockedJobAcquisitionTest extends PluggableFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SkipLockedJobAcquisitionTest.class);
+
+    protected static final int NR_OF_JOBS = 100;
+    protected static final int NR_OF_THREADS = 8;
+
+    @AfterEach
+    void resetSkipLockedJobAcquisition() {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(processEngineConfiguration.isAsyncExecutorSkipLockedJobAcquisition());
+
+        managementService.executeCommand(commandContext -> {
+            JobEntityManager jobEntityManager = jobServiceConfiguration.getJobEntityManager();
+            for (Job job : managementService.createJobQuery().list()) {
+                jobEntityManager.delete(job.getId());
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void testConcurrentAcquisitionWithOptimisticLocking() throws Exception {
+        processEngineConfiguration.getJobServiceConfiguration().setSkipLockedJobAcquisitionEnabled(false);
+
+        AcquisitionResult result = acquireConcurrently();
+        assertThat(result.acquiredJobIds).hasSize(NR_OF_JOBS);
+    }
+
+    @Test
+    public void testConcurrentAcquisitionWithSkipLocked() throws Exception {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        jobServiceConfiguration.setSkipLockedJobAcquisitionEnabled(true);
+
+        AcquisitionResult result = acquireConcurrently();
+        assertThat(result.acquiredJobIds).hasSize(NR_OF_JOBS);
+
+        // The support is detected on the first acquisition, H2 falls back to optimistic locking
+        Boolean skipLockedSupported = jobServiceConfiguration.getSkipLockedJobAcquisitionSupported();
+        assertThat(skipLockedSupported).isNotNull();
+        if ("h2".equals(processEngineConfiguration.getDatabaseType())) {
+            assertThat(skipLockedSupported).isFalse();
+        }
+
+        if (skipLockedSupported) {
+            assertThat(result.collisions.get()).isZero();
+        }
+    }
+
+    protected AcquisitionResult acquireConcurrently() throws Exception {
+        createJobs();
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        JobEntityManager jobEntityManager = processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager();
+        AcquisitionResult result = new AcquisitionResult();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(NR_OF_THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < NR_OF_THREADS; i++) {
+                futures.add(executorService.submit(() -> {
+                    boolean jobsFound = true;
+                    while (jobsFound) {
+                        try {
+                            AcquiredJobEntities acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(asyncExecutor, Integer.MAX_VALUE, jobEntityManager));
+                            result.acquisitions.incrementAndGet();
+                            for (JobInfoEntity job : acquiredJobs.getJobs()) {
+                                assertThat(result.acquiredJobIds.add(job.getId())).as("job %s acquired twice", job.getId()).isTrue();
+                            }
+                            jobsFound = acquiredJobs.size() > 0;
+
+                        } catch (FlowableOptimisticLockingException e) {
+                            result.acquisitions.incrementAndGet();
+                            result.collisions.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        LOGGER.info("{} acquisitions, {} collisions ({}%)", result.acquisitions.get(), result.collisions.get(),
+                result.collisions.get() * 100 / Math.max(1, result.acquisitions.get()));
+        return result;
+    }
+
+    protected void createJobs() {
+        managementService.executeCommand(commandContext -> {
+            JobEntityManager jobEntityManager = processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager();
+            for (int i = 0; i < NR_OF_JOBS; i++) {
+                JobEntity job = jobEntityManager.create();
+                job.setJobType(Job.JOB_TYPE_MESSAGE);
+                job.setJobHandlerType("skipLockedTest");
+                jobEntityManager.insert(job);
+            }
+            return null;
+        });
+        assertThat(managementService.createJobQuery().count()).isEqualTo(NR_OF_JOBS);
+    }
+
+    protected static class AcquisitionResult {
+
+        protected final Set<String> acquiredJobIds = ConcurrentHashMap.newKeySet();
+        protected final AtomicInteger acquisitions = new AtomicInteger();
+        protected final AtomicInteger collisions = new AtomicInteger();
+
+    }
+
+}
@@ -0,0 +1,215 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.FindExpiredJobsCmd;
+import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.ResetExpiredJobsCmd;
+import org.flowable.job.service.impl.asyncexecutor.TimerJobWheelRunnable;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimerJobLookaheadTest extends JobExecutorTestCase {
+
+    protected Instant now;
+    protected int originalMaxTimerJobsPerAcquisition;
+
+    @BeforeEach
+    void setUp() {
+        originalMaxTimerJobsPerAcquisition = processEngineConfiguration.getAsyncExecutor().getMaxTimerJobsPerAcquisition();
+        processEngineConfiguration.getAsyncExecutor().setMaxTimerJobsPerAcquisition(1);
+    }
+
+    @AfterEach
+    void deleteJobs() {
+        processEngineConfiguration.getAsyncExecutor().setMaxTimerJobsPerAcquisition(originalMaxTimerJobsPerAcquisition);
+        // The timer jobs can be locked, so these are deleted directly
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        for (Job job : managementService.createTimerJobQuery().list()) {
+            deleteTimerJob(job.getId());
+        }
+        for (Job job : managementService.createJobQuery().list()) {
+            managementService.executeCommand(commandContext -> {
+                jobServiceConfiguration.getJobEntityManager().delete(job.getId());
+                return null;
+            });
+        }
+    }
+
+    @Test
+    void testTimerJobsAreAcquiredAheadOfTheirDueDate() {
+        now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        String laterTimerJobId = createTimerJob("later", now.plusSeconds(20));
+        String soonTimerJobId = createTimerJob("soon", now.plusSeconds(10));
+        createTimerJob("much later", now.plusSeconds(60));
+
+        // Without a lookahead, only due timer jobs are acquired
+        assertThat(acquireTimerJobs(0)).isEmpty();
+
+        // The timer job that is due first is acquired first
+        assertThat(acquireTimerJobs(30_000)).extracting(TimerJobEntity::getId).containsExactly(soonTimerJobId);
+        assertThat(acquireTimerJobs(30_000)).extracting(TimerJobEntity::getId).containsExactly(laterTimerJobId);
+        assertThat(acquireTimerJobs(30_000)).isEmpty();
+
+        // The timer jobs are locked until their due time plus the lock time
+        int lockTimeInMillis = processEngineConfiguration.getAsyncExecutor().getAsyncJobLockTimeInMillis();
+        assertThat(getTimerJob(soonTimerJobId).getLockOwner()).isEqualTo(processEngineConfiguration.getAsyncExecutor().getLockOwner());
+        assertThat(getTimerJob(soonTimerJobId).getLockExpirationTime()).isEqualTo(Date.from(now.plusSeconds(10).plusMillis(lockTimeInMillis)));
+        assertThat(getTimerJob(laterTimerJobId).getLockExpirationTime()).isEqualTo(Date.from(now.plusSeconds(20).plusMillis(lockTimeInMillis)));
+    }
+
+    @Test
+    void testTimerJobsAcquiredAheadAreResetAfterTheirLockExpires() {
+        now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        String timerJobId = createTimerJob("soon", now.plusSeconds(10));
+        assertThat(acquireTimerJobs(30_000)).hasSize(1);
+
+        // The lock doesn't expire before the due time plus the lock time, even when the lock time has passed since the acquisition
+        int lockTimeInMillis = processEngineConfiguration.getAsyncExecutor().getAsyncJobLockTimeInMillis();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusMillis(lockTimeInMillis + 5_000)));
+        assertThat(findExpiredTimerJobs()).isEmpty();
+
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusSeconds(10).plusMillis(lockTimeInMillis + 1)));
+        List<? extends JobInfoEntity> expiredTimerJobs = findExpiredTimerJobs();
+        assertThat(expiredTimerJobs).extracting(JobInfoEntity::getId).containsExactly(timerJobId);
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        managementService.executeCommand(new ResetExpiredJobsCmd(Collections.singleton(timerJobId),
+                jobServiceConfiguration.getTimerJobEntityManager(), jobServiceConfiguration));
+
+        TimerJobEntity timerJob = getTimerJob(timerJobId);
+        assertThat(timerJob.getLockOwner()).isNull();
+        assertThat(timerJob.getLockExpirationTime()).isNull();
+    }
+
+    @Test
+    void testScheduledTimerJobsAreUnlockedOnShutdown() throws InterruptedException {
+        now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        String timerJobId = createTimerJob("soon", now.plusSeconds(10));
+        TestTimerJobWheelRunnable timerJobWheelRunnable = createTimerJobWheelRunnable();
+        timerJobWheelRunnable.schedule(acquireTimerJobs(30_000));
+        assertThat(timerJobWheelRunnable.getScheduledTimerJobCount()).isEqualTo(1);
+        assertThat(getTimerJob(timerJobId).getLockOwner()).isNotNull();
+
+        Thread timerJobWheelThread = new Thread(timerJobWheelRunnable);
+        timerJobWheelThread.start();
+        timerJobWheelRunnable.stop();
+        timerJobWheelThread.join(10_000);
+
+        assertThat(timerJobWheelThread.isAlive()).isFalse();
+        assertThat(timerJobWheelRunnable.getScheduledTimerJobCount()).isZero();
+        TimerJobEntity timerJob = getTimerJob(timerJobId);
+        assertThat(timerJob.getLockOwner()).isNull();
+        assertThat(timerJob.getLockExpirationTime()).isNull();
+        assertThat(managementService.createJobQuery().count()).isZero();
+    }
+
+    @Test
+    void testTimerJobsAreMovedOneByOneWhenMovingTheBatchFails() {
+        processEngineConfiguration.getAsyncExecutor().setMaxTimerJobsPerAcquisition(2);
+        now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        String deletedTimerJobId = createTimerJob("deleted", now.plusSeconds(10));
+        createTimerJob("moved", now.plusSeconds(10));
+        TestTimerJobWheelRunnable timerJobWheelRunnable = createTimerJobWheelRunnable();
+        timerJobWheelRunnable.schedule(acquireTimerJobs(30_000));
+        assertThat(timerJobWheelRunnable.getScheduledTimerJobCount()).isEqualTo(2);
+
+        // Deleting one of the timer jobs after the acquisition makes moving the batch fail
+        deleteTimerJob(deletedTimerJobId);
+
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusSeconds(11)));
+        timerJobWheelRunnable.moveDueTimerJobs();
+
+        // The other timer job is still moved
+        assertThat(timerJobWheelRunnable.getScheduledTimerJobCount()).isZero();
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+        Job job = managementService.createJobQuery().singleResult();
+        assertThat(job).isNotNull();
+        assertThat(job.getJobHandlerConfiguration()).isEqualTo("moved");
+    }
+
+    protected String createTimerJob(String message, Instant dueDate) {
+        return managementService.executeCommand(commandContext -> {
+            TimerJobEntity timer = createTweetTimer(message, Date.from(dueDate));
+            CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration().getTimerJobService().scheduleTimerJob(timer);
+            return timer.getId();
+        });
+    }
+
+    protected void deleteTimerJob(String timerJobId) {
+        managementService.executeCommand(commandContext -> {
+            processEngineConfiguration.getJobServiceConfiguration().getTimerJobEntityManager().delete(timerJobId);
+            return null;
+        });
+    }
+
+    protected List<TimerJobEntity> acquireTimerJobs(long lookaheadInMillis) {
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        return new ArrayList<>(managementService.executeCommand(new AcquireTimerJobsCmd(asyncExecutor, lookaheadInMillis)).getJobs());
+    }
+
+    protected List<? extends JobInfoEntity> findExpiredTimerJobs() {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        return managementService.executeCommand(new FindExpiredJobsCmd(processEngineConfiguration.getAsyncExecutorResetExpiredJobsPageSize(),
+                jobServiceConfiguration.getTimerJobEntityManager(), jobServiceConfiguration));
+    }
+
+    protected TimerJobEntity getTimerJob(String timerJobId) {
+        return (TimerJobEntity) managementService.createTimerJobQuery().jobId(timerJobId).singleResult();
+    }
+
+    protected TestTimerJobWheelRunnable createTimerJobWheelRunnable() {
+        return new TestTimerJobWheelRunnable(processEngineConfiguration.getAsyncExecutor(),
+                processEngineConfiguration.getJobServiceConfiguration().getJobManager());
+    }
+
+    protected static class TestTimerJobWheelRunnable extends TimerJobWheelRunnable {
+
+        public TestTimerJobWheelRunnable(AsyncExecutor asyncExecutor, JobManager jobManager) {
+            super(asyncExecutor, jobManager, 30_000, 100, 10);
+        }
+
+        public void moveDueTimerJobs() {
+            List<TimerJobEntity> timerJobs;
+            synchronized (MONITOR) {
+                timerJobs = takeDueTimerJobs();
+            }
+            moveTimerJobs(timerJobs);
+        }
+    }
+
+}
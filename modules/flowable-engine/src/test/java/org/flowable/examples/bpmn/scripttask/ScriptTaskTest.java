@@ -21,6 +21,7 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -76,6 +77,22 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertThat(((Number) runtimeService.getVariable(id, "sum")).intValue()).isEqualTo(42);
     }
 
+    @Test
+    @Deployment
+    public void testCompiledScriptIsCached() {
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        long hitCount = scriptingEngines.getCompiledScriptCacheHitCount();
+        long missCount = scriptingEngines.getCompiledScriptCacheMissCount();
+
+        String firstId = runtimeService.startProcessInstanceByKey("compiledScript", CollectionUtil.singletonMap("input", 21)).getId();
+        String secondId = runtimeService.startProcessInstanceByKey("compiledScript", CollectionUtil.singletonMap("input", 50)).getId();
+
+        assertThat(runtimeService.getVariable(firstId, "result")).isEqualTo(42);
+        assertThat(runtimeService.getVariable(secondId, "result")).isEqualTo(100);
+        assertThat(scriptingEngines.getCompiledScriptCacheMissCount()).isLessThanOrEqualTo(missCount + 1);
+        assertThat(scriptingEngines.getCompiledScriptCacheHitCount()).isGreaterThanOrEqualTo(hitCount + 1);
+    }
+
     @Test
     public void testNoScriptProvided() {
         assertThatThrownBy(() ->  deploymentIdsForAutoCleanup.add(
@@ -0,0 +1,130 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.CoalescingAsyncHistoryJobExecutor;
+import org.flowable.job.service.impl.cmd.ExecuteHistoryJobBatchCmd;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncHistoryJobBatchingTest extends CustomConfigurationFlowableTestCase {
+
+    protected HistoryJobBatchRecordingInterceptor batchRecordingInterceptor = new HistoryJobBatchRecordingInterceptor();
+
+    public AsyncHistoryJobBatchingTest() {
+        super("asyncHistoryJobBatchingTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJobBatchingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJobBatchSize(5);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+        processEngineConfiguration.setCustomPreCommandInterceptors(Collections.singletonList(batchRecordingInterceptor));
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+        for (Job job : managementService.createJobQuery().list()) {
+            if (job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY)
+                    || job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED)) {
+                managementService.deleteJob(job.getId());
+            }
+        }
+    }
+
+    @Test
+    public void testHistoryJobsExecutedInBatches() {
+        assertThat(processEngineConfiguration.getAsyncHistoryExecutor()).isInstanceOf(CoalescingAsyncHistoryJobExecutor.class);
+        assertThat(((CoalescingAsyncHistoryJobExecutor) processEngineConfiguration.getAsyncHistoryExecutor()).getHistoryJobBatchSize()).isEqualTo(5);
+
+        deployOneTaskTestProcess();
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+            processInstanceIds.add(processInstanceId);
+            taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+        }
+
+        // The start, update and end of the activities are in separate history jobs, which are spread over multiple batches
+        assertThat(managementService.createHistoryJobQuery().count()).isGreaterThan(5);
+
+        long historyJobCount = managementService.createHistoryJobQuery().count();
+        batchRecordingInterceptor.batchSizes.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+
+        // The jobs were executed in batches of at most 5 jobs
+        assertThat(batchRecordingInterceptor.batchSizes)
+                .isNotEmpty()
+                .allMatch(batchSize -> batchSize > 1 && batchSize <= 5);
+        assertThat(batchRecordingInterceptor.batchSizes.stream().mapToInt(Integer::intValue).sum()).isLessThanOrEqualTo((int) historyJobCount);
+        assertThat(batchRecordingInterceptor.batchSizes).anyMatch(batchSize -> batchSize == 5);
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(8);
+        for (String processInstanceId : processInstanceIds) {
+            List<HistoricActivityInstance> historicActivityInstances = historyService.createHistoricActivityInstanceQuery()
+                    .processInstanceId(processInstanceId)
+                    .list();
+            assertThat(historicActivityInstances)
+                    .extracting(HistoricActivityInstance::getActivityId)
+                    .contains("start", "theTask", "theEnd");
+            assertThat(historicActivityInstances)
+                    .extracting(HistoricActivityInstance::getEndTime)
+                    .doesNotContainNull();
+
+            assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).finished().count()).isEqualTo(1);
+        }
+    }
+
+    protected static class HistoryJobBatchRecordingInterceptor extends AbstractCommandInterceptor {
+
+        protected final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+            if (command instanceof ExecuteHistoryJobBatchCmd) {
+                batchSizes.add(((ExecuteHistoryJobBatchCmd) command).getHistoryJobIds().size());
+            }
+            return next.execute(config, command, commandExecutor);
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadSerializer;
+import org.flowable.job.service.impl.history.async.DeflateAsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.history.async.message.AsyncHistoryJobMessageReceiver;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class AsyncHistoryPayloadCodecTest extends CustomConfigurationFlowableTestCase {
+
+    public AsyncHistoryPayloadCodecTest() {
+        super("asyncHistoryPayloadCodecTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingEnabled(true);
+        processEngineConfiguration.setAsyncHistoryJsonGroupingThreshold(2);
+        processEngineConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(true);
+        processEngineConfiguration.setAsyncHistoryPayloadCodec(new DeflateAsyncHistoryPayloadCodec());
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+        for (Job job : managementService.createJobQuery().list()) {
+            if (job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY)
+                    || job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED)) {
+                managementService.deleteJob(job.getId());
+            }
+        }
+    }
+
+    @Test
+    public void testHistoryJobsEncodedWithPayloadCodec() {
+        deployOneTaskTestProcess();
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+        List<HistoryJob> historyJobs = managementService.createHistoryJobQuery().list();
+        assertThat(historyJobs).isNotEmpty();
+
+        AsyncHistoryPayloadSerializer payloadSerializer = processEngineConfiguration.getJobServiceConfiguration().getAsyncHistoryPayloadSerializer();
+        for (HistoryJob historyJob : historyJobs) {
+            // The codec defines the compression, so the zipped job type is not used
+            assertThat(historyJob.getJobHandlerType()).isEqualTo(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
+
+            byte[] bytes = managementService.executeCommand(commandContext -> {
+                HistoryJobEntity historyJobEntity = (HistoryJobEntity) historyJob;
+                return historyJobEntity.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(historyJobEntity.getScopeType());
+            });
+            assertThat(payloadSerializer.isSerializedPayload(bytes)).isTrue();
+            assertThat(bytes[3]).isEqualTo(DeflateAsyncHistoryPayloadCodec.ID);
+
+            JsonNode historyNode = payloadSerializer.deserialize(bytes, processEngineConfiguration.getObjectMapper());
+            assertThat(historyNode.isArray()).isTrue();
+            assertThat(managementService.getHistoryJobHistoryJson(historyJob.getId())).isEqualTo(historyNode.toString());
+        }
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list())
+                .extracting(HistoricActivityInstance::getActivityId)
+                .contains("start", "theTask");
+        assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testMessageReceiverDecodesEncodedPayload() {
+        deployOneTaskTestProcess();
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        List<HistoryJob> historyJobs = managementService.createHistoryJobQuery().list();
+        assertThat(historyJobs).isNotEmpty();
+
+        Map<String, JsonNode> receivedHistoryData = new HashMap<>();
+        AsyncHistoryJobMessageReceiver messageReceiver = new AsyncHistoryJobMessageReceiver(processEngineConfiguration.getCommandExecutor(),
+                (historyJobEntity, historyData) -> {
+                    receivedHistoryData.put(historyJobEntity.getId(), historyData);
+                    return true;
+                }, processEngineConfiguration.getJobServiceConfiguration());
+
+        for (HistoryJob historyJob : historyJobs) {
+            String historyJson = managementService.getHistoryJobHistoryJson(historyJob.getId());
+            messageReceiver.messageForJobReceived(historyJob.getId());
+
+            assertThat(receivedHistoryData.get(historyJob.getId())).isNotNull();
+            assertThat(receivedHistoryData.get(historyJob.getId()).toString()).isEqualTo(historyJson);
+        }
+
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+    }
+
+}
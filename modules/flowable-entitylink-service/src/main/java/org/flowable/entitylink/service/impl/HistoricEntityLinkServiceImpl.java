@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -95,6 +96,11 @@ public class HistoricEntityLinkServiceImpl extends CommonServiceImpl<EntityLinkS
         getHistoricEntityLinkEntityManager().deleteHistoricEntityLinksForNonExistingCaseInstances();
     }
 
+    @Override
+    public void deleteHistoricEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricEntityLinkEntityManager().deleteHistoricEntityLinksByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     public HistoricEntityLinkEntityManager getHistoricEntityLinkEntityManager() {
         return configuration.getHistoricEntityLinkEntityManager();
     }
@@ -13,6 +13,7 @@
 
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
@@ -78,4 +79,9 @@ public class HistoricEntityLinkEntityManagerImpl
         dataManager.deleteHistoricEntityLinksForNonExistingCaseInstances();
     }
 
+    @Override
+    public void deleteHistoricEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        dataManager.deleteHistoricEntityLinksByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -38,4 +39,6 @@ public interface HistoricEntityLinkDataManager extends DataManager<HistoricEntit
     void deleteHistoricEntityLinksForNonExistingProcessInstances();
     
     void deleteHistoricEntityLinksForNonExistingCaseInstances();
+
+    void deleteHistoricEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
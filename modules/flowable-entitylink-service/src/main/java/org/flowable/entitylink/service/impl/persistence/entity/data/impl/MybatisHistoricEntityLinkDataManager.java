@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -117,6 +118,14 @@ public class MybatisHistoricEntityLinkDataManager extends AbstractDataManager<Hi
         getDbSqlSession().delete("bulkDeleteHistoricCaseEntityLinks", null, HistoricEntityLinkEntityImpl.class);
     }
 
+    @Override
+    public void deleteHistoricEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("scopeIds", scopeIds);
+        parameters.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricEntityLinksByScopeIdsAndScopeType", parameters, HistoricEntityLinkEntityImpl.class);
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return entityLinkServiceConfiguration.getIdGenerator();
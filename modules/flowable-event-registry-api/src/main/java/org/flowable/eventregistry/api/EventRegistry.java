@@ -76,6 +76,13 @@ public interface EventRegistry {
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send multiple events to all the registered event consumers, every consumer receives all events at once.
+     *
+     * @throws FlowableEventConsumptionException with the events of which the handling failed in one of the consumers
+     */
+    void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents);
+
     /**
      * Send out the {@code eventInstance} via the given system {@link OutboundEventProcessor}.
      */
@@ -12,12 +12,39 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 /**
  * @author Joram Barrez
  */
 public interface EventRegistryEventConsumer {
 
     void eventReceived(EventRegistryEvent event);
-    
+
+    /**
+     * Handles multiple events at once, as done when the inbound events are processed in batches.
+     * By default every event is passed to {@link #eventReceived(EventRegistryEvent)}.
+     * Implementations can override this to handle the events more efficiently, but should make sure that a failure
+     * for one event does not prevent handling the other events.
+     *
+     * @throws FlowableEventConsumptionException with the events of which the handling failed, after all other events were handled
+     */
+    default void eventsReceived(Collection<EventRegistryEvent> events) {
+        Map<EventRegistryEvent, RuntimeException> failures = new IdentityHashMap<>();
+        for (EventRegistryEvent event : events) {
+            try {
+                eventReceived(event);
+            } catch (RuntimeException e) {
+                failures.put(event, e);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new FlowableEventConsumptionException(failures);
+        }
+    }
+
     String getConsumerKey();
 }
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.api;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Thrown by {@link EventRegistryEventConsumer#eventsReceived(Collection)} when the handling of some of the events failed.
+ * The other events were handled, so only the failed events need to be reported to the channel adapters that received them.
+ */
+public class FlowableEventConsumptionException extends FlowableException {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final Map<EventRegistryEvent, RuntimeException> failures;
+
+    public FlowableEventConsumptionException(Map<EventRegistryEvent, RuntimeException> failures) {
+        super("Handling of " + failures.size() + " event(s) failed", failures.values().iterator().next());
+        this.failures = new IdentityHashMap<>(failures);
+    }
+
+    public Collection<EventRegistryEvent> getFailedEvents() {
+        return failures.keySet();
+    }
+
+    /**
+     * @return the exception thrown while handling the given event, or null when the event was handled
+     */
+    public RuntimeException getFailure(EventRegistryEvent event) {
+        return failures.get(event);
+    }
+
+    public Map<EventRegistryEvent, RuntimeException> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,374 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.FlowableEventConsumptionException;
+import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
+import org.flowable.eventregistry.api.InboundEventProcessor;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link InboundEventProcessor} that groups received events in micro-batches.
+ *
+ * Received events are put in a bounded queue, from which a dispatcher thread takes batches of at most {@link #getMaxBatchSize()} events.
+ * A batch is dispatched when it is full, when {@link #getMaxLingerTimeInMillis()} has passed since its first event was taken,
+ * or when all callers waiting in {@link #eventReceived(InboundChannelModel, String)} have their event in the batch.
+ * Batches are therefore formed from events received concurrently, e.g. by the threads of a listener container with multiple consumers.
+ * A channel adapter receiving events with a single thread gets batches of one event, without waiting for the linger time.
+ *
+ * The inbound pipelines (deserialization, key and tenant detection, transformation) of the events of a batch are run in parallel,
+ * after which all resulting events are passed at once to the consumers with {@link EventRegistry#sendEventsToConsumers(Collection)},
+ * in the order they were received.
+ *
+ * {@link #eventReceived(InboundChannelModel, String)} returns only after the event was handled, so the channel adapter acknowledges it
+ * (e.g. a JMS message or a Kafka record) after the handling, just like with the default inbound event processor.
+ * An exception in the pipeline or in a consumer is thrown to the channel adapter that received the event, other events of the batch are not affected.
+ * Consumers report the events they failed to handle with a {@link FlowableEventConsumptionException}.
+ * Events that are still queued when the processor is shut down are processed before the dispatcher thread stops.
+ */
+public class BatchingInboundEventProcessor implements InboundEventProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchingInboundEventProcessor.class);
+
+    protected static final long POLL_TIMEOUT_IN_MILLIS = 100L;
+
+    protected EventRegistry eventRegistry;
+
+    protected int maxBatchSize;
+    protected long maxLingerTimeInMillis;
+    protected int queueCapacity;
+
+    /** Executor used to run the inbound pipelines of a batch in parallel, the common fork join pool is used when not set */
+    protected Executor pipelineExecutor;
+    protected String threadName = "flowable-event-registry-inbound-batcher";
+
+    protected BlockingQueue<ReceivedEvent> queue;
+    protected Thread dispatcherThread;
+    protected volatile boolean running;
+
+    /** The number of callers of {@link #eventReceived(InboundChannelModel, String)} waiting for their event to be handled */
+    protected final AtomicInteger waitingCallers = new AtomicInteger();
+
+    public BatchingInboundEventProcessor(EventRegistry eventRegistry, int maxBatchSize, long maxLingerTimeInMillis, int queueCapacity) {
+        if (maxBatchSize < 1) {
+            throw new FlowableException("The maximum batch size must be at least 1");
+        }
+        this.eventRegistry = eventRegistry;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerTimeInMillis = maxLingerTimeInMillis;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        dispatcherThread = new Thread(this::dispatchEvents, threadName);
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    public synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+
+        // The dispatcher thread is not interrupted, as that could abort the processing of a batch that is in progress.
+        // It notices the shutdown within the poll timeout.
+        running = false;
+        try {
+            dispatcherThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for the inbound event dispatcher to stop");
+        }
+        dispatcherThread = null;
+    }
+
+    @Override
+    public void eventReceived(InboundChannelModel channelModel, String event) {
+        waitingCallers.incrementAndGet();
+        try {
+            queueAndAwaitProcessed(new ReceivedEvent(channelModel, event));
+        } finally {
+            waitingCallers.decrementAndGet();
+        }
+    }
+
+    protected void queueAndAwaitProcessed(ReceivedEvent receivedEvent) {
+        InboundChannelModel channelModel = receivedEvent.channelModel;
+        if (!running) {
+            // Not started (anymore), the event is processed directly
+            processBatch(Collections.singletonList(receivedEvent));
+            awaitProcessed(receivedEvent);
+            return;
+        }
+
+        try {
+            queue.put(receivedEvent);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while queueing inbound event for channel " + channelModel.getKey(), e);
+        }
+
+        if (!running) {
+            // Shut down while the event was queued, the dispatcher thread might not pick it up anymore
+            List<ReceivedEvent> remainingEvents = new ArrayList<>();
+            queue.drainTo(remainingEvents);
+            if (!remainingEvents.isEmpty()) {
+                processBatch(remainingEvents);
+            }
+        }
+
+        awaitProcessed(receivedEvent);
+    }
+
+    protected void awaitProcessed(ReceivedEvent receivedEvent) {
+        try {
+            receivedEvent.processed.get();
+
+        } catch (InterruptedException e) {
+            // The event is still handled by the dispatcher thread, but the channel adapter doesn't know the outcome
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for the handling of inbound event for channel " + receivedEvent.channelModel.getKey(), e);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new FlowableException("Exception while processing inbound event for channel " + receivedEvent.channelModel.getKey(), e.getCause());
+        }
+    }
+
+    protected void dispatchEvents() {
+        List<ReceivedEvent> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                LOGGER.warn("Inbound event dispatcher was interrupted, queued events are processed without waiting for more events");
+                running = false;
+                queue.drainTo(batch, maxBatchSize - batch.size());
+            }
+
+            if (!batch.isEmpty()) {
+                try {
+                    processBatch(new ArrayList<>(batch));
+                } catch (RuntimeException e) {
+                    LOGGER.error("Exception while processing a batch of {} inbound events", batch.size(), e);
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    protected void fillBatch(List<ReceivedEvent> batch) throws InterruptedException {
+        ReceivedEvent firstEvent = queue.poll(POLL_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+        if (firstEvent == null) {
+            return;
+        }
+
+        batch.add(firstEvent);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxLingerTimeInMillis);
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            if (batch.size() >= maxBatchSize) {
+                break;
+            }
+
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0 || !running) {
+                break;
+            }
+
+            // Every waiting caller has its event in the batch, no other event can be added before one of them returns.
+            // A caller that starts waiting after this check has its event in the next batch.
+            if (batch.size() >= waitingCallers.get()) {
+                break;
+            }
+
+            // Waits at most the poll timeout at once, so a shutdown doesn't need to wait for the linger time
+            ReceivedEvent event = queue.poll(Math.min(remainingNanos, TimeUnit.MILLISECONDS.toNanos(POLL_TIMEOUT_IN_MILLIS)), TimeUnit.NANOSECONDS);
+            if (event != null) {
+                batch.add(event);
+            }
+        }
+    }
+
+    /**
+     * Runs the pipelines of the events of the batch and sends all resulting events to the consumers at once.
+     * Every received event is completed with the outcome of its own handling.
+     */
+    protected void processBatch(List<ReceivedEvent> batch) {
+        try {
+            List<CompletableFuture<Collection<EventRegistryEvent>>> pipelineResults = new ArrayList<>(batch.size());
+            if (batch.size() == 1) {
+                pipelineResults.add(runPipelineInCallingThread(batch.get(0)));
+
+            } else {
+                Executor executor = pipelineExecutor != null ? pipelineExecutor : ForkJoinPool.commonPool();
+                for (ReceivedEvent receivedEvent : batch) {
+                    pipelineResults.add(CompletableFuture.supplyAsync(() -> runPipeline(receivedEvent), executor));
+                }
+            }
+
+            // The events are sent to the consumers in the order in which they were received
+            List<ReceivedEvent> transformedEvents = new ArrayList<>(batch.size());
+            List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                ReceivedEvent receivedEvent = batch.get(i);
+                try {
+                    receivedEvent.eventRegistryEvents = pipelineResults.get(i).join();
+                    eventRegistryEvents.addAll(receivedEvent.eventRegistryEvents);
+                    transformedEvents.add(receivedEvent);
+
+                } catch (CompletionException e) {
+                    receivedEvent.processed.completeExceptionally(e.getCause());
+                }
+            }
+
+            FlowableEventConsumptionException consumptionException = null;
+            if (!eventRegistryEvents.isEmpty()) {
+                try {
+                    sendEventsToConsumers(eventRegistryEvents);
+                } catch (FlowableEventConsumptionException e) {
+                    consumptionException = e;
+                }
+            }
+
+            for (ReceivedEvent receivedEvent : transformedEvents) {
+                RuntimeException failure = consumptionException != null ? getFailure(consumptionException, receivedEvent) : null;
+                if (failure != null) {
+                    receivedEvent.processed.completeExceptionally(failure);
+                } else {
+                    receivedEvent.processed.complete(null);
+                }
+            }
+
+        } catch (RuntimeException | Error e) {
+            // Completing an event that was already completed has no effect
+            for (ReceivedEvent receivedEvent : batch) {
+                receivedEvent.processed.completeExceptionally(e);
+            }
+            throw e;
+        }
+    }
+
+    protected RuntimeException getFailure(FlowableEventConsumptionException consumptionException, ReceivedEvent receivedEvent) {
+        for (EventRegistryEvent eventRegistryEvent : receivedEvent.eventRegistryEvents) {
+            RuntimeException failure = consumptionException.getFailure(eventRegistryEvent);
+            if (failure != null) {
+                return failure;
+            }
+        }
+        return null;
+    }
+
+    protected CompletableFuture<Collection<EventRegistryEvent>> runPipelineInCallingThread(ReceivedEvent receivedEvent) {
+        CompletableFuture<Collection<EventRegistryEvent>> result = new CompletableFuture<>();
+        try {
+            result.complete(runPipeline(receivedEvent));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    protected Collection<EventRegistryEvent> runPipeline(ReceivedEvent receivedEvent) {
+        InboundChannelModel channelModel = receivedEvent.channelModel;
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        return inboundEventProcessingPipeline.run(channelModel.getKey(), receivedEvent.event);
+    }
+
+    protected void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getQueueSize() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    public int getWaitingCallers() {
+        return waitingCallers.get();
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getMaxLingerTimeInMillis() {
+        return maxLingerTimeInMillis;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public Executor getPipelineExecutor() {
+        return pipelineExecutor;
+    }
+
+    public void setPipelineExecutor(Executor pipelineExecutor) {
+        this.pipelineExecutor = pipelineExecutor;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public void setThreadName(String threadName) {
+        this.threadName = threadName;
+    }
+
+    protected static class ReceivedEvent {
+
+        protected final InboundChannelModel channelModel;
+        protected final String event;
+        protected final CompletableFuture<Void> processed = new CompletableFuture<>();
+        protected Collection<EventRegistryEvent> eventRegistryEvents;
+
+        public ReceivedEvent(InboundChannelModel channelModel, String event) {
+            this.channelModel = channelModel;
+            this.event = event;
+        }
+    }
+
+}
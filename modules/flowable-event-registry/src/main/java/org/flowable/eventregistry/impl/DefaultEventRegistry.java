@@ -14,12 +14,14 @@ package org.flowable.eventregistry.impl;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import org.flowable.eventregistry.api.CorrelationKeyGenerator;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
+import org.flowable.eventregistry.api.FlowableEventConsumptionException;
 import org.flowable.eventregistry.api.InboundEventProcessor;
 import org.flowable.eventregistry.api.OutboundEventProcessor;
 import org.flowable.eventregistry.api.runtime.EventInstance;
@@ -77,6 +79,33 @@ public class DefaultEventRegistry implements EventRegistry {
         }
     }
 
+    @Override
+    public void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        // A failure in one consumer doesn't prevent the other consumers from handling the events,
+        // the failed events of all consumers are reported together afterwards
+        Map<EventRegistryEvent, RuntimeException> failures = new IdentityHashMap<>();
+        Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
+        for (EventRegistryEventConsumer eventConsumer : engineEventRegistryEventConsumers) {
+            try {
+                eventConsumer.eventsReceived(eventRegistryEvents);
+
+            } catch (FlowableEventConsumptionException e) {
+                for (Map.Entry<EventRegistryEvent, RuntimeException> failure : e.getFailures().entrySet()) {
+                    failures.putIfAbsent(failure.getKey(), failure.getValue());
+                }
+
+            } catch (RuntimeException e) {
+                for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+                    failures.putIfAbsent(eventRegistryEvent, e);
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new FlowableEventConsumptionException(failures);
+        }
+    }
+
     @Override
     public void sendSystemEventOutbound(EventInstance eventInstance) {
         systemOutboundEventProcessor.sendEvent(eventInstance, Collections.emptyList());
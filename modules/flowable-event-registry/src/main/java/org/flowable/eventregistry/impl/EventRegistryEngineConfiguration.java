@@ -26,8 +26,8 @@ import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheFactory;
 import org.flowable.common.engine.impl.persistence.deploy.FullDeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.eventregistry.api.ChannelModelProcessor;
@@ -146,6 +146,16 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected OutboundEventProcessor outboundEventProcessor;
     protected OutboundEventProcessor systemOutboundEventProcessor;
 
+    /**
+     * When enabled, inbound events are processed in micro-batches by a {@link BatchingInboundEventProcessor} (unless a custom inbound event processor is set).
+     * The event subscriptions of the events of a batch are looked up together, which reduces the number of queries under a high event load.
+     * Note that the events are then processed asynchronously from the channel adapters.
+     */
+    protected boolean inboundEventBatchingEnabled;
+    protected int inboundEventMaxBatchSize = 100;
+    protected long inboundEventMaxLingerTimeInMillis = 10L;
+    protected int inboundEventQueueCapacity = 10000;
+
     // Change detection
     protected boolean enableEventRegistryChangeDetection;
     protected long eventRegistryChangeDetectionInitialDelayInMs = 10000L;
@@ -422,11 +432,7 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         }
 
         if (eventDefinitionCache == null) {
-            if (eventDefinitionCacheLimit <= 0) {
-                eventDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                eventDefinitionCache = new DefaultDeploymentCache<>(eventDefinitionCacheLimit);
-            }
+            eventDefinitionCache = createDeploymentCache(DeploymentCacheFactory.EVENT_DEFINITION_CACHE, eventDefinitionCacheLimit);
         }
         
         if (channelDefinitionCache == null) {
@@ -494,7 +500,14 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
 
     public void initInboundEventProcessor() {
         if (this.inboundEventProcessor == null) {
-            this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry);
+            if (inboundEventBatchingEnabled) {
+                BatchingInboundEventProcessor batchingInboundEventProcessor = new BatchingInboundEventProcessor(eventRegistry,
+                        inboundEventMaxBatchSize, inboundEventMaxLingerTimeInMillis, inboundEventQueueCapacity);
+                batchingInboundEventProcessor.start();
+                this.inboundEventProcessor = batchingInboundEventProcessor;
+            } else {
+                this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry);
+            }
         }
         this.eventRegistry.setInboundEventProcessor(this.inboundEventProcessor);
     }
@@ -622,6 +635,42 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
 
+    public boolean isInboundEventBatchingEnabled() {
+        return inboundEventBatchingEnabled;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchingEnabled(boolean inboundEventBatchingEnabled) {
+        this.inboundEventBatchingEnabled = inboundEventBatchingEnabled;
+        return this;
+    }
+
+    public int getInboundEventMaxBatchSize() {
+        return inboundEventMaxBatchSize;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventMaxBatchSize(int inboundEventMaxBatchSize) {
+        this.inboundEventMaxBatchSize = inboundEventMaxBatchSize;
+        return this;
+    }
+
+    public long getInboundEventMaxLingerTimeInMillis() {
+        return inboundEventMaxLingerTimeInMillis;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventMaxLingerTimeInMillis(long inboundEventMaxLingerTimeInMillis) {
+        this.inboundEventMaxLingerTimeInMillis = inboundEventMaxLingerTimeInMillis;
+        return this;
+    }
+
+    public int getInboundEventQueueCapacity() {
+        return inboundEventQueueCapacity;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventQueueCapacity(int inboundEventQueueCapacity) {
+        this.inboundEventQueueCapacity = inboundEventQueueCapacity;
+        return this;
+    }
+
     public OutboundEventProcessor getOutboundEventProcessor() {
         return outboundEventProcessor;
     }
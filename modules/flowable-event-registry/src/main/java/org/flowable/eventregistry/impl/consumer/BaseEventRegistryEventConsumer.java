@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,12 +31,15 @@ import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
+import org.flowable.eventregistry.api.FlowableEventConsumptionException;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Joram Barrez
@@ -43,6 +47,8 @@ import org.flowable.eventsubscription.api.EventSubscriptionQuery;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventConsumer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseEventRegistryEventConsumer.class);
+
     protected AbstractEngineConfiguration engingeConfiguration;
     protected CommandExecutor commandExecutor;
 
@@ -66,6 +72,126 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected abstract void eventReceived(EventInstance eventInstance);
 
+    /**
+     * Handles a batch of events. When the consumer has a {@link #getEventSubscriptionScopeType() scope type}, all events are handled in one transaction:
+     * the event subscriptions are fetched with one query for all events with the same event key, tenant and correlation keys,
+     * after which the subscriptions of every event are handled with {@link #handleEventSubscription(EventSubscription, EventInstance, Collection)}.
+     *
+     * Failures are isolated per event: when the transaction of the batch fails, every event is handled on its own again with {@link #eventReceived(EventInstance)}.
+     * The same happens for an event that matches an event subscription of a running instance that was already handled in the batch,
+     * or a start event subscription that was already handled in the batch with the same correlation, as that could depend on the outcome of the earlier handling.
+     */
+    @Override
+    public void eventsReceived(Collection<EventRegistryEvent> events) {
+        Map<EventRegistryEvent, RuntimeException> failures = new IdentityHashMap<>();
+        List<EventRegistryEvent> eventInstanceEvents = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            if (event.getEventObject() instanceof EventInstance) {
+                eventInstanceEvents.add(event);
+            } else {
+                try {
+                    eventReceived(event);
+                } catch (RuntimeException e) {
+                    failures.put(event, e);
+                }
+            }
+        }
+
+        List<EventRegistryEvent> remainingEvents = eventInstanceEvents;
+        String scopeType = getEventSubscriptionScopeType();
+        if (scopeType != null && eventInstanceEvents.size() > 1) {
+            try {
+                remainingEvents = commandExecutor.execute(commandContext -> handleEvents(scopeType, eventInstanceEvents));
+            } catch (RuntimeException e) {
+                LOGGER.debug("Handling {} events in one transaction failed in consumer {}, the events are handled one by one",
+                        eventInstanceEvents.size(), getConsumerKey(), e);
+            }
+        }
+
+        for (EventRegistryEvent event : remainingEvents) {
+            try {
+                eventReceived((EventInstance) event.getEventObject());
+            } catch (RuntimeException e) {
+                failures.put(event, e);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new FlowableEventConsumptionException(failures);
+        }
+    }
+
+    /**
+     * Handles the events within the current command context.
+     *
+     * @return the events that could not be handled in the batch and need to be handled on their own afterwards
+     */
+    protected List<EventRegistryEvent> handleEvents(String scopeType, List<EventRegistryEvent> events) {
+        Map<List<Object>, List<EventSubscription>> eventSubscriptionsByLookup = new HashMap<>();
+        Set<String> handledEventSubscriptions = new HashSet<>();
+        List<EventRegistryEvent> remainingEvents = new ArrayList<>();
+        for (EventRegistryEvent event : events) {
+            EventInstance eventInstance = (EventInstance) event.getEventObject();
+            Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
+            Set<String> correlationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+            List<Object> lookup = Arrays.asList(eventInstance.getEventKey(), eventInstance.getTenantId(), correlationKeyValues);
+            List<EventSubscription> eventSubscriptions = eventSubscriptionsByLookup.computeIfAbsent(lookup,
+                    key -> createEventSubscriptionQuery(scopeType, eventInstance, correlationKeys).list());
+
+            List<String> eventSubscriptionHandlingKeys = new ArrayList<>(eventSubscriptions.size());
+            for (EventSubscription eventSubscription : eventSubscriptions) {
+                String eventSubscriptionHandlingKey = getEventSubscriptionHandlingKey(eventSubscription, correlationKeys);
+                if (eventSubscriptionHandlingKey != null) {
+                    eventSubscriptionHandlingKeys.add(eventSubscriptionHandlingKey);
+                }
+            }
+
+            if (eventSubscriptionHandlingKeys.stream().anyMatch(handledEventSubscriptions::contains)) {
+                remainingEvents.add(event);
+                continue;
+            }
+
+            for (EventSubscription eventSubscription : eventSubscriptions) {
+                handleEventSubscription(eventSubscription, eventInstance, correlationKeys);
+            }
+            handledEventSubscriptions.addAll(eventSubscriptionHandlingKeys);
+        }
+        return remainingEvents;
+    }
+
+    /**
+     * @return the key by which the handling of the event subscription is tracked within a batch: the subscription itself
+     * for a subscription of a running instance, the subscription and the correlation for a start event subscription,
+     * or null when the subscription can be handled for multiple events of a batch
+     */
+    protected String getEventSubscriptionHandlingKey(EventSubscription eventSubscription, Collection<CorrelationKey> correlationKeys) {
+        boolean startEventSubscription = eventSubscription.getProcessInstanceId() == null && eventSubscription.getExecutionId() == null
+                && eventSubscription.getScopeId() == null && eventSubscription.getSubScopeId() == null;
+        if (startEventSubscription && !correlationKeys.isEmpty()) {
+            return eventSubscription.getId() + "|" + getCorrelationKeyWithAllParameters(correlationKeys).getValue();
+        } else if (startEventSubscription) {
+            // Without correlation, a start event subscription can be handled multiple times in a batch
+            return null;
+        }
+        return eventSubscription.getId();
+    }
+
+    /**
+     * @return the scope type of the event subscriptions that are handled by this consumer,
+     * or null when the events of a batch need to be passed one by one to {@link #eventReceived(EventInstance)}
+     */
+    protected String getEventSubscriptionScopeType() {
+        return null;
+    }
+
+    /**
+     * Handles the event for the given event subscription.
+     * Needs to be implemented when {@link #getEventSubscriptionScopeType()} returns a scope type.
+     */
+    protected void handleEventSubscription(EventSubscription eventSubscription, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        throw new UnsupportedOperationException("Handling event subscriptions is not supported by " + getClass().getName());
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -115,56 +241,59 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
     }
 
     protected List<EventSubscription> findEventSubscriptions(String scopeType, EventInstance eventInstance,  Collection<CorrelationKey> correlationKeys) {
-        return commandExecutor.execute(commandContext -> {
-
-            EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
-                .eventType(eventInstance.getEventKey())
-                .scopeType(scopeType);
-
-            if (!correlationKeys.isEmpty()) {
+        return commandExecutor.execute(commandContext -> createEventSubscriptionQuery(scopeType, eventInstance, correlationKeys).list());
+    }
 
-                Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+    /**
+     * Creates the query for the event subscriptions matching the event. Needs to be called within a command context.
+     */
+    protected EventSubscriptionQuery createEventSubscriptionQuery(String scopeType, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
+            .eventType(eventInstance.getEventKey())
+            .scopeType(scopeType);
 
-                eventSubscriptionQuery.or()
-                    .withoutConfiguration()
-                    .configurations(allCorrelationKeyValues)
-                    .endOr();
+        if (!correlationKeys.isEmpty()) {
 
-            } else {
-                eventSubscriptionQuery.withoutConfiguration();
+            Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
 
-            }
+            eventSubscriptionQuery.or()
+                .withoutConfiguration()
+                .configurations(allCorrelationKeyValues)
+                .endOr();
 
-            String eventInstanceTenantId = eventInstance.getTenantId();
-            if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+        } else {
+            eventSubscriptionQuery.withoutConfiguration();
 
-                EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+        }
 
-                if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
-                    String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
-                        .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
+        String eventInstanceTenantId = eventInstance.getTenantId();
+        if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
 
-                    if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
-                        eventSubscriptionQuery.or()
-                            .tenantId(eventInstance.getTenantId())
-                            .withoutTenantId()
-                        .endOr();
+            EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
 
-                    } else {
-                        eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
+            if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
+                String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
+                    .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
 
-                    }
+                if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
+                    eventSubscriptionQuery.or()
+                        .tenantId(eventInstance.getTenantId())
+                        .withoutTenantId()
+                    .endOr();
 
                 } else {
-                    eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+                    eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
 
                 }
 
+            } else {
+                eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+
             }
 
-            return eventSubscriptionQuery.list();
+        }
 
-        });
+        return eventSubscriptionQuery;
     }
 
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
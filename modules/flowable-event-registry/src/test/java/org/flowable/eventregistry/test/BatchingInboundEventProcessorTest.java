@@ -0,0 +1,310 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.FlowableEventConsumptionException;
+import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
+import org.flowable.eventregistry.impl.BatchingInboundEventProcessor;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BatchingInboundEventProcessorTest {
+
+    protected static final String BLOCKING_EVENT = "blocking";
+
+    protected TestBatchingInboundEventProcessor processor;
+    protected CountDownLatch blockingEventLatch = new CountDownLatch(1);
+    protected ExecutorService senderExecutor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        if (processor != null) {
+            processor.shutdown();
+        }
+        senderExecutor.shutdownNow();
+    }
+
+    @Test
+    void eventsAreDispatchedInBatches() throws Exception {
+        processor = new TestBatchingInboundEventProcessor(5, 60000L, 100);
+        InboundChannelModel channelModel = createChannelModel(rawEvent -> Collections.singletonList(new TestEvent(rawEvent)));
+
+        processor.start();
+        List<Future<?>> results = sendWhileDispatcherIsBlocked(channelModel, "event1", "event2", "event3", "event4", "event5",
+                "event6", "event7", "event8", "event9", "event10");
+        for (Future<?> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(processor.batchSizes).containsExactly(1, 5, 5);
+        assertThat(processor.getReceivedEventTypes()).containsExactlyInAnyOrder(BLOCKING_EVENT,
+                "event1", "event2", "event3", "event4", "event5", "event6", "event7", "event8", "event9", "event10");
+    }
+
+    @Test
+    void eventIsHandledBeforeReturning() {
+        processor = new TestBatchingInboundEventProcessor(100, 50L, 100);
+        InboundChannelModel channelModel = createChannelModel(rawEvent -> Collections.singletonList(new TestEvent(rawEvent)));
+
+        processor.start();
+        processor.eventReceived(channelModel, "event1");
+        assertThat(processor.getReceivedEventTypes()).containsExactly("event1");
+
+        processor.eventReceived(channelModel, "event2");
+        assertThat(processor.getReceivedEventTypes()).containsExactly("event1", "event2");
+    }
+
+    @Test
+    void failingEventIsReportedToItsSenderOnly() throws Exception {
+        processor = new TestBatchingInboundEventProcessor(3, 60000L, 100);
+        InboundChannelModel channelModel = createChannelModel(rawEvent -> {
+            if ("invalid".equals(rawEvent)) {
+                throw new FlowableException("Invalid event");
+            }
+            return Collections.singletonList(new TestEvent(rawEvent));
+        });
+
+        processor.start();
+        List<Future<?>> results = sendWhileDispatcherIsBlocked(channelModel, "event1", "invalid", "event2");
+
+        results.get(0).get(10, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> results.get(1).get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(FlowableException.class)
+                .hasRootCauseMessage("Invalid event");
+        results.get(2).get(10, TimeUnit.SECONDS);
+
+        assertThat(processor.batchSizes).containsExactly(1, 3);
+        assertThat(processor.getReceivedEventTypes()).containsExactlyInAnyOrder(BLOCKING_EVENT, "event1", "event2");
+    }
+
+    @Test
+    void failingConsumerIsReportedToTheSender() {
+        processor = new TestBatchingInboundEventProcessor(100, 10L, 100);
+        processor.failingEventType = "rejected";
+        InboundChannelModel channelModel = createChannelModel(rawEvent -> Collections.singletonList(new TestEvent(rawEvent)));
+
+        processor.start();
+        assertThatThrownBy(() -> processor.eventReceived(channelModel, "rejected"))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("Consumer failed for rejected");
+
+        processor.eventReceived(channelModel, "event1");
+        assertThat(processor.getReceivedEventTypes()).containsExactly("event1");
+    }
+
+    @Test
+    void failingConsumerIsReportedToTheSenderOfTheEventOnly() throws Exception {
+        processor = new TestBatchingInboundEventProcessor(3, 60000L, 100);
+        processor.failingEventType = "rejected";
+        InboundChannelModel channelModel = createChannelModel(rawEvent -> Collections.singletonList(new TestEvent(rawEvent)));
+
+        processor.start();
+        List<Future<?>> results = sendWhileDispatcherIsBlocked(channelModel, "event1", "rejected", "event2");
+
+        results.get(0).get(10, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> results.get(1).get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(FlowableException.class)
+                .hasRootCauseMessage("Consumer failed for rejected");
+        results.get(2).get(10, TimeUnit.SECONDS);
+
+        // All events of the batch are sent to the consumers at once
+        assertThat(processor.batchSizes).containsExactly(1, 3);
+        assertThat(processor.consumerBatchSizes).containsExactly(1, 3);
+        assertThat(processor.getReceivedEventTypes()).containsExactlyInAnyOrder(BLOCKING_EVENT, "event1", "event2");
+    }
+
+    @Test
+    void singleSenderDoesNotWaitForTheLingerTime() {
+        processor = new TestBatchingInboundEventProcessor(100, 60000L, 100);
+        InboundChannelModel channelModel = createChannelModel(rawEvent -> Collections.singletonList(new TestEvent(rawEvent)));
+
+        processor.start();
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            processor.eventReceived(channelModel, "event" + i);
+        }
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(10000L);
+        assertThat(processor.batchSizes).containsExactly(1, 1, 1, 1, 1);
+        assertThat(processor.getReceivedEventTypes()).containsExactly("event0", "event1", "event2", "event3", "event4");
+    }
+
+    @Test
+    void queuedEventsAreProcessedOnShutdown() throws Exception {
+        processor = new TestBatchingInboundEventProcessor(100, 60000L, 100);
+        InboundChannelModel channelModel = createChannelModel(rawEvent -> Collections.singletonList(new TestEvent(rawEvent)));
+
+        processor.start();
+        List<Future<?>> results = sendConcurrently(channelModel, "event1", "event2");
+        processor.shutdown();
+        for (Future<?> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(processor.isRunning()).isFalse();
+        assertThat(processor.getReceivedEventTypes()).containsExactlyInAnyOrder("event1", "event2");
+
+        // After the shutdown, events are processed directly
+        processor.eventReceived(channelModel, "event3");
+        assertThat(processor.getReceivedEventTypes()).hasSize(3).endsWith("event3");
+    }
+
+    /**
+     * Sends the events concurrently while the dispatcher thread is blocked on the handling of another event,
+     * so the events are all queued when the dispatcher takes its next batch.
+     */
+    protected List<Future<?>> sendWhileDispatcherIsBlocked(InboundChannelModel channelModel, String... events) throws Exception {
+        int batchCount = processor.batchSizes.size();
+        Future<?> blockingResult = senderExecutor.submit(() -> processor.eventReceived(channelModel, BLOCKING_EVENT));
+        waitUntil(() -> processor.batchSizes.size() == batchCount + 1);
+
+        List<Future<?>> results = sendConcurrently(channelModel, events);
+        waitUntil(() -> processor.getQueueSize() == events.length && processor.getWaitingCallers() == events.length + 1);
+        blockingEventLatch.countDown();
+
+        blockingResult.get(10, TimeUnit.SECONDS);
+        return results;
+    }
+
+    protected List<Future<?>> sendConcurrently(InboundChannelModel channelModel, String... events) {
+        List<Future<?>> results = new ArrayList<>(events.length);
+        for (String event : events) {
+            results.add(senderExecutor.submit(() -> processor.eventReceived(channelModel, event)));
+        }
+        return results;
+    }
+
+    protected void awaitLatch(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new FlowableException("Latch was not released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for latch", e);
+        }
+    }
+
+    protected void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10L);
+        }
+    }
+
+    protected InboundChannelModel createChannelModel(TestPipeline pipeline) {
+        InboundChannelModel channelModel = new InboundChannelModel();
+        channelModel.setKey("testChannel");
+        channelModel.setInboundEventProcessingPipeline((TestPipeline) rawEvent -> {
+            if (BLOCKING_EVENT.equals(rawEvent)) {
+                awaitLatch(blockingEventLatch);
+            }
+            return pipeline.run(rawEvent);
+        });
+        return channelModel;
+    }
+
+    protected interface TestPipeline extends InboundEventProcessingPipeline {
+
+        Collection<EventRegistryEvent> run(String rawEvent);
+
+        @Override
+        default Collection<EventRegistryEvent> run(String channelKey, String rawEvent) {
+            return run(rawEvent);
+        }
+    }
+
+    protected static class TestBatchingInboundEventProcessor extends BatchingInboundEventProcessor {
+
+        protected final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        protected final List<Integer> consumerBatchSizes = new CopyOnWriteArrayList<>();
+        protected final List<EventRegistryEvent> receivedEvents = new CopyOnWriteArrayList<>();
+        protected String failingEventType;
+
+        public TestBatchingInboundEventProcessor(int maxBatchSize, long maxLingerTimeInMillis, int queueCapacity) {
+            super(null, maxBatchSize, maxLingerTimeInMillis, queueCapacity);
+        }
+
+        @Override
+        protected void processBatch(List<ReceivedEvent> batch) {
+            batchSizes.add(batch.size());
+            super.processBatch(batch);
+        }
+
+        @Override
+        protected void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+            consumerBatchSizes.add(eventRegistryEvents.size());
+            Map<EventRegistryEvent, RuntimeException> failures = new HashMap<>();
+            for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+                if (eventRegistryEvent.getType().equals(failingEventType)) {
+                    failures.put(eventRegistryEvent, new FlowableException("Consumer failed for " + failingEventType));
+                } else {
+                    receivedEvents.add(eventRegistryEvent);
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                throw new FlowableEventConsumptionException(failures);
+            }
+        }
+
+        public List<String> getReceivedEventTypes() {
+            return receivedEvents.stream().map(EventRegistryEvent::getType).collect(Collectors.toList());
+        }
+    }
+
+    protected static class TestEvent implements EventRegistryEvent {
+
+        protected final String type;
+
+        public TestEvent(String type) {
+            this.type = type;
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+
+        @Override
+        public Object getEventObject() {
+            return type;
+        }
+    }
+
+}
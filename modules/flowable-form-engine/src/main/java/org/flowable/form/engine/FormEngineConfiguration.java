@@ -26,8 +26,8 @@ import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheFactory;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.form.api.FormEngineConfigurationApi;
@@ -368,11 +368,7 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
 
         // Decision cache
         if (formDefinitionCache == null) {
-            if (formDefinitionCacheLimit <= 0) {
-                formDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                formDefinitionCache = new DefaultDeploymentCache<>(formDefinitionCacheLimit);
-            }
+            formDefinitionCache = createDeploymentCache(DeploymentCacheFactory.FORM_DEFINITION_CACHE, formDefinitionCacheLimit);
         }
 
         deploymentManager = new DeploymentManager(formDefinitionCache, this);
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
@@ -52,4 +53,14 @@ public interface HistoricIdentityLinkService {
     void deleteHistoricCaseIdentityLinksForNonExistingInstances();
     
     void deleteHistoricTaskIdentityLinksForNonExistingInstances();
+
+    /**
+     * Deletes the historic identity links of the given process instances and of their tasks with a bulk delete.
+     */
+    void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    /**
+     * Deletes the historic identity links of the given scopes and of their tasks with a bulk delete.
+     */
+    void deleteHistoricIdentityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -105,6 +106,16 @@ public class HistoricIdentityLinkServiceImpl extends CommonServiceImpl<IdentityL
         getHistoricIdentityLinkEntityManager().deleteHistoricTaskIdentityLinksForNonExistingInstances();
     }
 
+    @Override
+    public void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricIdentityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     public HistoricIdentityLinkEntityManager getHistoricIdentityLinkEntityManager() {
         return configuration.getHistoricIdentityLinkEntityManager();
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -43,4 +44,8 @@ public interface HistoricIdentityLinkEntityManager extends EntityManager<Histori
     
     void deleteHistoricTaskIdentityLinksForNonExistingInstances();
 
+    void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricIdentityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
 }
\ No newline at end of file
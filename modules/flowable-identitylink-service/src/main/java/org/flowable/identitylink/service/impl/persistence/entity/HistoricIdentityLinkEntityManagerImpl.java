@@ -13,6 +13,7 @@
 
 package org.flowable.identitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
@@ -102,4 +103,14 @@ public class HistoricIdentityLinkEntityManagerImpl
         dataManager.deleteHistoricTaskIdentityLinksForNonExistingInstances();
     }
 
+    @Override
+    public void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricIdentityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        dataManager.deleteHistoricIdentityLinksByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -39,4 +40,9 @@ public interface HistoricIdentityLinkDataManager extends DataManager<HistoricIde
     void deleteHistoricCaseIdentityLinksForNonExistingInstances();
     
     void deleteHistoricTaskIdentityLinksForNonExistingInstances();
+
+    void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricIdentityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
 }
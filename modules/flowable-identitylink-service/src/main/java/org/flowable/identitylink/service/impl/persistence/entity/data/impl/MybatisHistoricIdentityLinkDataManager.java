@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -110,6 +111,21 @@ public class MybatisHistoricIdentityLinkDataManager extends AbstractDataManager<
         getDbSqlSession().delete("bulkDeleteHistoricTaskIdentityLinks", null, HistoricIdentityLinkEntityImpl.class);
     }
 
+    @Override
+    public void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricIdentityLinksByProcessInstanceIds", parameters, HistoricIdentityLinkEntityImpl.class);
+    }
+
+    @Override
+    public void deleteHistoricIdentityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("scopeIds", scopeIds);
+        parameters.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricIdentityLinksByScopeIdsAndScopeType", parameters, HistoricIdentityLinkEntityImpl.class);
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return identityLinkServiceConfiguration.getIdGenerator();
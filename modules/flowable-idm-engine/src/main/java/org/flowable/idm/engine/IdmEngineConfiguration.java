@@ -39,6 +39,7 @@ import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.idm.api.IdmManagementService;
 import org.flowable.idm.api.PasswordEncoder;
 import org.flowable.idm.api.PasswordSalt;
+import org.flowable.idm.api.User;
 import org.flowable.idm.api.event.FlowableIdmEventType;
 import org.flowable.idm.engine.impl.IdmEngineImpl;
 import org.flowable.idm.engine.impl.IdmIdentityServiceImpl;
@@ -50,6 +51,8 @@ import org.flowable.idm.engine.impl.cfg.StandaloneIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.cfg.StandaloneInMemIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.db.EntityDependencyOrder;
 import org.flowable.idm.engine.impl.db.IdmDbSchemaManager;
+import org.flowable.idm.engine.impl.persistence.GroupMembershipCache;
+import org.flowable.idm.engine.impl.persistence.IdentityCache;
 import org.flowable.idm.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.idm.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.idm.engine.impl.persistence.entity.GroupEntityManager;
@@ -125,6 +128,34 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
     protected PasswordEncoder passwordEncoder;
     protected PasswordSalt passwordSalt;
 
+    /**
+     * Caches the groups of a user for group queries that only filter on the member, as done for task queries with a candidate user.
+     * The cache is invalidated when memberships or groups are changed through this engine.
+     */
+    protected boolean enableGroupMembershipCache;
+    protected int groupMembershipCacheSize = 1000;
+    protected GroupMembershipCache groupMembershipCache;
+
+    /**
+     * Caches users for user queries that only filter on the user id, as done when looking up the current user.
+     * The cache is invalidated when users are changed through this engine.
+     */
+    protected boolean enableUserCache;
+    protected int userCacheSize = 1000;
+    protected IdentityCache<User> userCache;
+
+    /**
+     * The time in milliseconds after which the entries of the identity caches expire, which bounds how long changes done by other engines
+     * stay invisible. Zero or lower means the entries only expire when changed through this engine.
+     */
+    protected long identityCacheExpirationTime = -1;
+
+    /**
+     * The time in milliseconds before the expiration in which the entries of the identity caches are reloaded by one lookup,
+     * while the other lookups keep using the cached entry. Zero or lower disables refreshing ahead.
+     */
+    protected long identityCacheRefreshAheadTime = -1;
+
     public static IdmEngineConfiguration createIdmEngineConfigurationFromResourceDefault() {
         return createIdmEngineConfigurationFromResource("flowable.idm.cfg.xml", "idmEngineConfiguration");
     }
@@ -196,6 +227,7 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         initServices();
         initDataManagers();
         initEntityManagers();
+        initIdentityCaches();
         initEventDispatcher();
     }
 
@@ -215,6 +247,15 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         }
     }
 
+    public void initIdentityCaches() {
+        if (groupMembershipCache == null && enableGroupMembershipCache) {
+            groupMembershipCache = new GroupMembershipCache(groupMembershipCacheSize, identityCacheExpirationTime, identityCacheRefreshAheadTime, this::getClock);
+        }
+        if (userCache == null && enableUserCache) {
+            userCache = new IdentityCache<>("user", userCacheSize, identityCacheExpirationTime, identityCacheRefreshAheadTime, this::getClock);
+        }
+    }
+
     // services
     // /////////////////////////////////////////////////////////////////
 
@@ -782,6 +823,78 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public boolean isEnableGroupMembershipCache() {
+        return enableGroupMembershipCache;
+    }
+
+    public IdmEngineConfiguration setEnableGroupMembershipCache(boolean enableGroupMembershipCache) {
+        this.enableGroupMembershipCache = enableGroupMembershipCache;
+        return this;
+    }
+
+    public int getGroupMembershipCacheSize() {
+        return groupMembershipCacheSize;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCacheSize(int groupMembershipCacheSize) {
+        this.groupMembershipCacheSize = groupMembershipCacheSize;
+        return this;
+    }
+
+    public GroupMembershipCache getGroupMembershipCache() {
+        return groupMembershipCache;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCache(GroupMembershipCache groupMembershipCache) {
+        this.groupMembershipCache = groupMembershipCache;
+        return this;
+    }
+
+    public boolean isEnableUserCache() {
+        return enableUserCache;
+    }
+
+    public IdmEngineConfiguration setEnableUserCache(boolean enableUserCache) {
+        this.enableUserCache = enableUserCache;
+        return this;
+    }
+
+    public int getUserCacheSize() {
+        return userCacheSize;
+    }
+
+    public IdmEngineConfiguration setUserCacheSize(int userCacheSize) {
+        this.userCacheSize = userCacheSize;
+        return this;
+    }
+
+    public IdentityCache<User> getUserCache() {
+        return userCache;
+    }
+
+    public IdmEngineConfiguration setUserCache(IdentityCache<User> userCache) {
+        this.userCache = userCache;
+        return this;
+    }
+
+    public long getIdentityCacheExpirationTime() {
+        return identityCacheExpirationTime;
+    }
+
+    public IdmEngineConfiguration setIdentityCacheExpirationTime(long identityCacheExpirationTime) {
+        this.identityCacheExpirationTime = identityCacheExpirationTime;
+        return this;
+    }
+
+    public long getIdentityCacheRefreshAheadTime() {
+        return identityCacheRefreshAheadTime;
+    }
+
+    public IdmEngineConfiguration setIdentityCacheRefreshAheadTime(long identityCacheRefreshAheadTime) {
+        this.identityCacheRefreshAheadTime = identityCacheRefreshAheadTime;
+        return this;
+    }
+
     public PasswordSalt getPasswordSalt() {
         return passwordSalt;
     }
@@ -141,6 +141,14 @@ public class GroupQueryImpl extends AbstractQuery<GroupQuery, Group> implements
         return orderBy(GroupQueryProperty.TYPE);
     }
 
+    /**
+     * @return true if the query only filters on the member, without paging or ordering, which is the query done for the groups of a candidate user
+     */
+    public boolean isGroupMemberOnlyQuery() {
+        return userId != null && id == null && ids == null && name == null && nameLike == null && nameLikeIgnoreCase == null
+                && type == null && userIds == null && resultType == ResultType.LIST && orderByColumns == null && keysetCursor == null;
+    }
+
     // results ////////////////////////////////////////////////////////
 
     @Override
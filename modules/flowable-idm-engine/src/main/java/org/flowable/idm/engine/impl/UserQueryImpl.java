@@ -256,6 +256,17 @@ public class UserQueryImpl extends AbstractQuery<UserQuery, User> implements Use
         return orderBy(UserQueryProperty.LAST_NAME);
     }
 
+    /**
+     * @return true if the query only filters on the user id, without paging or ordering, which is the query done to look up a user
+     */
+    public boolean isUserIdOnlyQuery() {
+        return id != null && ids == null && idIgnoreCase == null && firstName == null && firstNameLike == null && firstNameLikeIgnoreCase == null
+                && lastName == null && lastNameLike == null && lastNameLikeIgnoreCase == null && fullNameLike == null && fullNameLikeIgnoreCase == null
+                && displayName == null && displayNameLike == null && displayNameLikeIgnoreCase == null && email == null && emailLike == null
+                && groupId == null && groupIds == null && tenantId == null
+                && (resultType == ResultType.LIST || resultType == ResultType.SINGLE_RESULT) && orderByColumns == null && keysetCursor == null;
+    }
+
     // results //////////////////////////////////////////////////////////
 
     @Override
@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.persistence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.flowable.idm.api.Group;
+
+/**
+ * Cache of the groups a user is a member of, keyed by user id.
+ *
+ * The engines query the groups of a user for every task query with a candidate user, which is answered from this cache when enabled
+ * (see {@link org.flowable.idm.engine.IdmEngineConfiguration#setEnableGroupMembershipCache(boolean)}).
+ * The membership and group entity managers invalidate the cache when memberships or groups change.
+ */
+public class GroupMembershipCache extends IdentityCache<List<Group>> {
+
+    public GroupMembershipCache(int maxSize) {
+        this(maxSize, -1, -1, null);
+    }
+
+    public GroupMembershipCache(int maxSize, long expirationTime, long refreshAheadTime, Supplier<ClockReader> clockReader) {
+        super("groupMembership", maxSize, expirationTime, refreshAheadTime, clockReader);
+    }
+
+    @Override
+    public void add(CommandContext commandContext, String userId, List<Group> groups, long stamp) {
+        super.add(commandContext, userId, Collections.unmodifiableList(new ArrayList<>(groups)), stamp);
+    }
+
+}
@@ -0,0 +1,429 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.persistence;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+import org.flowable.common.engine.impl.runtime.ClockReader;
+
+/**
+ * Concurrent cache for identity data (users, groups of a user, ...), used to avoid hitting the identity tables or LDAP system for every lookup.
+ * Reads never take a lock, only additions and evictions are serialized.
+ *
+ * The cache is bounded: when the maximum size is reached, the least recently used entry is evicted.
+ * The entries are kept in access order, so selecting the entry to evict takes constant time.
+ * Reads record their access in a buffer which is applied to the access order in batches, when the buffer is full or when an entry is added.
+ * Entries expire after the expiration time, which bounds how long changes done outside of this engine (e.g. by other nodes or in the LDAP system) stay invisible.
+ * With a refresh-ahead time, the first lookup of an entry that is about to expire gets a miss and reloads the entry,
+ * while the other lookups keep getting the cached entry until it is replaced. This avoids that all lookups of a frequently used entry miss at the same time.
+ *
+ * Changes done through the engine invalidate the cache directly and again when the transaction is completed,
+ * so that data fetched by concurrent transactions before the change was committed is not kept.
+ * A transaction that invalidated entries doesn't use the cache, as it would otherwise cache uncommitted changes.
+ * To detect invalidations that happened while data was fetched, take a stamp with {@link #getStamp()} before fetching
+ * and pass it to {@link #add(CommandContext, String, Object, long)}.
+ *
+ * Hits, misses, evictions and expirations are counted and can be followed with an {@link IdentityCacheListener}.
+ */
+public class IdentityCache<T> {
+
+    /** Used in the invalidated keys of a command context when all entries are invalidated */
+    protected static final String ALL_KEYS = "*";
+
+    protected static final int ACCESS_BUFFER_DRAIN_THRESHOLD = 16;
+    protected static final int MAX_ACCESS_BUFFER_SIZE = 1024;
+
+    protected final String name;
+    protected final int maxSize;
+    protected final Supplier<ClockReader> clockReader;
+    protected volatile long expirationTime;
+    protected volatile long refreshAheadTime;
+    protected volatile IdentityCacheListener cacheListener;
+
+    protected final ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+
+    // The access order and the access buffer are only used when the cache is bounded, the access order is guarded by the eviction lock.
+    // The access order can hold entries that were removed from the cache in the meantime, these are skipped and removed on eviction.
+    protected final LinkedHashMap<String, CacheEntry<T>> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+    protected final Queue<CacheEntry<T>> accessBuffer = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger accessBufferSize = new AtomicInteger();
+
+    /** Incremented on every invalidation, used to detect invalidations that happened while data was fetched */
+    protected final AtomicLong invalidationCount = new AtomicLong();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+    protected final LongAdder expirationCount = new LongAdder();
+
+    /**
+     * @param name the name of the cache, unique within an engine
+     * @param maxSize the maximum number of entries, zero or lower means no bound
+     * @param expirationTime the time in milliseconds after which entries expire, zero or lower means entries don't expire
+     * @param refreshAheadTime the time in milliseconds before the expiration in which an entry is refreshed, zero or lower means entries are not refreshed ahead
+     * @param clockReader the clock used for the expiration, the system time is used when null
+     */
+    public IdentityCache(String name, int maxSize, long expirationTime, long refreshAheadTime, Supplier<ClockReader> clockReader) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.expirationTime = expirationTime;
+        this.refreshAheadTime = refreshAheadTime;
+        this.clockReader = clockReader;
+    }
+
+    /**
+     * @return the cached value, or null if it isn't cached or needs to be refreshed
+     */
+    public T get(String key) {
+        CacheEntry<T> entry = cache.get(key);
+        if (entry != null) {
+            long age = getCurrentTime() - entry.timestamp;
+            if (expirationTime > 0 && age >= expirationTime) {
+                if (cache.remove(key, entry)) {
+                    expirationCount.increment();
+                    IdentityCacheListener listener = cacheListener;
+                    if (listener != null) {
+                        listener.cacheExpired(key);
+                        listener.cacheEviction(key);
+                    }
+                }
+
+            } else if (expirationTime > 0 && refreshAheadTime > 0 && age >= expirationTime - refreshAheadTime && entry.claimRefresh()) {
+                // The caller reloads the entry, all other callers keep getting the cached value in the meantime
+
+            } else {
+                hitCount.increment();
+                if (maxSize > 0) {
+                    recordAccess(entry);
+                }
+                IdentityCacheListener listener = cacheListener;
+                if (listener != null) {
+                    listener.cacheHit(key);
+                }
+                return entry.value;
+            }
+        }
+
+        missCount.increment();
+        IdentityCacheListener listener = cacheListener;
+        if (listener != null) {
+            listener.cacheMiss(key);
+        }
+        return null;
+    }
+
+    /**
+     * @return the cached value, or null if it isn't cached, needs to be refreshed or can't be used in the given command context
+     */
+    public T get(CommandContext commandContext, String key) {
+        if (isBypassed(commandContext)) {
+            return null;
+        }
+        return get(key);
+    }
+
+    /**
+     * @return the stamp to pass to {@link #add(CommandContext, String, Object, long)} for data that is fetched after calling this method
+     */
+    public long getStamp() {
+        return invalidationCount.get();
+    }
+
+    public void add(String key, T value) {
+        add(null, key, value, getStamp());
+    }
+
+    /**
+     * Caches a value, unless the cache was invalidated since the stamp was taken.
+     */
+    public void add(CommandContext commandContext, String key, T value, long stamp) {
+        if (isBypassed(commandContext)) {
+            return;
+        }
+
+        CacheEntry<T> entry = new CacheEntry<>(key, value, getCurrentTime());
+        cache.put(key, entry);
+        if (invalidationCount.get() != stamp) {
+            // invalidated while the value was fetched
+            cache.remove(key, entry);
+            return;
+        }
+
+        if (maxSize > 0) {
+            evictionLock.lock();
+            try {
+                drainAccessBuffer();
+                accessOrder.put(key, entry);
+                evict(entry);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Invalidates the value cached for the given key.
+     */
+    public void invalidate(CommandContext commandContext, String key) {
+        invalidationCount.incrementAndGet();
+        cache.remove(key);
+        registerInvalidation(commandContext, key);
+    }
+
+    /**
+     * Invalidates all cached values.
+     */
+    public void invalidateAll(CommandContext commandContext) {
+        invalidationCount.incrementAndGet();
+        cache.clear();
+        registerInvalidation(commandContext, ALL_KEYS);
+    }
+
+    public void clear() {
+        invalidationCount.incrementAndGet();
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    protected long getCurrentTime() {
+        ClockReader clock = clockReader != null ? clockReader.get() : null;
+        return clock != null ? clock.getCurrentTime().getTime() : System.currentTimeMillis();
+    }
+
+    /**
+     * Records a hit without blocking. Accesses are dropped when the buffer is full, which only makes the LRU order less precise.
+     */
+    protected void recordAccess(CacheEntry<T> entry) {
+        if (accessBufferSize.get() < MAX_ACCESS_BUFFER_SIZE) {
+            accessBuffer.add(entry);
+            if (accessBufferSize.incrementAndGet() >= ACCESS_BUFFER_DRAIN_THRESHOLD && evictionLock.tryLock()) {
+                try {
+                    drainAccessBuffer();
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the buffered accesses to the access order. Must be called while holding the eviction lock.
+     */
+    protected void drainAccessBuffer() {
+        CacheEntry<T> entry;
+        while ((entry = accessBuffer.poll()) != null) {
+            accessBufferSize.decrementAndGet();
+
+            // Getting the entry moves it to the most recently used position
+            accessOrder.get(entry.key);
+        }
+    }
+
+    /**
+     * Evicts the least recently used entries until the maximum size is respected again. The entry that was just added is never evicted.
+     * Must be called while holding the eviction lock.
+     */
+    protected void evict(CacheEntry<T> addedEntry) {
+        if (accessOrder.size() > 2 * maxSize) {
+            // Many entries were invalidated or expired since the last cleanup, which needs at least maxSize additions
+            accessOrder.values().removeIf(entry -> cache.get(entry.key) != entry);
+        }
+
+        Iterator<CacheEntry<T>> iterator = accessOrder.values().iterator();
+        while (cache.size() > maxSize && iterator.hasNext()) {
+            CacheEntry<T> entry = iterator.next();
+            if (entry == addedEntry) {
+                continue;
+            }
+
+            iterator.remove();
+            if (cache.remove(entry.key, entry)) {
+                evictionCount.increment();
+                IdentityCacheListener listener = cacheListener;
+                if (listener != null) {
+                    listener.cacheEviction(entry.key);
+                }
+            }
+        }
+    }
+
+    protected String getInvalidatedKeysAttribute() {
+        return "ctx.attribute.identityCache." + name + ".invalidatedKeys";
+    }
+
+    protected boolean isBypassed(CommandContext commandContext) {
+        return commandContext != null && commandContext.getAttribute(getInvalidatedKeysAttribute()) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void registerInvalidation(CommandContext commandContext, String key) {
+        if (commandContext == null) {
+            return;
+        }
+
+        Set<String> invalidatedKeys = (Set<String>) commandContext.getAttribute(getInvalidatedKeysAttribute());
+        if (invalidatedKeys == null) {
+            invalidatedKeys = new HashSet<>();
+            commandContext.addAttribute(getInvalidatedKeysAttribute(), invalidatedKeys);
+            commandContext.addCloseListener(new InvalidateIdentityCacheCloseListener(this));
+        }
+        invalidatedKeys.add(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void invalidateAfterTransaction(CommandContext commandContext) {
+        Set<String> invalidatedKeys = (Set<String>) commandContext.getAttribute(getInvalidatedKeysAttribute());
+        if (invalidatedKeys == null) {
+            return;
+        }
+
+        invalidationCount.incrementAndGet();
+        if (invalidatedKeys.contains(ALL_KEYS)) {
+            cache.clear();
+        } else {
+            for (String key : invalidatedKeys) {
+                cache.remove(key);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public void setExpirationTime(long expirationTime) {
+        this.expirationTime = expirationTime;
+    }
+
+    public long getRefreshAheadTime() {
+        return refreshAheadTime;
+    }
+
+    public void setRefreshAheadTime(long refreshAheadTime) {
+        this.refreshAheadTime = refreshAheadTime;
+    }
+
+    public IdentityCacheListener getCacheListener() {
+        return cacheListener;
+    }
+
+    public void setCacheListener(IdentityCacheListener cacheListener) {
+        this.cacheListener = cacheListener;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getExpirationCount() {
+        return expirationCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final String key;
+        protected final T value;
+        protected final long timestamp;
+        protected final AtomicBoolean refreshClaimed = new AtomicBoolean();
+
+        public CacheEntry(String key, T value, long timestamp) {
+            this.key = key;
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+
+        public boolean claimRefresh() {
+            return refreshClaimed.compareAndSet(false, true);
+        }
+
+    }
+
+    protected static class InvalidateIdentityCacheCloseListener implements CommandContextCloseListener {
+
+        protected final IdentityCache<?> identityCache;
+
+        public InvalidateIdentityCacheCloseListener(IdentityCache<?> identityCache) {
+            this.identityCache = identityCache;
+        }
+
+        @Override
+        public void closing(CommandContext commandContext) {
+        }
+
+        @Override
+        public void afterSessionsFlush(CommandContext commandContext) {
+        }
+
+        @Override
+        public void closed(CommandContext commandContext) {
+            identityCache.invalidateAfterTransaction(commandContext);
+        }
+
+        @Override
+        public void closeFailure(CommandContext commandContext) {
+            identityCache.invalidateAfterTransaction(commandContext);
+        }
+
+        @Override
+        public Integer order() {
+            return 100;
+        }
+
+        @Override
+        public boolean multipleAllowed() {
+            return true;
+        }
+    }
+
+}
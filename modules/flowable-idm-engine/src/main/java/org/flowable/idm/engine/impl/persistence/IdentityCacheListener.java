@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.persistence;
+
+/**
+ * Listener for the events of an {@link IdentityCache}, e.g. to track its usage.
+ */
+public interface IdentityCacheListener {
+
+    void cacheHit(String key);
+
+    void cacheMiss(String key);
+
+    void cacheEviction(String key);
+
+    void cacheExpired(String key);
+
+}
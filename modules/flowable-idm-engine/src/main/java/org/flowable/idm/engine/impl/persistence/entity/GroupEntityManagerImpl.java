@@ -16,13 +16,16 @@ package org.flowable.idm.engine.impl.persistence.entity;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.GroupQuery;
 import org.flowable.idm.api.event.FlowableIdmEventType;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.delegate.event.impl.FlowableIdmEventBuilder;
 import org.flowable.idm.engine.impl.GroupQueryImpl;
+import org.flowable.idm.engine.impl.persistence.GroupMembershipCache;
 import org.flowable.idm.engine.impl.persistence.entity.data.GroupDataManager;
+import org.flowable.idm.engine.impl.util.CommandContextUtil;
 
 /**
  * @author Tijs Rademakers
@@ -50,6 +53,7 @@ public class GroupEntityManagerImpl
 
         if (group != null) {
 
+            // also invalidates the group membership cache
             getMembershipEntityManager().deleteMembershipByGroupId(groupId);
             if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
                 getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(FlowableIdmEventType.MEMBERSHIPS_DELETED, groupId, null),
@@ -65,8 +69,20 @@ public class GroupEntityManagerImpl
         return new GroupQueryImpl(getCommandExecutor());
     }
 
+    @Override
+    public GroupEntity update(GroupEntity entity, boolean fireUpdateEvent) {
+        GroupMembershipCache groupMembershipCache = engineConfiguration.getGroupMembershipCache();
+        if (groupMembershipCache != null) {
+            groupMembershipCache.invalidateAll(CommandContextUtil.getCommandContext());
+        }
+        return super.update(entity, fireUpdateEvent);
+    }
+
     @Override
     public List<Group> findGroupByQueryCriteria(GroupQueryImpl query) {
+        if (engineConfiguration.getGroupMembershipCache() != null && query.isGroupMemberOnlyQuery()) {
+            return findGroupsByUser(query.getUserId());
+        }
         return dataManager.findGroupByQueryCriteria(query);
     }
 
@@ -77,7 +93,19 @@ public class GroupEntityManagerImpl
 
     @Override
     public List<Group> findGroupsByUser(String userId) {
-        return dataManager.findGroupsByUser(userId);
+        GroupMembershipCache groupMembershipCache = engineConfiguration.getGroupMembershipCache();
+        if (groupMembershipCache == null) {
+            return dataManager.findGroupsByUser(userId);
+        }
+
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        List<Group> groups = groupMembershipCache.get(commandContext, userId);
+        if (groups == null) {
+            long stamp = groupMembershipCache.getStamp();
+            groups = dataManager.findGroupsByUser(userId);
+            groupMembershipCache.add(commandContext, userId, groups, stamp);
+        }
+        return groups;
     }
 
     @Override
@@ -16,7 +16,9 @@ package org.flowable.idm.engine.impl.persistence.entity;
 import org.flowable.idm.api.event.FlowableIdmEventType;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.delegate.event.impl.FlowableIdmEventBuilder;
+import org.flowable.idm.engine.impl.persistence.GroupMembershipCache;
 import org.flowable.idm.engine.impl.persistence.entity.data.MembershipDataManager;
+import org.flowable.idm.engine.impl.util.CommandContextUtil;
 
 /**
  * @author Tom Baeyens
@@ -35,6 +37,7 @@ public class MembershipEntityManagerImpl
         membershipEntity.setUserId(userId);
         membershipEntity.setGroupId(groupId);
         insert(membershipEntity, false);
+        invalidateGroupMembershipCache(userId);
 
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(
@@ -45,6 +48,7 @@ public class MembershipEntityManagerImpl
     @Override
     public void deleteMembership(String userId, String groupId) {
         dataManager.deleteMembership(userId, groupId);
+        invalidateGroupMembershipCache(userId);
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(
                     FlowableIdmEventType.MEMBERSHIP_DELETED, groupId, userId), engineConfiguration.getEngineCfgKey());
@@ -54,11 +58,24 @@ public class MembershipEntityManagerImpl
     @Override
     public void deleteMembershipByGroupId(String groupId) {
         dataManager.deleteMembershipByGroupId(groupId);
+
+        GroupMembershipCache groupMembershipCache = engineConfiguration.getGroupMembershipCache();
+        if (groupMembershipCache != null) {
+            groupMembershipCache.invalidateAll(CommandContextUtil.getCommandContext());
+        }
     }
 
     @Override
     public void deleteMembershipByUserId(String userId) {
         dataManager.deleteMembershipByUserId(userId);
+        invalidateGroupMembershipCache(userId);
+    }
+
+    protected void invalidateGroupMembershipCache(String userId) {
+        GroupMembershipCache groupMembershipCache = engineConfiguration.getGroupMembershipCache();
+        if (groupMembershipCache != null) {
+            groupMembershipCache.invalidate(CommandContextUtil.getCommandContext(), userId);
+        }
     }
 
 }
@@ -40,6 +40,26 @@ public class UserEntityImpl extends AbstractIdmEngineEntity implements UserEntit
     public UserEntityImpl() {
     }
 
+    /**
+     * @return a copy of this user as it was fetched, which doesn't share any state (e.g. the loaded picture) with this user
+     */
+    public UserEntityImpl copy() {
+        UserEntityImpl copy = new UserEntityImpl();
+        copy.setId(id);
+        copy.setRevision(revision);
+        copy.firstName = firstName;
+        copy.lastName = lastName;
+        copy.displayName = displayName;
+        copy.email = email;
+        copy.password = password;
+        copy.tenantId = tenantId;
+        if (pictureByteArrayRef != null && pictureByteArrayRef.getId() != null) {
+            copy.pictureByteArrayRef = new ByteArrayRef(pictureByteArrayRef.getId());
+        }
+        copy.setOriginalPersistentState(copy.getPersistentState());
+        return copy;
+    }
+
     @Override
     public Object getPersistentState() {
         Map<String, Object> persistentState = new HashMap<>();
@@ -13,9 +13,11 @@
 
 package org.flowable.idm.engine.impl.persistence.entity;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.idm.api.PasswordEncoder;
 import org.flowable.idm.api.PasswordSalt;
 import org.flowable.idm.api.Picture;
@@ -23,7 +25,9 @@ import org.flowable.idm.api.User;
 import org.flowable.idm.api.UserQuery;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.impl.UserQueryImpl;
+import org.flowable.idm.engine.impl.persistence.IdentityCache;
 import org.flowable.idm.engine.impl.persistence.entity.data.UserDataManager;
+import org.flowable.idm.engine.impl.util.CommandContextUtil;
 
 /**
  * @author Tijs Rademakers
@@ -55,8 +59,15 @@ public class UserEntityManagerImpl
         super.update((UserEntity) updatedUser);
     }
 
+    @Override
+    public UserEntity update(UserEntity entity, boolean fireUpdateEvent) {
+        invalidateUserCache(entity.getId());
+        return super.update(entity, fireUpdateEvent);
+    }
+
     @Override
     public void delete(UserEntity userEntity) {
+        invalidateUserCache(userEntity.getId());
         super.delete(userEntity);
         deletePicture(userEntity);
     }
@@ -84,7 +95,24 @@ public class UserEntityManagerImpl
 
     @Override
     public List<User> findUserByQueryCriteria(UserQueryImpl query) {
-        return dataManager.findUserByQueryCriteria(query);
+        IdentityCache<User> userCache = engineConfiguration.getUserCache();
+        if (userCache == null || !query.isUserIdOnlyQuery()) {
+            return dataManager.findUserByQueryCriteria(query);
+        }
+
+        // The cached users are copies that are never handed out, every lookup gets its own copy that can be changed and saved
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        User user = userCache.get(commandContext, query.getId());
+        if (user != null) {
+            return Collections.singletonList(((UserEntityImpl) user).copy());
+        }
+
+        long stamp = userCache.getStamp();
+        List<User> users = dataManager.findUserByQueryCriteria(query);
+        if (users.size() == 1 && users.get(0) instanceof UserEntityImpl) {
+            userCache.add(commandContext, query.getId(), ((UserEntityImpl) users.get(0)).copy(), stamp);
+        }
+        return users;
     }
 
     @Override
@@ -97,6 +125,13 @@ public class UserEntityManagerImpl
         return new UserQueryImpl(getCommandExecutor());
     }
 
+    protected void invalidateUserCache(String userId) {
+        IdentityCache<User> userCache = engineConfiguration.getUserCache();
+        if (userCache != null && userId != null) {
+            userCache.invalidate(CommandContextUtil.getCommandContext(), userId);
+        }
+    }
+
     @Override
     public Boolean checkPassword(String userId, String password, PasswordEncoder passwordEncoder, PasswordSalt salt) {
         User user = null;
@@ -133,6 +168,7 @@ public class UserEntityManagerImpl
     public void setUserPicture(User user, Picture picture) {
         UserEntity userEntity = (UserEntity) user;
         userEntity.setPicture(picture);
+        invalidateUserCache(userEntity.getId());
         dataManager.update(userEntity);
     }
 
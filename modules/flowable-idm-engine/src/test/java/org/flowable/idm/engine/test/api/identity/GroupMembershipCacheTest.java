@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.test.api.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.persistence.GroupMembershipCache;
+import org.flowable.idm.engine.test.PluggableFlowableIdmTestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GroupMembershipCacheTest extends PluggableFlowableIdmTestCase {
+
+    protected GroupMembershipCache groupMembershipCache;
+
+    @BeforeEach
+    protected void setUp() {
+        groupMembershipCache = new GroupMembershipCache(10);
+        idmEngineConfiguration.setGroupMembershipCache(groupMembershipCache);
+
+        idmIdentityService.saveUser(idmIdentityService.newUser("kermit"));
+        idmIdentityService.saveUser(idmIdentityService.newUser("fozzie"));
+        createGroup("muppets", "Muppet show characters");
+        createGroup("frogs", "Famous frogs");
+        idmIdentityService.createMembership("kermit", "muppets");
+        idmIdentityService.createMembership("fozzie", "muppets");
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        idmEngineConfiguration.setGroupMembershipCache(null);
+
+        idmIdentityService.deleteUser("kermit");
+        idmIdentityService.deleteUser("fozzie");
+        idmIdentityService.deleteGroup("muppets");
+        idmIdentityService.deleteGroup("frogs");
+    }
+
+    @Test
+    public void testGroupsOfUserAreCached() {
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getId)
+                .containsExactly("muppets");
+        assertThat(groupMembershipCache.size()).isEqualTo(1);
+
+        // Queries with other criteria are not answered from the cache
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").groupName("Famous frogs").list()).isEmpty();
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").count()).isEqualTo(1);
+        assertThat(groupMembershipCache.size()).isEqualTo(1);
+
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getId)
+                .containsExactly("muppets");
+    }
+
+    @Test
+    public void testMembershipChangesInvalidateCache() {
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list()).hasSize(1);
+        assertThat(idmIdentityService.createGroupQuery().groupMember("fozzie").list()).hasSize(1);
+        assertThat(groupMembershipCache.size()).isEqualTo(2);
+
+        idmIdentityService.createMembership("kermit", "frogs");
+        assertThat(groupMembershipCache.size()).isEqualTo(1);
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getId)
+                .containsExactlyInAnyOrder("muppets", "frogs");
+
+        idmIdentityService.deleteMembership("kermit", "frogs");
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getId)
+                .containsExactly("muppets");
+    }
+
+    @Test
+    public void testGroupChangesInvalidateCache() {
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getName)
+                .containsExactly("Muppet show characters");
+
+        Group group = idmIdentityService.createGroupQuery().groupId("muppets").singleResult();
+        group.setName("Muppets");
+        idmIdentityService.saveGroup(group);
+        assertThat(groupMembershipCache.size()).isZero();
+
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list())
+                .extracting(Group::getName)
+                .containsExactly("Muppets");
+    }
+
+    protected void createGroup(String id, String name) {
+        Group group = idmIdentityService.newGroup(id);
+        group.setName(name);
+        idmIdentityService.saveGroup(group);
+    }
+
+}
@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.test.api.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.util.DefaultClockImpl;
+import org.flowable.idm.engine.impl.persistence.IdentityCache;
+import org.junit.jupiter.api.Test;
+
+public class IdentityCacheTest {
+
+    protected Date currentTime = new Date(0);
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        IdentityCache<String> cache = createCache(2, -1, -1);
+        cache.add("kermit", "frog");
+        cache.add("fozzie", "bear");
+        assertThat(cache.get("kermit")).isEqualTo("frog");
+
+        cache.add("gonzo", "whatever");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("fozzie")).isNull();
+        assertThat(cache.get("kermit")).isEqualTo("frog");
+        assertThat(cache.get("gonzo")).isEqualTo("whatever");
+
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(3);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitRatio()).isEqualTo(0.75);
+    }
+
+    @Test
+    public void testInvalidatedEntriesAreNotEvicted() {
+        IdentityCache<String> cache = createCache(2, -1, -1);
+        cache.add("kermit", "frog");
+        cache.add("fozzie", "bear");
+        cache.invalidate(null, "kermit");
+        cache.add("kermit", "the frog");
+
+        cache.add("gonzo", "whatever");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("fozzie")).isNull();
+        assertThat(cache.get("kermit")).isEqualTo("the frog");
+        assertThat(cache.get("gonzo")).isEqualTo("whatever");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+        for (int i = 0; i < 10; i++) {
+            cache.invalidate(null, "kermit");
+            cache.add("kermit", "frog " + i);
+        }
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("gonzo")).isEqualTo("whatever");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEntriesExpire() {
+        IdentityCache<String> cache = createCache(10, 1000, -1);
+        cache.add("kermit", "frog");
+
+        currentTime = new Date(999);
+        assertThat(cache.get("kermit")).isEqualTo("frog");
+
+        currentTime = new Date(1000);
+        assertThat(cache.get("kermit")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getExpirationCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEntriesAreRefreshedAhead() {
+        IdentityCache<String> cache = createCache(10, 1000, 200);
+        cache.add("kermit", "frog");
+
+        currentTime = new Date(800);
+
+        // The first lookup refreshes the entry, the other lookups keep getting the cached value
+        assertThat(cache.get("kermit")).isNull();
+        assertThat(cache.get("kermit")).isEqualTo("frog");
+
+        cache.add("kermit", "the frog");
+        currentTime = new Date(1500);
+        assertThat(cache.get("kermit")).isEqualTo("the frog");
+    }
+
+    @Test
+    public void testStaleValueIsNotAdded() {
+        IdentityCache<String> cache = createCache(10, -1, -1);
+
+        long stamp = cache.getStamp();
+        cache.invalidate(null, "kermit");
+        cache.add(null, "kermit", "frog", stamp);
+        assertThat(cache.get("kermit")).isNull();
+
+        cache.add(null, "kermit", "frog", cache.getStamp());
+        assertThat(cache.get("kermit")).isEqualTo("frog");
+    }
+
+    protected IdentityCache<String> createCache(int maxSize, long expirationTime, long refreshAheadTime) {
+        return new IdentityCache<>("test", maxSize, expirationTime, refreshAheadTime, () -> new DefaultClockImpl() {
+
+            @Override
+            public Date getCurrentTime() {
+                return currentTime;
+            }
+        });
+    }
+
+}
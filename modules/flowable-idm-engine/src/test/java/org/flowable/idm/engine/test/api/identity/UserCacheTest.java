@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.test.api.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.idm.api.User;
+import org.flowable.idm.engine.impl.persistence.IdentityCache;
+import org.flowable.idm.engine.test.PluggableFlowableIdmTestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UserCacheTest extends PluggableFlowableIdmTestCase {
+
+    protected IdentityCache<User> userCache;
+
+    @BeforeEach
+    protected void setUp() {
+        userCache = new IdentityCache<>("user", 10, -1, -1, null);
+        idmEngineConfiguration.setUserCache(userCache);
+
+        User user = idmIdentityService.newUser("kermit");
+        user.setFirstName("Kermit");
+        user.setLastName("The Frog");
+        idmIdentityService.saveUser(user);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        idmEngineConfiguration.setUserCache(null);
+
+        if (idmIdentityService.createUserQuery().userId("kermit").count() > 0) {
+            idmIdentityService.deleteUser("kermit");
+        }
+    }
+
+    @Test
+    public void testUserQueryByIdIsCached() {
+        User user = idmIdentityService.createUserQuery().userId("kermit").singleResult();
+        assertThat(user.getFirstName()).isEqualTo("Kermit");
+        assertThat(userCache.getMissCount()).isEqualTo(1);
+
+        User cachedUser = idmIdentityService.createUserQuery().userId("kermit").singleResult();
+        assertThat(cachedUser.getFirstName()).isEqualTo("Kermit");
+        assertThat(userCache.getHitCount()).isEqualTo(1);
+
+        // Queries with other criteria are not cached
+        assertThat(idmIdentityService.createUserQuery().userId("kermit").userFirstName("Kermit").singleResult()).isNotNull();
+        assertThat(userCache.getHitCount()).isEqualTo(1);
+        assertThat(userCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCachedUserIsNotShared() {
+        User user = idmIdentityService.createUserQuery().userId("kermit").singleResult();
+        user.setFirstName("Changed");
+
+        User cachedUser = idmIdentityService.createUserQuery().userId("kermit").singleResult();
+        assertThat(userCache.getHitCount()).isEqualTo(1);
+        assertThat(cachedUser).isNotSameAs(user);
+        assertThat(cachedUser.getFirstName()).isEqualTo("Kermit");
+
+        // Changing a cached user doesn't change the cache either
+        cachedUser.setLastName("Changed");
+        assertThat(idmIdentityService.createUserQuery().userId("kermit").singleResult().getLastName()).isEqualTo("The Frog");
+    }
+
+    @Test
+    public void testSavedUserIsInvalidated() {
+        idmIdentityService.createUserQuery().userId("kermit").singleResult();
+        User user = idmIdentityService.createUserQuery().userId("kermit").singleResult();
+        assertThat(userCache.getHitCount()).isEqualTo(1);
+
+        // A user that was returned by the cache can be saved
+        user.setFirstName("Kermit the");
+        idmIdentityService.saveUser(user);
+        assertThat(userCache.size()).isZero();
+
+        user = idmIdentityService.createUserQuery().userId("kermit").singleResult();
+        assertThat(user.getFirstName()).isEqualTo("Kermit the");
+        assertThat(userCache.getMissCount()).isEqualTo(2);
+
+        user.setEmail("kermit@muppets.com");
+        idmIdentityService.saveUser(user);
+        assertThat(idmIdentityService.createUserQuery().userId("kermit").singleResult().getEmail()).isEqualTo("kermit@muppets.com");
+    }
+
+    @Test
+    public void testDeletedUserIsInvalidated() {
+        assertThat(idmIdentityService.createUserQuery().userId("kermit").singleResult()).isNotNull();
+        assertThat(userCache.size()).isEqualTo(1);
+
+        idmIdentityService.deleteUser("kermit");
+        assertThat(userCache.size()).isZero();
+        assertThat(idmIdentityService.createUserQuery().userId("kermit").singleResult()).isNull();
+    }
+
+}
@@ -23,15 +23,19 @@ import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.EngineMetricsListener;
 import org.flowable.job.service.impl.HistoryJobServiceImpl;
 import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobNotifier;
 import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
 import org.flowable.job.service.impl.asyncexecutor.DefaultJobManager;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadCodec;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadSerializer;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManagerImpl;
@@ -108,8 +112,12 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected InternalJobParentStateResolver jobParentStateResolver;
 
     protected AsyncExecutor asyncExecutor;
+    protected AsyncJobNotifier asyncJobNotifier;
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
+    protected boolean skipLockedJobAcquisitionEnabled;
+    protected volatile Boolean skipLockedJobAcquisitionSupported;
+    protected EngineMetricsListener metricsListener;
     
     protected String jobExecutionScope;
     protected Map<String, JobHandler> jobHandlers;
@@ -133,6 +141,12 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected boolean asyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+
+    /**
+     * The codec used to encode the history json of new async history jobs, the history json is stored as (optionally gzip compressed) json text when not set.
+     */
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
+    protected AsyncHistoryPayloadSerializer asyncHistoryPayloadSerializer;
     
     public JobServiceConfiguration(String engineName) {
         super(engineName);
@@ -145,6 +159,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         initJobManager();
         initDataManagers();
         initEntityManagers();
+        initAsyncHistoryPayloadSerializer();
     }
 
     @Override
@@ -177,6 +192,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     // Data managers
     ///////////////////////////////////////////////////////////
 
+    public void initAsyncHistoryPayloadSerializer() {
+        if (asyncHistoryPayloadSerializer == null) {
+            asyncHistoryPayloadSerializer = new AsyncHistoryPayloadSerializer();
+        }
+        if (asyncHistoryPayloadCodec != null) {
+            asyncHistoryPayloadSerializer.addCodec(asyncHistoryPayloadCodec);
+        }
+    }
+
     public void initDataManagers() {
         if (jobDataManager == null) {
             jobDataManager = new MybatisJobDataManager(this);
@@ -557,6 +581,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public EngineMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    public JobServiceConfiguration setMetricsListener(EngineMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+        return this;
+    }
+
     public int getAsyncExecutorResetExpiredJobsMaxTimeout() {
         return asyncExecutorResetExpiredJobsMaxTimeout;
     }
@@ -603,6 +636,33 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return jobParentStateResolver;
     }
     
+    public AsyncJobNotifier getAsyncJobNotifier() {
+        return asyncJobNotifier;
+    }
+
+    public JobServiceConfiguration setAsyncJobNotifier(AsyncJobNotifier asyncJobNotifier) {
+        this.asyncJobNotifier = asyncJobNotifier;
+        return this;
+    }
+
+    public boolean isSkipLockedJobAcquisitionEnabled() {
+        return skipLockedJobAcquisitionEnabled;
+    }
+
+    public JobServiceConfiguration setSkipLockedJobAcquisitionEnabled(boolean skipLockedJobAcquisitionEnabled) {
+        this.skipLockedJobAcquisitionEnabled = skipLockedJobAcquisitionEnabled;
+        return this;
+    }
+
+    public Boolean getSkipLockedJobAcquisitionSupported() {
+        return skipLockedJobAcquisitionSupported;
+    }
+
+    public JobServiceConfiguration setSkipLockedJobAcquisitionSupported(Boolean skipLockedJobAcquisitionSupported) {
+        this.skipLockedJobAcquisitionSupported = skipLockedJobAcquisitionSupported;
+        return this;
+    }
+
     public List<String> getEnabledJobCategories() {
         return enabledJobCategories;
     }
@@ -666,5 +726,21 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     public void setAsyncHistoryJsonGroupingThreshold(int asyncHistoryJsonGroupingThreshold) {
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
+
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public void setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+    }
+
+    public AsyncHistoryPayloadSerializer getAsyncHistoryPayloadSerializer() {
+        return asyncHistoryPayloadSerializer;
+    }
+
+    public void setAsyncHistoryPayloadSerializer(AsyncHistoryPayloadSerializer asyncHistoryPayloadSerializer) {
+        this.asyncHistoryPayloadSerializer = asyncHistoryPayloadSerializer;
+    }
     
 }
@@ -56,6 +56,17 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultQueueSizeFullWaitTime;
 
+    // Adaptive async job acquisition: see AcquireAsyncJobsDueRunnable
+    protected boolean adaptiveAsyncJobAcquisitionEnabled;
+    protected int minAsyncJobAcquireWaitTimeInMillis = 100;
+    protected Runnable asyncJobNotificationListener;
+
+    // Timer job lookahead: see TimerJobWheelRunnable
+    protected long timerJobLookaheadInMillis;
+    protected int timerJobWheelTickInMillis = 100;
+    protected int timerJobWheelCapacity = 1000;
+    protected TimerJobWheelRunnable timerJobWheelRunnable;
+
     protected String lockOwner = UUID.randomUUID().toString();
     protected int timerLockTimeInMillis = 5 * 60 * 1000;
     protected int asyncJobLockTimeInMillis = 5 * 60 * 1000;
@@ -117,8 +128,34 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         initializeJobEntityManager();
         initializeRunnables();
         startAdditionalComponents();
+        registerAsyncJobNotificationListener();
         executeTemporaryJobs();
     }
+
+    protected void registerAsyncJobNotificationListener() {
+        AsyncJobNotifier asyncJobNotifier = jobServiceConfiguration.getAsyncJobNotifier();
+        if (asyncJobNotifier != null && asyncJobsDueRunnable != null && asyncJobNotificationListener == null) {
+            asyncJobNotificationListener = this::wakeUpAsyncJobAcquisition;
+            asyncJobNotifier.addListener(asyncJobNotificationListener);
+        }
+    }
+
+    protected void unregisterAsyncJobNotificationListener() {
+        if (asyncJobNotificationListener != null) {
+            jobServiceConfiguration.getAsyncJobNotifier().removeListener(asyncJobNotificationListener);
+            asyncJobNotificationListener = null;
+        }
+    }
+
+    /**
+     * Makes the async job acquisition thread acquire jobs immediately, e.g. because another node notified that new jobs were created.
+     */
+    public void wakeUpAsyncJobAcquisition() {
+        AcquireAsyncJobsDueRunnable runnable = asyncJobsDueRunnable;
+        if (runnable != null) {
+            runnable.wakeUp();
+        }
+    }
     
     protected void initializeJobEntityManager() {
         if (jobEntityManager == null) {
@@ -131,6 +168,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             timerJobRunnable = new AcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager());
         }
 
+        if (timerRunnableNeeded && timerJobLookaheadInMillis > 0 && timerJobWheelRunnable == null) {
+            timerJobWheelRunnable = new TimerJobWheelRunnable(this, jobServiceConfiguration.getJobManager(),
+                    timerJobLookaheadInMillis, timerJobWheelTickInMillis, timerJobWheelCapacity);
+        }
+        if (timerJobRunnable != null && timerJobRunnable.getTimerJobWheelRunnable() == null) {
+            timerJobRunnable.setTimerJobWheelRunnable(timerJobWheelRunnable);
+        }
+
         JobInfoEntityManager<? extends JobInfoEntity> jobEntityManagerToUse = jobEntityManager != null
                 ? jobEntityManager : jobServiceConfiguration.getJobEntityManager();
 
@@ -144,6 +189,8 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             String acquireJobsRunnableName = acquireRunnableThreadName != null ?
                     acquireRunnableThreadName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-acquire-async-jobs";
             asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse);
+            asyncJobsDueRunnable.setAdaptiveWaitTimeEnabled(adaptiveAsyncJobAcquisitionEnabled);
+            asyncJobsDueRunnable.setMinWaitTimeInMillis(minAsyncJobAcquireWaitTimeInMillis);
         }
     }
 
@@ -166,6 +213,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         }
         LOGGER.info("Shutting down the async job executor [{}].", getClass().getName());
 
+        unregisterAsyncJobNotificationListener();
         stopRunnables();
         shutdownAdditionalComponents();
 
@@ -182,8 +230,12 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         if (resetExpiredJobsRunnable != null) {
             resetExpiredJobsRunnable.stop();
         }
+        if (timerJobWheelRunnable != null) {
+            timerJobWheelRunnable.stop();
+        }
 
         timerJobRunnable = null;
+        timerJobWheelRunnable = null;
         asyncJobsDueRunnable = null;
         resetExpiredJobsRunnable = null;
     }
@@ -308,6 +360,53 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.defaultQueueSizeFullWaitTime = defaultQueueSizeFullWaitTime;
     }
 
+    public boolean isAdaptiveAsyncJobAcquisitionEnabled() {
+        return adaptiveAsyncJobAcquisitionEnabled;
+    }
+
+    public void setAdaptiveAsyncJobAcquisitionEnabled(boolean adaptiveAsyncJobAcquisitionEnabled) {
+        this.adaptiveAsyncJobAcquisitionEnabled = adaptiveAsyncJobAcquisitionEnabled;
+    }
+
+    public int getMinAsyncJobAcquireWaitTimeInMillis() {
+        return minAsyncJobAcquireWaitTimeInMillis;
+    }
+
+    public void setMinAsyncJobAcquireWaitTimeInMillis(int minAsyncJobAcquireWaitTimeInMillis) {
+        this.minAsyncJobAcquireWaitTimeInMillis = minAsyncJobAcquireWaitTimeInMillis;
+    }
+
+    public long getTimerJobLookaheadInMillis() {
+        return timerJobLookaheadInMillis;
+    }
+
+    /**
+     * Timer jobs that are due within the lookahead time are acquired ahead and moved to the executable jobs at their due time,
+     * with a precision of {@link #setTimerJobWheelTickInMillis(int)}. Zero (the default) only acquires timer jobs that are due.
+     */
+    public void setTimerJobLookaheadInMillis(long timerJobLookaheadInMillis) {
+        this.timerJobLookaheadInMillis = timerJobLookaheadInMillis;
+    }
+
+    public int getTimerJobWheelTickInMillis() {
+        return timerJobWheelTickInMillis;
+    }
+
+    public void setTimerJobWheelTickInMillis(int timerJobWheelTickInMillis) {
+        this.timerJobWheelTickInMillis = timerJobWheelTickInMillis;
+    }
+
+    public int getTimerJobWheelCapacity() {
+        return timerJobWheelCapacity;
+    }
+
+    /**
+     * The maximum number of timer jobs acquired ahead of their due time. When reached, only timer jobs that are due are acquired.
+     */
+    public void setTimerJobWheelCapacity(int timerJobWheelCapacity) {
+        this.timerJobWheelCapacity = timerJobWheelCapacity;
+    }
+
     public void setAsyncJobsDueRunnable(AcquireAsyncJobsDueRunnable asyncJobsDueRunnable) {
         this.asyncJobsDueRunnable = asyncJobsDueRunnable;
     }
@@ -382,6 +481,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         return timerJobRunnable;
     }
 
+    public TimerJobWheelRunnable getTimerJobWheelRunnable() {
+        return timerJobWheelRunnable;
+    }
+
+    public void setTimerJobWheelRunnable(TimerJobWheelRunnable timerJobWheelRunnable) {
+        this.timerJobWheelRunnable = timerJobWheelRunnable;
+    }
+
     public AcquireAsyncJobsDueRunnable getAsyncJobsDueRunnable() {
         return asyncJobsDueRunnable;
     }
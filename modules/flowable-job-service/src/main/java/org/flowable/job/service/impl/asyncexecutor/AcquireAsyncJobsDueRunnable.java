@@ -18,6 +18,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.EngineMetricsListener;
 import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
@@ -37,9 +38,19 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
 
     protected volatile boolean isInterrupted;
+    protected volatile boolean isWakeUpRequested;
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
+    /**
+     * When enabled, the wait time between acquisitions that don't fill up a complete acquisition grows from the minimum wait time
+     * while no jobs are found, up to the default async job acquire wait time of the async executor.
+     * As soon as jobs are found again (or a wake up is received), the minimum wait time is used again.
+     */
+    protected boolean adaptiveWaitTimeEnabled;
+    protected long minWaitTimeInMillis = 100L;
+    protected volatile long currentIdleWaitTimeInMillis;
+
     public AcquireAsyncJobsDueRunnable(String name, AsyncExecutor asyncExecutor, 
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.name = name;
@@ -81,8 +92,14 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         try {
+            long acquisitionStart = System.nanoTime();
             AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
 
+            EngineMetricsListener metricsListener = asyncExecutor.getJobServiceConfiguration().getMetricsListener();
+            if (metricsListener != null) {
+                metricsListener.jobsAcquired(EngineMetricsListener.ACQUISITION_TYPE_ASYNC_JOBS, acquiredJobs.size(), System.nanoTime() - acquisitionStart);
+            }
+
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
 
             LOGGER.debug("Jobs acquired: {}, rejected: {}, for engine {}", acquiredJobs.size(), rejectedJobs.size(), asyncExecutor.getJobServiceConfiguration().getEngineName());
@@ -95,6 +112,8 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 return 0L;
             }
 
+            return determineWaitTimeAfterAcquisition(acquiredJobs.size());
+
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Optimistic locking exception during async job acquisition. If you have multiple async executors running against the same database, this exception means that this thread tried to acquire a due async job, which already was acquired by another async executor acquisition thread.This is expected behavior in a clustered environment. You can ignore this message if you indeed have multiple async executor acquisition threads running against the same database. for engine {}. Exception message: {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), optimisticLockingException.getMessage());
@@ -106,6 +125,23 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
+    protected long determineWaitTimeAfterAcquisition(int nrOfAcquiredJobs) {
+        long defaultWaitTime = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+        if (!adaptiveWaitTimeEnabled) {
+            return defaultWaitTime;
+        }
+
+        if (nrOfAcquiredJobs > 0 || currentIdleWaitTimeInMillis <= 0) {
+            currentIdleWaitTimeInMillis = minWaitTimeInMillis;
+        } else {
+            // No jobs found: back off exponentially
+            currentIdleWaitTimeInMillis = currentIdleWaitTimeInMillis * 2;
+        }
+
+        currentIdleWaitTimeInMillis = Math.min(currentIdleWaitTimeInMillis, defaultWaitTime);
+        return currentIdleWaitTimeInMillis;
+    }
+
     protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
         List<JobInfoEntity> rejected = new ArrayList<>();
         for (JobInfoEntity job : acquiredJobs.getJobs()) {
@@ -117,6 +153,19 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return rejected;
     }
 
+    /**
+     * Wakes up the acquisition thread when it is waiting, or makes it skip its next wait when it is acquiring jobs.
+     */
+    public void wakeUp() {
+        synchronized (MONITOR) {
+            isWakeUpRequested = true;
+            currentIdleWaitTimeInMillis = 0L;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -133,10 +182,11 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                     LOGGER.debug("async job acquisition for engine {}, thread sleeping for {} millis", asyncExecutor.getJobServiceConfiguration().getEngineName(), millisToWait);
                 }
                 synchronized (MONITOR) {
-                    if (!isInterrupted) {
+                    if (!isInterrupted && !isWakeUpRequested) {
                         isWaiting.set(true);
                         MONITOR.wait(millisToWait);
                     }
+                    isWakeUpRequested = false;
                 }
 
                 if (LOGGER.isDebugEnabled()) {
@@ -152,4 +202,20 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         }
     }
 
+    public boolean isAdaptiveWaitTimeEnabled() {
+        return adaptiveWaitTimeEnabled;
+    }
+
+    public void setAdaptiveWaitTimeEnabled(boolean adaptiveWaitTimeEnabled) {
+        this.adaptiveWaitTimeEnabled = adaptiveWaitTimeEnabled;
+    }
+
+    public long getMinWaitTimeInMillis() {
+        return minWaitTimeInMillis;
+    }
+
+    public void setMinWaitTimeInMillis(long minWaitTimeInMillis) {
+        this.minWaitTimeInMillis = minWaitTimeInMillis;
+    }
+
 }
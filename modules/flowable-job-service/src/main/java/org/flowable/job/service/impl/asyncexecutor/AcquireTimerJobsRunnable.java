@@ -12,12 +12,15 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.EngineMetricsListener;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.job.service.impl.cmd.MoveTimerJobsToExecutableJobsCmd;
 import org.flowable.job.service.impl.cmd.UnlockTimerJobsCmd;
@@ -35,6 +38,7 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected final AsyncExecutor asyncExecutor;
     protected final JobManager jobManager;
+    protected TimerJobWheelRunnable timerJobWheelRunnable;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -58,12 +62,18 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
             Collection<TimerJobEntity> timerJobs = Collections.emptyList();
             try {
-                AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+                long acquisitionStart = System.nanoTime();
+                AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, getLookaheadInMillis()));
+
+                EngineMetricsListener metricsListener = asyncExecutor.getJobServiceConfiguration().getMetricsListener();
+                if (metricsListener != null) {
+                    metricsListener.jobsAcquired(EngineMetricsListener.ACQUISITION_TYPE_TIMER_JOBS, acquiredJobs.size(), System.nanoTime() - acquisitionStart);
+                }
 
                 timerJobs = acquiredJobs.getJobs();
 
                 if (!timerJobs.isEmpty()) {
-                    commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(jobManager, timerJobs));
+                    moveOrScheduleTimerJobs(commandExecutor, timerJobs);
                 }
 
                 // if all jobs were executed
@@ -118,6 +128,39 @@ public class AcquireTimerJobsRunnable implements Runnable {
         LOGGER.info("stopped async job due acquisition");
     }
 
+    protected long getLookaheadInMillis() {
+        if (timerJobWheelRunnable != null && timerJobWheelRunnable.hasCapacity()) {
+            return timerJobWheelRunnable.getLookaheadInMillis();
+        }
+        return 0;
+    }
+
+    protected void moveOrScheduleTimerJobs(CommandExecutor commandExecutor, Collection<TimerJobEntity> timerJobs) {
+        if (timerJobWheelRunnable == null) {
+            commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(jobManager, timerJobs));
+            return;
+        }
+
+        // Timer jobs acquired before their due time are moved by the timer wheel
+        long now = asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+        List<TimerJobEntity> dueTimerJobs = new ArrayList<>(timerJobs.size());
+        List<TimerJobEntity> futureTimerJobs = new ArrayList<>();
+        for (TimerJobEntity timerJob : timerJobs) {
+            if (timerJob.getDuedate() != null && timerJob.getDuedate().getTime() > now) {
+                futureTimerJobs.add(timerJob);
+            } else {
+                dueTimerJobs.add(timerJob);
+            }
+        }
+
+        if (!dueTimerJobs.isEmpty()) {
+            commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(jobManager, dueTimerJobs));
+        }
+        if (!futureTimerJobs.isEmpty()) {
+            timerJobWheelRunnable.schedule(futureTimerJobs);
+        }
+    }
+
     protected void unlockTimerJobs(CommandExecutor commandExecutor, Collection<TimerJobEntity> timerJobs) {
         try {
             if (!timerJobs.isEmpty()) {
@@ -146,4 +189,12 @@ public class AcquireTimerJobsRunnable implements Runnable {
     public void setMillisToWait(long millisToWait) {
         this.millisToWait = millisToWait;
     }
+
+    public TimerJobWheelRunnable getTimerJobWheelRunnable() {
+        return timerJobWheelRunnable;
+    }
+
+    public void setTimerJobWheelRunnable(TimerJobWheelRunnable timerJobWheelRunnable) {
+        this.timerJobWheelRunnable = timerJobWheelRunnable;
+    }
 }
@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * Propagates the fact that new async jobs are available to the async executors of all nodes,
+ * so their acquisition thread can wake up immediately instead of waiting for the next acquisition cycle.
+ *
+ * Notifications are only an optimization: the acquisition threads keep polling, so a lost notification
+ * only delays the job until the next acquisition.
+ */
+public interface AsyncJobNotifier {
+
+    /**
+     * Notifies all registered listeners, on this node and on other nodes, that new async jobs are available.
+     * Called after the transaction that created the jobs has been committed.
+     */
+    void notifyJobsAvailable();
+
+    /**
+     * Registers a listener that is invoked when new async jobs are available.
+     * The listener is invoked on a notification thread and should return quickly.
+     */
+    void addListener(Runnable listener);
+
+    void removeListener(Runnable listener);
+
+}
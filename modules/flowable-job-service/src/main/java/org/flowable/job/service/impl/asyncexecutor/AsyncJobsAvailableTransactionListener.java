@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Notifies the {@link AsyncJobNotifier} once the transaction that created async jobs, which were not handed to the local async executor, is committed.
+ */
+public class AsyncJobsAvailableTransactionListener implements TransactionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncJobsAvailableTransactionListener.class);
+
+    protected AsyncJobNotifier asyncJobNotifier;
+
+    public AsyncJobsAvailableTransactionListener(AsyncJobNotifier asyncJobNotifier) {
+        this.asyncJobNotifier = asyncJobNotifier;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        try {
+            asyncJobNotifier.notifyJobsAvailable();
+        } catch (RuntimeException e) {
+            // The transaction is already committed and the job will be picked up by the regular acquisition
+            LOGGER.warn("Could not notify that new async jobs are available", e);
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Acquires history jobs and offers them in batches to the {@link CoalescingAsyncHistoryJobExecutor}.
+ */
+public class CoalescingAcquireAsyncHistoryJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+    protected final CoalescingAsyncHistoryJobExecutor coalescingAsyncExecutor;
+
+    public CoalescingAcquireAsyncHistoryJobsDueRunnable(String name, CoalescingAsyncHistoryJobExecutor asyncExecutor,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        super(name, asyncExecutor, jobEntityManager);
+        this.coalescingAsyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
+        return coalescingAsyncExecutor.executeAsyncHistoryJobs(new ArrayList<>(acquiredJobs.getJobs()));
+    }
+
+}
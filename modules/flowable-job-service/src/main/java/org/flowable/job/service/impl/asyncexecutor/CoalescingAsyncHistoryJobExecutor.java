@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+
+/**
+ * Async history executor that executes the acquired history jobs in batches instead of one by one.
+ *
+ * All jobs of a batch are executed in one transaction (see {@link ExecuteAsyncHistoryJobBatchRunnable}):
+ * the historic entities they reference are prefetched with one query per entity type,
+ * the changes of multiple jobs to the same historic entity are coalesced in the entity cache,
+ * and the resulting inserts and updates are flushed in bulk.
+ * This reduces the number of round trips to the database considerably when a lot of history jobs are created,
+ * e.g. when the start, update and end of an activity are in different history jobs.
+ */
+public class CoalescingAsyncHistoryJobExecutor extends DefaultAsyncHistoryJobExecutor {
+
+    public static final int DEFAULT_HISTORY_JOB_BATCH_SIZE = 25;
+    public static final int DEFAULT_MAX_HISTORY_JOBS_DUE_PER_ACQUISITION = 100;
+
+    /**
+     * The maximum number of history jobs that are executed in one transaction.
+     */
+    protected int historyJobBatchSize = DEFAULT_HISTORY_JOB_BATCH_SIZE;
+
+    public CoalescingAsyncHistoryJobExecutor() {
+        setMaxAsyncJobsDuePerAcquisition(DEFAULT_MAX_HISTORY_JOBS_DUE_PER_ACQUISITION);
+    }
+
+    @Override
+    protected void initializeRunnables() {
+        if (!isMessageQueueMode && asyncJobsDueRunnable == null) {
+            String acquireJobsRunnableName = acquireRunnableThreadName != null ?
+                    acquireRunnableThreadName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-acquire-async-jobs";
+            asyncJobsDueRunnable = new CoalescingAcquireAsyncHistoryJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManager);
+            asyncJobsDueRunnable.setAdaptiveWaitTimeEnabled(adaptiveAsyncJobAcquisitionEnabled);
+            asyncJobsDueRunnable.setMinWaitTimeInMillis(minAsyncJobAcquireWaitTimeInMillis);
+        }
+
+        super.initializeRunnables();
+    }
+
+    /**
+     * Executes the given history jobs in batches of at most {@link #getHistoryJobBatchSize()} jobs.
+     *
+     * @return the jobs that were rejected because the queue of the task executor is full
+     */
+    public List<JobInfoEntity> executeAsyncHistoryJobs(List<JobInfoEntity> jobs) {
+        if (jobs.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        if (isMessageQueueMode) {
+            // When running with a message queue based job executor, the jobs are not executed here.
+            return Collections.emptyList();
+        }
+
+        if (!isActive) {
+            temporaryJobQueue.addAll(jobs);
+            return Collections.emptyList();
+        }
+
+        List<JobInfoEntity> rejectedJobs = new ArrayList<>();
+        for (int fromIndex = 0; fromIndex < jobs.size(); fromIndex += historyJobBatchSize) {
+            List<JobInfoEntity> batch = new ArrayList<>(jobs.subList(fromIndex, Math.min(fromIndex + historyJobBatchSize, jobs.size())));
+            if (!executeAsyncHistoryJobBatch(batch)) {
+                rejectedJobs.addAll(batch);
+            }
+        }
+        return rejectedJobs;
+    }
+
+    protected boolean executeAsyncHistoryJobBatch(List<JobInfoEntity> batch) {
+        try {
+            taskExecutor.execute(new ExecuteAsyncHistoryJobBatchRunnable(batch, this));
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            for (JobInfoEntity job : batch) {
+                handleRejectedJob(job);
+            }
+
+            // Job queue full, returning false so (if wanted) the acquiring can be throttled
+            return false;
+        }
+    }
+
+    public int getHistoryJobBatchSize() {
+        return historyJobBatchSize;
+    }
+
+    public void setHistoryJobBatchSize(int historyJobBatchSize) {
+        if (historyJobBatchSize < 1) {
+            throw new FlowableException("The history job batch size must be at least 1");
+        }
+        this.historyJobBatchSize = historyJobBatchSize;
+    }
+
+}
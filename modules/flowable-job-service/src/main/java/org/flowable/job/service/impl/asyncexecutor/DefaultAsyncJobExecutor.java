@@ -18,10 +18,12 @@ import org.flowable.common.engine.api.async.AsyncTaskExecutor;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.cfg.TransactionPropagation;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.metrics.EngineMetricsListener;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.slf4j.Logger;
@@ -60,6 +62,11 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
      */
     protected Thread timerJobAcquisitionThread;
 
+    /**
+     * Thread responsible for moving timer jobs that were acquired ahead at their due time.
+     */
+    protected Thread timerJobWheelThread;
+
     /**
      * Thread responsible for resetting the expired jobs.
      */
@@ -84,14 +91,22 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             return true;
 
         } catch (RejectedExecutionException e) {
-            sendRejectedEvent(job);
-            unacquireJobAfterRejection(job);
+            handleRejectedJob(job);
 
             // Job queue full, returning false so (if wanted) the acquiring can be throttled
             return false;
         }
     }
 
+    protected void handleRejectedJob(JobInfo job) {
+        EngineMetricsListener metricsListener = jobServiceConfiguration.getMetricsListener();
+        if (metricsListener != null) {
+            metricsListener.jobRejected(job.getJobHandlerType());
+        }
+        sendRejectedEvent(job);
+        unacquireJobAfterRejection(job);
+    }
+
     protected void sendRejectedEvent(JobInfo job) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
@@ -191,6 +206,13 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
                 timerJobAcquisitionThread = new Thread(timerJobRunnable);
             }
             timerJobAcquisitionThread.start();
+
+            if (timerJobWheelRunnable != null) {
+                if (timerJobWheelThread == null) {
+                    timerJobWheelThread = new Thread(timerJobWheelRunnable);
+                }
+                timerJobWheelThread.start();
+            }
         }
     }
 
@@ -215,6 +237,15 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             }
             timerJobAcquisitionThread = null;
         }
+
+        if (timerJobWheelThread != null) {
+            try {
+                timerJobWheelThread.join();
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the timer job wheel thread to terminate", e);
+            }
+            timerJobWheelThread = null;
+        }
     }
 
     /** Starts the reset expired jobs thread */
@@ -272,6 +303,14 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.timerJobAcquisitionThread = timerJobAcquisitionThread;
     }
 
+    public Thread getTimerJobWheelThread() {
+        return timerJobWheelThread;
+    }
+
+    public void setTimerJobWheelThread(Thread timerJobWheelThread) {
+        this.timerJobWheelThread = timerJobWheelThread;
+    }
+
     public Thread getAsyncJobAcquisitionThread() {
         return asyncJobAcquisitionThread;
     }
@@ -290,6 +329,11 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     @Override
     public int getRemainingCapacity() {
+        if (taskExecutor instanceof VirtualThreadAsyncTaskExecutor) {
+            // Concurrency is not bounded by a thread pool, but by the permits of the executor
+            return ((VirtualThreadAsyncTaskExecutor) taskExecutor).getRemainingCapacity();
+        }
+
         //TODO evaluate removing this method
         // return plenty of remaining capacity
         return 99;
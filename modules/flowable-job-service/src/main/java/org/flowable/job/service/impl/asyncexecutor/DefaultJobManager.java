@@ -69,6 +69,8 @@ public class DefaultJobManager implements JobManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultJobManager.class);
 
+    protected static final String ASYNC_JOBS_AVAILABLE_NOTIFICATION_ATTRIBUTE = "flowable.asyncJobsAvailableNotification";
+
     public static final String CYCLE_TYPE = "cycle";
 
     protected JobServiceConfiguration jobServiceConfiguration;
@@ -102,11 +104,31 @@ public class DefaultJobManager implements JobManager {
                 if (jobServiceConfiguration.getEnabledJobCategories() != null && 
                         !jobServiceConfiguration.getEnabledJobCategories().contains(jobEntity.getCategory())) {
                     
+                    notifyAsyncJobsAvailable();
                     return;
                 }
             }
             
             hintAsyncExecutor(jobEntity);
+
+        } else {
+            notifyAsyncJobsAvailable();
+        }
+    }
+
+    /**
+     * When the job isn't passed on to the local async executor, the async executors of other nodes are notified after the transaction commits
+     * (if an {@link AsyncJobNotifier} is configured), instead of having to wait for their next acquisition.
+     * Only one notification is sent per transaction.
+     */
+    protected void notifyAsyncJobsAvailable() {
+        AsyncJobNotifier asyncJobNotifier = jobServiceConfiguration.getAsyncJobNotifier();
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        if (asyncJobNotifier != null && commandContext != null && Context.getTransactionContext() != null
+                && commandContext.getAttribute(ASYNC_JOBS_AVAILABLE_NOTIFICATION_ATTRIBUTE) == null) {
+
+            commandContext.addAttribute(ASYNC_JOBS_AVAILABLE_NOTIFICATION_ATTRIBUTE, Boolean.TRUE);
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new AsyncJobsAvailableTransactionListener(asyncJobNotifier));
         }
     }
 
@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.cmd.ExecuteHistoryJobBatchCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction with the {@link ExecuteHistoryJobBatchCmd}.
+ *
+ * When executing the batch fails, the transaction is rolled back and every job of the batch is executed on its own,
+ * so a failing job is handled (retries, dead letter job) like it would be without batching, and doesn't block the other jobs of the batch.
+ */
+public class ExecuteAsyncHistoryJobBatchRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncHistoryJobBatchRunnable.class);
+
+    protected List<? extends JobInfo> jobs;
+    protected CoalescingAsyncHistoryJobExecutor asyncExecutor;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public ExecuteAsyncHistoryJobBatchRunnable(List<? extends JobInfo> jobs, CoalescingAsyncHistoryJobExecutor asyncExecutor) {
+        this.jobs = jobs;
+        this.asyncExecutor = asyncExecutor;
+        this.jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+    }
+
+    @Override
+    public void run() {
+        if (jobs.size() == 1) {
+            executeJobsIndividually();
+            return;
+        }
+
+        List<String> jobIds = new ArrayList<>(jobs.size());
+        for (JobInfo job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        try {
+            jobServiceConfiguration.getCommandExecutor().execute(new ExecuteHistoryJobBatchCmd(jobIds, jobServiceConfiguration));
+
+        } catch (Throwable exception) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Exception while executing a batch of {} history jobs, executing the jobs one by one. Exception message: {}",
+                        jobs.size(), exception.getMessage());
+            }
+            executeJobsIndividually();
+        }
+    }
+
+    protected void executeJobsIndividually() {
+        for (JobInfo job : jobs) {
+            try {
+                asyncExecutor.createRunnableForJob(job).run();
+            } catch (Throwable exception) {
+                LOGGER.error("Exception while executing history job {}", job.getId(), exception);
+            }
+        }
+    }
+
+    public List<? extends JobInfo> getJobs() {
+        return jobs;
+    }
+
+}
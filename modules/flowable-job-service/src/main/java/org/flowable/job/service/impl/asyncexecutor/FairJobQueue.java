@@ -0,0 +1,130 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free queue of job runnables with a sub-queue per scheduling key (e.g. tenant and job category).
+ *
+ * The sub-queues that contain jobs are served in round robin order: every turn takes at most as many jobs from a sub-queue as its weight,
+ * after which the sub-queue goes to the back of the line. A key with many queued jobs can therefore not starve the other keys.
+ */
+public class FairJobQueue {
+
+    protected final ConcurrentMap<String, SubQueue> subQueues = new ConcurrentHashMap<>();
+    protected final Queue<SubQueue> scheduledSubQueues = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger size = new AtomicInteger();
+
+    public void offer(String key, int weight, Runnable job) {
+        SubQueue subQueue = subQueues.computeIfAbsent(key, SubQueue::new);
+        subQueue.weight = Math.max(1, weight);
+        subQueue.jobs.add(job);
+        size.incrementAndGet();
+
+        if (subQueue.scheduled.compareAndSet(false, true)) {
+            scheduledSubQueues.add(subQueue);
+        }
+    }
+
+    /**
+     * Takes the jobs of the next turn: the jobs of one sub-queue, at most as many as its weight.
+     *
+     * @return the jobs to execute, or an empty list if there are no queued jobs
+     */
+    public List<Runnable> pollTurn() {
+        SubQueue subQueue;
+        while ((subQueue = scheduledSubQueues.poll()) != null) {
+            List<Runnable> jobs = null;
+            Runnable job;
+            while ((jobs == null || jobs.size() < subQueue.weight) && (job = subQueue.jobs.poll()) != null) {
+                if (jobs == null) {
+                    jobs = new ArrayList<>(subQueue.weight);
+                }
+                jobs.add(job);
+            }
+
+            reschedule(subQueue);
+
+            if (jobs != null) {
+                size.addAndGet(-jobs.size());
+                return jobs;
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    protected void reschedule(SubQueue subQueue) {
+        if (!subQueue.jobs.isEmpty()) {
+            scheduledSubQueues.add(subQueue);
+            return;
+        }
+
+        subQueue.scheduled.set(false);
+
+        // A job might have been offered after the emptiness check, but before the scheduled flag was cleared
+        if (!subQueue.jobs.isEmpty() && subQueue.scheduled.compareAndSet(false, true)) {
+            scheduledSubQueues.add(subQueue);
+        }
+    }
+
+    public void clear() {
+        for (SubQueue subQueue : subQueues.values()) {
+            while (subQueue.jobs.poll() != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public boolean isEmpty() {
+        return size.get() <= 0;
+    }
+
+    /**
+     * @return the scheduling keys that currently have queued jobs
+     */
+    public List<String> getKeysWithQueuedJobs() {
+        List<String> keys = new ArrayList<>();
+        for (SubQueue subQueue : subQueues.values()) {
+            if (!subQueue.jobs.isEmpty()) {
+                keys.add(subQueue.key);
+            }
+        }
+        return keys;
+    }
+
+    protected static class SubQueue {
+
+        protected final String key;
+        protected final Queue<Runnable> jobs = new ConcurrentLinkedQueue<>();
+        protected final AtomicBoolean scheduled = new AtomicBoolean();
+        protected volatile int weight = 1;
+
+        public SubQueue(String key) {
+            this.key = key;
+        }
+    }
+}
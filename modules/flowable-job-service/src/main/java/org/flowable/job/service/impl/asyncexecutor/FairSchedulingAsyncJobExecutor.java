@@ -0,0 +1,206 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Async job executor that schedules the acquired jobs fairly over tenants and job categories,
+ * instead of executing them in acquisition order through the queue of the task executor.
+ *
+ * The jobs are put in a {@link FairJobQueue} with a sub-queue per tenant and category.
+ * At most {@link #maxConcurrentJobs} workers run on the task executor, every worker takes the jobs of the next turn from the queue
+ * until it is empty. The weight of a sub-queue, i.e. the number of jobs taken per turn, can be configured per job category
+ * (see {@link #setJobCategoryWeights(Map)}) and per tenant (see {@link #setTenantWeights(Map)}).
+ *
+ * The remaining capacity reported to the acquisition thread is the number of free places in the queue,
+ * so the acquisition never acquires more jobs than can be queued and jobs are not rejected and unacquired again in steady state.
+ * Only jobs that are handed over directly after their creation can still exceed the capacity, these are rejected like in the default executor.
+ */
+public class FairSchedulingAsyncJobExecutor extends DefaultAsyncJobExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FairSchedulingAsyncJobExecutor.class);
+
+    protected static final String KEY_SEPARATOR = "|";
+
+    /**
+     * The maximum number of jobs executed at the same time, i.e. the number of workers running on the task executor.
+     * The task executor needs at least this number of threads.
+     */
+    protected int maxConcurrentJobs = 8;
+
+    /**
+     * The maximum number of jobs waiting in the queue for a free worker.
+     */
+    protected int queueCapacity = 100;
+
+    protected Map<String, Integer> jobCategoryWeights = new HashMap<>();
+    protected Map<String, Integer> tenantWeights = new HashMap<>();
+
+    protected FairJobQueue jobQueue = new FairJobQueue();
+    protected AtomicInteger activeWorkers = new AtomicInteger();
+
+    @Override
+    protected boolean executeAsyncJob(JobInfo job, Runnable runnable) {
+        if (jobQueue.size() >= queueCapacity) {
+            handleRejectedJob(job);
+            return false;
+        }
+
+        jobQueue.offer(determineSchedulingKey(job), determineWeight(job), runnable);
+        startWorkers();
+        return true;
+    }
+
+    protected String determineSchedulingKey(JobInfo job) {
+        String category = job instanceof Job ? ((Job) job).getCategory() : null;
+        return job.getTenantId() + KEY_SEPARATOR + category;
+    }
+
+    protected int determineWeight(JobInfo job) {
+        int weight = 1;
+
+        String category = job instanceof Job ? ((Job) job).getCategory() : null;
+        if (category != null && jobCategoryWeights.containsKey(category)) {
+            weight *= jobCategoryWeights.get(category);
+        }
+        if (job.getTenantId() != null && tenantWeights.containsKey(job.getTenantId())) {
+            weight *= tenantWeights.get(job.getTenantId());
+        }
+
+        return weight;
+    }
+
+    protected void startWorkers() {
+        while (!jobQueue.isEmpty() && taskExecutor != null) {
+            int workers = activeWorkers.get();
+            if (workers >= maxConcurrentJobs) {
+                return;
+            }
+
+            if (activeWorkers.compareAndSet(workers, workers + 1)) {
+                try {
+                    taskExecutor.execute(this::executeQueuedJobs);
+
+                } catch (RejectedExecutionException e) {
+                    // The queued jobs are picked up by the running workers, or when capacity is requested by the acquisition thread
+                    activeWorkers.decrementAndGet();
+                    LOGGER.debug("Task executor rejected a worker of the fair scheduling async job executor, {} workers are running", workers);
+                    return;
+                }
+            }
+        }
+    }
+
+    protected void executeQueuedJobs() {
+        try {
+            List<Runnable> jobs;
+            while (!(jobs = jobQueue.pollTurn()).isEmpty()) {
+                if (jobQueue.size() + jobs.size() >= queueCapacity) {
+                    // The acquisition thread waits when the queue is full, there is room again now
+                    wakeUpAsyncJobAcquisition();
+                }
+
+                for (Runnable job : jobs) {
+                    try {
+                        job.run();
+                    } catch (RuntimeException e) {
+                        LOGGER.error("Exception while executing a queued async job", e);
+                    }
+                }
+            }
+
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+
+        // Jobs might have been queued after the queue was found empty, but before the worker count was decremented
+        startWorkers();
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        // Gives rejected workers a new chance to start
+        startWorkers();
+        return Math.max(0, queueCapacity - jobQueue.size());
+    }
+
+    @Override
+    protected void initAsyncJobExecutionThreadPool() {
+        if (taskExecutor == null) {
+            DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor();
+            defaultAsyncTaskExecutor.setCorePoolSize(maxConcurrentJobs);
+            defaultAsyncTaskExecutor.setMaxPoolSize(maxConcurrentJobs);
+            defaultAsyncTaskExecutor.start();
+            this.taskExecutor = defaultAsyncTaskExecutor;
+            this.shutdownTaskExecutor = true;
+        }
+    }
+
+    @Override
+    protected void stopExecutingAsyncJobs() {
+        // The jobs that are still queued are unlocked when the owned jobs are unlocked, or when their lock expires
+        jobQueue.clear();
+        super.stopExecutingAsyncJobs();
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Map<String, Integer> getJobCategoryWeights() {
+        return jobCategoryWeights;
+    }
+
+    public void setJobCategoryWeights(Map<String, Integer> jobCategoryWeights) {
+        this.jobCategoryWeights = jobCategoryWeights;
+    }
+
+    public Map<String, Integer> getTenantWeights() {
+        return tenantWeights;
+    }
+
+    public void setTenantWeights(Map<String, Integer> tenantWeights) {
+        this.tenantWeights = tenantWeights;
+    }
+
+    public FairJobQueue getJobQueue() {
+        return jobQueue;
+    }
+
+    public int getActiveWorkers() {
+        return activeWorkers.get();
+    }
+}
@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AsyncJobNotifier} that only notifies listeners within the same JVM, e.g. multiple engines sharing one database in tests.
+ */
+public class InMemoryAsyncJobNotifier implements AsyncJobNotifier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryAsyncJobNotifier.class);
+
+    protected final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void notifyJobsAvailable() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Exception while notifying async job listener {}", listener, e);
+            }
+        }
+    }
+
+    @Override
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    public List<Runnable> getListeners() {
+        return listeners;
+    }
+
+}
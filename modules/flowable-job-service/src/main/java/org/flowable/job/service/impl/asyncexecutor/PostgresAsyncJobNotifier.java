@@ -0,0 +1,168 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AsyncJobNotifier} using the LISTEN/NOTIFY mechanism of PostgreSQL to notify the async executors on all nodes.
+ *
+ * A dedicated connection (taken from the given data source) is used to listen for notifications while listeners are registered.
+ * It is released again when the last listener is removed.
+ */
+public class PostgresAsyncJobNotifier implements AsyncJobNotifier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresAsyncJobNotifier.class);
+
+    protected static final Pattern CHANNEL_NAME_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    protected final DataSource dataSource;
+    protected final String channel;
+    protected final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    protected int notificationPollTimeoutInMillis = 10 * 1000;
+    protected int reconnectWaitTimeInMillis = 5 * 1000;
+
+    protected volatile Thread listenerThread;
+
+    public PostgresAsyncJobNotifier(DataSource dataSource) {
+        this(dataSource, "flowable_async_jobs");
+    }
+
+    public PostgresAsyncJobNotifier(DataSource dataSource, String channel) {
+        if (!CHANNEL_NAME_PATTERN.matcher(channel).matches()) {
+            throw new FlowableIllegalArgumentException("Invalid notification channel name " + channel);
+        }
+        this.dataSource = dataSource;
+        this.channel = channel;
+    }
+
+    @Override
+    public void notifyJobsAvailable() {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("select pg_notify(?, '')")) {
+            statement.setString(1, channel);
+            statement.execute();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+
+        } catch (SQLException e) {
+            LOGGER.warn("Could not send async job notification on channel {}", channel, e);
+        }
+    }
+
+    @Override
+    public synchronized void addListener(Runnable listener) {
+        listeners.add(listener);
+        if (listenerThread == null) {
+            Thread thread = new Thread(this::listen, "flowable-async-job-notifier-" + channel);
+            thread.setDaemon(true);
+            listenerThread = thread;
+            thread.start();
+        }
+    }
+
+    @Override
+    public synchronized void removeListener(Runnable listener) {
+        listeners.remove(listener);
+        if (listeners.isEmpty() && listenerThread != null) {
+            Thread thread = listenerThread;
+            listenerThread = null;
+            thread.interrupt();
+        }
+    }
+
+    protected void listen() {
+        while (isListening()) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + channel);
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (isListening()) {
+                    PGNotification[] notifications = pgConnection.getNotifications(notificationPollTimeoutInMillis);
+                    if (notifications != null && notifications.length > 0) {
+                        // Multiple notifications result in one wake up
+                        fireListeners();
+                    }
+                }
+
+            } catch (SQLException e) {
+                if (isListening()) {
+                    LOGGER.warn("Exception while listening for async job notifications on channel {}, reconnecting in {} ms", channel, reconnectWaitTimeInMillis, e);
+                    try {
+                        Thread.sleep(reconnectWaitTimeInMillis);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A listener thread stops as soon as it is no longer the current listener thread of this notifier.
+     */
+    protected boolean isListening() {
+        return listenerThread == Thread.currentThread();
+    }
+
+    protected void fireListeners() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Exception while notifying async job listener {}", listener, e);
+            }
+        }
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public int getNotificationPollTimeoutInMillis() {
+        return notificationPollTimeoutInMillis;
+    }
+
+    public void setNotificationPollTimeoutInMillis(int notificationPollTimeoutInMillis) {
+        this.notificationPollTimeoutInMillis = notificationPollTimeoutInMillis;
+    }
+
+    public int getReconnectWaitTimeInMillis() {
+        return reconnectWaitTimeInMillis;
+    }
+
+    public void setReconnectWaitTimeInMillis(int reconnectWaitTimeInMillis) {
+        this.reconnectWaitTimeInMillis = reconnectWaitTimeInMillis;
+    }
+
+}
@@ -0,0 +1,232 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.cmd.MoveTimerJobsToExecutableJobsCmd;
+import org.flowable.job.service.impl.cmd.UnlockTimerJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves timer jobs that were acquired before they are due to the executable jobs at their due time.
+ *
+ * The {@link AcquireTimerJobsRunnable} acquires the timer jobs that are due within the lookahead time of the async executor
+ * (see {@link AbstractAsyncExecutor#setTimerJobLookaheadInMillis(long)}) and schedules these here.
+ * The timer jobs are kept in a {@link TimerWheel} and all timer jobs that become due in the same tick are moved in one transaction.
+ * When moving a batch fails, e.g. because one of its timer jobs was deleted in the meantime, the timer jobs of the batch are moved one by one.
+ *
+ * The acquired timer jobs are locked until their due time plus the lock time. When the node stops, the scheduled timer jobs are unlocked,
+ * and when the node dies, they are reset once their lock expires.
+ */
+public class TimerJobWheelRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerJobWheelRunnable.class);
+
+    protected final AsyncExecutor asyncExecutor;
+    protected final JobManager jobManager;
+    protected final long lookaheadInMillis;
+    protected final int capacity;
+
+    protected final Object MONITOR = new Object();
+    protected final TimerWheel<TimerJobEntity> timerWheel;
+    protected final List<TimerJobEntity> dueTimerJobs = new ArrayList<>();
+
+    protected volatile boolean isInterrupted;
+
+    /**
+     * @param lookaheadInMillis how long before their due time the timer jobs are acquired
+     * @param tickInMillis the precision with which the timer jobs are moved
+     * @param capacity the maximum number of scheduled timer jobs, see {@link #hasCapacity()}
+     */
+    public TimerJobWheelRunnable(AsyncExecutor asyncExecutor, JobManager jobManager, long lookaheadInMillis, int tickInMillis, int capacity) {
+        this.asyncExecutor = asyncExecutor;
+        this.jobManager = jobManager;
+        this.lookaheadInMillis = lookaheadInMillis;
+        this.capacity = capacity;
+        this.timerWheel = new TimerWheel<>(tickInMillis, 64, getCurrentTime());
+    }
+
+    /**
+     * Schedules acquired timer jobs to be moved to the executable jobs at their due time.
+     */
+    public void schedule(Collection<TimerJobEntity> timerJobs) {
+        synchronized (MONITOR) {
+            if (isInterrupted) {
+                // Acquired while stopping, hand the timer jobs back right away
+                unlockTimerJobs(new ArrayList<>(timerJobs));
+                return;
+            }
+
+            long now = getCurrentTime();
+            dueTimerJobs.addAll(timerWheel.advance(now));
+            for (TimerJobEntity timerJob : timerJobs) {
+                long dueTime = timerJob.getDuedate() != null ? timerJob.getDuedate().getTime() : now;
+                if (!timerWheel.add(timerJob, dueTime)) {
+                    dueTimerJobs.add(timerJob);
+                }
+            }
+            MONITOR.notifyAll();
+        }
+    }
+
+    /**
+     * @return true if more timer jobs can be scheduled
+     */
+    public boolean hasCapacity() {
+        synchronized (MONITOR) {
+            return timerWheel.size() + dueTimerJobs.size() < capacity;
+        }
+    }
+
+    @Override
+    public void run() {
+        LOGGER.info("starting to move acquired timer jobs at their due time");
+        Thread.currentThread().setName("flowable-" + asyncExecutor.getJobServiceConfiguration().getEngineName() + "-timer-wheel");
+
+        while (!isInterrupted) {
+            List<TimerJobEntity> timerJobs;
+            try {
+                synchronized (MONITOR) {
+                    timerJobs = takeDueTimerJobs();
+                    if (timerJobs.isEmpty() && !isInterrupted) {
+                        MONITOR.wait(getMillisToWait());
+                        timerJobs = takeDueTimerJobs();
+                    }
+                }
+            } catch (InterruptedException e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("timer wheel wait interrupted");
+                }
+                continue;
+            }
+
+            if (!timerJobs.isEmpty()) {
+                moveTimerJobs(timerJobs);
+            }
+        }
+
+        unlockScheduledTimerJobs();
+        LOGGER.info("stopped moving acquired timer jobs");
+    }
+
+    protected List<TimerJobEntity> takeDueTimerJobs() {
+        dueTimerJobs.addAll(timerWheel.advance(getCurrentTime()));
+        if (dueTimerJobs.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<TimerJobEntity> timerJobs = new ArrayList<>(dueTimerJobs);
+        dueTimerJobs.clear();
+        return timerJobs;
+    }
+
+    protected long getMillisToWait() {
+        if (timerWheel.isEmpty()) {
+            // Woken up when timer jobs are scheduled
+            return asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+        }
+
+        long tickInMillis = timerWheel.getTickMillis();
+        return Math.max(1, tickInMillis - (getCurrentTime() % tickInMillis));
+    }
+
+    protected void moveTimerJobs(List<TimerJobEntity> timerJobs) {
+        CommandExecutor commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
+        try {
+            commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(jobManager, timerJobs));
+
+        } catch (Throwable batchException) {
+            if (timerJobs.size() == 1) {
+                logMoveFailure(timerJobs.get(0), batchException);
+                return;
+            }
+
+            // Only the timer jobs that can't be moved stay behind, these are reset when their lock expires
+            for (TimerJobEntity timerJob : timerJobs) {
+                try {
+                    commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(jobManager, Collections.singletonList(timerJob)));
+                } catch (Throwable e) {
+                    logMoveFailure(timerJob, e);
+                }
+            }
+        }
+    }
+
+    protected void logMoveFailure(TimerJobEntity timerJob, Throwable exception) {
+        if (exception instanceof FlowableOptimisticLockingException) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Timer job {} was changed or deleted after it was acquired and is not moved to the executable jobs", timerJob.getId());
+            }
+        } else {
+            LOGGER.error("exception while moving timer job {} to the executable jobs: {}", timerJob.getId(), exception.getMessage(), exception);
+        }
+    }
+
+    protected void unlockScheduledTimerJobs() {
+        List<TimerJobEntity> timerJobs;
+        synchronized (MONITOR) {
+            timerJobs = new ArrayList<>(dueTimerJobs);
+            timerJobs.addAll(timerWheel.clear());
+            dueTimerJobs.clear();
+        }
+
+        unlockTimerJobs(timerJobs);
+    }
+
+    protected void unlockTimerJobs(List<TimerJobEntity> timerJobs) {
+        if (!timerJobs.isEmpty()) {
+            try {
+                asyncExecutor.getJobServiceConfiguration().getCommandExecutor()
+                        .execute(new UnlockTimerJobsCmd(timerJobs, asyncExecutor.getJobServiceConfiguration()));
+            } catch (Throwable e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Failed to unlock scheduled timer jobs. This is OK since they will be unlocked when the reset expired jobs thread runs", e);
+                }
+            }
+        }
+    }
+
+    protected long getCurrentTime() {
+        return asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+    }
+
+    public void stop() {
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            MONITOR.notifyAll();
+        }
+    }
+
+    public long getLookaheadInMillis() {
+        return lookaheadInMillis;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getScheduledTimerJobCount() {
+        synchronized (MONITOR) {
+            return timerWheel.size() + dueTimerJobs.size();
+        }
+    }
+
+}
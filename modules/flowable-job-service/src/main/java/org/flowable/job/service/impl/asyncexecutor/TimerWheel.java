@@ -0,0 +1,197 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hierarchical timer wheel: keeps items until their due time with constant time insertion and expiration.
+ *
+ * The wheel has a number of buckets, each covering one tick. Items due further away than the wheel covers are kept in an overflow wheel,
+ * of which each bucket covers a full rotation of this wheel. When this wheel starts a new rotation, the items of the matching overflow bucket
+ * are moved into this wheel. Overflow wheels are created when needed, so any due time can be kept.
+ *
+ * Items expire at most one tick after their due time. This class is not thread safe.
+ */
+public class TimerWheel<T> {
+
+    protected final long tickMillis;
+    protected final int wheelSize;
+    protected final long interval;
+    protected final List<List<Entry<T>>> buckets;
+
+    /** The start of the current tick, all ticks before were expired */
+    protected long currentTime;
+    protected TimerWheel<T> overflowWheel;
+    protected int size;
+
+    public TimerWheel(long tickMillis, int wheelSize, long startTime) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("The tick and wheel size of a timer wheel must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.interval = tickMillis * wheelSize;
+        this.currentTime = startTime - (startTime % tickMillis);
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * @return false if the item is already due, in which case it is not added
+     */
+    public boolean add(T item, long dueTime) {
+        if (addEntry(new Entry<>(item, dueTime))) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Moves the wheel to the given time.
+     *
+     * @return the items of which the due time has passed, in order of their tick
+     */
+    public List<T> advance(long time) {
+        if (currentTime + tickMillis > time) {
+            return Collections.emptyList();
+        }
+
+        List<T> expiredItems = new ArrayList<>();
+        while (currentTime + tickMillis <= time) {
+            if (size > 0) {
+                List<Entry<T>> bucket = getBucket(currentTime);
+                for (Entry<T> entry : bucket) {
+                    expiredItems.add(entry.item);
+                }
+                size -= bucket.size();
+                bucket.clear();
+            }
+
+            currentTime += tickMillis;
+            if (overflowWheel != null && currentTime % interval == 0) {
+                for (Entry<T> entry : overflowWheel.cascade(currentTime)) {
+                    addEntry(entry);
+                }
+            }
+
+            if (size == 0) {
+                // Nothing left to expire, jump to the tick of the given time
+                overflowWheel = null;
+                currentTime = time - (time % tickMillis);
+            }
+        }
+        return expiredItems;
+    }
+
+    protected boolean addEntry(Entry<T> entry) {
+        if (entry.dueTime < currentTime) {
+            return false;
+
+        } else if (entry.dueTime < currentTime + interval) {
+            getBucket(entry.dueTime).add(entry);
+            return true;
+
+        } else {
+            if (overflowWheel == null) {
+                overflowWheel = new TimerWheel<>(interval, wheelSize, currentTime);
+            }
+            return overflowWheel.addEntry(entry);
+        }
+    }
+
+    /**
+     * Moves this (overflow) wheel to the given time and removes the entries of the bucket starting at that time, to be added to the wheel below.
+     */
+    protected List<Entry<T>> cascade(long time) {
+        currentTime = time;
+        if (overflowWheel != null && time % interval == 0) {
+            for (Entry<T> entry : overflowWheel.cascade(time)) {
+                addEntry(entry);
+            }
+        }
+
+        List<Entry<T>> bucket = getBucket(time);
+        if (bucket.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Entry<T>> entries = new ArrayList<>(bucket);
+        bucket.clear();
+        return entries;
+    }
+
+    protected List<Entry<T>> getBucket(long time) {
+        return buckets.get((int) ((time / tickMillis) % wheelSize));
+    }
+
+    /**
+     * @return the number of items in the wheel
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all items from the wheel.
+     *
+     * @return the removed items
+     */
+    public List<T> clear() {
+        List<T> items = new ArrayList<>(size);
+        collectItems(items);
+        size = 0;
+        return items;
+    }
+
+    protected void collectItems(List<T> items) {
+        for (List<Entry<T>> bucket : buckets) {
+            for (Entry<T> entry : bucket) {
+                items.add(entry.item);
+            }
+            bucket.clear();
+        }
+        if (overflowWheel != null) {
+            overflowWheel.collectItems(items);
+            overflowWheel = null;
+        }
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    protected static class Entry<T> {
+
+        protected final T item;
+        protected final long dueTime;
+
+        public Entry(T item, long dueTime) {
+            this.item = item;
+            this.dueTime = dueTime;
+        }
+    }
+
+}
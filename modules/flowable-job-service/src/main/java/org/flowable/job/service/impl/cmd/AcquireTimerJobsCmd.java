@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -30,9 +31,19 @@ import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
 
     private final AsyncExecutor asyncExecutor;
+    private final long lookaheadInMillis;
 
     public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor) {
+        this(asyncExecutor, 0);
+    }
+
+    /**
+     * @param lookaheadInMillis also acquires the timer jobs that are due within this time from now.
+     *                          These are locked until their due time plus the lock time, so they are reset when the acquiring node doesn't move them.
+     */
+    public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, long lookaheadInMillis) {
         this.asyncExecutor = asyncExecutor;
+        this.lookaheadInMillis = lookaheadInMillis;
     }
 
     @Override
@@ -41,8 +52,14 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
         
         JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
         List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
-        List<TimerJobEntity> timerJobs = jobServiceConfiguration.getTimerJobEntityManager()
-                .findJobsToExecute(enabledCategories, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+        Page page = new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition());
+        List<TimerJobEntity> timerJobs;
+        if (lookaheadInMillis > 0) {
+            Date dueDate = new Date(jobServiceConfiguration.getClock().getCurrentTime().getTime() + lookaheadInMillis);
+            timerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsToExecute(enabledCategories, dueDate, page);
+        } else {
+            timerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsToExecute(enabledCategories, page);
+        }
         
         for (TimerJobEntity job : timerJobs) {
             lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis(), jobServiceConfiguration);
@@ -56,9 +73,16 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
 
         // This will trigger an optimistic locking exception when two concurrent executors
         // try to lock, as the revision will not match.
+        // With skip locked job acquisition, concurrent executors never select the same job.
 
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
-        gregorianCalendar.setTime(jobServiceConfiguration.getClock().getCurrentTime());
+        Date now = jobServiceConfiguration.getClock().getCurrentTime();
+        if (job.getDuedate() != null && job.getDuedate().after(now)) {
+            // Timer jobs that are not due yet are locked from their due time on
+            gregorianCalendar.setTime(job.getDuedate());
+        } else {
+            gregorianCalendar.setTime(now);
+        }
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
         job.setLockOwner(asyncExecutor.getLockOwner());
         job.setLockExpirationTime(gregorianCalendar.getTime());
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AbstractAsyncHistoryJobHandler;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes multiple history jobs in one transaction.
+ *
+ * The historic data referenced by the jobs is prefetched first (see {@link AbstractAsyncHistoryJobHandler#prefetchHistoryData(List, CommandContext, JobServiceConfiguration)}),
+ * after which the jobs are executed in the order in which they are given.
+ * As all jobs share the same entity cache, the changes of the jobs to one historic entity (e.g. the start, update and end of an activity)
+ * are flushed as one insert or update, and the inserts and updates of the batch are flushed together.
+ */
+public class ExecuteHistoryJobBatchCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteHistoryJobBatchCmd.class);
+
+    protected List<String> historyJobIds;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public ExecuteHistoryJobBatchCmd(List<String> historyJobIds, JobServiceConfiguration jobServiceConfiguration) {
+        this.historyJobIds = historyJobIds;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (historyJobIds == null) {
+            throw new FlowableIllegalArgumentException("historyJobIds is null");
+        }
+
+        // The jobs are refetched, as they could have been deleted in the meantime
+        List<HistoryJobEntity> historyJobs = new ArrayList<>(historyJobIds.size());
+        for (String historyJobId : historyJobIds) {
+            HistoryJobEntity historyJob = jobServiceConfiguration.getHistoryJobEntityManager().findById(historyJobId);
+            if (historyJob != null) {
+                historyJobs.add(historyJob);
+            } else {
+                LOGGER.debug("History job {} does not exist anymore and will not be executed", historyJobId);
+            }
+        }
+
+        prefetchHistoryData(historyJobs, commandContext);
+
+        for (HistoryJobEntity historyJob : historyJobs) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Executing history job {}", historyJob.getId());
+            }
+
+            jobServiceConfiguration.getJobManager().execute(historyJob);
+        }
+
+        return null;
+    }
+
+    protected void prefetchHistoryData(List<HistoryJobEntity> historyJobs, CommandContext commandContext) {
+        Map<String, HistoryJobHandler> historyJobHandlers = jobServiceConfiguration.getHistoryJobHandlers();
+        if (historyJobHandlers == null) {
+            return;
+        }
+
+        Map<String, List<HistoryJobEntity>> historyJobsByHandlerType = new LinkedHashMap<>();
+        for (HistoryJobEntity historyJob : historyJobs) {
+            if (historyJob.getJobHandlerType() != null) {
+                historyJobsByHandlerType.computeIfAbsent(historyJob.getJobHandlerType(), type -> new ArrayList<>()).add(historyJob);
+            }
+        }
+
+        for (Map.Entry<String, List<HistoryJobEntity>> entry : historyJobsByHandlerType.entrySet()) {
+            HistoryJobHandler historyJobHandler = historyJobHandlers.get(entry.getKey());
+            if (historyJobHandler instanceof AbstractAsyncHistoryJobHandler) {
+                ((AbstractAsyncHistoryJobHandler) historyJobHandler).prefetchHistoryData(entry.getValue(), commandContext, jobServiceConfiguration);
+            }
+        }
+    }
+
+    public List<String> getHistoryJobIds() {
+        return historyJobIds;
+    }
+
+}
@@ -18,6 +18,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.JobNotFoundException;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadSerializer;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +50,15 @@ public class GetHistoryJobAdvancedConfigurationCmd implements Command<String> {
         if (historyJobEntity == null) {
             throw new JobNotFoundException(historyJobId);
         }
+
+        AsyncHistoryPayloadSerializer payloadSerializer = jobServiceConfiguration.getAsyncHistoryPayloadSerializer();
+        if (payloadSerializer != null && historyJobEntity.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
+            byte[] bytes = historyJobEntity.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(historyJobEntity.getScopeType());
+            if (payloadSerializer.isSerializedPayload(bytes)) {
+                return payloadSerializer.deserialize(bytes, jobServiceConfiguration.getObjectMapper()).toString();
+            }
+        }
+
         return historyJobEntity.getAdvancedJobHandlerConfiguration();
     }
 
@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public abstract class AbstractAsyncHistoryDataPrefetcher implements AsyncHistoryDataPrefetcher {
+
+    /**
+     * The maximum number of ids in one query, to stay below the limits of the databases for the number of values in an 'in' clause.
+     */
+    protected int maxIdsPerQuery = 500;
+
+    protected String getType(ObjectNode historyNode) {
+        JsonNode typeNode = historyNode.get(HistoryJsonTransformer.FIELD_NAME_TYPE);
+        return typeNode != null && !typeNode.isNull() ? typeNode.asText() : null;
+    }
+
+    protected ObjectNode getData(ObjectNode historyNode) {
+        JsonNode dataNode = historyNode.get(HistoryJsonTransformer.FIELD_NAME_DATA);
+        return dataNode != null && dataNode.isObject() ? (ObjectNode) dataNode : null;
+    }
+
+    protected void collectId(Collection<String> ids, ObjectNode historicalData, String fieldName) {
+        JsonNode idNode = historicalData.get(fieldName);
+        if (idNode != null && !idNode.isNull()) {
+            String id = idNode.asText();
+            if (!id.isEmpty()) {
+                ids.add(id);
+            }
+        }
+    }
+
+    /**
+     * Passes the given ids in chunks of at most {@link #getMaxIdsPerQuery()} ids to the given loader.
+     */
+    protected void loadInChunks(Collection<String> ids, Consumer<List<String>> loader) {
+        List<String> chunk = new ArrayList<>(Math.min(ids.size(), maxIdsPerQuery));
+        for (String id : ids) {
+            chunk.add(id);
+            if (chunk.size() == maxIdsPerQuery) {
+                loader.accept(chunk);
+                chunk = new ArrayList<>(maxIdsPerQuery);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            loader.accept(chunk);
+        }
+    }
+
+    public int getMaxIdsPerQuery() {
+        return maxIdsPerQuery;
+    }
+
+    public void setMaxIdsPerQuery(int maxIdsPerQuery) {
+        this.maxIdsPerQuery = maxIdsPerQuery;
+    }
+
+}
@@ -12,10 +12,13 @@
  */
 package org.flowable.job.service.impl.history.async;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -33,10 +36,16 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandler {
 
+    /**
+     * Command context attribute holding the history json of the jobs for which the history data was prefetched, by job id.
+     */
+    protected static final String PREFETCHED_HISTORY_NODES_ATTRIBUTE = "asyncHistoryJobHandler.prefetchedHistoryNodes";
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
     
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected String jobType;
+    protected AsyncHistoryDataPrefetcher asyncHistoryDataPrefetcher;
     
     public AbstractAsyncHistoryJobHandler(String jobType) {
         this.jobType = jobType;
@@ -53,14 +62,15 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         ObjectMapper objectMapper = commandContext.getObjectMapper();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
 
-            JsonNode historyNode;
-            try {
-                byte[] bytes = getJobBytes(job);
-                historyNode = objectMapper.readTree(bytes);
-            } catch (Exception e) {
-                // The transaction will be rolled back and the job retries decremented,
-                // which is different from unacquiring the job where the retries are not changed.
-                throw new FlowableException("Could not deserialize async history json for job (id=" + job.getId() + ")", e);
+            JsonNode historyNode = removePrefetchedHistoryNode(job, commandContext);
+            if (historyNode == null) {
+                try {
+                    historyNode = readHistoryNode(job, objectMapper, jobServiceConfiguration);
+                } catch (Exception e) {
+                    // The transaction will be rolled back and the job retries decremented,
+                    // which is different from unacquiring the job where the retries are not changed.
+                    throw new FlowableException("Could not deserialize async history json for job (id=" + job.getId() + ")", e);
+                }
             }
 
             if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
@@ -128,6 +138,82 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         }
     }
 
+    /**
+     * Loads the historic data referenced by the history json of the given jobs with the {@link AsyncHistoryDataPrefetcher},
+     * so the jobs can be executed afterwards in the same command context without a query per history json entry.
+     * The parsed history json is kept in the command context and reused when the jobs are executed.
+     */
+    public void prefetchHistoryData(List<HistoryJobEntity> jobs, CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration) {
+        if (asyncHistoryDataPrefetcher == null) {
+            return;
+        }
+
+        Map<String, JsonNode> prefetchedHistoryNodes = getPrefetchedHistoryNodes(commandContext);
+        ObjectMapper objectMapper = commandContext.getObjectMapper();
+        List<ObjectNode> historyNodes = new ArrayList<>();
+        for (HistoryJobEntity job : jobs) {
+            if (job.getAdvancedJobHandlerConfigurationByteArrayRef() == null) {
+                continue;
+            }
+
+            JsonNode historyNode;
+            try {
+                historyNode = readHistoryNode(job, objectMapper, jobServiceConfiguration);
+            } catch (Exception e) {
+                // The job is parsed again when it is executed, which reports the failure for this job only
+                logger.debug("Could not deserialize async history json for job (id={}) before prefetching", job.getId(), e);
+                continue;
+            }
+
+            prefetchedHistoryNodes.put(job.getId(), historyNode);
+            if (historyNode.isArray()) {
+                for (JsonNode jsonNode : historyNode) {
+                    if (jsonNode.isObject()) {
+                        historyNodes.add((ObjectNode) jsonNode);
+                    }
+                }
+            } else if (historyNode.isObject()) {
+                historyNodes.add((ObjectNode) historyNode);
+            }
+        }
+
+        if (!historyNodes.isEmpty()) {
+            asyncHistoryDataPrefetcher.prefetch(historyNodes, commandContext);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Map<String, JsonNode> getPrefetchedHistoryNodes(CommandContext commandContext) {
+        Map<String, JsonNode> prefetchedHistoryNodes = (Map<String, JsonNode>) commandContext.getAttribute(PREFETCHED_HISTORY_NODES_ATTRIBUTE);
+        if (prefetchedHistoryNodes == null) {
+            prefetchedHistoryNodes = new HashMap<>();
+            commandContext.addAttribute(PREFETCHED_HISTORY_NODES_ATTRIBUTE, prefetchedHistoryNodes);
+        }
+        return prefetchedHistoryNodes;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected JsonNode removePrefetchedHistoryNode(HistoryJobEntity job, CommandContext commandContext) {
+        Map<String, JsonNode> prefetchedHistoryNodes = (Map<String, JsonNode>) commandContext.getAttribute(PREFETCHED_HISTORY_NODES_ATTRIBUTE);
+        if (prefetchedHistoryNodes != null) {
+            return prefetchedHistoryNodes.remove(job.getId());
+        }
+        return null;
+    }
+
+    protected JsonNode readHistoryNode(HistoryJobEntity job, ObjectMapper objectMapper, JobServiceConfiguration jobServiceConfiguration) throws IOException {
+        AsyncHistoryPayloadSerializer payloadSerializer = jobServiceConfiguration.getAsyncHistoryPayloadSerializer();
+        if (payloadSerializer != null) {
+            byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(job.getScopeType());
+            if (payloadSerializer.isSerializedPayload(bytes)) {
+                return payloadSerializer.deserialize(bytes, objectMapper);
+            }
+        }
+
+        // Payload written without a payload codec
+        return objectMapper.readTree(getJobBytes(job));
+    }
+
     protected byte[] getJobBytes(HistoryJobEntity job) {
         return job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(job.getScopeType());
     }
@@ -141,5 +227,13 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
     public void setAsyncHistoryJsonGroupingEnabled(boolean isAsyncHistoryJsonGroupingEnabled) {
         this.isAsyncHistoryJsonGroupingEnabled = isAsyncHistoryJsonGroupingEnabled;
     }
+
+    public AsyncHistoryDataPrefetcher getAsyncHistoryDataPrefetcher() {
+        return asyncHistoryDataPrefetcher;
+    }
+
+    public void setAsyncHistoryDataPrefetcher(AsyncHistoryDataPrefetcher asyncHistoryDataPrefetcher) {
+        this.asyncHistoryDataPrefetcher = asyncHistoryDataPrefetcher;
+    }
     
 }
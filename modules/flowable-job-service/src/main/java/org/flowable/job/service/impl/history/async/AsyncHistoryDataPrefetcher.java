@@ -0,0 +1,33 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Loads the historic entities referenced by the history json of multiple history jobs into the entity cache of the command context,
+ * with one query per entity type, before the history json of these jobs is transformed.
+ * The lookups done by the history json transformers are then answered from the entity cache.
+ */
+public interface AsyncHistoryDataPrefetcher {
+
+    /**
+     * @param historyNodes the history json nodes, each with a type and a data field
+     */
+    void prefetch(List<ObjectNode> historyNodes, CommandContext commandContext);
+
+}
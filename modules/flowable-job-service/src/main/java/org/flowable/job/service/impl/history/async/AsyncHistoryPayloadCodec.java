@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Encodes the history json of an async history job into the bytes that are stored for the job, and decodes these bytes again.
+ *
+ * The {@link AsyncHistoryPayloadSerializer} prefixes the encoded bytes with a versioned header containing the {@link #getId() id} of the codec,
+ * so existing history jobs can still be decoded after another codec is configured, as long as their codec is registered with the serializer.
+ */
+public interface AsyncHistoryPayloadCodec {
+
+    /**
+     * The id of the codec, stored in the header of the encoded payloads.
+     * The ids up to 31 are reserved for the codecs provided by Flowable.
+     * The id of a codec must not be changed once history jobs are encoded with it.
+     */
+    byte getId();
+
+    void encode(JsonNode historyNode, OutputStream outputStream, ObjectMapper objectMapper) throws IOException;
+
+    JsonNode decode(byte[] bytes, int offset, int length, ObjectMapper objectMapper) throws IOException;
+
+}
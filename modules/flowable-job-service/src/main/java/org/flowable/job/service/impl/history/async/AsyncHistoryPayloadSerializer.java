@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Serializes the history json of async history jobs with an {@link AsyncHistoryPayloadCodec} and deserializes it again.
+ *
+ * A serialized payload starts with a header of {@link #HEADER_LENGTH} bytes: two magic bytes, the {@link #FORMAT_VERSION format version}
+ * and the id of the codec that encoded the payload. The magic bytes can not be the start of json text or of GZIP compressed data,
+ * so payloads without a header (written without a codec, or before codecs were introduced) are still recognized and read as before.
+ *
+ * The json codec and the deflate codec are registered by default, other codecs are registered with {@link #addCodec(AsyncHistoryPayloadCodec)}.
+ */
+public class AsyncHistoryPayloadSerializer {
+
+    public static final byte FORMAT_VERSION = 1;
+    public static final int HEADER_LENGTH = 4;
+
+    protected static final byte MAGIC_BYTE_1 = (byte) 0xF1;
+    protected static final byte MAGIC_BYTE_2 = (byte) 0x48;
+
+    protected Map<Byte, AsyncHistoryPayloadCodec> codecs = new ConcurrentHashMap<>();
+
+    public AsyncHistoryPayloadSerializer() {
+        addCodec(new JsonAsyncHistoryPayloadCodec());
+        addCodec(new DeflateAsyncHistoryPayloadCodec());
+    }
+
+    public byte[] serialize(JsonNode historyNode, AsyncHistoryPayloadCodec codec, ObjectMapper objectMapper) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            outputStream.write(MAGIC_BYTE_1);
+            outputStream.write(MAGIC_BYTE_2);
+            outputStream.write(FORMAT_VERSION);
+            outputStream.write(codec.getId());
+            codec.encode(historyNode, outputStream, objectMapper);
+            return outputStream.toByteArray();
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not serialize historic data for async history", e);
+        }
+    }
+
+    /**
+     * @return whether the given bytes start with the header written by {@link #serialize(JsonNode, AsyncHistoryPayloadCodec, ObjectMapper)}
+     */
+    public boolean isSerializedPayload(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_LENGTH && bytes[0] == MAGIC_BYTE_1 && bytes[1] == MAGIC_BYTE_2;
+    }
+
+    public JsonNode deserialize(byte[] bytes, ObjectMapper objectMapper) {
+        if (!isSerializedPayload(bytes)) {
+            throw new FlowableException("The async history payload does not start with a payload header");
+        }
+
+        if (bytes[2] != FORMAT_VERSION) {
+            throw new FlowableException("Unsupported async history payload format version " + bytes[2]);
+        }
+
+        AsyncHistoryPayloadCodec codec = codecs.get(bytes[3]);
+        if (codec == null) {
+            throw new FlowableException("No async history payload codec registered with id " + bytes[3]);
+        }
+
+        try {
+            return codec.decode(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, objectMapper);
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize async history payload with codec " + codec.getId(), e);
+        }
+    }
+
+    /**
+     * Registers the given codec, replacing the codec that was registered with the same id.
+     */
+    public AsyncHistoryPayloadSerializer addCodec(AsyncHistoryPayloadCodec codec) {
+        codecs.put(codec.getId(), codec);
+        return this;
+    }
+
+    public AsyncHistoryPayloadCodec getCodec(byte id) {
+        return codecs.get(id);
+    }
+
+}
@@ -86,6 +86,14 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
     }
 
     protected void addJsonToJob(CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration, HistoryJobEntity jobEntity, JsonNode rootObjectNode, boolean applyCompression) {
+        AsyncHistoryPayloadCodec payloadCodec = jobServiceConfiguration.getAsyncHistoryPayloadCodec();
+        if (payloadCodec != null) {
+            // The payload header identifies the codec, the gzip compression does not apply
+            jobEntity.setAdvancedJobHandlerConfigurationBytes(jobServiceConfiguration.getAsyncHistoryPayloadSerializer()
+                    .serialize(rootObjectNode, payloadCodec, jobServiceConfiguration.getObjectMapper()));
+            return;
+        }
+
         try {
             byte[] bytes = jobServiceConfiguration.getObjectMapper().writeValueAsBytes(rootObjectNode);
             if (applyCompression) {
@@ -109,7 +117,7 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
     }
 
     protected String getJobType(JobServiceConfiguration jobServiceConfiguration, boolean groupingEnabled) {
-        if (groupingEnabled) {
+        if (groupingEnabled && jobServiceConfiguration.getAsyncHistoryPayloadCodec() == null) {
             return jobServiceConfiguration.isAsyncHistoryJsonGzipCompressionEnabled() ?
                 jobServiceConfiguration.getJobTypeAsyncHistoryZipped() : jobServiceConfiguration.getJobTypeAsyncHistory();
         } else {
@@ -0,0 +1,161 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link AsyncHistoryPayloadCodec} storing the history json deflate compressed, using a preset dictionary with the field names and types
+ * that occur in the history json of the process and case engines.
+ *
+ * Contrary to GZIP compressing each payload on its own, the preset dictionary makes even the small history json of a single history job compress well,
+ * as the repeated field names are referenced from the dictionary instead of being stored once per payload.
+ * By default the fastest compression level is used, as the payloads are short-lived.
+ *
+ * The dictionary is part of the format: the contents of {@link #DICTIONARY_V1} must never change.
+ * A codec with another dictionary needs another {@link #getId() id}.
+ */
+public class DeflateAsyncHistoryPayloadCodec implements AsyncHistoryPayloadCodec {
+
+    public static final byte ID = 2;
+
+    protected static final int BUFFER_SIZE = 1024;
+
+    // Ordered from the least to the most used entries, as zlib references the end of the dictionary with the shortest distances
+    protected static final String[] DICTIONARY_V1_ENTRIES = {
+            "process-instance-property-changed", "set-process-definition", "update-process-definition-cascade", "form-properties-submitted",
+            "process-instance-deleted-by-process-definition-id", "historic-user-task-log-delete", "historic-user-task-log-record",
+            "cmmn-update-case-definition-cascade", "cmmn-historic-user-task-log-record", "cmmn-historic-user-task-log-delete",
+            "cmmn-historic-case-instance-deleted", "cmmn-update-case-instance-name", "cmmn-update-case-business-key",
+            "cmmn-milestone-reached", "cmmn-plan-item-instance-disabled", "cmmn-plan-item-instance-enabled", "cmmn-plan-item-instance-suspended",
+            "cmmn-plan-item-instance-terminated", "cmmn-plan-item-instance-occurred", "cmmn-plan-item-instance-exit",
+
+            "processDefinitionDerivedFrom", "processDefinitionDerivedFromRoot", "processDefinitionDerivedVersion", "processDefinitionCategory",
+            "derivedCaseDefinitionId", "caseDefinitionCategory", "caseDefinitionDescription", "caseDefinitionDeploymentId",
+            "formPropertyId", "formPropertyValue", "logEntryType", "logEntryData", "logNumber", "extraValue", "isShowInOverview",
+            "lastUnavailableTime", "lastDisabledTime", "lastSuspendedTime", "occurredTime", "terminatedTime", "exitTime",
+            "entryCriterionId", "exitCriterionId", "referenceScopeId", "referenceScopeType", "referenceScopeDefinitionId",
+            "refScopeId", "refScopeType", "refScopeDefinitionId", "rootScopeId", "rootScopeType", "hierarchyType",
+            "superProcessInstanceId", "calledProcessInstanceId", "propagatedStageInstanceId", "sourceExecutionId", "isMiRootExecution",
+            "variableBytesValue", "variableDoubleValue", "variableLongValue", "variableTextValue2", "variableTextValue", "variableType",
+            "identityLinkType", "entityLinkType", "groupId", "userId", "property", "deleteReason", "claimTime", "dueDate", "formKey",
+            "owner", "assignee", "activityAssigneeHandled", "parentTaskId", "priority", "category", "description", "revision",
+            "callbackId", "callbackType", "referenceId", "referenceType", "parentElementId", "scopeDefinitionId", "subScopeId", "scopeId",
+
+            "identitylink-created", "identitylink-deleted", "entitylink-created", "entitylink-deleted", "cmmn-identity-link-created",
+            "cmmn-identity-link-deleted", "cmmn-entity-link-created", "cmmn-entity-link-deleted", "task-assignee-changed", "task-owner-changed",
+            "task-property-changed", "historic-detail-variable-update", "variable-created", "variable-updated", "variable-removed",
+            "cmmn-variable-created", "cmmn-variable-updated", "cmmn-variable-removed", "cmmn-task-created", "cmmn-task-updated", "cmmn-task-removed",
+            "process-instance-deleted", "subprocess-instance-start", "process-instance-start", "process-instance-end", "task-created", "task-ended",
+            "cmmn-case-instance-start", "cmmn-case-instance-end", "cmmn-plan-item-instance-full", "cmmn-plan-item-instance-available",
+            "cmmn-plan-item-instance-created", "cmmn-plan-item-instance-started", "cmmn-plan-item-instance-completed",
+            "activity-full", "activity-update", "activity-start", "activity-end",
+
+            "caseDefinitionId", "caseDefinitionKey", "caseDefinitionName", "caseDefinitionVersion", "caseInstanceId", "stageInstanceId",
+            "planItemDefinitionId", "planItemDefinitionType", "planItemInstanceId", "elementId", "isStage", "state", "parentId", "duration",
+            "lastAvailableTime", "lastEnabledTime", "lastStartedTime", "lastUpdateTime", "completedTime",
+            "processDefinitionId", "processDefinitionKey", "processDefinitionName", "processDefinitionVersion", "deploymentId", "businessKey",
+            "startUserId", "startActivityId", "taskDefinitionKey", "taskDefinitionId", "taskId", "name", "lastUpdatedTime", "createTime",
+            "activityId", "activityName", "activityType", "transactionOrder", "runtimeActivityInstanceId", "executionId", "processInstanceId",
+            "scopeType", "tenantId", "startTime", "endTime", "id", "__timeStamp"
+    };
+
+    public static final byte[] DICTIONARY_V1 = createDictionary(DICTIONARY_V1_ENTRIES);
+
+    protected byte id;
+    protected byte[] dictionary;
+    protected int compressionLevel;
+
+    public DeflateAsyncHistoryPayloadCodec() {
+        this(ID, DICTIONARY_V1, Deflater.BEST_SPEED);
+    }
+
+    public DeflateAsyncHistoryPayloadCodec(int compressionLevel) {
+        this(ID, DICTIONARY_V1, compressionLevel);
+    }
+
+    public DeflateAsyncHistoryPayloadCodec(byte id, byte[] dictionary, int compressionLevel) {
+        this.id = id;
+        this.dictionary = dictionary;
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public byte getId() {
+        return id;
+    }
+
+    @Override
+    public void encode(JsonNode historyNode, OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        Deflater deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setDictionary(dictionary);
+            DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater, BUFFER_SIZE);
+            objectMapper.writeValue(deflaterOutputStream, historyNode);
+            deflaterOutputStream.finish();
+
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public JsonNode decode(byte[] bytes, int offset, int length, ObjectMapper objectMapper) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, length);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int inflatedLength = inflater.inflate(buffer);
+                if (inflatedLength > 0) {
+                    outputStream.write(buffer, 0, inflatedLength);
+
+                } else if (inflater.needsDictionary()) {
+                    inflater.setDictionary(dictionary);
+
+                } else if (inflater.needsInput()) {
+                    throw new IOException("Unexpected end of deflated async history payload");
+                }
+            }
+
+            return objectMapper.readTree(outputStream.toByteArray());
+
+        } catch (DataFormatException e) {
+            throw new IOException("Invalid deflated async history payload", e);
+
+        } finally {
+            inflater.end();
+        }
+    }
+
+    protected static byte[] createDictionary(String[] entries) {
+        StringBuilder dictionary = new StringBuilder();
+        for (String entry : entries) {
+            dictionary.append('"').append(entry).append("\":");
+        }
+        dictionary.append("{\"type\":\"\",\"data\":{");
+        return dictionary.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+}
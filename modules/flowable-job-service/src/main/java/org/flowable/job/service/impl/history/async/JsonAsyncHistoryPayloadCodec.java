@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link AsyncHistoryPayloadCodec} storing the history json as plain json text.
+ */
+public class JsonAsyncHistoryPayloadCodec implements AsyncHistoryPayloadCodec {
+
+    public static final byte ID = 1;
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public void encode(JsonNode historyNode, OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        objectMapper.writeValue(outputStream, historyNode);
+    }
+
+    @Override
+    public JsonNode decode(byte[] bytes, int offset, int length, ObjectMapper objectMapper) throws IOException {
+        return objectMapper.readTree(bytes, offset, length);
+    }
+
+}
@@ -23,6 +23,7 @@ import org.flowable.job.api.HistoryJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.HistoryJobQueryImpl;
 import org.flowable.job.service.impl.asyncexecutor.message.AsyncJobMessageReceiver;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadSerializer;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
 
@@ -95,8 +96,16 @@ public class AsyncHistoryJobMessageReceiver {
     protected JsonNode getHistoryJobData(CommandContext commandContext, HistoryJobEntity job) {
         ObjectMapper objectMapper = jobServiceConfiguration.getObjectMapper();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
+            byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(jobServiceConfiguration.getEngineName());
+
+            // Payloads encoded with a payload codec are decoded the same way as when the job is executed by the async history executor
+            AsyncHistoryPayloadSerializer payloadSerializer = jobServiceConfiguration.getAsyncHistoryPayloadSerializer();
+            if (payloadSerializer != null && payloadSerializer.isSerializedPayload(bytes)) {
+                return payloadSerializer.deserialize(bytes, objectMapper);
+            }
+
             try {
-                return objectMapper.readTree(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes(jobServiceConfiguration.getEngineName()));
+                return objectMapper.readTree(bytes);
             } catch (IOException e) {
                 throw new FlowableException("Could not deserialize json for history job data", e);
             }
@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -39,6 +41,12 @@ public interface TimerJobEntityManager extends JobInfoEntityManager<TimerJobEnti
      */
     TimerJobEntity findJobByCorrelationId(String correlationId);
 
+    /**
+     * Returns the unlocked {@link TimerJobEntity} instances that are due at or before the given due date,
+     * which can be later than the current time to acquire timers before they are due.
+     */
+    List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Date dueDate, Page page);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
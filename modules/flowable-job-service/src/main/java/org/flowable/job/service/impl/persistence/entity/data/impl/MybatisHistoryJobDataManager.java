@@ -20,6 +20,7 @@ import java.util.Map;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -27,6 +28,7 @@ import org.flowable.job.service.impl.HistoryJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.HistoryJobDataManager;
+import org.flowable.job.service.impl.util.SkipLockedUtil;
 
 /**
  * @author Tijs Rademakers
@@ -60,7 +62,12 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         params.setFirstResult(page.getFirstResult());
         params.setMaxResults(page.getMaxResults());
         params.setOrderByColumns("CREATE_TIME_ ASC");
-        return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
+        
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        if (SkipLockedUtil.isSkipLockedJobAcquisition(jobServiceConfiguration, dbSqlSession)) {
+            return dbSqlSession.selectList(SkipLockedUtil.getSkipLockedStatement("selectHistoryJobsToExecute"), params);
+        }
+        return dbSqlSession.selectList("selectHistoryJobsToExecute", params);
     }
 
     @Override
@@ -31,6 +31,7 @@ import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.JobDataManager;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.JobByCorrelationIdMatcher;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.JobsByExecutionIdMatcher;
+import org.flowable.job.service.impl.util.SkipLockedUtil;
 
 /**
  * @author Joram Barrez
@@ -66,7 +67,12 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         if (enabledCategories != null && enabledCategories.size() > 0) {
             params.put("enabledCategories", enabledCategories);
         }
-        return getDbSqlSession().selectList("selectJobsToExecute", params, page);
+        
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        if (SkipLockedUtil.isSkipLockedJobAcquisition(jobServiceConfiguration, dbSqlSession)) {
+            return dbSqlSession.selectList(SkipLockedUtil.getSkipLockedStatement("selectJobsToExecute"), params, page);
+        }
+        return dbSqlSession.selectList("selectJobsToExecute", params, page);
     }
 
     @Override
@@ -21,6 +21,7 @@ import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
@@ -32,6 +33,7 @@ import org.flowable.job.service.impl.persistence.entity.data.TimerJobDataManager
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.JobByCorrelationIdMatcher;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.TimerJobsByExecutionIdMatcher;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.TimerJobsByScopeIdAndSubScopeIdMatcher;
+import org.flowable.job.service.impl.util.SkipLockedUtil;
 
 /**
  * @author Tijs Rademakers
@@ -103,17 +105,38 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Page page) {
-        Map<String, Object> params = new HashMap<>(2);
+        return findJobsToExecute(enabledCategories, jobServiceConfiguration.getClock().getCurrentTime(), false, page);
+    }
+
+    @Override
+    public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Date dueDate, Page page) {
+        // The timer jobs that are due first are acquired first, the others are acquired in a later cycle
+        return findJobsToExecute(enabledCategories, dueDate, true, page);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Date dueDate, boolean orderByDueDate, Page page) {
+        Map<String, Object> params = new HashMap<>(4);
         String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
         params.put("jobExecutionScope", jobExecutionScope);
-        
-        Date now = jobServiceConfiguration.getClock().getCurrentTime();
-        params.put("now", now);
+        params.put("now", dueDate);
+        params.put("orderByDueDate", orderByDueDate);
         
         if (enabledCategories != null && enabledCategories.size() > 0) {
             params.put("enabledCategories", enabledCategories);
         }
-        return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
+
+        ListQueryParameterObject parameterObject = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
+        if (orderByDueDate) {
+            // Needed for db2/sqlserver (see limitBetween in mssql.properties), otherwise ordering will be incorrect
+            parameterObject.setOrderByColumns("RES.DUEDATE_ asc");
+        }
+        
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        if (SkipLockedUtil.isSkipLockedJobAcquisition(jobServiceConfiguration, dbSqlSession)) {
+            return dbSqlSession.selectList(SkipLockedUtil.getSkipLockedStatement("selectTimerJobsToExecute"), parameterObject);
+        }
+        return dbSqlSession.selectList("selectTimerJobsToExecute", parameterObject);
     }
 
     @Override
@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.util;
+
+import java.io.IOException;
+import java.util.Date;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Helper for the job handlers of the partitioned history cleanup of the process and CMMN engines.
+ *
+ * The historic instances that ended before the cleanup date are split in partitions of consecutive instance ids,
+ * and every partition is deleted by its own async job. The job configurations are json objects holding the cleanup date,
+ * the partition size and the id range of the partition.
+ */
+public class HistoryCleanupJobUtil {
+
+    public static final int MAX_PARTITION_SIZE = 1000;
+
+    public static final String CFG_LABEL_ENDED_BEFORE = "endedBefore";
+    public static final String CFG_LABEL_PARTITION_SIZE = "partitionSize";
+    public static final String CFG_LABEL_AFTER_ID = "afterId";
+    public static final String CFG_LABEL_LAST_ID = "lastId";
+
+    /**
+     * Creates the configuration of the job creating the first partition of a cleanup.
+     */
+    public static ObjectNode createConfiguration(Date endedBefore, int partitionSize, ObjectMapper objectMapper) {
+        if (partitionSize < 1 || partitionSize > MAX_PARTITION_SIZE) {
+            throw new FlowableIllegalArgumentException("The history cleanup partition size must be between 1 and " + MAX_PARTITION_SIZE + ", but is " + partitionSize);
+        }
+
+        ObjectNode configuration = objectMapper.createObjectNode();
+        configuration.put(CFG_LABEL_ENDED_BEFORE, endedBefore.getTime());
+        configuration.put(CFG_LABEL_PARTITION_SIZE, partitionSize);
+        return configuration;
+    }
+
+    public static ObjectNode readConfiguration(String configuration, ObjectMapper objectMapper) {
+        try {
+            return (ObjectNode) objectMapper.readTree(configuration);
+        } catch (IOException | ClassCastException e) {
+            throw new FlowableException("Invalid history cleanup job configuration: " + configuration, e);
+        }
+    }
+
+    public static String getTextValue(JsonNode configuration, String label) {
+        JsonNode value = configuration.get(label);
+        return value != null && !value.isNull() ? value.asText() : null;
+    }
+
+    public static Date getEndedBefore(JsonNode configuration) {
+        return new Date(configuration.get(CFG_LABEL_ENDED_BEFORE).asLong());
+    }
+
+    public static int getPartitionSize(JsonNode configuration) {
+        return configuration.get(CFG_LABEL_PARTITION_SIZE).asInt();
+    }
+
+    public static void createAsyncJob(String jobHandlerType, ObjectNode configuration, JobService jobService) {
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(jobHandlerType);
+        job.setJobHandlerConfiguration(configuration.toString());
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+}
@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.util;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Helper for acquiring jobs with 'select ... for update skip locked' (or the 'readpast' table hint on SQL Server):
+ * the selected jobs are locked by the acquiring transaction and jobs locked by other transactions are skipped,
+ * so concurrent acquisitions never select the same jobs and no optimistic locking exceptions are thrown when locking them.
+ *
+ * On databases that don't support it, the regular select is used and concurrent acquisitions rely on optimistic locking.
+ */
+public class SkipLockedUtil {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SkipLockedUtil.class);
+
+    protected static final String SKIP_LOCKED_STATEMENT_SUFFIX = "SkipLocked";
+
+    protected static final Pattern VERSION_PATTERN = Pattern.compile("^(?:5\\.5\\.5-)?(\\d+)\\.(\\d+)");
+
+    public static boolean isSkipLockedJobAcquisition(JobServiceConfiguration jobServiceConfiguration, DbSqlSession dbSqlSession) {
+        if (!jobServiceConfiguration.isSkipLockedJobAcquisitionEnabled()) {
+            return false;
+        }
+
+        Boolean supported = jobServiceConfiguration.getSkipLockedJobAcquisitionSupported();
+        if (supported == null) {
+            supported = isSkipLockedSupported(dbSqlSession);
+            if (!supported) {
+                LOGGER.info("Skip locked job acquisition is enabled, but not supported by the {} database. Falling back to optimistic locking for job acquisition",
+                        dbSqlSession.getDbSqlSessionFactory().getDatabaseType());
+            }
+            jobServiceConfiguration.setSkipLockedJobAcquisitionSupported(supported);
+        }
+        return supported;
+    }
+
+    /**
+     * @return the skip locked variant of the statement. Database specific variants (e.g. for SQL Server) are registered
+     *         with {@link #addDatabaseSpecificStatements(DbSqlSessionFactory)} and selected when the statement is executed.
+     */
+    public static String getSkipLockedStatement(String statement) {
+        return statement + SKIP_LOCKED_STATEMENT_SUFFIX;
+    }
+
+    /**
+     * Registers the database specific skip locked statements. Called by the engines using the job service when initializing the {@link DbSqlSessionFactory}.
+     */
+    public static void addDatabaseSpecificStatements(DbSqlSessionFactory dbSqlSessionFactory) {
+        // SQL Server doesn't support 'for update skip locked', the job acquisition uses the 'readpast' table hint instead
+        addDatabaseSpecificStatement(dbSqlSessionFactory, AbstractEngineConfiguration.DATABASE_TYPE_MSSQL, "selectJobsToExecute");
+        addDatabaseSpecificStatement(dbSqlSessionFactory, AbstractEngineConfiguration.DATABASE_TYPE_MSSQL, "selectTimerJobsToExecute");
+        addDatabaseSpecificStatement(dbSqlSessionFactory, AbstractEngineConfiguration.DATABASE_TYPE_MSSQL, "selectHistoryJobsToExecute");
+    }
+
+    protected static void addDatabaseSpecificStatement(DbSqlSessionFactory dbSqlSessionFactory, String databaseType, String statement) {
+        String skipLockedStatement = getSkipLockedStatement(statement);
+        dbSqlSessionFactory.addDatabaseSpecificStatement(databaseType, skipLockedStatement, skipLockedStatement + "_" + databaseType);
+    }
+
+    protected static boolean isSkipLockedSupported(DbSqlSession dbSqlSession) {
+        String databaseType = dbSqlSession.getDbSqlSessionFactory().getDatabaseType();
+        if (AbstractEngineConfiguration.DATABASE_TYPE_MSSQL.equals(databaseType)) {
+            return true;
+
+        } else if (AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES.equals(databaseType) || AbstractEngineConfiguration.DATABASE_TYPE_MYSQL.equals(databaseType)) {
+            try {
+                DatabaseMetaData metaData = dbSqlSession.getSqlSession().getConnection().getMetaData();
+                return isSkipLockedSupported(databaseType, metaData.getDatabaseProductName(), metaData.getDatabaseProductVersion());
+
+            } catch (SQLException e) {
+                LOGGER.warn("Could not determine the database version, skip locked job acquisition is not used", e);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * PostgreSQL supports 'skip locked' as of 9.5, MySQL as of 8.0 and MariaDB as of 10.6.
+     */
+    public static boolean isSkipLockedSupported(String databaseType, String databaseProductName, String databaseProductVersion) {
+        if (databaseProductVersion == null) {
+            return false;
+        }
+
+        Matcher matcher = VERSION_PATTERN.matcher(databaseProductVersion);
+        if (!matcher.find()) {
+            return false;
+        }
+        int majorVersion = Integer.parseInt(matcher.group(1));
+        int minorVersion = Integer.parseInt(matcher.group(2));
+
+        if (AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES.equals(databaseType)) {
+            return majorVersion > 9 || (majorVersion == 9 && minorVersion >= 5);
+
+        } else if (AbstractEngineConfiguration.DATABASE_TYPE_MYSQL.equals(databaseType)) {
+            boolean mariaDb = "MariaDB".equalsIgnoreCase(databaseProductName) || databaseProductVersion.toLowerCase().contains("mariadb");
+            if (mariaDb) {
+                return majorVersion > 10 || (majorVersion == 10 && minorVersion >= 6);
+            }
+            return majorVersion >= 8;
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.job.service.JobServiceConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AcquireAsyncJobsDueRunnableTest {
+
+    protected AsyncExecutor asyncExecutor;
+    protected AcquireAsyncJobsDueRunnable runnable;
+
+    @BeforeEach
+    void setUp() {
+        asyncExecutor = mock(AsyncExecutor.class);
+        when(asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis()).thenReturn(1000);
+        when(asyncExecutor.getJobServiceConfiguration()).thenReturn(new JobServiceConfiguration("test"));
+        runnable = new AcquireAsyncJobsDueRunnable("test-acquire-async-jobs", asyncExecutor, null);
+    }
+
+    @Test
+    void fixedWaitTimeWhenAdaptiveAcquisitionIsDisabled() {
+        assertThat(runnable.determineWaitTimeAfterAcquisition(0)).isEqualTo(1000L);
+        assertThat(runnable.determineWaitTimeAfterAcquisition(5)).isEqualTo(1000L);
+    }
+
+    @Test
+    void adaptiveWaitTimeBacksOffWhileNoJobsAreFound() {
+        runnable.setAdaptiveWaitTimeEnabled(true);
+        runnable.setMinWaitTimeInMillis(100L);
+
+        assertThat(runnable.determineWaitTimeAfterAcquisition(3)).isEqualTo(100L);
+        assertThat(runnable.determineWaitTimeAfterAcquisition(0)).isEqualTo(200L);
+        assertThat(runnable.determineWaitTimeAfterAcquisition(0)).isEqualTo(400L);
+        assertThat(runnable.determineWaitTimeAfterAcquisition(0)).isEqualTo(800L);
+        assertThat(runnable.determineWaitTimeAfterAcquisition(0)).isEqualTo(1000L);
+        assertThat(runnable.determineWaitTimeAfterAcquisition(0)).isEqualTo(1000L);
+
+        // Jobs found again: back to the minimum
+        assertThat(runnable.determineWaitTimeAfterAcquisition(1)).isEqualTo(100L);
+    }
+
+    @Test
+    void wakeUpResetsAdaptiveWaitTime() {
+        runnable.setAdaptiveWaitTimeEnabled(true);
+        runnable.setMinWaitTimeInMillis(100L);
+
+        runnable.determineWaitTimeAfterAcquisition(0);
+        runnable.determineWaitTimeAfterAcquisition(0);
+        assertThat(runnable.determineWaitTimeAfterAcquisition(0)).isEqualTo(400L);
+
+        runnable.wakeUp();
+        assertThat(runnable.determineWaitTimeAfterAcquisition(0)).isEqualTo(100L);
+    }
+
+    @Test
+    void wakeUpInterruptsWait() throws Exception {
+        Thread sleepingThread = new Thread(() -> runnable.sleep(60_000L));
+        sleepingThread.start();
+
+        long start = System.currentTimeMillis();
+        while (!runnable.isWaiting.get() && System.currentTimeMillis() - start < 5_000L) {
+            Thread.sleep(10L);
+        }
+        assertThat(runnable.isWaiting.get()).isTrue();
+
+        runnable.wakeUp();
+        sleepingThread.join(5_000L);
+
+        assertThat(sleepingThread.isAlive()).isFalse();
+    }
+
+    @Test
+    void wakeUpBeforeWaitSkipsNextWait() {
+        runnable.wakeUp();
+
+        long start = System.currentTimeMillis();
+        runnable.sleep(60_000L);
+        assertThat(System.currentTimeMillis() - start).isLessThan(5_000L);
+
+        // The wake up is consumed
+        assertThat(runnable.isWakeUpRequested).isFalse();
+    }
+
+    @Test
+    void inMemoryNotifierNotifiesRegisteredListeners() {
+        InMemoryAsyncJobNotifier notifier = new InMemoryAsyncJobNotifier();
+        AtomicInteger notificationCount = new AtomicInteger();
+        Runnable listener = notificationCount::incrementAndGet;
+
+        notifier.addListener(() -> {
+            throw new IllegalStateException("failing listener");
+        });
+        notifier.addListener(listener);
+        notifier.notifyJobsAvailable();
+        assertThat(notificationCount.get()).isEqualTo(1);
+
+        notifier.removeListener(listener);
+        notifier.notifyJobsAvailable();
+        assertThat(notificationCount.get()).isEqualTo(1);
+    }
+
+}
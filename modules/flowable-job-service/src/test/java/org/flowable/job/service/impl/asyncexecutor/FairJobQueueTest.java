@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FairJobQueueTest {
+
+    protected List<String> executedJobs = new ArrayList<>();
+
+    @Test
+    void subQueuesAreServedInRoundRobinOrder() {
+        FairJobQueue queue = new FairJobQueue();
+        for (int i = 1; i <= 4; i++) {
+            queue.offer("tenantA", 1, job("A" + i));
+        }
+        queue.offer("tenantB", 1, job("B1"));
+        queue.offer("tenantC", 1, job("C1"));
+        queue.offer("tenantC", 1, job("C2"));
+
+        assertThat(queue.size()).isEqualTo(7);
+        executeAll(queue);
+
+        assertThat(executedJobs).containsExactly("A1", "B1", "C1", "A2", "C2", "A3", "A4");
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void weightDeterminesJobsPerTurn() {
+        FairJobQueue queue = new FairJobQueue();
+        for (int i = 1; i <= 5; i++) {
+            queue.offer("heavy", 3, job("H" + i));
+        }
+        for (int i = 1; i <= 3; i++) {
+            queue.offer("light", 1, job("L" + i));
+        }
+
+        assertThat(queue.pollTurn()).hasSize(3);
+        assertThat(queue.pollTurn()).hasSize(1);
+        assertThat(queue.pollTurn()).hasSize(2);
+        assertThat(queue.pollTurn()).hasSize(1);
+        assertThat(queue.pollTurn()).hasSize(1);
+        assertThat(queue.pollTurn()).isEmpty();
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void emptiedSubQueueIsScheduledAgainWhenJobIsOffered() {
+        FairJobQueue queue = new FairJobQueue();
+        queue.offer("tenantA", 1, job("A1"));
+        executeAll(queue);
+
+        assertThat(queue.getKeysWithQueuedJobs()).isEmpty();
+
+        queue.offer("tenantA", 1, job("A2"));
+        assertThat(queue.getKeysWithQueuedJobs()).containsExactly("tenantA");
+        executeAll(queue);
+
+        assertThat(executedJobs).containsExactly("A1", "A2");
+    }
+
+    @Test
+    void clearRemovesQueuedJobs() {
+        FairJobQueue queue = new FairJobQueue();
+        queue.offer("tenantA", 1, job("A1"));
+        queue.offer("tenantB", 1, job("B1"));
+
+        queue.clear();
+
+        assertThat(queue.size()).isZero();
+        assertThat(queue.pollTurn()).isEmpty();
+    }
+
+    protected Runnable job(String name) {
+        return () -> executedJobs.add(name);
+    }
+
+    protected void executeAll(FairJobQueue queue) {
+        List<Runnable> jobs;
+        while (!(jobs = queue.pollTurn()).isEmpty()) {
+            jobs.forEach(Runnable::run);
+        }
+    }
+}
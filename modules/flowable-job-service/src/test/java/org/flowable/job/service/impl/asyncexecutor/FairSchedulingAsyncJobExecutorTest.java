@@ -0,0 +1,134 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FairSchedulingAsyncJobExecutorTest {
+
+    protected FairSchedulingAsyncJobExecutor asyncExecutor;
+    protected DefaultAsyncTaskExecutor taskExecutor;
+
+    protected List<String> executedJobs;
+    protected CountDownLatch blockingJobStarted;
+    protected CountDownLatch blockingJobReleased;
+    protected CountDownLatch allJobsExecuted;
+
+    @BeforeEach
+    void setUp() {
+        taskExecutor = new DefaultAsyncTaskExecutor();
+        taskExecutor.setCorePoolSize(1);
+        taskExecutor.setMaxPoolSize(1);
+        taskExecutor.start();
+
+        asyncExecutor = new FairSchedulingAsyncJobExecutor();
+        asyncExecutor.setTaskExecutor(taskExecutor);
+        asyncExecutor.setMaxConcurrentJobs(1);
+        asyncExecutor.setQueueCapacity(1000);
+
+        executedJobs = Collections.synchronizedList(new ArrayList<>());
+        blockingJobStarted = new CountDownLatch(1);
+        blockingJobReleased = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskExecutor.shutdown();
+    }
+
+    @Test
+    void backlogOfOneTenantDoesNotStarveAnotherTenant() throws Exception {
+        allJobsExecuted = new CountDownLatch(1 + 50 + 3);
+        submitBlockingJob();
+
+        // The single worker is busy, so all jobs are queued: first a backlog for tenant A, then a few jobs for tenant B
+        for (int i = 0; i < 50; i++) {
+            submitJob("tenantA", null, "A" + i);
+        }
+        for (int i = 0; i < 3; i++) {
+            submitJob("tenantB", null, "B" + i);
+        }
+        blockingJobReleased.countDown();
+
+        assertThat(allJobsExecuted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executedJobs).hasSize(54);
+
+        // Turns alternate between the tenants, so the jobs of tenant B don't wait for the backlog of tenant A
+        assertThat(executedJobs.subList(1, 7)).containsExactly("A0", "B0", "A1", "B1", "A2", "B2");
+        assertThat(executedJobs.subList(7, 54)).allMatch(job -> job.startsWith("A"));
+    }
+
+    @Test
+    void backlogOfOneCategoryDoesNotStarveAnotherCategory() throws Exception {
+        asyncExecutor.getJobCategoryWeights().put("bulk", 1);
+        asyncExecutor.getJobCategoryWeights().put("interactive", 2);
+
+        allJobsExecuted = new CountDownLatch(1 + 20 + 4);
+        submitBlockingJob();
+
+        for (int i = 0; i < 20; i++) {
+            submitJob("tenant", "bulk", "bulk" + i);
+        }
+        for (int i = 0; i < 4; i++) {
+            submitJob("tenant", "interactive", "interactive" + i);
+        }
+        blockingJobReleased.countDown();
+
+        assertThat(allJobsExecuted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // A turn of the interactive category takes two jobs, as its weight is 2
+        assertThat(executedJobs.subList(1, 7))
+                .containsExactly("bulk0", "interactive0", "interactive1", "bulk1", "interactive2", "interactive3");
+        assertThat(executedJobs.indexOf("interactive3")).isLessThan(executedJobs.indexOf("bulk2"));
+    }
+
+    protected void submitBlockingJob() throws InterruptedException {
+        JobEntityImpl job = new JobEntityImpl();
+        job.setTenantId("blocking");
+        assertThat(asyncExecutor.executeAsyncJob(job, () -> {
+            executedJobs.add("blocking");
+            blockingJobStarted.countDown();
+            try {
+                blockingJobReleased.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            allJobsExecuted.countDown();
+        })).isTrue();
+
+        assertThat(blockingJobStarted.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    protected void submitJob(String tenantId, String category, String name) {
+        JobEntityImpl job = new JobEntityImpl();
+        job.setTenantId(tenantId);
+        job.setCategory(category);
+        assertThat(asyncExecutor.executeAsyncJob(job, () -> {
+            executedJobs.add(name);
+            allJobsExecuted.countDown();
+        })).isTrue();
+    }
+
+}
@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TimerWheelTest {
+
+    @Test
+    void itemsExpireInTheTickOfTheirDueTime() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 8, 1000);
+        assertThat(wheel.add("a", 1250)).isTrue();
+        assertThat(wheel.add("b", 1299)).isTrue();
+        assertThat(wheel.add("c", 1300)).isTrue();
+        assertThat(wheel.size()).isEqualTo(3);
+
+        assertThat(wheel.advance(1299)).isEmpty();
+        assertThat(wheel.advance(1300)).containsExactly("a", "b");
+        assertThat(wheel.advance(1400)).containsExactly("c");
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    void itemsBeyondTheWheelAreCascaded() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.add("later", 5_050);
+        wheel.add("muchLater", 75_000);
+        wheel.add("soon", 200);
+
+        assertThat(wheel.advance(300)).containsExactly("soon");
+        assertThat(wheel.advance(5_000)).isEmpty();
+        assertThat(wheel.advance(5_100)).containsExactly("later");
+        assertThat(wheel.advance(74_999)).isEmpty();
+        assertThat(wheel.advance(75_100)).containsExactly("muchLater");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void dueItemsAreNotAdded() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 8, 1000);
+        wheel.advance(2000);
+
+        assertThat(wheel.add("past", 1500)).isFalse();
+        assertThat(wheel.add("current", 2050)).isTrue();
+        assertThat(wheel.clear()).containsExactly("current");
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+}
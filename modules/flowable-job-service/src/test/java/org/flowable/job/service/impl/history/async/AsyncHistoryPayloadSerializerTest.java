@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class AsyncHistoryPayloadSerializerTest {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+    protected AsyncHistoryPayloadSerializer serializer = new AsyncHistoryPayloadSerializer();
+
+    @Test
+    void jsonCodecRoundTrip() {
+        ObjectNode historyNode = createActivityStartNode("1");
+
+        byte[] bytes = serializer.serialize(historyNode, new JsonAsyncHistoryPayloadCodec(), objectMapper);
+
+        assertThat(serializer.isSerializedPayload(bytes)).isTrue();
+        assertThat(bytes[3]).isEqualTo(JsonAsyncHistoryPayloadCodec.ID);
+        assertThat(serializer.deserialize(bytes, objectMapper)).isEqualTo(historyNode);
+    }
+
+    @Test
+    void deflateCodecRoundTrip() {
+        ArrayNode historyNodes = objectMapper.createArrayNode();
+        for (int i = 0; i < 20; i++) {
+            historyNodes.add(createActivityStartNode(String.valueOf(i)));
+        }
+
+        byte[] bytes = serializer.serialize(historyNodes, new DeflateAsyncHistoryPayloadCodec(), objectMapper);
+
+        assertThat(serializer.isSerializedPayload(bytes)).isTrue();
+        assertThat(bytes[3]).isEqualTo(DeflateAsyncHistoryPayloadCodec.ID);
+        assertThat(serializer.deserialize(bytes, objectMapper)).isEqualTo(historyNodes);
+    }
+
+    @Test
+    void deflateCodecIsSmallerThanJsonAndGzip() throws IOException {
+        ObjectNode historyNode = createActivityStartNode("1");
+
+        byte[] jsonBytes = objectMapper.writeValueAsBytes(historyNode);
+        byte[] gzipBytes = gzip(jsonBytes);
+        byte[] deflateBytes = serializer.serialize(historyNode, new DeflateAsyncHistoryPayloadCodec(), objectMapper);
+
+        // The field names are taken from the preset dictionary, which GZIP can't do for a single history json
+        assertThat(deflateBytes.length).isLessThan(gzipBytes.length);
+        assertThat(deflateBytes.length).isLessThan(jsonBytes.length / 2);
+    }
+
+    @Test
+    void payloadsWithoutHeaderAreNotSerializedPayloads() throws IOException {
+        byte[] jsonBytes = objectMapper.writeValueAsBytes(createActivityStartNode("1"));
+
+        assertThat(serializer.isSerializedPayload(jsonBytes)).isFalse();
+        assertThat(serializer.isSerializedPayload(gzip(jsonBytes))).isFalse();
+        assertThat(serializer.isSerializedPayload(new byte[0])).isFalse();
+        assertThat(serializer.isSerializedPayload(null)).isFalse();
+    }
+
+    @Test
+    void deserializeWithUnknownCodec() {
+        byte[] bytes = serializer.serialize(createActivityStartNode("1"), new JsonAsyncHistoryPayloadCodec(), objectMapper);
+        bytes[3] = 100;
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes, objectMapper))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("No async history payload codec registered with id 100");
+    }
+
+    @Test
+    void deserializeWithUnsupportedFormatVersion() {
+        byte[] bytes = serializer.serialize(createActivityStartNode("1"), new JsonAsyncHistoryPayloadCodec(), objectMapper);
+        bytes[2] = 2;
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes, objectMapper))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("Unsupported async history payload format version 2");
+    }
+
+    @Test
+    void customCodec() {
+        AsyncHistoryPayloadCodec customCodec = new DeflateAsyncHistoryPayloadCodec((byte) 40, "\"customField\":".getBytes(StandardCharsets.UTF_8), 9);
+        ObjectNode historyNode = objectMapper.createObjectNode().put("customField", "value");
+
+        byte[] bytes = serializer.serialize(historyNode, customCodec, objectMapper);
+        assertThatThrownBy(() -> serializer.deserialize(bytes, objectMapper))
+                .isInstanceOf(FlowableException.class);
+
+        serializer.addCodec(customCodec);
+        assertThat(serializer.deserialize(bytes, objectMapper)).isEqualTo(historyNode);
+    }
+
+    protected ObjectNode createActivityStartNode(String id) {
+        ObjectNode historyNode = objectMapper.createObjectNode();
+        historyNode.put("type", "activity-start");
+        ObjectNode dataNode = historyNode.putObject("data");
+        dataNode.put("runtimeActivityInstanceId", "a7d3c2e1-0b4f-11eb-9a4c-0242ac13000" + id);
+        dataNode.put("processDefinitionId", "oneTaskProcess:1:a7c1b9f4-0b4f-11eb-9a4c-0242ac130003");
+        dataNode.put("processInstanceId", "a7d2f4a8-0b4f-11eb-9a4c-0242ac130003");
+        dataNode.put("executionId", "a7d31b9a-0b4f-11eb-9a4c-0242ac130003");
+        dataNode.put("activityId", "theTask");
+        dataNode.put("activityName", "my task");
+        dataNode.put("activityType", "userTask");
+        dataNode.put("startTime", "2020-10-08T12:00:00.000+0000");
+        dataNode.put("transactionOrder", 2);
+        dataNode.put("tenantId", "");
+        dataNode.put("__timeStamp", "2020-10-08T12:00:00.000+0000");
+        return historyNode;
+    }
+
+    protected byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        }
+        return outputStream.toByteArray();
+    }
+
+}
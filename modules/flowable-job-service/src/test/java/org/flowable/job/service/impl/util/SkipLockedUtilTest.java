@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.junit.jupiter.api.Test;
+
+class SkipLockedUtilTest {
+
+    @Test
+    void postgresVersions() {
+        assertThat(SkipLockedUtil.isSkipLockedSupported("postgres", "PostgreSQL", "9.4.26")).isFalse();
+        assertThat(SkipLockedUtil.isSkipLockedSupported("postgres", "PostgreSQL", "9.5.0")).isTrue();
+        assertThat(SkipLockedUtil.isSkipLockedSupported("postgres", "PostgreSQL", "12.4 (Debian 12.4-1.pgdg100+1)")).isTrue();
+    }
+
+    @Test
+    void mysqlVersions() {
+        assertThat(SkipLockedUtil.isSkipLockedSupported("mysql", "MySQL", "5.7.31")).isFalse();
+        assertThat(SkipLockedUtil.isSkipLockedSupported("mysql", "MySQL", "8.0.21")).isTrue();
+    }
+
+    @Test
+    void mariaDbVersions() {
+        assertThat(SkipLockedUtil.isSkipLockedSupported("mysql", "MariaDB", "10.5.8-MariaDB")).isFalse();
+        assertThat(SkipLockedUtil.isSkipLockedSupported("mysql", "MariaDB", "10.6.4-MariaDB")).isTrue();
+
+        // MariaDB through the MySQL driver reports a 5.5.5 prefix
+        assertThat(SkipLockedUtil.isSkipLockedSupported("mysql", "MySQL", "5.5.5-10.4.13-MariaDB")).isFalse();
+        assertThat(SkipLockedUtil.isSkipLockedSupported("mysql", "MySQL", "5.5.5-10.6.4-MariaDB-1:10.6.4+maria~focal")).isTrue();
+    }
+
+    @Test
+    void otherDatabases() {
+        assertThat(SkipLockedUtil.isSkipLockedSupported("h2", "H2", "1.4.200 (2019-10-14)")).isFalse();
+        assertThat(SkipLockedUtil.isSkipLockedSupported("oracle", "Oracle", "Oracle Database 19c")).isFalse();
+        assertThat(SkipLockedUtil.isSkipLockedSupported("postgres", "PostgreSQL", null)).isFalse();
+    }
+
+    @Test
+    void statementSelection() {
+        DbSqlSessionFactory dbSqlSessionFactory = new DbSqlSessionFactory(false);
+        dbSqlSessionFactory.setDatabaseType("mssql");
+        assertThat(dbSqlSessionFactory.mapStatement(SkipLockedUtil.getSkipLockedStatement("selectJobsToExecute")))
+                .isEqualTo("selectJobsToExecuteSkipLocked");
+
+        SkipLockedUtil.addDatabaseSpecificStatements(dbSqlSessionFactory);
+        assertThat(dbSqlSessionFactory.mapStatement(SkipLockedUtil.getSkipLockedStatement("selectJobsToExecute")))
+                .isEqualTo("selectJobsToExecuteSkipLocked_mssql");
+        assertThat(dbSqlSessionFactory.mapStatement(SkipLockedUtil.getSkipLockedStatement("selectTimerJobsToExecute")))
+                .isEqualTo("selectTimerJobsToExecuteSkipLocked_mssql");
+        assertThat(dbSqlSessionFactory.mapStatement(SkipLockedUtil.getSkipLockedStatement("selectHistoryJobsToExecute")))
+                .isEqualTo("selectHistoryJobsToExecuteSkipLocked_mssql");
+
+        dbSqlSessionFactory.setDatabaseType("postgres");
+        assertThat(dbSqlSessionFactory.mapStatement(SkipLockedUtil.getSkipLockedStatement("selectJobsToExecute")))
+                .isEqualTo("selectJobsToExecuteSkipLocked");
+
+        dbSqlSessionFactory.setDatabaseType("mysql");
+        assertThat(dbSqlSessionFactory.mapStatement(SkipLockedUtil.getSkipLockedStatement("selectTimerJobsToExecute")))
+                .isEqualTo("selectTimerJobsToExecuteSkipLocked");
+    }
+
+}
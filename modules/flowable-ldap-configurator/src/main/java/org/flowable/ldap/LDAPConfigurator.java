@@ -18,6 +18,7 @@ import org.flowable.common.engine.impl.EngineConfigurator;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.configurator.IdmEngineConfigurator;
+import org.flowable.idm.engine.impl.persistence.IdentityCache;
 
 /**
  * A {@link EngineConfigurator} that integrates a LDAP system with the Flowable process engine. The LDAP system will be consulted primarily for getting user information and in particular for
@@ -51,6 +52,7 @@ public class LDAPConfigurator extends IdmEngineConfigurator {
         if (ldapConfiguration.getGroupCacheSize() > 0) {
             ldapGroupCache = new LDAPGroupCache(ldapConfiguration.getGroupCacheSize(), 
                     ldapConfiguration.getGroupCacheExpirationTime(), engineConfiguration.getClock());
+            ldapGroupCache.setRefreshAheadTime(ldapConfiguration.getGroupCacheRefreshAheadTime());
             
             if (ldapConfiguration.getGroupCacheListener() != null) {
                 ldapGroupCache.setLdapCacheListener(ldapConfiguration.getGroupCacheListener());
@@ -59,8 +61,13 @@ public class LDAPConfigurator extends IdmEngineConfigurator {
         
         super.configure(engineConfiguration);
         
-        getIdmEngineConfiguration(engineConfiguration)
-                .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache, idmEngineConfiguration));
+        LDAPIdentityServiceImpl ldapIdentityService = new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache, idmEngineConfiguration);
+        if (ldapConfiguration.getUserCacheSize() > 0) {
+            ldapIdentityService.setLdapUserCache(new IdentityCache<>("ldapUser", ldapConfiguration.getUserCacheSize(),
+                    ldapConfiguration.getUserCacheExpirationTime(), -1, engineConfiguration::getClock));
+        }
+        
+        getIdmEngineConfiguration(engineConfiguration).setIdmIdentityService(ldapIdentityService);
     }
 
     // Getters and Setters //////////////////////////////////////////////////
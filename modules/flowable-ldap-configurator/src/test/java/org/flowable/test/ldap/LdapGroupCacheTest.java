@@ -18,6 +18,8 @@ import java.util.Date;
 
 import org.flowable.engine.impl.util.EngineServiceUtil;
 import org.flowable.engine.test.Deployment;
+import org.flowable.idm.api.User;
+import org.flowable.idm.engine.impl.persistence.IdentityCache;
 import org.flowable.ldap.LDAPGroupCache;
 import org.flowable.ldap.LDAPGroupCache.LDAPGroupCacheListener;
 import org.flowable.ldap.LDAPIdentityServiceImpl;
@@ -41,6 +43,7 @@ public class LdapGroupCacheTest extends LDAPTestCase {
         cacheListener = new TestLDAPGroupCacheListener();
         ldapGroupCache.setLdapCacheListener(cacheListener);
 
+        getLdapIdentityService().getLdapUserCache().clear();
     }
 
     @Test
@@ -98,6 +101,32 @@ public class LdapGroupCacheTest extends LDAPTestCase {
         assertThat(cacheListener.getLastCacheMiss()).isEqualTo("fozzie");
     }
 
+    @Test
+    public void testLdapUserCacheHandsOutCopies() {
+        IdentityCache<User> ldapUserCache = getLdapIdentityService().getLdapUserCache();
+        long hitCount = ldapUserCache.getHitCount();
+
+        User user = identityService.createUserQuery().userId("kermit").singleResult();
+        assertThat(user.getLastName()).isEqualTo("The Frog");
+        assertThat(ldapUserCache.size()).isEqualTo(1);
+
+        // Changing the returned user doesn't change the cached user
+        user.setLastName("Changed");
+
+        User cachedUser = identityService.createUserQuery().userId("kermit").singleResult();
+        assertThat(ldapUserCache.getHitCount()).isEqualTo(hitCount + 1);
+        assertThat(cachedUser).isNotSameAs(user);
+        assertThat(cachedUser.getLastName()).isEqualTo("The Frog");
+
+        cachedUser.setLastName("Changed");
+        assertThat(identityService.createUserQuery().userId("kermit").singleResult().getLastName()).isEqualTo("The Frog");
+        assertThat(ldapUserCache.getHitCount()).isEqualTo(hitCount + 2);
+    }
+
+    protected LDAPIdentityServiceImpl getLdapIdentityService() {
+        return (LDAPIdentityServiceImpl) EngineServiceUtil.getIdmIdentityService(processEngineConfiguration);
+    }
+
     // Test cache listener
     static class TestLDAPGroupCacheListener implements LDAPGroupCacheListener {
 
@@ -76,6 +76,11 @@ public class LDAPConfiguration {
     // Group caching
     protected int groupCacheSize = -1;
     protected long groupCacheExpirationTime = 3600000L; // default: one hour
+    protected long groupCacheRefreshAheadTime = -1;
+
+    // User caching
+    protected int userCacheSize = -1;
+    protected long userCacheExpirationTime = 3600000L; // default: one hour
 
     // Cache listener (experimental)
     protected LDAPGroupCacheListener groupCacheListener;
@@ -446,6 +451,47 @@ public class LDAPConfiguration {
         this.groupCacheExpirationTime = groupCacheExpirationTime;
     }
 
+    public long getGroupCacheRefreshAheadTime() {
+        return groupCacheRefreshAheadTime;
+    }
+
+    /**
+     * Sets the time in milliseconds before the expiration of a cached entry of the {@link LDAPGroupCache} in which the groups are fetched again from the LDAP system
+     * by one lookup, while the other lookups keep getting the cached groups. This avoids that all lookups of a user miss at the same time when the entry expires.
+     * <p>
+     * By default set to -1, so entries are not refreshed ahead of their expiration.
+     */
+    public void setGroupCacheRefreshAheadTime(long groupCacheRefreshAheadTime) {
+        this.groupCacheRefreshAheadTime = groupCacheRefreshAheadTime;
+    }
+
+    public int getUserCacheSize() {
+        return userCacheSize;
+    }
+
+    /**
+     * Allows to set the size of the user cache, which caches users looked up by id (e.g. for the current user) and thus avoids hitting the LDAP system
+     * each time a user needs to be known.
+     * <p>
+     * The cache will not be instantiated if the value is less then zero. By default set to -1, so no caching is done.
+     */
+    public void setUserCacheSize(int userCacheSize) {
+        this.userCacheSize = userCacheSize;
+    }
+
+    public long getUserCacheExpirationTime() {
+        return userCacheExpirationTime;
+    }
+
+    /**
+     * Sets the expiration time of the user cache in milliseconds (see {@link #setUserCacheSize(int)}).
+     * <p>
+     * By default set to one hour.
+     */
+    public void setUserCacheExpirationTime(long userCacheExpirationTime) {
+        this.userCacheExpirationTime = userCacheExpirationTime;
+    }
+
     public LDAPGroupCacheListener getGroupCacheListener() {
         return groupCacheListener;
     }
@@ -31,6 +31,7 @@ import org.flowable.idm.api.User;
 import org.flowable.idm.api.UserQuery;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.impl.IdmIdentityServiceImpl;
+import org.flowable.idm.engine.impl.persistence.IdentityCache;
 import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
 import org.flowable.idm.engine.impl.persistence.entity.UserEntityImpl;
 import org.flowable.ldap.impl.LDAPGroupQueryImpl;
@@ -44,6 +45,7 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
 
     protected LDAPConfiguration ldapConfigurator;
     protected LDAPGroupCache ldapGroupCache;
+    protected IdentityCache<User> ldapUserCache;
 
     public LDAPIdentityServiceImpl(LDAPConfiguration ldapConfigurator, LDAPGroupCache ldapGroupCache, IdmEngineConfiguration idmEngineConfiguration) {
         super(idmEngineConfiguration);
@@ -53,7 +55,7 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
 
     @Override
     public UserQuery createUserQuery() {
-        return new LDAPUserQueryImpl(ldapConfigurator);
+        return new LDAPUserQueryImpl(ldapConfigurator, ldapUserCache);
     }
 
     @Override
@@ -214,4 +216,12 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
     public void setLdapGroupCache(LDAPGroupCache ldapGroupCache) {
         this.ldapGroupCache = ldapGroupCache;
     }
+
+    public IdentityCache<User> getLdapUserCache() {
+        return ldapUserCache;
+    }
+
+    public void setLdapUserCache(IdentityCache<User> ldapUserCache) {
+        this.ldapUserCache = ldapUserCache;
+    }
 }
@@ -24,6 +24,7 @@ import javax.naming.directory.SearchResult;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.idm.api.User;
 import org.flowable.idm.engine.impl.UserQueryImpl;
+import org.flowable.idm.engine.impl.persistence.IdentityCache;
 import org.flowable.idm.engine.impl.persistence.entity.UserEntity;
 import org.flowable.idm.engine.impl.persistence.entity.UserEntityImpl;
 import org.flowable.ldap.LDAPCallBack;
@@ -39,9 +40,15 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
     private static final Logger LOGGER = LoggerFactory.getLogger(LDAPUserQueryImpl.class);
 
     protected LDAPConfiguration ldapConfigurator;
+    protected IdentityCache<User> ldapUserCache;
 
     public LDAPUserQueryImpl(LDAPConfiguration ldapConfigurator) {
+        this(ldapConfigurator, null);
+    }
+
+    public LDAPUserQueryImpl(LDAPConfiguration ldapConfigurator, IdentityCache<User> ldapUserCache) {
         this.ldapConfigurator = ldapConfigurator;
+        this.ldapUserCache = ldapUserCache;
     }
 
     @Override
@@ -57,7 +64,7 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
     protected List<User> executeQuery() {
         if (getId() != null) {
             List<User> result = new ArrayList<>();
-            UserEntity user = findById(getId());
+            User user = findCachedById(getId());
             if (user != null) {
                 result.add(user);
             }
@@ -82,6 +89,26 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
         }
     }
 
+    protected User findCachedById(String userId) {
+
+        // First try the cache (if one is defined), the cached users are never handed out so every lookup gets its own copy
+        if (ldapUserCache != null) {
+            User user = ldapUserCache.get(userId);
+            if (user != null) {
+                return ((UserEntityImpl) user).copy();
+            }
+        }
+
+        UserEntity user = findById(userId);
+
+        // Cache result for later
+        if (ldapUserCache != null && user instanceof UserEntityImpl) {
+            ldapUserCache.add(userId, ((UserEntityImpl) user).copy());
+        }
+
+        return user;
+    }
+
     protected List<User> executeNameQuery(String name) {
         String fullName = name.replaceAll("%", "");
         String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryByFullNameLike(ldapConfigurator, fullName);
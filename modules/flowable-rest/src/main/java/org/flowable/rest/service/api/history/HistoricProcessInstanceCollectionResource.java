@@ -68,6 +68,8 @@ public class HistoricProcessInstanceCollectionResource extends HistoricProcessIn
             @ApiImplicitParam(name = "tenantId", dataType = "string", value = "Only return instances with the given tenantId.", paramType = "query"),
             @ApiImplicitParam(name = "tenantIdLike", dataType = "string", value = "Only return instances with a tenantId like the given value.", paramType = "query"),
             @ApiImplicitParam(name = "withoutTenantId", dataType = "boolean", value = "If true, only returns instances without a tenantId set. If false, the withoutTenantId parameter is ignored.\n", paramType = "query"),
+            @ApiImplicitParam(name = "cursor", dataType = "string", value = "Use keyset pagination instead of the start parameter: empty for the first page, the nextCursor of the previous response for the following pages. Only supported when sorting on the id or the start/create time.", paramType = "query"),
+            @ApiImplicitParam(name = "includeTotal", dataType = "boolean", value = "If false, the total number of results is not counted and the total of the response is -1. Defaults to true.", paramType = "query"),
     })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates that historic process instances could be queried."),
@@ -16,13 +16,14 @@ package org.flowable.rest.service.api.repository;
 import java.io.InputStream;
 import java.util.List;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.rest.resolver.ContentTypeResolver;
+import org.flowable.common.rest.util.BinaryContentWriter;
 import org.flowable.engine.RepositoryService;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.rest.service.api.BpmnRestApiInterceptor;
@@ -42,7 +43,7 @@ public class BaseDeploymentResourceDataResource {
     @Autowired(required=false)
     protected BpmnRestApiInterceptor restApiInterceptor;
 
-    protected byte[] getDeploymentResourceData(String deploymentId, String resourceName, HttpServletResponse response) {
+    protected void writeDeploymentResourceData(String deploymentId, String resourceName, HttpServletRequest request, HttpServletResponse response) {
 
         if (deploymentId == null) {
             throw new FlowableIllegalArgumentException("No deployment id provided");
@@ -69,7 +70,9 @@ public class BaseDeploymentResourceDataResource {
             String contentType = contentTypeResolver.resolveContentType(resourceName);
             response.setContentType(contentType);
             try {
-                return IOUtils.toByteArray(resourceStream);
+                // Deployments are immutable, so the deployment id identifies the version of the resource
+                long lastModified = deployment.getDeploymentTime() != null ? deployment.getDeploymentTime().getTime() : -1;
+                BinaryContentWriter.write(request, response, resourceStream, -1, deploymentId, lastModified);
             } catch (Exception e) {
                 throw new FlowableException("Error converting resource stream", e);
             }
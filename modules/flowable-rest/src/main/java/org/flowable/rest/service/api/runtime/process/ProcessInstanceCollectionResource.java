@@ -94,7 +94,9 @@ public class ProcessInstanceCollectionResource extends BaseProcessInstanceResour
             @ApiImplicitParam(name = "tenantId", dataType = "string", value = "Only return process instances with the given tenantId.", paramType = "query"),
             @ApiImplicitParam(name = "tenantIdLike", dataType = "string", value = "Only return process instances with a tenantId like the given value.", paramType = "query"),
             @ApiImplicitParam(name = "withoutTenantId", dataType = "boolean", value = "If true, only returns process instances without a tenantId set. If false, the withoutTenantId parameter is ignored.", paramType = "query"),
-            @ApiImplicitParam(name = "sort", dataType = "string", value = "Property to sort on, to be used together with the order.", allowableValues = "id,processDefinitionId,tenantId,processDefinitionKey", paramType = "query"),
+            @ApiImplicitParam(name = "sort", dataType = "string", value = "Property to sort on, to be used together with the order.", allowableValues = "id,processDefinitionId,tenantId,processDefinitionKey,startTime", paramType = "query"),
+            @ApiImplicitParam(name = "cursor", dataType = "string", value = "Use keyset pagination instead of the start parameter: empty for the first page, the nextCursor of the previous response for the following pages. Only supported when sorting on the id or the start/create time.", paramType = "query"),
+            @ApiImplicitParam(name = "includeTotal", dataType = "boolean", value = "If false, the total number of results is not counted and the total of the response is -1. Defaults to true.", paramType = "query"),
     })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates request was successful and the process-instances are returned"),
@@ -101,6 +101,8 @@ public class TaskCollectionResource extends TaskBaseResource {
             @ApiImplicitParam(name = "withoutTenantId", dataType = "boolean", value = "If true, only returns tasks without a tenantId set. If false, the withoutTenantId parameter is ignored.", paramType = "query"),
             @ApiImplicitParam(name = "candidateOrAssigned", dataType = "string", value = "Select tasks that has been claimed or assigned to user or waiting to claim by user (candidate user or groups).", paramType = "query"),
             @ApiImplicitParam(name = "category", dataType = "string", value = "Select tasks with the given category. Note that this is the task category, not the category of the process definition (namespace within the BPMN Xml).\n", paramType = "query"),
+            @ApiImplicitParam(name = "cursor", dataType = "string", value = "Use keyset pagination instead of the start parameter: empty for the first page, the nextCursor of the previous response for the following pages. Only supported when sorting on the id or the start/create time.", paramType = "query"),
+            @ApiImplicitParam(name = "includeTotal", dataType = "boolean", value = "If false, the total number of results is not counted and the total of the response is -1. Defaults to true.", paramType = "query"),
     })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates request was successful and the tasks are returned"),
@@ -197,6 +197,35 @@ public class ProcessInstanceVariableResourceTest extends BaseSpringRestTestCase
         assertThat(response.getEntity().getContentType().getValue()).isEqualTo("application/octet-stream");
     }
 
+    /**
+     * Test getting a part of a process instance variable data and getting it conditionally. GET runtime/process-instances/{processInstanceId}/variables/{variableName}/data
+     */
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceVariableResourceTest.testProcess.bpmn20.xml" })
+    public void testGetProcessInstanceVariableDataRangeAndNotModified() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        runtimeService.setVariableLocal(processInstance.getId(), "var", "This is a binary piece of text".getBytes());
+
+        HttpGet httpGet = new HttpGet(
+                SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_VARIABLE_DATA, processInstance.getId(), "var"));
+        httpGet.setHeader("Range", "bytes=10-15");
+        CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+        assertThat(response.getFirstHeader("Content-Range").getValue()).isEqualTo("bytes 10-15/30");
+        assertThat(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8)).isEqualTo("binary");
+        String eTag = response.getFirstHeader("ETag").getValue();
+        closeResponse(response);
+
+        httpGet.removeHeaders("Range");
+        httpGet.setHeader("If-None-Match", eTag);
+        closeResponse(executeRequest(httpGet, HttpStatus.SC_NOT_MODIFIED));
+
+        // Changing the variable changes the ETag
+        runtimeService.setVariableLocal(processInstance.getId(), "var", "This is another binary piece of text".getBytes());
+        response = executeRequest(httpGet, HttpStatus.SC_OK);
+        assertThat(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8)).isEqualTo("This is another binary piece of text");
+        closeResponse(response);
+    }
+
     /**
      * Test getting a process instance variable data. GET runtime/process-instances/{processInstanceId}/variables/{variableName}
      */
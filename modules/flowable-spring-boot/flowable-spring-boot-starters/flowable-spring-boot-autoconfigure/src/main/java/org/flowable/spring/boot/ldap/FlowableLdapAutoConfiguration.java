@@ -13,6 +13,8 @@
 package org.flowable.spring.boot.ldap;
 
 import org.flowable.idm.api.IdmIdentityService;
+import org.flowable.idm.api.User;
+import org.flowable.idm.engine.impl.persistence.IdentityCache;
 import org.flowable.idm.spring.SpringIdmEngineConfiguration;
 import org.flowable.ldap.LDAPConfiguration;
 import org.flowable.ldap.LDAPGroupCache;
@@ -84,9 +86,12 @@ public class FlowableLdapAutoConfiguration {
 
     @Bean
     public EngineConfigurationConfigurer<SpringIdmEngineConfiguration> ldapIdmEngineConfigurer(LDAPConfiguration ldapConfiguration) {
-        return idmEngineConfiguration -> idmEngineConfiguration
-            .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, 
-                    createCache(idmEngineConfiguration, ldapConfiguration), idmEngineConfiguration));
+        return idmEngineConfiguration -> {
+            LDAPIdentityServiceImpl ldapIdentityService = new LDAPIdentityServiceImpl(ldapConfiguration,
+                    createCache(idmEngineConfiguration, ldapConfiguration), idmEngineConfiguration);
+            ldapIdentityService.setLdapUserCache(createUserCache(idmEngineConfiguration, ldapConfiguration));
+            idmEngineConfiguration.setIdmIdentityService(ldapIdentityService);
+        };
     }
 
     // We need a custom AuthenticationProvider for the LDAP Support
@@ -106,6 +111,7 @@ public class FlowableLdapAutoConfiguration {
             // We need to use a supplier for the clock as the clock would be created later
             ldapGroupCache = new LDAPGroupCache(ldapConfiguration.getGroupCacheSize(),
                 ldapConfiguration.getGroupCacheExpirationTime(), engineConfiguration::getClock);
+            ldapGroupCache.setRefreshAheadTime(ldapConfiguration.getGroupCacheRefreshAheadTime());
 
             if (ldapConfiguration.getGroupCacheListener() != null) {
                 ldapGroupCache.setLdapCacheListener(ldapConfiguration.getGroupCacheListener());
@@ -114,4 +120,12 @@ public class FlowableLdapAutoConfiguration {
         return ldapGroupCache;
     }
 
+    protected IdentityCache<User> createUserCache(SpringIdmEngineConfiguration engineConfiguration, LDAPConfiguration ldapConfiguration) {
+        if (ldapConfiguration.getUserCacheSize() > 0) {
+            return new IdentityCache<>("ldapUser", ldapConfiguration.getUserCacheSize(),
+                ldapConfiguration.getUserCacheExpirationTime(), -1, engineConfiguration::getClock);
+        }
+        return null;
+    }
+
 }
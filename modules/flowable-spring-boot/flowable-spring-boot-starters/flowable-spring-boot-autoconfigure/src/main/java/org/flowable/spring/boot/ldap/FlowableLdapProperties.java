@@ -509,6 +509,26 @@ public class FlowableLdapProperties {
         //TODO once we move to Boot 2.0 we can use Duration as a parameter’
         private long groupExpiration = Duration.of(1, ChronoUnit.HOURS).toMillis();
 
+        /**
+         * Sets the time in milliseconds before the expiration of a cached entry of the {@link org.flowable.ldap.LDAPGroupCache} in which the groups are fetched
+         * again from the LDAP system by one lookup, while the other lookups keep getting the cached groups.
+         * <p>
+         * By default set to -1, so entries are not refreshed ahead of their expiration.
+         */
+        private long groupRefreshAhead = -1;
+
+        /**
+         * Allows to set the size of the user cache, which caches users looked up by id and thus avoids hitting the LDAP system each time a user needs to be known.
+         * <p>
+         * The cache will not be instantiated if the value is less then zero. By default set to -1, so no caching is done.
+         */
+        private int userSize = -1;
+
+        /**
+         * Sets the expiration time of the user cache in milliseconds. By default set to one hour.
+         */
+        private long userExpiration = Duration.of(1, ChronoUnit.HOURS).toMillis();
+
         public int getGroupSize() {
             return groupSize;
         }
@@ -525,9 +545,36 @@ public class FlowableLdapProperties {
             this.groupExpiration = groupExpiration;
         }
 
+        public long getGroupRefreshAhead() {
+            return groupRefreshAhead;
+        }
+
+        public void setGroupRefreshAhead(long groupRefreshAhead) {
+            this.groupRefreshAhead = groupRefreshAhead;
+        }
+
+        public int getUserSize() {
+            return userSize;
+        }
+
+        public void setUserSize(int userSize) {
+            this.userSize = userSize;
+        }
+
+        public long getUserExpiration() {
+            return userExpiration;
+        }
+
+        public void setUserExpiration(long userExpiration) {
+            this.userExpiration = userExpiration;
+        }
+
         public void customize(LDAPConfiguration configuration) {
             configuration.setGroupCacheSize(getGroupSize());
             configuration.setGroupCacheExpirationTime(getGroupExpiration());
+            configuration.setGroupCacheRefreshAheadTime(getGroupRefreshAhead());
+            configuration.setUserCacheSize(getUserSize());
+            configuration.setUserCacheExpirationTime(getUserExpiration());
         }
     }
 }
@@ -0,0 +1,186 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.metrics;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+import org.flowable.cmmn.spring.SpringCmmnEngineConfiguration;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheStatistics;
+import org.flowable.common.spring.async.SpringAsyncTaskExecutor;
+import org.flowable.dmn.spring.SpringDmnEngineConfiguration;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.spring.boot.ProcessEngineAutoConfiguration;
+import org.flowable.spring.boot.app.AppEngineAutoConfiguration;
+import org.flowable.spring.boot.cmmn.CmmnEngineAutoConfiguration;
+import org.flowable.spring.boot.dmn.DmnEngineAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncListenableTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration} publishing metrics of the hot paths of the engines to Micrometer:
+ * command execution times, session flushes, job acquisition, rejected jobs, optimistic locking failures,
+ * the size of the async executor queue and the hit ratio of the definition caches.
+ *
+ * The metrics are opt-in, they are only published when the property {@code flowable.metrics.enabled} is {@code true}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "flowable.metrics", name = "enabled", havingValue = "true")
+@AutoConfigureAfter({
+    MetricsAutoConfiguration.class,
+    CompositeMeterRegistryAutoConfiguration.class
+})
+@AutoConfigureBefore({
+    AppEngineAutoConfiguration.class,
+    ProcessEngineAutoConfiguration.class,
+    CmmnEngineAutoConfiguration.class,
+    DmnEngineAutoConfiguration.class
+})
+public class FlowableMetricsAutoConfiguration {
+
+    public static final String EXECUTOR_QUEUE_SIZE_METER_NAME = "flowable.job.executor.queue.size";
+    public static final String CACHE_HIT_RATIO_METER_NAME = "flowable.deployment.cache.hit.ratio";
+    public static final String CACHE_EVICTIONS_METER_NAME = "flowable.deployment.cache.evictions";
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.flowable.spring.SpringProcessEngineConfiguration")
+    public static class ProcessEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsProcessEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> metricsProcessEngineConfigurationConfigurer(MeterRegistry meterRegistry) {
+            return processEngineConfiguration -> {
+                processEngineConfiguration.setEngineMetricsListener(new MicrometerEngineMetricsListener(meterRegistry, "bpmn"));
+                registerExecutorQueueSizeGauge(meterRegistry, "bpmn", processEngineConfiguration, SpringProcessEngineConfiguration::getAsyncTaskExecutor);
+                registerDeploymentCacheMeters(meterRegistry, "bpmn", "processDefinition", processEngineConfiguration,
+                        SpringProcessEngineConfiguration::getProcessDefinitionCache);
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.flowable.cmmn.spring.SpringCmmnEngineConfiguration")
+    public static class CmmnEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsCmmnEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringCmmnEngineConfiguration> metricsCmmnEngineConfigurationConfigurer(MeterRegistry meterRegistry) {
+            return cmmnEngineConfiguration -> {
+                cmmnEngineConfiguration.setEngineMetricsListener(new MicrometerEngineMetricsListener(meterRegistry, "cmmn"));
+                registerExecutorQueueSizeGauge(meterRegistry, "cmmn", cmmnEngineConfiguration, SpringCmmnEngineConfiguration::getAsyncTaskExecutor);
+                registerDeploymentCacheMeters(meterRegistry, "cmmn", "caseDefinition", cmmnEngineConfiguration,
+                        SpringCmmnEngineConfiguration::getCaseDefinitionCache);
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.flowable.dmn.spring.SpringDmnEngineConfiguration")
+    public static class DmnEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsDmnEngineConfigurationConfigurer")
+        public EngineConfigurationConfigurer<SpringDmnEngineConfiguration> metricsDmnEngineConfigurationConfigurer(MeterRegistry meterRegistry) {
+            return dmnEngineConfiguration -> {
+                dmnEngineConfiguration.setEngineMetricsListener(new MicrometerEngineMetricsListener(meterRegistry, "dmn"));
+                registerDeploymentCacheMeters(meterRegistry, "dmn", "decision", dmnEngineConfiguration,
+                        SpringDmnEngineConfiguration::getDefinitionCache);
+            };
+        }
+    }
+
+    /**
+     * The meters get the cache from the engine configuration every time they are read,
+     * as the caches and task executors are only created when the engine is built.
+     */
+    protected static <C> void registerDeploymentCacheMeters(MeterRegistry meterRegistry, String engine, String cache,
+            C engineConfiguration, Function<C, DeploymentCache<?>> cacheGetter) {
+
+        Gauge.builder(CACHE_HIT_RATIO_METER_NAME, engineConfiguration, configuration -> {
+                    DeploymentCacheStatistics statistics = getCacheStatistics(cacheGetter.apply(configuration));
+                    if (statistics == null) {
+                        return Double.NaN;
+                    }
+                    long requestCount = statistics.getHitCount() + statistics.getMissCount();
+                    return requestCount > 0 ? (double) statistics.getHitCount() / requestCount : Double.NaN;
+                })
+                .description("Ratio of the definition cache lookups that found the definition in the cache")
+                .tag("engine", engine)
+                .tag("cache", cache)
+                .register(meterRegistry);
+
+        FunctionCounter.builder(CACHE_EVICTIONS_METER_NAME, engineConfiguration, configuration -> {
+                    DeploymentCacheStatistics statistics = getCacheStatistics(cacheGetter.apply(configuration));
+                    return statistics != null ? statistics.getEvictionCount() : 0;
+                })
+                .description("Number of definitions evicted from the definition cache")
+                .tag("engine", engine)
+                .tag("cache", cache)
+                .register(meterRegistry);
+    }
+
+    protected static <C> void registerExecutorQueueSizeGauge(MeterRegistry meterRegistry, String engine,
+            C engineConfiguration, Function<C, AsyncTaskExecutor> taskExecutorGetter) {
+
+        Gauge.builder(EXECUTOR_QUEUE_SIZE_METER_NAME, engineConfiguration, configuration -> {
+                    BlockingQueue<Runnable> queue = getQueue(taskExecutorGetter.apply(configuration));
+                    return queue != null ? queue.size() : Double.NaN;
+                })
+                .description("Number of jobs waiting in the queue of the async executor for a free thread")
+                .tag("engine", engine)
+                .register(meterRegistry);
+    }
+
+    protected static DeploymentCacheStatistics getCacheStatistics(DeploymentCache<?> cache) {
+        return cache instanceof DeploymentCacheStatistics ? (DeploymentCacheStatistics) cache : null;
+    }
+
+    protected static BlockingQueue<Runnable> getQueue(AsyncTaskExecutor taskExecutor) {
+        if (taskExecutor instanceof DefaultAsyncTaskExecutor) {
+            return ((DefaultAsyncTaskExecutor) taskExecutor).getThreadPoolQueue();
+
+        } else if (taskExecutor instanceof SpringAsyncTaskExecutor) {
+            AsyncListenableTaskExecutor springTaskExecutor = ((SpringAsyncTaskExecutor) taskExecutor).getAsyncTaskExecutor();
+            if (springTaskExecutor instanceof ThreadPoolTaskExecutor) {
+                try {
+                    return ((ThreadPoolTaskExecutor) springTaskExecutor).getThreadPoolExecutor().getQueue();
+                } catch (IllegalStateException e) {
+                    // the executor is not initialized yet
+                    return null;
+                }
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,174 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.metrics.EngineMetricsListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link EngineMetricsListener} publishing the measurements of one engine to a Micrometer {@link MeterRegistry}.
+ * All meters are tagged with the engine, e.g. <code>engine=bpmn</code>.
+ *
+ * All meters are cached per tag values, as they are used on every command execution or job acquisition.
+ * Commands implemented as lambda get the name of the class that defines them, followed by <code>$Lambda</code>.
+ */
+public class MicrometerEngineMetricsListener implements EngineMetricsListener {
+
+    public static final String COMMAND_METER_NAME = "flowable.command";
+    public static final String OPTIMISTIC_LOCKING_FAILURES_METER_NAME = "flowable.command.optimistic.locking.failures";
+    public static final String FLUSH_METER_NAME = "flowable.session.flush";
+    public static final String FLUSH_ENTITIES_METER_NAME = "flowable.session.flush.entities";
+    public static final String JOB_ACQUISITION_METER_NAME = "flowable.job.acquisition";
+    public static final String JOB_ACQUISITION_SIZE_METER_NAME = "flowable.job.acquisition.size";
+    public static final String JOB_REJECTED_METER_NAME = "flowable.job.rejected";
+
+    protected static final String NO_EXCEPTION = "none";
+    protected static final String LAMBDA_CLASS_NAME_SEPARATOR = "$$Lambda";
+
+    protected final MeterRegistry meterRegistry;
+    protected final String engine;
+
+    protected final Map<Class<?>, Timer> commandTimers = new ConcurrentHashMap<>();
+    protected final Map<Class<?>, Map<Class<?>, Timer>> failedCommandTimers = new ConcurrentHashMap<>();
+    protected final Map<Class<?>, Counter> optimisticLockingFailureCounters = new ConcurrentHashMap<>();
+    protected final Map<String, Timer> jobAcquisitionTimers = new ConcurrentHashMap<>();
+    protected final Map<String, DistributionSummary> jobAcquisitionSizes = new ConcurrentHashMap<>();
+    protected final Map<String, Counter> jobRejectedCounters = new ConcurrentHashMap<>();
+    protected final Timer flushTimer;
+    protected final Counter flushedInserts;
+    protected final Counter flushedUpdates;
+    protected final Counter flushedDeletes;
+
+    public MicrometerEngineMetricsListener(MeterRegistry meterRegistry, String engine) {
+        this.meterRegistry = meterRegistry;
+        this.engine = engine;
+
+        this.flushTimer = Timer.builder(FLUSH_METER_NAME)
+                .description("Time needed to flush the changes of a command to the database")
+                .tag("engine", engine)
+                .register(meterRegistry);
+        this.flushedInserts = createFlushCounter("insert");
+        this.flushedUpdates = createFlushCounter("update");
+        this.flushedDeletes = createFlushCounter("delete");
+    }
+
+    @Override
+    public void commandExecuted(Class<?> commandClass, long durationNanos, Throwable exception) {
+        Timer timer;
+        if (exception == null) {
+            timer = commandTimers.computeIfAbsent(commandClass, key -> createCommandTimer(key, NO_EXCEPTION));
+        } else {
+            timer = failedCommandTimers.computeIfAbsent(commandClass, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(exception.getClass(), key -> createCommandTimer(commandClass, key.getSimpleName()));
+
+            if (exception instanceof FlowableOptimisticLockingException) {
+                optimisticLockingFailureCounters.computeIfAbsent(commandClass, key -> Counter.builder(OPTIMISTIC_LOCKING_FAILURES_METER_NAME)
+                        .description("Number of commands that failed because of a concurrent modification of the same data")
+                        .tag("engine", engine)
+                        .tag("command", getCommandName(key))
+                        .register(meterRegistry))
+                        .increment();
+            }
+        }
+
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void sessionFlushed(int inserts, int updates, int deletes, long durationNanos) {
+        flushTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        flushedInserts.increment(inserts);
+        flushedUpdates.increment(updates);
+        flushedDeletes.increment(deletes);
+    }
+
+    @Override
+    public void jobsAcquired(String acquisitionType, int jobCount, long durationNanos) {
+        jobAcquisitionTimers.computeIfAbsent(acquisitionType, key -> Timer.builder(JOB_ACQUISITION_METER_NAME)
+                .description("Time needed to acquire jobs")
+                .tag("engine", engine)
+                .tag("type", key)
+                .register(meterRegistry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        jobAcquisitionSizes.computeIfAbsent(acquisitionType, key -> DistributionSummary.builder(JOB_ACQUISITION_SIZE_METER_NAME)
+                .description("Number of jobs acquired per acquisition")
+                .tag("engine", engine)
+                .tag("type", key)
+                .register(meterRegistry))
+                .record(jobCount);
+    }
+
+    @Override
+    public void jobRejected(String jobHandlerType) {
+        jobRejectedCounters.computeIfAbsent(jobHandlerType != null ? jobHandlerType : "unknown", key -> Counter.builder(JOB_REJECTED_METER_NAME)
+                .description("Number of acquired jobs rejected because the task executor was saturated")
+                .tag("engine", engine)
+                .tag("handler", key)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    protected Timer createCommandTimer(Class<?> commandClass, String exception) {
+        return Timer.builder(COMMAND_METER_NAME)
+                .description("Execution time of commands, including the flush and the transaction commit")
+                .tag("engine", engine)
+                .tag("command", getCommandName(commandClass))
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the simple name of the command class. The generated classes of lambdas and anonymous classes
+     *         get a name derived from the class defining them, so the name is the same for every run of the application.
+     */
+    protected String getCommandName(Class<?> commandClass) {
+        String className = commandClass.getName();
+        int lambdaIndex = className.indexOf(LAMBDA_CLASS_NAME_SEPARATOR);
+        if (lambdaIndex > 0) {
+            return className.substring(className.lastIndexOf('.', lambdaIndex) + 1, lambdaIndex) + "$Lambda";
+        }
+
+        String simpleName = commandClass.getSimpleName();
+        if (simpleName.isEmpty()) {
+            // Anonymous class, e.g. MyService$1
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+        return simpleName;
+    }
+
+    protected Counter createFlushCounter(String operation) {
+        return Counter.builder(FLUSH_ENTITIES_METER_NAME)
+                .description("Number of entities written to the database when flushing")
+                .tag("engine", engine)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    public String getEngine() {
+        return engine;
+    }
+}
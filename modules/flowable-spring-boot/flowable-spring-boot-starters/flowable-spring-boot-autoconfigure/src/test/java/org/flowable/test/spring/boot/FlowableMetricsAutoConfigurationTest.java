@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.spring.boot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.spring.boot.ProcessEngineAutoConfiguration;
+import org.flowable.spring.boot.ProcessEngineServicesAutoConfiguration;
+import org.flowable.spring.boot.metrics.FlowableMetricsAutoConfiguration;
+import org.flowable.spring.boot.metrics.MicrometerEngineMetricsListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class FlowableMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            FlowableMetricsAutoConfiguration.class,
+            ProcessEngineServicesAutoConfiguration.class,
+            ProcessEngineAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            DataSourceAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+        ))
+        .withUserConfiguration(MeterRegistryConfiguration.class)
+        .withClassLoader(new FilteredClassLoader(EntityManagerFactory.class));
+
+    @Test
+    public void metricsAreDisabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(FlowableMetricsAutoConfiguration.class);
+
+            ProcessEngine processEngine = context.getBean(ProcessEngine.class);
+            assertThat(((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getEngineMetricsListener()).isNull();
+        });
+    }
+
+    @Test
+    public void processEngineMetricsArePublished() {
+        contextRunner.withPropertyValues("flowable.metrics.enabled=true").run(context -> {
+            ProcessEngine processEngine = context.getBean(ProcessEngine.class);
+            assertThat(((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getEngineMetricsListener())
+                .isInstanceOf(MicrometerEngineMetricsListener.class);
+
+            processEngine.getManagementService().getTableCount();
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            Timer commandTimer = meterRegistry.find(MicrometerEngineMetricsListener.COMMAND_METER_NAME)
+                .tags("engine", "bpmn", "command", "GetTableCountCmd", "exception", "none")
+                .timer();
+            assertThat(commandTimer).isNotNull();
+            assertThat(commandTimer.count()).isEqualTo(1);
+
+            assertThat(meterRegistry.find(MicrometerEngineMetricsListener.FLUSH_METER_NAME).tag("engine", "bpmn").timer()).isNotNull();
+            assertThat(meterRegistry.find(FlowableMetricsAutoConfiguration.CACHE_HIT_RATIO_METER_NAME)
+                .tags("engine", "bpmn", "cache", "processDefinition")
+                .gauge()).isNotNull();
+            assertThat(meterRegistry.find(FlowableMetricsAutoConfiguration.EXECUTOR_QUEUE_SIZE_METER_NAME).tag("engine", "bpmn").gauge()).isNotNull();
+        });
+    }
+
+    @Test
+    public void lambdaAndFailedCommandMetricsArePublished() {
+        contextRunner.withPropertyValues("flowable.metrics.enabled=true").run(context -> {
+            ManagementService managementService = context.getBean(ProcessEngine.class).getManagementService();
+            for (int i = 0; i < 2; i++) {
+                managementService.executeCommand(commandContext -> null);
+
+                assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+                    throw new FlowableOptimisticLockingException("concurrent modification");
+                })).isInstanceOf(FlowableOptimisticLockingException.class);
+            }
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            Timer lambdaCommandTimer = meterRegistry.find(MicrometerEngineMetricsListener.COMMAND_METER_NAME)
+                .tags("engine", "bpmn", "command", "FlowableMetricsAutoConfigurationTest$Lambda", "exception", "none")
+                .timer();
+            assertThat(lambdaCommandTimer).isNotNull();
+            assertThat(lambdaCommandTimer.count()).isEqualTo(2);
+
+            Timer failedCommandTimer = meterRegistry.find(MicrometerEngineMetricsListener.COMMAND_METER_NAME)
+                .tags("engine", "bpmn", "command", "FlowableMetricsAutoConfigurationTest$Lambda", "exception", "FlowableOptimisticLockingException")
+                .timer();
+            assertThat(failedCommandTimer).isNotNull();
+            assertThat(failedCommandTimer.count()).isEqualTo(2);
+
+            Counter optimisticLockingFailures = meterRegistry.find(MicrometerEngineMetricsListener.OPTIMISTIC_LOCKING_FAILURES_METER_NAME)
+                .tags("engine", "bpmn", "command", "FlowableMetricsAutoConfigurationTest$Lambda")
+                .counter();
+            assertThat(optimisticLockingFailures).isNotNull();
+            assertThat(optimisticLockingFailures.count()).isEqualTo(2);
+        });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -90,4 +91,14 @@ public interface HistoricTaskService {
     void deleteHistoricTaskInstancesForNonExistingProcessInstances();
     
     void deleteHistoricTaskInstancesForNonExistingCaseInstances();
+
+    /**
+     * Deletes the historic tasks and task log entries of the given process instances with bulk deletes.
+     */
+    void deleteHistoricTaskInstancesAndLogEntriesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    /**
+     * Deletes the historic tasks and task log entries of the given scopes with bulk deletes.
+     */
+    void deleteHistoricTaskInstancesAndLogEntriesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
@@ -67,6 +67,13 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
     
     protected boolean enableTaskRelationshipCounts;
     protected boolean enableLocalization;
+
+    /**
+     * Whether the candidate tasks of a task query are selected with one (uncorrelated) subquery on the identity links,
+     * instead of a correlated exists subquery per task. This lets the database use the user and group indexes of the identity links
+     * to find the candidate tasks, which is faster when there are many open tasks and the user is a member of many groups.
+     */
+    protected boolean enableCandidateTaskSubqueries;
     
     protected TaskQueryInterceptor taskQueryInterceptor;
     protected HistoricTaskQueryInterceptor historicTaskQueryInterceptor;
@@ -249,6 +256,15 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isEnableCandidateTaskSubqueries() {
+        return enableCandidateTaskSubqueries;
+    }
+
+    public TaskServiceConfiguration setEnableCandidateTaskSubqueries(boolean enableCandidateTaskSubqueries) {
+        this.enableCandidateTaskSubqueries = enableCandidateTaskSubqueries;
+        return this;
+    }
+
     public TaskQueryInterceptor getTaskQueryInterceptor() {
         return taskQueryInterceptor;
     }
@@ -18,10 +18,13 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
+import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
@@ -211,6 +214,28 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return tasks;
     }
 
+    @Override
+    protected Cursor<HistoricTaskInstance> executeCursor(CommandContext commandContext) {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            throw new FlowableIllegalArgumentException("Streaming results is not supported when including variables or identity links");
+        }
+        ensureVariablesInitialized();
+
+        if (taskServiceConfiguration.getHistoricTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getHistoricTaskQueryInterceptor().beforeHistoricTaskQueryExecute(this);
+        }
+
+        return taskServiceConfiguration.getHistoricTaskInstanceEntityManager().findHistoricTaskInstanceCursorByQueryCriteria(this);
+    }
+
+    @Override
+    protected HistoricTaskInstance processCursorResult(CommandContext commandContext, HistoricTaskInstance task) {
+        if (taskServiceConfiguration.getInternalTaskLocalizationManager() != null && taskServiceConfiguration.isEnableLocalization()) {
+            taskServiceConfiguration.getInternalTaskLocalizationManager().localize(task, locale, withLocalizationFallback);
+        }
+        return task;
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricTaskInstance> results, boolean local) {
         for (HistoricTaskInstance task : results) {
             if (Objects.equals(taskId, task.getId())) {
@@ -1738,6 +1763,34 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         }
     }
 
+    @Override
+    protected void checkKeysetPaginationSupported() {
+        super.checkKeysetPaginationSupported();
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            throw new FlowableIllegalArgumentException("Keyset pagination is not supported when including variables or identity links");
+        }
+    }
+
+    @Override
+    protected QueryProperty getKeysetIdProperty() {
+        return HistoricTaskInstanceQueryProperty.HISTORIC_TASK_INSTANCE_ID;
+    }
+
+    @Override
+    protected String getKeysetId(HistoricTaskInstance historicTaskInstance) {
+        return historicTaskInstance.getId();
+    }
+
+    @Override
+    protected Function<HistoricTaskInstance, Object> getKeysetSortValueProvider(String column) {
+        if (HistoricTaskInstanceQueryProperty.START.getName().equals(column)) {
+            return HistoricTaskInstance::getStartTime;
+        } else if (HistoricTaskInstanceQueryProperty.TASK_PRIORITY.getName().equals(column)) {
+            return HistoricTaskInstance::getPriority;
+        }
+        return null;
+    }
+
     public String getMssqlOrDB2OrderBy() {
         String specialOrderBy = super.getOrderByColumns();
         if (specialOrderBy != null && specialOrderBy.length() > 0) {
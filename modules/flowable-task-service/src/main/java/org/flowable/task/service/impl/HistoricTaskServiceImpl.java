@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -228,6 +229,22 @@ public class HistoricTaskServiceImpl extends CommonServiceImpl<TaskServiceConfig
         getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesForNonExistingCaseInstances();
     }
 
+    @Override
+    public void deleteHistoricTaskInstancesAndLogEntriesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        if (this.configuration.isEnableHistoricTaskLogging()) {
+            getHistoricTaskLogEntryEntityManager().deleteHistoricTaskLogEntriesByProcessInstanceIds(processInstanceIds);
+        }
+        getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricTaskInstancesAndLogEntriesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        if (this.configuration.isEnableHistoricTaskLogging()) {
+            getHistoricTaskLogEntryEntityManager().deleteHistoricTaskLogEntriesByScopeIdsAndScopeType(scopeIds, scopeType);
+        }
+        getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     @Override
     public NativeHistoricTaskLogEntryQuery createNativeHistoricTaskLogEntryQuery(CommandExecutor commandExecutor) {
         return new NativeHistoricTaskLogEntryQueryImpl(commandExecutor, configuration);
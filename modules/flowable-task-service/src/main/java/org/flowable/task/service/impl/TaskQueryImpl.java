@@ -17,10 +17,13 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
+import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -1692,6 +1695,34 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return orderBy(TaskQueryProperty.TENANT_ID);
     }
 
+    @Override
+    protected void checkKeysetPaginationSupported() {
+        super.checkKeysetPaginationSupported();
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            throw new FlowableIllegalArgumentException("Keyset pagination is not supported when including variables or identity links");
+        }
+    }
+
+    @Override
+    protected QueryProperty getKeysetIdProperty() {
+        return TaskQueryProperty.TASK_ID;
+    }
+
+    @Override
+    protected String getKeysetId(Task task) {
+        return task.getId();
+    }
+
+    @Override
+    protected Function<Task, Object> getKeysetSortValueProvider(String column) {
+        if (TaskQueryProperty.CREATE_TIME.getName().equals(column)) {
+            return Task::getCreateTime;
+        } else if (TaskQueryProperty.PRIORITY.getName().equals(column)) {
+            return Task::getPriority;
+        }
+        return null;
+    }
+
     public String getMssqlOrDB2OrderBy() {
         String specialOrderBy = super.getOrderByColumns();
         if (specialOrderBy != null && specialOrderBy.length() > 0) {
@@ -1738,6 +1769,28 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return tasks;
     }
 
+    @Override
+    protected Cursor<Task> executeCursor(CommandContext commandContext) {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            throw new FlowableIllegalArgumentException("Streaming results is not supported when including variables or identity links");
+        }
+        ensureVariablesInitialized();
+
+        if (taskServiceConfiguration.getTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getTaskQueryInterceptor().beforeTaskQueryExecute(this);
+        }
+
+        return taskServiceConfiguration.getTaskEntityManager().findTaskCursorByQueryCriteria(this);
+    }
+
+    @Override
+    protected Task processCursorResult(CommandContext commandContext, Task task) {
+        if (taskServiceConfiguration.getInternalTaskLocalizationManager() != null && taskServiceConfiguration.isEnableLocalization()) {
+            taskServiceConfiguration.getInternalTaskLocalizationManager().localize(task, locale, withLocalizationFallback);
+        }
+        return task;
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<Task> results, boolean local) {
         for (Task task : results) {
             if (Objects.equals(taskId, task.getId())) {
@@ -2082,6 +2135,10 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return includeIdentityLinks;
     }
 
+    public boolean isCandidateTaskSubqueries() {
+        return taskServiceConfiguration != null && taskServiceConfiguration.isEnableCandidateTaskSubqueries();
+    }
+
     public boolean isBothCandidateAndAssigned() {
         return bothCandidateAndAssigned;
     }
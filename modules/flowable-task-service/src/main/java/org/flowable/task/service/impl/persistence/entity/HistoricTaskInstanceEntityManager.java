@@ -12,9 +12,11 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
@@ -34,6 +36,8 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
+    Cursor<HistoricTaskInstance> findHistoricTaskInstanceCursorByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
+
     List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByNativeQuery(Map<String, Object> parameterMap);
@@ -45,4 +49,8 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
     void deleteHistoricTaskInstancesForNonExistingProcessInstances();
     
     void deleteHistoricTaskInstancesForNonExistingCaseInstances();
+
+    void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricTaskInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
\ No newline at end of file
@@ -13,10 +13,12 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
@@ -66,6 +68,14 @@ public class HistoricTaskInstanceEntityManagerImpl
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public Cursor<HistoricTaskInstance> findHistoricTaskInstanceCursorByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
+        if (serviceConfiguration.isHistoryEnabled()) {
+            return dataManager.findHistoricTaskInstanceCursorByQueryCriteria(historicTaskInstanceQuery);
+        }
+        return null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
@@ -100,6 +110,16 @@ public class HistoricTaskInstanceEntityManagerImpl
         dataManager.deleteHistoricTaskInstancesForNonExistingCaseInstances();
     }
 
+    @Override
+    public void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteHistoricTaskInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricTaskInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        dataManager.deleteHistoricTaskInstancesByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     public HistoricTaskInstanceDataManager getHistoricTaskInstanceDataManager() {
         return dataManager;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -46,4 +47,8 @@ public interface HistoricTaskLogEntryEntityManager extends EntityManager<Histori
     void deleteHistoricTaskLogEntriesForNonExistingProcessInstances();
     
     void deleteHistoricTaskLogEntriesForNonExistingCaseInstances();
+
+    void deleteHistoricTaskLogEntriesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricTaskLogEntriesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
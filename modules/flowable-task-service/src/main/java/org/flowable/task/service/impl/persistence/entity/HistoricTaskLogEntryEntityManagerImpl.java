@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -81,6 +82,16 @@ public class HistoricTaskLogEntryEntityManagerImpl
         getDataManager().deleteHistoricTaskLogEntriesForNonExistingCaseInstances();
     }
 
+    @Override
+    public void deleteHistoricTaskLogEntriesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDataManager().deleteHistoricTaskLogEntriesByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricTaskLogEntriesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getDataManager().deleteHistoricTaskLogEntriesByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     @Override
     public void createHistoricTaskLogEntry(HistoricTaskLogEntryBuilder historicTaskLogEntryBuilder) {
         HistoricTaskLogEntryEntity historicTaskLogEntryEntity = getDataManager().create();
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.task.api.Task;
@@ -166,6 +167,11 @@ public class TaskEntityManagerImpl extends AbstractTaskServiceEntityManager<Task
         return dataManager.findTasksByQueryCriteria(taskQuery);
     }
 
+    @Override
+    public Cursor<Task> findTaskCursorByQueryCriteria(TaskQueryImpl taskQuery) {
+        return dataManager.findTaskCursorByQueryCriteria(taskQuery);
+    }
+
     @Override
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
         return dataManager.findTasksWithRelatedEntitiesByQueryCriteria(taskQuery);
@@ -12,9 +12,11 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
@@ -36,6 +38,8 @@ public interface HistoricTaskInstanceDataManager extends DataManager<HistoricTas
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
+    Cursor<HistoricTaskInstance> findHistoricTaskInstanceCursorByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
+
     List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByNativeQuery(Map<String, Object> parameterMap);
@@ -47,4 +51,8 @@ public interface HistoricTaskInstanceDataManager extends DataManager<HistoricTas
     void deleteHistoricTaskInstancesForNonExistingProcessInstances();
     
     void deleteHistoricTaskInstancesForNonExistingCaseInstances();
+
+    void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricTaskInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -44,4 +45,8 @@ public interface HistoricTaskLogEntryDataManager extends DataManager<HistoricTas
     void deleteHistoricTaskLogEntriesForNonExistingProcessInstances();
     
     void deleteHistoricTaskLogEntriesForNonExistingCaseInstances();
+
+    void deleteHistoricTaskLogEntriesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricTaskLogEntriesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
@@ -15,6 +15,7 @@ package org.flowable.task.service.impl.persistence.entity.data;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.task.api.Task;
 import org.flowable.task.service.impl.TaskQueryImpl;
@@ -35,6 +36,8 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
 
     List<Task> findTasksByQueryCriteria(TaskQueryImpl taskQuery);
 
+    Cursor<Task> findTaskCursorByQueryCriteria(TaskQueryImpl taskQuery);
+
     List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery);
 
     long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery);
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -88,6 +89,21 @@ public class MyBatisHistoricTaskLogEntryDataManager extends AbstractDataManager<
     public void deleteHistoricTaskLogEntriesForNonExistingCaseInstances() {
         getDbSqlSession().delete("bulkDeleteHistoricTaskLogEntriesForNonExistingCaseInstances", null, HistoricTaskLogEntryEntityImpl.class);
     }
+
+    @Override
+    public void deleteHistoricTaskLogEntriesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricTaskLogEntriesByProcessInstanceIds", parameters, HistoricTaskLogEntryEntityImpl.class);
+    }
+
+    @Override
+    public void deleteHistoricTaskLogEntriesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("scopeIds", scopeIds);
+        parameters.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricTaskLogEntriesByScopeIdsAndScopeType", parameters, HistoricTaskLogEntryEntityImpl.class);
+    }
     
     @Override
     public long findHistoricTaskLogEntriesCountByNativeQueryCriteria(Map<String, Object> nativeHistoricTaskLogEntryQuery) {
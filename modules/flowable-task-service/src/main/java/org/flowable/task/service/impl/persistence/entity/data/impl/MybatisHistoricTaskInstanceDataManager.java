@@ -12,10 +12,13 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.task.api.history.HistoricTaskInstance;
@@ -75,6 +78,11 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return getDbSqlSession().selectList("selectHistoricTaskInstancesByQueryCriteria", historicTaskInstanceQuery, getManagedEntityClass());
     }
 
+    @Override
+    public Cursor<HistoricTaskInstance> findHistoricTaskInstanceCursorByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
+        return getDbSqlSession().selectCursor("selectHistoricTaskInstancesByQueryCriteria", historicTaskInstanceQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
@@ -138,6 +146,21 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         getDbSqlSession().delete("bulkDeleteHistoricTaskInstancesForNonExistingCaseInstances", null, HistoricTaskInstanceEntityImpl.class);
     }
 
+    @Override
+    public void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricTaskInstancesByProcessInstanceIds", parameters, HistoricTaskInstanceEntityImpl.class);
+    }
+
+    @Override
+    public void deleteHistoricTaskInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("scopeIds", scopeIds);
+        parameters.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricTaskInstancesByScopeIdsAndScopeType", parameters, HistoricTaskInstanceEntityImpl.class);
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return taskServiceConfiguration.getIdGenerator();
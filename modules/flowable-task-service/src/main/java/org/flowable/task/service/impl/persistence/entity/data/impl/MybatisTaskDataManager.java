@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
@@ -109,6 +110,11 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         return getDbSqlSession().selectList(query, taskQuery, getManagedEntityClass());
     }
 
+    @Override
+    public Cursor<Task> findTaskCursorByQueryCriteria(TaskQueryImpl taskQuery) {
+        return getDbSqlSession().selectCursor("selectTaskByQueryCriteria", taskQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -51,4 +52,8 @@ public interface HistoricVariableService {
     void deleteHistoricVariableInstancesForNonExistingProcessInstances();
     
     void deleteHistoricVariableInstancesForNonExistingCaseInstances();
+
+    void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
@@ -16,12 +16,14 @@ package org.flowable.variable.service.impl;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.query.AbstractQuery;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.api.history.HistoricVariableInstanceQuery;
+import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.types.CacheableVariable;
@@ -277,6 +279,29 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
         return historicVariableInstances;
     }
 
+    @Override
+    protected Cursor<HistoricVariableInstance> executeCursor(CommandContext commandContext) {
+        ensureVariablesInitialized();
+        return variableServiceConfiguration.getHistoricVariableInstanceEntityManager().findHistoricVariableInstanceCursorByQueryCriteria(this);
+    }
+
+    @Override
+    protected HistoricVariableInstance processCursorResult(CommandContext commandContext, HistoricVariableInstance historicVariableInstance) {
+        if (!excludeVariableInitialization && historicVariableInstance instanceof HistoricVariableInstanceEntity) {
+            HistoricVariableInstanceEntity variableEntity = (HistoricVariableInstanceEntity) historicVariableInstance;
+            VariableType variableType = variableEntity.getVariableType();
+
+            // Values stored in a byte array or a JPA entity would need another select while the cursor is still open,
+            // these are only resolved when the value is requested
+            if (variableType != null && variableEntity.getByteArrayRef() == null
+                    && !JPAEntityVariableType.TYPE_NAME.equals(variableType.getTypeName())
+                    && !JPAEntityListVariableType.TYPE_NAME.equals(variableType.getTypeName())) {
+                variableEntity.getValue();
+            }
+        }
+        return historicVariableInstance;
+    }
+
     // order by
     // /////////////////////////////////////////////////////////////////
 
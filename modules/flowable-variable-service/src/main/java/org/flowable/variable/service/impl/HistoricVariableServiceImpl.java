@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -117,6 +118,16 @@ public class HistoricVariableServiceImpl extends CommonServiceImpl<VariableServi
         getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesForNonExistingCaseInstances();
     }
 
+    @Override
+    public void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
     public HistoricVariableInstanceEntityManager getHistoricVariableInstanceEntityManager() {
         return configuration.getHistoricVariableInstanceEntityManager();
     }
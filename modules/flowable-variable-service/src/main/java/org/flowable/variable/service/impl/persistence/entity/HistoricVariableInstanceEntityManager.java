@@ -12,10 +12,12 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
@@ -31,6 +33,8 @@ public interface HistoricVariableInstanceEntityManager extends EntityManager<His
 
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery);
 
+    Cursor<HistoricVariableInstance> findHistoricVariableInstanceCursorByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery);
+
     HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId);
     
     List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByProcessInstanceId(String processInstanceId);
@@ -54,4 +58,14 @@ public interface HistoricVariableInstanceEntityManager extends EntityManager<His
     void deleteHistoricVariableInstancesForNonExistingProcessInstances();
     
     void deleteHistoricVariableInstancesForNonExistingCaseInstances();
+
+    /**
+     * Deletes the historic variables, and their byte arrays, of the given process instances with bulk deletes.
+     */
+    void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    /**
+     * Deletes the historic variables, and their byte arrays, of the given scopes with bulk deletes.
+     */
+    void deleteHistoricVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
\ No newline at end of file
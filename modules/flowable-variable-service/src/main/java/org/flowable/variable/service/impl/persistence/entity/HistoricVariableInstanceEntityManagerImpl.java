@@ -13,10 +13,12 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
 import org.flowable.variable.api.history.HistoricVariableInstance;
@@ -104,6 +106,11 @@ public class HistoricVariableInstanceEntityManagerImpl
         return dataManager.findHistoricVariableInstancesByQueryCriteria(historicProcessVariableQuery);
     }
 
+    @Override
+    public Cursor<HistoricVariableInstance> findHistoricVariableInstanceCursorByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery) {
+        return dataManager.findHistoricVariableInstanceCursorByQueryCriteria(historicProcessVariableQuery);
+    }
+
     @Override
     public HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId) {
         return dataManager.findHistoricVariableInstanceByVariableInstanceId(variableInstanceId);
@@ -153,6 +160,20 @@ public class HistoricVariableInstanceEntityManagerImpl
         }
     }
 
+    @Override
+    public void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        if (serviceConfiguration.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            dataManager.deleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+        }
+    }
+
+    @Override
+    public void deleteHistoricVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        if (serviceConfiguration.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            dataManager.deleteHistoricVariableInstancesByScopeIdsAndScopeType(scopeIds, scopeType);
+        }
+    }
+
     @Override
     public List<HistoricVariableInstance> findHistoricVariableInstancesByNativeQuery(Map<String, Object> parameterMap) {
         return dataManager.findHistoricVariableInstancesByNativeQuery(parameterMap);
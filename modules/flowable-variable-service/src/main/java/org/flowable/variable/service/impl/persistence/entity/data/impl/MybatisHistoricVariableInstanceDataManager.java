@@ -12,10 +12,12 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
@@ -89,6 +91,11 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         return getDbSqlSession().selectList("selectHistoricVariableInstanceByQueryCriteria", historicProcessVariableQuery);
     }
 
+    @Override
+    public Cursor<HistoricVariableInstance> findHistoricVariableInstanceCursorByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery) {
+        return getDbSqlSession().selectCursor("selectHistoricVariableInstanceByQueryCriteria", historicProcessVariableQuery);
+    }
+
     @Override
     public HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId) {
         return (HistoricVariableInstanceEntity) getDbSqlSession().selectOne("selectHistoricVariableInstanceByVariableInstanceId", variableInstanceId);
@@ -131,6 +138,24 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesForNonExistingCaseInstances", null, HistoricVariableInstanceEntity.class);
     }
 
+    @Override
+    public void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+        // The byte arrays are selected through the variables, so they need to be deleted first
+        getDbSqlSession().delete("bulkDeleteHistoricVariableByteArraysByProcessInstanceIds", parameters, HistoricVariableInstanceEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesByProcessInstanceIds", parameters, HistoricVariableInstanceEntityImpl.class);
+    }
+
+    @Override
+    public void deleteHistoricVariableInstancesByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("scopeIds", scopeIds);
+        parameters.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricVariableByteArraysByScopeIdsAndScopeType", parameters, HistoricVariableInstanceEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesByScopeIdsAndScopeType", parameters, HistoricVariableInstanceEntityImpl.class);
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return variableServiceConfiguration.getIdGenerator();